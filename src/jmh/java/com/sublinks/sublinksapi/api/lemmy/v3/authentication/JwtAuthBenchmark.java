@@ -0,0 +1,103 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.config.JwtCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.VerifiedToken;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The per request cost of authenticating a token: the way the filter used to do it (building the
+ * key and parser and checking the signature on every request), a verification that misses the
+ * token cache, and the cached path the filter takes for every request after the first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+  private String secret;
+  private String token;
+  private Person person;
+  private JwtUtil jwtUtil;
+  private JwtPrincipalCache jwtPrincipalCache;
+
+  @Setup
+  public void setup() {
+
+    secret = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    final JwtCacheConfig jwtCacheConfig = new JwtCacheConfig() {
+      @Override
+      public long getTokenMaxSize() {
+
+        return 10_000;
+      }
+
+      @Override
+      public long getPrincipalMaxSize() {
+
+        return 10_000;
+      }
+
+      @Override
+      public long getPrincipalTtl() {
+
+        return 3_600;
+      }
+    };
+    person = Person.builder().id(1L).name("benchmark").build();
+    final PersonRepository personRepository = (PersonRepository) Proxy.newProxyInstance(
+        PersonRepository.class.getClassLoader(), new Class<?>[]{PersonRepository.class},
+        (proxy, method, args) -> Optional.of(person));
+    jwtUtil = new JwtUtil(secret, jwtCacheConfig);
+    jwtPrincipalCache = new JwtPrincipalCache(personRepository, jwtCacheConfig);
+    token = jwtUtil.generateToken(person);
+  }
+
+  @Benchmark
+  public boolean uncachedLegacy() {
+
+    final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    final String username = Jwts.parser().verifyWith(key).build().parseSignedClaims(token)
+        .getPayload().getSubject();
+    final SecretKey validationKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    return username.equals(person.getUsername()) && Jwts.parser().verifyWith(validationKey).build()
+        .parseSignedClaims(token).getPayload().getExpiration().getTime()
+        > System.currentTimeMillis();
+  }
+
+  @Benchmark
+  public boolean uncachedSharedParser() {
+
+    jwtUtil.evictToken(token);
+    return jwtUtil.validateToken(token, person);
+  }
+
+  @Benchmark
+  public boolean cached() {
+
+    final VerifiedToken verifiedToken = jwtUtil.verifyToken(token);
+    return jwtUtil.validateToken(verifiedToken,
+        jwtPrincipalCache.getPrincipal(verifiedToken.username()).orElseThrow().name());
+  }
+}
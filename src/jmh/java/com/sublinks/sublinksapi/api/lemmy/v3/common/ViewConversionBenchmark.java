@@ -0,0 +1,141 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.common;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.mappers.CommentAggregatesMapperImpl;
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.mappers.CommentMapperImpl;
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.CommentAggregates;
+import com.sublinks.sublinksapi.api.lemmy.v3.community.mappers.CommunityMapperImpl;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.mappers.PostAggregateMapperImpl;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.mappers.PostMapperImpl;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostAggregates;
+import com.sublinks.sublinksapi.api.lemmy.v3.user.mappers.PersonMapperImpl;
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.shared.RemovedState;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/**
+ * The conversions behind every PostView and CommentView of a listing, through a conversion service
+ * holding the generated MapStruct mappers the way the application's does. A page of posts or
+ * comments does these once per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewConversionBenchmark {
+
+  private GenericConversionService conversionService;
+  private Person person;
+  private Community community;
+  private Post post;
+  private Comment comment;
+
+  @Setup
+  public void setup() {
+
+    conversionService = new GenericConversionService();
+    conversionService.addConverter(new PostMapperImpl());
+    conversionService.addConverter(new PostAggregateMapperImpl());
+    conversionService.addConverter(new CommentMapperImpl());
+    conversionService.addConverter(new CommentAggregatesMapperImpl());
+    conversionService.addConverter(new CommunityMapperImpl());
+    conversionService.addConverter(new PersonMapperImpl());
+
+    final Date now = new Date();
+    person = Person.builder()
+        .id(1L)
+        .name("benchmark")
+        .displayName("Benchmark")
+        .avatarImageUrl("")
+        .bannerImageUrl("")
+        .actorId("https://sublinks.example/u/benchmark")
+        .createdAt(now)
+        .build();
+    community = Community.builder()
+        .id(1L)
+        .title("Benchmarks")
+        .titleSlug("benchmarks")
+        .activityPubId("https://sublinks.example/c/benchmarks")
+        .createdAt(now)
+        .build();
+    post = Post.builder()
+        .id(1L)
+        .community(community)
+        .title("A post about benchmarks")
+        .postBody("Some body text for the post.")
+        .linkUrl("https://example.com/article")
+        .removedState(RemovedState.NOT_REMOVED)
+        .activityPubId("https://sublinks.example/post/1")
+        .createdAt(now)
+        .build();
+    post.setPostAggregate(PostAggregate.builder()
+        .post(post)
+        .community(community)
+        .upVoteCount(10)
+        .downVoteCount(2)
+        .score(8)
+        .commentCount(3)
+        .build());
+    comment = Comment.builder()
+        .id(1L)
+        .post(post)
+        .person(person)
+        .community(community)
+        .commentBody("A comment about the post.")
+        .path("0.1")
+        .removedState(RemovedState.NOT_REMOVED)
+        .activityPubId("https://sublinks.example/comment/1")
+        .createdAt(now)
+        .build();
+  }
+
+  @Benchmark
+  public void postView(final Blackhole blackhole) {
+
+    blackhole.consume(conversionService.convert(person,
+        com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.class));
+    blackhole.consume(conversionService.convert(community,
+        com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community.class));
+    blackhole.consume(conversionService.convert(post,
+        com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.class));
+    blackhole.consume(conversionService.convert(post.getPostAggregate(), PostAggregates.class));
+  }
+
+  @Benchmark
+  public void commentView(final Blackhole blackhole) {
+
+    blackhole.consume(conversionService.convert(comment,
+        com.sublinks.sublinksapi.api.lemmy.v3.comment.models.Comment.class));
+    blackhole.consume(conversionService.convert(person,
+        com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.class));
+    blackhole.consume(conversionService.convert(community,
+        com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community.class));
+    blackhole.consume(conversionService.convert(post,
+        com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.class));
+    blackhole.consume(conversionService.convert(CommentAggregate.builder()
+        .comment(comment)
+        .upVotes(5)
+        .score(5)
+        .createdAt(comment.getCreatedAt())
+        .build(), CommentAggregates.class));
+  }
+}
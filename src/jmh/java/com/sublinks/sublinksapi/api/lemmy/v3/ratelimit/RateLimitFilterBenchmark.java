@@ -0,0 +1,133 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPerson;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.config.RateLimitConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services.RateLimitService;
+import com.sublinks.sublinksapi.instance.models.InstanceRateLimits;
+import com.sublinks.sublinksapi.person.entities.Person;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * The cost the rate limit filter adds to an api call, against calling the rest of the chain
+ * directly. Anonymous calls rotate over a few thousand addresses so bucket lookups miss the cpu
+ * caches, signed in calls all hit the bucket of one person. The limits are set high enough for no
+ * call to be refused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+  @Param({"anonymous", "person"})
+  private String client;
+
+  private RateLimitFilter rateLimitFilter;
+  private HttpServletRequest[] requests;
+  private HttpServletResponse response;
+  private FilterChain filterChain;
+  private int next;
+
+  @Setup
+  public void setup() throws IllegalAccessException {
+
+    final InstanceRateLimits instanceRateLimits = new InstanceRateLimits();
+    for (Field field : InstanceRateLimits.class.getDeclaredFields()) {
+      field.setAccessible(true);
+      field.set(instanceRateLimits, field.getName().endsWith("PerSecond") ? 1 : Integer.MAX_VALUE);
+    }
+    final RateLimitConfig rateLimitConfig = new RateLimitConfig() {
+      @Override
+      public boolean isEnabled() {
+
+        return true;
+      }
+
+      @Override
+      public int getShards() {
+
+        return 16;
+      }
+    };
+    rateLimitFilter = new RateLimitFilter(
+        new RateLimitService(instanceRateLimits, rateLimitConfig), new ObjectMapper());
+
+    requests = new HttpServletRequest[4096];
+    for (int i = 0; i < requests.length; i++) {
+      requests[i] = request("POST", "/api/v3/comment", "10.0." + (i >> 8) + "." + (i & 255));
+    }
+    response = (HttpServletResponse) Proxy.newProxyInstance(
+        HttpServletResponse.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class},
+        (proxy, method, args) -> null);
+    filterChain = (request, response) -> {
+    };
+
+    if ("person".equals(client)) {
+      final Person person = Person.builder().id(1L).name("benchmark").build();
+      SecurityContextHolder.getContext().setAuthentication(new JwtPerson(person, List.of()));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    SecurityContextHolder.clearContext();
+  }
+
+  private static HttpServletRequest request(final String method, final String path,
+      final String remoteAddr) {
+
+    return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+        new Class<?>[]{HttpServletRequest.class},
+        (proxy, invoked, args) -> switch (invoked.getName()) {
+          case "getMethod" -> method;
+          case "getServletPath" -> path;
+          case "getRemoteAddr" -> remoteAddr;
+          case "getDispatcherType" -> DispatcherType.REQUEST;
+          default -> invoked.getReturnType() == boolean.class ? false : null;
+        });
+  }
+
+  private HttpServletRequest nextRequest() {
+
+    next = (next + 1) & (requests.length - 1);
+    return requests[next];
+  }
+
+  @Benchmark
+  public void withoutFilter() throws ServletException, IOException {
+
+    filterChain.doFilter(nextRequest(), response);
+  }
+
+  @Benchmark
+  public void withFilter() throws ServletException, IOException {
+
+    rateLimitFilter.doFilter(nextRequest(), response, filterChain);
+  }
+}
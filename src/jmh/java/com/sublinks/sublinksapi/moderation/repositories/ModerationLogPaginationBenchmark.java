@@ -0,0 +1,162 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a deep modlog page with OFFSET against continuing from a page cursor, unfiltered and
+ * filtered by community or moderator, over millions of synthetic rows. The rows go to an unlogged
+ * copy of moderation_logs with the same indexes, so the database at SUBLINKS_DB_URL must have been
+ * migrated. The copy is kept between runs and only refilled when its row count changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModerationLogPaginationBenchmark {
+
+  private static final String TABLE = "moderation_logs_benchmark";
+  private static final int PAGE_SIZE = 300;
+  private static final int COMMUNITIES = 10;
+  private static final int MODERATORS = 10;
+
+  @Param({"2000000"})
+  private int rows;
+
+  @Param({"none", "community", "moderator"})
+  private String filter;
+
+  @Param({"1", "100", "500"})
+  private int page;
+
+  private Connection connection;
+  private PreparedStatement offsetPage;
+  private PreparedStatement keysetPage;
+
+  @Setup
+  public void setup() throws SQLException {
+
+    final String url = System.getenv("SUBLINKS_DB_URL");
+    if (url == null) {
+      throw new IllegalStateException("Set SUBLINKS_DB_URL to a migrated database");
+    }
+    connection = DriverManager.getConnection(url, System.getenv("SUBLINKS_DB_USERNAME"),
+        System.getenv("SUBLINKS_DB_PASSWORD"));
+    fillTable();
+
+    final String where = switch (filter) {
+      case "community" -> "community_id = 1";
+      case "moderator" -> "(moderation_person_id = 1 OR admin_person_id = 1)";
+      default -> "TRUE";
+    };
+    offsetPage = connection.prepareStatement("SELECT * FROM " + TABLE + " WHERE " + where
+        + " ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE + " OFFSET ?");
+    offsetPage.setInt(1, (page - 1) * PAGE_SIZE);
+
+    if (page == 1) {
+      keysetPage = connection.prepareStatement("SELECT * FROM " + TABLE + " WHERE " + where
+          + " ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE);
+      return;
+    }
+
+    // The cursor of the page before, the way the previous response would have returned it
+    final Timestamp cursorCreatedAt;
+    final long cursorId;
+    try (PreparedStatement previous = connection.prepareStatement(
+        "SELECT created_at, id FROM " + TABLE + " WHERE " + where
+            + " ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?")) {
+      previous.setInt(1, (page - 1) * PAGE_SIZE - 1);
+      try (ResultSet resultSet = previous.executeQuery()) {
+        if (!resultSet.next()) {
+          throw new IllegalStateException("Not enough rows for page " + page);
+        }
+        cursorCreatedAt = resultSet.getTimestamp(1);
+        cursorId = resultSet.getLong(2);
+      }
+    }
+    keysetPage = connection.prepareStatement("SELECT * FROM " + TABLE + " WHERE " + where
+        + " AND created_at <= ? AND (created_at < ? OR (created_at = ? AND id < ?))"
+        + " ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE);
+    keysetPage.setTimestamp(1, cursorCreatedAt);
+    keysetPage.setTimestamp(2, cursorCreatedAt);
+    keysetPage.setTimestamp(3, cursorCreatedAt);
+    keysetPage.setLong(4, cursorId);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+
+    connection.close();
+  }
+
+  @Benchmark
+  public int offset() throws SQLException {
+
+    return count(offsetPage);
+  }
+
+  @Benchmark
+  public int keyset() throws SQLException {
+
+    return count(keysetPage);
+  }
+
+  private static int count(final PreparedStatement statement) throws SQLException {
+
+    int count = 0;
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void fillTable() throws SQLException {
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE UNLOGGED TABLE IF NOT EXISTS " + TABLE
+          + " (LIKE moderation_logs INCLUDING DEFAULTS INCLUDING INDEXES)");
+      try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + TABLE)) {
+        resultSet.next();
+        if (resultSet.getLong(1) == rows) {
+          return;
+        }
+      }
+      statement.execute("TRUNCATE " + TABLE);
+      // One row every 30 seconds with some jitter, so created_at is not simply in id order
+      statement.execute("""
+          INSERT INTO %s (id, instance_id, action_type, entity_id, community_id,
+                          moderation_person_id, other_person_id, removed, created_at)
+          SELECT g, 1,
+                 (ARRAY['ModRemovePost', 'ModRemoveComment', 'ModLockPost',
+                        'ModBanFromCommunity'])[1 + g %% 4],
+                 g, 1 + g %% %d, 1 + (g / 7) %% %d, 1000 + g %% 100000, TRUE,
+                 TIMESTAMP '2020-01-01' + g * INTERVAL '30 seconds'
+                   + random() * INTERVAL '60 seconds'
+          FROM generate_series(1, %d) g
+          """.formatted(TABLE, COMMUNITIES, MODERATORS, rows));
+      statement.execute("ANALYZE " + TABLE);
+    }
+  }
+}
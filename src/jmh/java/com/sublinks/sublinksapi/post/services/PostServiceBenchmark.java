@@ -0,0 +1,45 @@
+package com.sublinks.sublinksapi.post.services;
+
+import com.sublinks.sublinksapi.utils.UrlUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing the link of a post, done when it is created and for every cross post lookup. The link is
+ * normalized first, so this includes removing its tracking parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostServiceBenchmark {
+
+  private PostService postService;
+  private String url;
+
+  @Setup
+  public void setup() {
+
+    postService = new PostService(null, null, null, null, null, null, null, new UrlUtil(), null,
+        null, null);
+    url = "https://example.com/articles/2023/10/some-article-title?id=1234&page=2"
+        + "&utm_source=newsletter&utm_medium=email&utm_campaign=weekly";
+  }
+
+  @Benchmark
+  public String getStringMd5Hash() {
+
+    return postService.getStringMd5Hash(url);
+  }
+}
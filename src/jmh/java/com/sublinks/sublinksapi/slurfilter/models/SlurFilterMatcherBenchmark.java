@@ -0,0 +1,103 @@
+package com.sublinks.sublinksapi.slurfilter.models;
+
+import com.sublinks.sublinksapi.slurfilter.entities.SlurFilter;
+import com.sublinks.sublinksapi.slurfilter.enums.SlurActionType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checking a long comment against a large filter set: compiling every filter for every text, the
+ * way the service used to, against the compiled matcher. The comment contains one word matched by
+ * a replace filter, so both the action lookup and the replacement spans are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlurFilterMatcherBenchmark {
+
+  @Param({"1000"})
+  private int filterCount;
+
+  @Param({"10000"})
+  private int textLength;
+
+  private List<SlurFilter> slurFilters;
+  private SlurFilterMatcher slurFilterMatcher;
+  private String text;
+
+  @Setup
+  public void setup() {
+
+    final Random random = new Random(42);
+    final SlurActionType[] slurActionTypes = SlurActionType.values();
+    slurFilters = new ArrayList<>(filterCount);
+    for (int i = 0; i < filterCount; i++) {
+      slurFilters.add(SlurFilter.builder()
+          .slurRegex("\\bslur" + i + "[a-z]*\\b")
+          .slurActionType(slurActionTypes[i % slurActionTypes.length])
+          .build());
+    }
+    slurFilterMatcher = new SlurFilterMatcher(slurFilters);
+
+    final StringBuilder builder = new StringBuilder(textLength + 16);
+    while (builder.length() < textLength) {
+      for (int i = 3 + random.nextInt(6); i > 0; i--) {
+        builder.append((char) ('a' + random.nextInt(26)));
+      }
+      builder.append(' ');
+    }
+    final int replaceFilter = 1 + 3 * random.nextInt(filterCount / 3);
+    builder.insert(builder.length() / 2, " slur" + replaceFilter + "ish ");
+    text = builder.toString();
+  }
+
+  @Benchmark
+  public String compiledPerText() {
+
+    final SlurFilter highest = slurFilters.stream()
+        .filter(slurFilter -> Pattern.compile(slurFilter.getSlurRegex()).matcher(text).find())
+        .max(Comparator.comparing(SlurFilter::getSlurActionType))
+        .orElse(null);
+    if (highest == null || highest.getSlurActionType() != SlurActionType.REPLACE) {
+      return text;
+    }
+    String censoredText = text;
+    for (SlurFilter slurFilter : slurFilters) {
+      if (slurFilter.getSlurActionType() == SlurActionType.REPLACE) {
+        censoredText = Pattern.compile(slurFilter.getSlurRegex(), Pattern.CASE_INSENSITIVE)
+            .matcher(censoredText)
+            .replaceAll(match -> "*".repeat(match.group().length()));
+      }
+    }
+    return censoredText;
+  }
+
+  @Benchmark
+  public String compiledOnce() {
+
+    final SlurFilterMatch slurFilterMatch = slurFilterMatcher.match(text);
+    if (slurFilterMatch == null
+        || slurFilterMatch.slurFilter().getSlurActionType() != SlurActionType.REPLACE) {
+      return text;
+    }
+    return SlurFilterMatcher.censor(text, slurFilterMatch.replacements());
+  }
+}
@@ -0,0 +1,82 @@
+package com.sublinks.sublinksapi.slurfilter.services;
+
+import com.sublinks.sublinksapi.slurfilter.entities.SlurFilter;
+import com.sublinks.sublinksapi.slurfilter.enums.SlurActionType;
+import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterBlockedException;
+import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterReportException;
+import com.sublinks.sublinksapi.slurfilter.repositories.SlurFilterRepository;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Censoring a comment the way every comment and post body goes through the service, with the
+ * compiled filters already cached: a clean text and one with a word matched by a replace filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlurFilterServiceBenchmark {
+
+  @Param({"100"})
+  private int filterCount;
+
+  private SlurFilterService slurFilterService;
+  private String cleanText;
+  private String censoredText;
+
+  @Setup
+  public void setup() {
+
+    final List<SlurFilter> slurFilters = new ArrayList<>(filterCount);
+    for (int i = 0; i < filterCount; i++) {
+      slurFilters.add(SlurFilter.builder()
+          .slurRegex("\\bslur" + i + "[a-z]*\\b")
+          .slurActionType(i % 2 == 0 ? SlurActionType.REPLACE : SlurActionType.REPORT)
+          .build());
+    }
+    final SlurFilterRepository slurFilterRepository = (SlurFilterRepository) Proxy.newProxyInstance(
+        SlurFilterRepository.class.getClassLoader(), new Class<?>[]{SlurFilterRepository.class},
+        (proxy, method, args) -> slurFilters);
+    slurFilterService = new SlurFilterService(slurFilterRepository);
+
+    final Random random = new Random(42);
+    final StringBuilder builder = new StringBuilder();
+    while (builder.length() < 1000) {
+      for (int i = 3 + random.nextInt(6); i > 0; i--) {
+        builder.append((char) ('a' + random.nextInt(26)));
+      }
+      builder.append(' ');
+    }
+    cleanText = builder.toString();
+    censoredText = builder.insert(builder.length() / 2, " slur42ish ").toString();
+  }
+
+  @Benchmark
+  public String clean() throws SlurFilterBlockedException, SlurFilterReportException {
+
+    return slurFilterService.censorText(cleanText);
+  }
+
+  @Benchmark
+  public String censored() throws SlurFilterBlockedException, SlurFilterReportException {
+
+    return slurFilterService.censorText(censoredText);
+  }
+}
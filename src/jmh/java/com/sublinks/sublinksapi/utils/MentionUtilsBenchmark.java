@@ -0,0 +1,63 @@
+package com.sublinks.sublinksapi.utils;
+
+import com.sublinks.sublinksapi.utils.models.Mention;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finding the mentions of a comment, done for every comment created or edited. The text is a few
+ * paragraphs long with three mentions, one of them at the very end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MentionUtilsBenchmark {
+
+  private final MentionUtils mentionUtils = new MentionUtils();
+  private String text;
+  private String textWithoutMentions;
+
+  @Setup
+  public void setup() {
+
+    final Random random = new Random(42);
+    final StringBuilder builder = new StringBuilder();
+    while (builder.length() < 2000) {
+      for (int i = 3 + random.nextInt(6); i > 0; i--) {
+        builder.append((char) ('a' + random.nextInt(26)));
+      }
+      builder.append(random.nextInt(12) == 0 ? ". " : " ");
+    }
+    textWithoutMentions = builder.toString();
+    builder.insert(200, " @alice@lemmy.ml ");
+    builder.insert(1000, " @bob.smith@sublinks.example:8443 ");
+    builder.append(" cc @carol@example.com");
+    text = builder.toString();
+  }
+
+  @Benchmark
+  public List<Mention> withMentions() {
+
+    return mentionUtils.getPersonMentions(text);
+  }
+
+  @Benchmark
+  public List<Mention> withoutMentions() {
+
+    return mentionUtils.getPersonMentions(textWithoutMentions);
+  }
+}
@@ -0,0 +1,47 @@
+package com.sublinks.sublinksapi.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building the slug of a post or community title, done for every post created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugUtilBenchmark {
+
+  private final SlugUtil slugUtil = new SlugUtil();
+  private String title;
+
+  @Setup
+  public void setup() {
+
+    title = "Ask Sublinks: What's the best way to self-host a federated link aggregator in 2024?\n"
+        + "(Docker, bare metal & everything in between)";
+  }
+
+  @Benchmark
+  public String stringToSlug() {
+
+    return slugUtil.stringToSlug(title);
+  }
+
+  @Benchmark
+  public String uniqueSlug() {
+
+    return slugUtil.uniqueSlug(title);
+  }
+}
@@ -0,0 +1,89 @@
+package com.sublinks.sublinksapi.utils;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Normalizing the link of a post, done for every post with a link when it is created and when its
+ * hash is checked for duplicates: the way it used to be done, compiling the query parameter pattern
+ * on every call, against the pattern compiled once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlUtilBenchmark {
+
+  private final UrlUtil urlUtil = new UrlUtil();
+  private String url;
+
+  @Setup
+  public void setup() {
+
+    url = "https://example.com/articles/2023/10/some-article-title?id=1234&page=2"
+        + "&utm_source=newsletter&utm_medium=email&utm_campaign=weekly&fbclid=abc123#comments";
+  }
+
+  @Benchmark
+  public String normalizeUrl() {
+
+    return urlUtil.normalizeUrl(url);
+  }
+
+  @Benchmark
+  public String normalizeUrlLegacy() {
+
+    try {
+      final URL parsed = new URL(url);
+      final URI uri = new URI(parsed.getProtocol(), parsed.getAuthority(), parsed.getPath(),
+          removeTrackingParametersLegacy(parsed.getQuery()), parsed.getRef());
+      return uri.toString();
+    } catch (URISyntaxException | MalformedURLException e) {
+      return url;
+    }
+  }
+
+  private static String removeTrackingParametersLegacy(final String queryString) {
+
+    if (queryString == null || queryString.isEmpty()) {
+      return null;
+    }
+    final Pattern pattern = Pattern.compile("(\\w+)=?([^&]+)?");
+    final Matcher matcher = pattern.matcher(queryString);
+    final Collection<String> spyList = List.of("utm_source", "utm_medium", "utm_campaign",
+        "utm_term", "utm_content", "gclid", "gclsrc", "dclid", "fbclid");
+    final HashMap<String, String> parameters = new HashMap<>();
+    while (matcher.find()) {
+      if (!spyList.contains(matcher.group(1))) {
+        parameters.put(matcher.group(1), matcher.group(2));
+      }
+    }
+    if (parameters.isEmpty()) {
+      return null;
+    }
+    return parameters.entrySet().stream()
+        .map(e -> e.getKey() + "=" + e.getValue())
+        .collect(Collectors.joining("&"));
+  }
+}
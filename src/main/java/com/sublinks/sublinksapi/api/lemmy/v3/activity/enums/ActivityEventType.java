@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.enums;
+
+import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+
+public enum ActivityEventType {
+  POST("post", RolePermission.READ_POSTS),
+  POST_SCORE("post_score", RolePermission.READ_POSTS),
+  COMMENT("comment", RolePermission.READ_COMMENT),
+  COMMENT_SCORE("comment_score", RolePermission.READ_COMMENT);
+
+  public final String eventName;
+  public final RolePermission rolePermission;
+
+  ActivityEventType(final String eventName, final RolePermission rolePermission) {
+
+    this.eventName = eventName;
+    this.rolePermission = rolePermission;
+  }
+}
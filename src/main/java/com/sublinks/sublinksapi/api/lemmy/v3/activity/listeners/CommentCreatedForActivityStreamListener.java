@@ -0,0 +1,31 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.models.CommentActivity;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.services.ActivityStreamService;
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.events.CommentCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCreatedForActivityStreamListener implements
+    ApplicationListener<CommentCreatedEvent> {
+
+  private final ActivityStreamService activityStreamService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentCreatedEvent event) {
+
+    final Comment comment = event.getComment();
+    activityStreamService.publish(comment.getPost(), ActivityEventType.COMMENT,
+        () -> CommentActivity.builder()
+            .comment_id(comment.getId())
+            .post_id(comment.getPost().getId())
+            .path(comment.getPath())
+            .build());
+  }
+}
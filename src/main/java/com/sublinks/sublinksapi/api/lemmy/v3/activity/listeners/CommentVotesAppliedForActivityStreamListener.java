@@ -0,0 +1,34 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.models.CommentScoreActivity;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.services.ActivityStreamService;
+import com.sublinks.sublinksapi.comment.events.CommentVotesAppliedEvent;
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentVotesAppliedForActivityStreamListener implements
+    ApplicationListener<CommentVotesAppliedEvent> {
+
+  private final ActivityStreamService activityStreamService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentVotesAppliedEvent event) {
+
+    for (CommentVoteCounts commentVoteCounts : event.getCommentVoteCounts()) {
+      activityStreamService.publishToPost(commentVoteCounts.getPostId(),
+          ActivityEventType.COMMENT_SCORE, () -> CommentScoreActivity.builder()
+              .comment_id(commentVoteCounts.getCommentId())
+              .post_id(commentVoteCounts.getPostId())
+              .score(commentVoteCounts.getScore())
+              .upvotes(commentVoteCounts.getUpVotes())
+              .downvotes(commentVoteCounts.getDownVotes())
+              .build());
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.models.PostActivity;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.services.ActivityStreamService;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.events.PostCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostCreatedForActivityStreamListener implements
+    ApplicationListener<PostCreatedEvent> {
+
+  private final ActivityStreamService activityStreamService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostCreatedEvent event) {
+
+    final Post post = event.getPost();
+    activityStreamService.publish(post.getCommunity(), ActivityEventType.POST,
+        () -> PostActivity.builder()
+            .post_id(post.getId())
+            .community_id(post.getCommunity().getId())
+            .build());
+  }
+}
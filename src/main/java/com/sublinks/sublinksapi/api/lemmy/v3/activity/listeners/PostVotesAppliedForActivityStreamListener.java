@@ -0,0 +1,40 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.models.PostScoreActivity;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.services.ActivityStreamService;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.post.events.PostVotesAppliedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes the scores of a vote flush to the watchers of the posts and of their communities, so a
+ * busy post sends one score per flush instead of one per vote.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostVotesAppliedForActivityStreamListener implements
+    ApplicationListener<PostVotesAppliedEvent> {
+
+  private final ActivityStreamService activityStreamService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostVotesAppliedEvent event) {
+
+    for (PostAggregate postAggregate : event.getPostAggregates()) {
+      final PostScoreActivity postScoreActivity = PostScoreActivity.builder()
+          .post_id(postAggregate.getPost().getId())
+          .score(postAggregate.getScore())
+          .upvotes(postAggregate.getUpVoteCount())
+          .downvotes(postAggregate.getDownVoteCount())
+          .build();
+      activityStreamService.publish(postAggregate.getPost(), ActivityEventType.POST_SCORE,
+          () -> postScoreActivity);
+      activityStreamService.publish(postAggregate.getCommunity(), ActivityEventType.POST_SCORE,
+          () -> postScoreActivity);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record CommentActivity(
+    Long comment_id,
+    Long post_id,
+    String path
+) {
+
+}
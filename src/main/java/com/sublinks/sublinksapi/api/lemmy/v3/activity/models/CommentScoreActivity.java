@@ -0,0 +1,15 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record CommentScoreActivity(
+    Long comment_id,
+    Long post_id,
+    int score,
+    int upvotes,
+    int downvotes
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record PostActivity(
+    Long post_id,
+    Long community_id
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record PostScoreActivity(
+    Long post_id,
+    int score,
+    int upvotes,
+    int downvotes
+) {
+
+}
@@ -0,0 +1,122 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.activity.services;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.services.EventStreamService;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.post.entities.Post;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The live activity of communities and posts. Clients watching a community or a post get small
+ * deltas, like the id of a new post or the new score of a comment, and fetch what they need to
+ * show, instead of polling the listings.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityStreamService {
+
+  private final EventStreamService eventStreamService;
+
+  private static String topic(final Community community) {
+
+    return "community:" + community.getId();
+  }
+
+  private static String topic(final Post post) {
+
+    return postTopic(post.getId());
+  }
+
+  private static String postTopic(final Long postId) {
+
+    return "post:" + postId;
+  }
+
+  /**
+   * Opens the activity stream of a community.
+   *
+   * @param community   The community.
+   * @param lastEventId The id of the last event the client got, to resume from, or null.
+   * @param types       The activity the client may receive.
+   * @return The emitter, or empty if the instance holds too many connections.
+   */
+  public Optional<SseEmitter> connect(final Community community, @Nullable final Long lastEventId,
+      final Collection<ActivityEventType> types) {
+
+    return eventStreamService.connect(topic(community), lastEventId, eventNames(types));
+  }
+
+  /**
+   * Opens the activity stream of a post.
+   *
+   * @param post        The post.
+   * @param lastEventId The id of the last event the client got, to resume from, or null.
+   * @param types       The activity the client may receive.
+   * @return The emitter, or empty if the instance holds too many connections.
+   */
+  public Optional<SseEmitter> connect(final Post post, @Nullable final Long lastEventId,
+      final Collection<ActivityEventType> types) {
+
+    return eventStreamService.connect(topic(post), lastEventId, eventNames(types));
+  }
+
+  private static Set<String> eventNames(final Collection<ActivityEventType> types) {
+
+    return types.stream().map(type -> type.eventName).collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Pushes activity to the watchers of a community once the current transaction commits.
+   *
+   * @param community The community.
+   * @param type      The activity type.
+   * @param payload   Builds the activity, only called if the community is watched.
+   */
+  public void publish(final Community community, final ActivityEventType type,
+      final Supplier<?> payload) {
+
+    if (community == null || community.getId() == null) {
+      return;
+    }
+    eventStreamService.publish(topic(community), type.eventName, payload);
+  }
+
+  /**
+   * Pushes activity to the watchers of a post once the current transaction commits.
+   *
+   * @param post    The post.
+   * @param type    The activity type.
+   * @param payload Builds the activity, only called if the post is watched.
+   */
+  public void publish(final Post post, final ActivityEventType type, final Supplier<?> payload) {
+
+    if (post == null) {
+      return;
+    }
+    publishToPost(post.getId(), type, payload);
+  }
+
+  /**
+   * Pushes activity to the watchers of a post by its id, for callers that hold no post entity.
+   *
+   * @param postId  The post id.
+   * @param type    The activity type.
+   * @param payload Builds the activity, only called if the post is watched.
+   */
+  public void publishToPost(final Long postId, final ActivityEventType type,
+      final Supplier<?> payload) {
+
+    if (postId == null) {
+      return;
+    }
+    eventStreamService.publish(postTopic(postId), type.eventName, payload);
+  }
+}
@@ -3,11 +3,14 @@ package com.sublinks.sublinksapi.api.lemmy.v3.admin.controllers;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.AddAdmin;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.AddAdminResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.ApproveRegistrationApplication;
+import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.GetPurgeJob;
+import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.GetPurgeJobResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.GetUnreadRegistrationApplicationCount;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.GetUnreadRegistrationApplicationCountResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.ListRegistrationApplications;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.ListRegistrationApplicationsResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.PurgeItemResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.PurgeJobView;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.RegistrationApplicationResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPerson;
 import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.PurgeComment;
@@ -26,17 +29,22 @@ import com.sublinks.sublinksapi.comment.entities.Comment;
 import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
 import com.sublinks.sublinksapi.comment.services.CommentHistoryService;
 import com.sublinks.sublinksapi.comment.services.CommentService;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
 import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
 import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.services.PurgeJobService;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.entities.PersonRegistrationApplication;
 import com.sublinks.sublinksapi.person.enums.PersonRegistrationApplicationStatus;
 import com.sublinks.sublinksapi.person.repositories.PersonRegistrationApplicationRepository;
 import com.sublinks.sublinksapi.person.repositories.PersonRepository;
 import com.sublinks.sublinksapi.person.services.PersonRegistrationApplicationService;
+import com.sublinks.sublinksapi.person.services.PersonService;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.repositories.PostRepository;
-import com.sublinks.sublinksapi.post.services.PostHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -45,9 +53,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -67,18 +77,21 @@ public class AdminController extends AbstractLemmyApiController {
   private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
   private final LocalInstanceContext localInstanceContext;
   private final PersonRepository personRepository;
+  private final PersonService personService;
   private final PersonRegistrationApplicationRepository personRegistrationApplicationRepository;
   private final PersonRegistrationApplicationService personRegistrationApplicationService;
   private final LemmyPersonRegistrationApplicationService lemmyPersonRegistrationApplicationService;
   private final ModerationLogService moderationLogService;
   private final RoleAuthorizingService roleAuthorizingService;
-  private final PostHistoryService postHistoryService;
   private final CommentHistoryService commentHistoryService;
   private final LemmyPersonService lemmyPersonService;
   private final PostRepository postRepository;
   private final CommentRepository commentRepository;
   private final CommentService commentService;
   private final CommentHistoryConfig commentHistoryConfig;
+  private final CommunityRepository communityRepository;
+  private final PurgeJobService purgeJobService;
+  private final ConversionService conversionService;
 
   @Operation(summary = "Add an admin to your site.")
   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK", content = {
@@ -100,7 +113,7 @@ public class AdminController extends AbstractLemmyApiController {
 
     // Add Admin
     personToAdd.setRole(roleAuthorizingService.getAdminRole());
-    personRepository.save(personToAdd);
+    personService.updatePerson(personToAdd);
 
     // Create Moderation Log
     ModerationLog moderationLog = ModerationLog.builder()
@@ -215,12 +228,18 @@ public class AdminController extends AbstractLemmyApiController {
     final Person personToPurge = personRepository.findById((long) purgePersonForm.person_id())
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "person_not_found"));
 
-    final int removedPostHistory = postHistoryService.deleteAllByCreator(personToPurge);
-    final int removedCommentHistory = commentHistoryService.deleteAllByCreator(personToPurge);
-    // @todo: Log purged history amount?
-    // @todo: Implement purging
+    final PurgeJob purgeJob = purgeJobService.enqueue(PurgeJobType.PERSON, personToPurge.getId(),
+        person.getId(), purgePersonForm.reason());
 
-    throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED);
+    moderationLogService.createModerationLog(ModerationLog.builder()
+        .actionType(ModlogActionType.AdminPurgePerson)
+        .entityId(personToPurge.getId())
+        .adminPersonId(person.getId())
+        .instance(localInstanceContext.instance())
+        .reason(purgePersonForm.reason())
+        .build());
+
+    return PurgeItemResponse.builder().success(true).purge_job_id(purgeJob.getId()).build();
   }
 
   @Operation(summary = "Purge / Delete a community from the database.")
@@ -235,7 +254,22 @@ public class AdminController extends AbstractLemmyApiController {
     roleAuthorizingService.hasAdminOrPermissionOrThrow(person, RolePermission.PURGE_COMMUNITY,
         () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "not_an_admin"));
 
-    throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED);
+    final Community communityToPurge = communityRepository.findById(
+            (long) purgeCommunityForm.community_id())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "community_not_found"));
+
+    final PurgeJob purgeJob = purgeJobService.enqueue(PurgeJobType.COMMUNITY,
+        communityToPurge.getId(), person.getId(), purgeCommunityForm.reason());
+
+    moderationLogService.createModerationLog(ModerationLog.builder()
+        .actionType(ModlogActionType.AdminPurgeCommunity)
+        .entityId(communityToPurge.getId())
+        .adminPersonId(person.getId())
+        .instance(localInstanceContext.instance())
+        .reason(purgeCommunityForm.reason())
+        .build());
+
+    return PurgeItemResponse.builder().success(true).purge_job_id(purgeJob.getId()).build();
   }
 
   @Operation(summary = "Purge / Delete a post from the database.")
@@ -250,16 +284,44 @@ public class AdminController extends AbstractLemmyApiController {
     roleAuthorizingService.hasAdminOrPermissionOrThrow(person, RolePermission.PURGE_POST,
         () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "not_an_admin"));
 
-    final Post postToPurge = postRepository.getReferenceById((long) purgePostForm.post_id());
-    try {
-      final int removedPostHistory = postHistoryService.deleteAllByPost(postToPurge);
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    // @todo: Log purged history amount?
-    // @todo: Implement purging
+    final Post postToPurge = postRepository.findById((long) purgePostForm.post_id())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "post_not_found"));
+
+    final PurgeJob purgeJob = purgeJobService.enqueue(PurgeJobType.POST, postToPurge.getId(),
+        person.getId(), purgePostForm.reason());
+
+    moderationLogService.createModerationLog(ModerationLog.builder()
+        .actionType(ModlogActionType.AdminPurgePost)
+        .entityId(postToPurge.getId())
+        .communityId(postToPurge.getCommunity().getId())
+        .adminPersonId(person.getId())
+        .instance(localInstanceContext.instance())
+        .reason(purgePostForm.reason())
+        .build());
 
-    throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED);
+    return PurgeItemResponse.builder().success(true).purge_job_id(purgeJob.getId()).build();
+  }
+
+  @Operation(summary = "Get the status of a background purge.")
+  @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK", content = {
+      @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = GetPurgeJobResponse.class))})})
+  @GetMapping("purge/status")
+  GetPurgeJobResponse purgeStatus(@Valid final GetPurgeJob getPurgeJobForm,
+      final JwtPerson principal) {
+
+    final Person person = getPersonOrThrowUnauthorized(principal);
+
+    roleAuthorizingService.hasAdminOrAnyPermissionOrThrow(person,
+        Set.of(RolePermission.PURGE_USER, RolePermission.PURGE_COMMUNITY,
+            RolePermission.PURGE_POST),
+        () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "not_an_admin"));
+
+    final PurgeJob purgeJob = purgeJobService.getJob(getPurgeJobForm.purge_job_id())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "purge_job_not_found"));
+
+    return GetPurgeJobResponse.builder()
+        .purge_job(conversionService.convert(purgeJob, PurgeJobView.class))
+        .build();
   }
 
   @Operation(summary = "Purge / Delete a comment from the database.")
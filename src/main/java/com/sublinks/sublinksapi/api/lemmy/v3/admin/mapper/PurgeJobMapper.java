@@ -0,0 +1,30 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.admin.mapper;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.PurgeJobView;
+import com.sublinks.sublinksapi.api.lemmy.v3.utils.DateUtils;
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.Nullable;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PurgeJobMapper extends Converter<PurgeJob, PurgeJobView> {
+
+  @Override
+  @Mapping(target = "id", source = "purgeJob.id")
+  @Mapping(target = "job_type", source = "purgeJob.jobType")
+  @Mapping(target = "target_id", source = "purgeJob.targetId")
+  @Mapping(target = "status", source = "purgeJob.status")
+  @Mapping(target = "step", source = "purgeJob.step")
+  @Mapping(target = "processed", source = "purgeJob.processed")
+  @Mapping(target = "last_error", source = "purgeJob.lastError")
+  @Mapping(target = "created_at", source = "purgeJob.createdAt",
+      dateFormat = DateUtils.FRONT_END_DATE_FORMAT)
+  @Mapping(target = "updated_at", source = "purgeJob.updatedAt",
+      dateFormat = DateUtils.FRONT_END_DATE_FORMAT)
+  @Mapping(target = "finished_at", source = "purgeJob.finishedAt",
+      dateFormat = DateUtils.FRONT_END_DATE_FORMAT)
+  PurgeJobView convert(@Nullable PurgeJob purgeJob);
+}
@@ -0,0 +1,11 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.admin.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record GetPurgeJob(
+    Long purge_job_id
+) {
+
+}
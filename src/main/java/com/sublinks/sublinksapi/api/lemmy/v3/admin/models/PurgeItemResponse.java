@@ -2,9 +2,15 @@ package com.sublinks.sublinksapi.api.lemmy.v3.admin.models;
 
 import lombok.Builder;
 
+/**
+ * The purge_job_id is set for purges run in the background, their status is at GET
+ * /api/v3/admin/purge/status.
+ */
 @Builder
+@SuppressWarnings("RecordComponentName")
 public record PurgeItemResponse(
-    boolean success
+    boolean success,
+    Long purge_job_id
 ) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.admin.models;
+
+import lombok.Builder;
+
+@Builder
+@SuppressWarnings("RecordComponentName")
+public record PurgeJobView(
+    Long id,
+    String job_type,
+    Long target_id,
+    String status,
+    int step,
+    long processed,
+    String last_error,
+    String created_at,
+    String updated_at,
+    String finished_at
+) {
+
+}
@@ -1,7 +1,8 @@
 package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
 
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.JwtPrincipal;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.VerifiedToken;
 import com.sublinks.sublinksapi.person.entities.Person;
-import com.sublinks.sublinksapi.person.repositories.PersonRepository;
 import com.sublinks.sublinksapi.person.services.UserDataService;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -26,7 +27,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
-  private final PersonRepository personRepository;
+  private final JwtPrincipalCache jwtPrincipalCache;
   private final UserDataService userDataService;
 
   @Override
@@ -47,7 +48,7 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     String token = null;
-    String userName = null;
+    VerifiedToken verifiedToken = null;
 
     try {
       if (authorizingToken != null) {
@@ -56,25 +57,28 @@ public class JwtFilter extends OncePerRequestFilter {
         } else {
           token = authorizingToken;
         }
-        userName = jwtUtil.extractUsername(token);
+        verifiedToken = jwtUtil.verifyToken(token);
       }
     } catch (ExpiredJwtException | SignatureException ex) {
       response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "invalid_token");
     }
 
-    if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      final Optional<Person> person = personRepository.findOneByName(userName);
-      if (person.isEmpty()) {
+    if (verifiedToken != null
+        && SecurityContextHolder.getContext().getAuthentication() == null) {
+      final Optional<JwtPrincipal> principal = jwtPrincipalCache.getPrincipal(
+          verifiedToken.username());
+      if (principal.isEmpty()) {
         throw new UsernameNotFoundException("Invalid name");
       }
 
-      if (jwtUtil.validateToken(token, person.get())) {
+      if (jwtUtil.validateToken(verifiedToken, principal.get().name())) {
 
+        final JwtPerson authenticationToken = new JwtPerson(principal.get(),
+            () -> jwtPrincipalCache.loadPerson(principal.get()));
         // Add a check if token and ip was changed? To give like a "warning" to the user that he has a new ip logged into his account
-        userDataService.checkAndAddIpRelation(person.get(), request.getRemoteAddr(), token,
+        userDataService.checkAndAddIpRelation(principal.get().personId(),
+            () -> (Person) authenticationToken.getPrincipal(), request.getRemoteAddr(), token,
             request.getHeader("User-Agent"));
-        final JwtPerson authenticationToken = new JwtPerson(person.get(),
-            person.get().getAuthorities());
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
       }
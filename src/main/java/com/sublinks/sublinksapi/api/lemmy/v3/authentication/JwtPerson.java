@@ -1,30 +1,80 @@
 package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
 
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.JwtPrincipal;
 import com.sublinks.sublinksapi.person.entities.Person;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+/**
+ * An authenticated person. Holds the cached {@link JwtPrincipal} and only loads the person entity
+ * the first time {@link #getPrincipal()} is called, so requests whose handler never needs the
+ * entity do not load it.
+ */
 public class JwtPerson extends AbstractAuthenticationToken {
 
-  private final Person person;
+  private final JwtPrincipal jwtPrincipal;
+  private final Supplier<Person> personLoader;
+  private Person person;
+  private boolean personLoaded;
+
+  public JwtPerson(final JwtPrincipal jwtPrincipal, final Supplier<Person> personLoader) {
+
+    super(authorities(jwtPrincipal));
+    this.jwtPrincipal = jwtPrincipal;
+    this.personLoader = personLoader;
+    setAuthenticated(true);
+  }
 
   public JwtPerson(final Person person, final Collection<? extends GrantedAuthority> authorities) {
 
     super(authorities);
+    this.jwtPrincipal = JwtPrincipal.of(person);
+    this.personLoader = () -> person;
     this.person = person;
+    this.personLoaded = true;
     setAuthenticated(true);
   }
 
+  private static List<SimpleGrantedAuthority> authorities(final JwtPrincipal jwtPrincipal) {
+
+    return jwtPrincipal.permissions().stream()
+        .map(permission -> new SimpleGrantedAuthority(permission.name()))
+        .toList();
+  }
+
+  public JwtPrincipal getJwtPrincipal() {
+
+    return jwtPrincipal;
+  }
+
+  @Override
+  public String getName() {
+
+    return jwtPrincipal.name();
+  }
+
   @Override
   public Object getCredentials() {
 
     return null;
   }
 
+  /**
+   * Returns the person, loading it on the first call.
+   *
+   * @return The person, or null if it no longer exists.
+   */
   @Override
   public Object getPrincipal() {
 
-    return this.person;
+    if (!personLoaded) {
+      person = personLoader.get();
+      personLoaded = true;
+    }
+    return person;
   }
 }
@@ -0,0 +1,94 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.config.JwtCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.JwtPrincipal;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import java.time.Duration;
+import com.sublinks.sublinksapi.utils.CacheGeneration;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches what authenticating a request needs to know about the person named by a verified token,
+ * as an immutable {@link JwtPrincipal}, so an authenticated request does not load the person with
+ * its role and languages. The entity itself is never cached: a handler that needs it loads its own
+ * copy by primary key, see {@link JwtPerson}, so relations like subscriptions are never read stale
+ * or shared between requests. Entries are bounded by size and age, and evicted when the person is
+ * updated, removed, deleted or logged out.
+ */
+@Component
+public class JwtPrincipalCache {
+
+  private final PersonRepository personRepository;
+  private final Cache<String, JwtPrincipal> principals;
+  private final CacheGeneration cacheGeneration = new CacheGeneration();
+
+  public JwtPrincipalCache(final PersonRepository personRepository,
+      final JwtCacheConfig jwtCacheConfig) {
+
+    this.personRepository = personRepository;
+    this.principals = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, jwtCacheConfig.getPrincipalMaxSize()))
+        .expireAfterWrite(Duration.ofSeconds(Math.max(0, jwtCacheConfig.getPrincipalTtl())))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the principal of a person, loading the person only if it is not cached.
+   *
+   * @param name The name of the person, the subject of the token.
+   * @return The principal, or empty if there is no such person.
+   */
+  public Optional<JwtPrincipal> getPrincipal(final String name) {
+
+    return Optional.ofNullable(cacheGeneration.get(principals, name,
+        key -> personRepository.findOneByName(key).map(JwtPrincipal::of).orElse(null)));
+  }
+
+  /**
+   * Loads the person of a principal, for the handlers that need the entity.
+   *
+   * @param jwtPrincipal The principal.
+   * @return The person, or null if it was deleted since the principal was cached.
+   */
+  public Person loadPerson(final JwtPrincipal jwtPrincipal) {
+
+    final Optional<Person> person = personRepository.findById(jwtPrincipal.personId());
+    if (person.isEmpty()) {
+      cacheGeneration.evictNow(() -> principals.invalidate(jwtPrincipal.name()));
+    }
+    return person.orElse(null);
+  }
+
+  /**
+   * Evicts a person, see {@link CacheGeneration#evict}.
+   *
+   * @param person The changed person.
+   */
+  public void evict(final Person person) {
+
+    if (person == null || person.getName() == null) {
+      return;
+    }
+    final String name = person.getName();
+    cacheGeneration.evict(() -> principals.invalidate(name));
+  }
+
+  /**
+   * Evicts every principal, once the permissions of roles changed.
+   */
+  public void evictAll() {
+
+    cacheGeneration.evict(principals::invalidateAll);
+  }
+
+  public CacheStats getStats() {
+
+    return principals.stats();
+  }
+}
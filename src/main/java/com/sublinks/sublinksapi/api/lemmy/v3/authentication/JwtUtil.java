@@ -1,32 +1,79 @@
 package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.config.JwtCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.VerifiedToken;
 import com.sublinks.sublinksapi.person.entities.Person;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.io.Serial;
 import java.io.Serializable;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Issues and verifies the JWTs of logged in users. The signing key and parser are built once, and
+ * verified tokens are cached by the SHA-256 hash of the token until they expire, so a token is only
+ * parsed and its signature only checked on its first request.
+ */
 @Component
 public class JwtUtil implements Serializable {
 
   public static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60;
   @Serial
   private static final long serialVersionUID = -2550185165626007488L;
-  private final String secret;
-
-  public JwtUtil(@Value("${jwt.secret}") final String secret) {
-
-    this.secret = secret;
+  private final transient SecretKey key;
+  private final transient JwtParser parser;
+  private final transient Cache<String, VerifiedToken> verifiedTokens;
+
+  public JwtUtil(@Value("${jwt.secret}") final String secret,
+      final JwtCacheConfig jwtCacheConfig) {
+
+    this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    this.parser = Jwts.parser().verifyWith(key).build();
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, jwtCacheConfig.getTokenMaxSize()))
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+          @Override
+          public long expireAfterCreate(final String tokenHash, final VerifiedToken verifiedToken,
+              final long currentTime) {
+
+            return TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, verifiedToken.expiration().getTime() - System.currentTimeMillis()));
+          }
+
+          @Override
+          public long expireAfterUpdate(final String tokenHash, final VerifiedToken verifiedToken,
+              final long currentTime, final long currentDuration) {
+
+            return currentDuration;
+          }
+
+          @Override
+          public long expireAfterRead(final String tokenHash, final VerifiedToken verifiedToken,
+              final long currentTime, final long currentDuration) {
+
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
   }
 
   public String generateToken(final Person person) {
@@ -37,18 +84,66 @@ public class JwtUtil implements Serializable {
 
   public Boolean validateToken(final String token, final Person person) {
 
-    final String tokenUsername = extractUsername(token);
-    return (tokenUsername.equals(person.getUsername()) && !isTokenExpired(token));
+    return validateToken(verifyToken(token), person.getUsername());
+  }
+
+  /**
+   * Checks an already verified token against the person it is used for.
+   *
+   * @param verifiedToken The verified token.
+   * @param username      The name of the person.
+   * @return True if the token belongs to the person and has not expired.
+   */
+  public boolean validateToken(final VerifiedToken verifiedToken, final String username) {
+
+    return verifiedToken.username().equals(username) && !verifiedToken.isExpired();
+  }
+
+  /**
+   * Checks the signature and expiration of a token, or returns the cached result of an earlier
+   * check. Tokens that fail the check are never cached.
+   *
+   * @param token The raw token.
+   * @return The verified subject and expiration of the token.
+   * @throws io.jsonwebtoken.JwtException If the token is malformed, expired or not signed by us.
+   */
+  public VerifiedToken verifyToken(final String token) {
+
+    final String tokenHash = hashToken(token);
+    final VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+    if (cached != null && !cached.isExpired()) {
+      return cached;
+    }
+    final Claims claims = extractAllClaims(token);
+    final VerifiedToken verifiedToken = new VerifiedToken(claims.getSubject(),
+        claims.getExpiration());
+    verifiedTokens.put(tokenHash, verifiedToken);
+    return verifiedToken;
+  }
+
+  /**
+   * Forgets a verified token, the next request using it is verified again.
+   *
+   * @param token The raw token.
+   */
+  public void evictToken(final String token) {
+
+    verifiedTokens.invalidate(hashToken(token));
+  }
+
+  public CacheStats getVerifiedTokenStats() {
+
+    return verifiedTokens.stats();
   }
 
   public String extractUsername(final String token) {
 
-    return extractClaim(token, Claims::getSubject);
+    return verifyToken(token).username();
   }
 
   public Date extractExpiration(final String token) {
 
-    return extractClaim(token, Claims::getExpiration);
+    return verifyToken(token).expiration();
   }
 
   public <T> T extractClaim(final String token, final Function<Claims, T> claimsResolver) {
@@ -59,19 +154,11 @@ public class JwtUtil implements Serializable {
 
   private Claims extractAllClaims(final String token) {
 
-    final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-  }
-
-  private Boolean isTokenExpired(final String token) {
-
-    return extractExpiration(token).before(new Date());
+    return parser.parseSignedClaims(token).getPayload();
   }
 
   private String doGenerateToken(final Map<String, Object> claims, final String subject) {
 
-    final byte[] keyBytes = Decoders.BASE64.decode(secret);
-    final Key key = Keys.hmacShaKeyFor(keyBytes);
     return Jwts.builder()
         .claims(claims)
         .subject(subject)
@@ -81,4 +168,13 @@ public class JwtUtil implements Serializable {
         .compact();
   }
 
+  private static String hashToken(final String token) {
+
+    try {
+      return HexFormat.of().formatHex(
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
 }
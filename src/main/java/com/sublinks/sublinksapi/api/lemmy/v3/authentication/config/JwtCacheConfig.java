@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class JwtCacheConfig {
+
+  @Value("${sublinks.settings.jwt_cache.token_max_size}")
+  private long tokenMaxSize;
+
+  @Value("${sublinks.settings.jwt_cache.principal_max_size}")
+  private long principalMaxSize;
+
+  @Value("${sublinks.settings.jwt_cache.principal_ttl}")
+  private long principalTtl;
+}
@@ -1,6 +1,7 @@
 package com.sublinks.sublinksapi.api.lemmy.v3.authentication.config;
 
 import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtFilter;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
   private final JwtFilter jwtFilter;
+  private final RateLimitFilter rateLimitFilter;
 
   @Bean
   public SecurityFilterChain filterChain(final HttpSecurity http) throws Exception {
@@ -30,7 +32,8 @@ public class SecurityConfig {
             (sessionManagement) -> sessionManagement.sessionCreationPolicy(
                 SessionCreationPolicy.STATELESS)
         )
-        .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(rateLimitFilter, JwtFilter.class);
     return http.build();
   }
 }
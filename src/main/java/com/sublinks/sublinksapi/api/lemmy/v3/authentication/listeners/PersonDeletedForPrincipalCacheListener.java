@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.person.events.PersonDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PersonDeletedForPrincipalCacheListener implements
+    ApplicationListener<PersonDeletedEvent> {
+
+  private final JwtPrincipalCache jwtPrincipalCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull PersonDeletedEvent event) {
+
+    jwtPrincipalCache.evict(event.getPerson());
+  }
+}
@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.person.events.PersonUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PersonUpdatedForPrincipalCacheListener implements
+    ApplicationListener<PersonUpdatedEvent> {
+
+  private final JwtPrincipalCache jwtPrincipalCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull PersonUpdatedEvent event) {
+
+    jwtPrincipalCache.evict(event.getPerson());
+  }
+}
@@ -0,0 +1,26 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.events.PurgeJobFinishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PurgeJobFinishedForPrincipalCacheListener implements
+    ApplicationListener<PurgeJobFinishedEvent> {
+
+  private final JwtPrincipalCache jwtPrincipalCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull PurgeJobFinishedEvent event) {
+
+    // The purged person is gone, so its name is not known anymore
+    if (event.getPurgeJob().getJobType() == PurgeJobType.PERSON) {
+      jwtPrincipalCache.evictAll();
+    }
+  }
+}
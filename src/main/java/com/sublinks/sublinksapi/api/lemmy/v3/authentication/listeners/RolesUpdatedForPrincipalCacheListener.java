@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.authorization.events.RolesUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RolesUpdatedForPrincipalCacheListener implements
+    ApplicationListener<RolesUpdatedEvent> {
+
+  private final JwtPrincipalCache jwtPrincipalCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull RolesUpdatedEvent event) {
+
+    jwtPrincipalCache.evictAll();
+  }
+}
@@ -0,0 +1,34 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtUtil;
+import com.sublinks.sublinksapi.person.entities.UserData;
+import com.sublinks.sublinksapi.person.events.UserDataInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserDataInvalidationForPrincipalCacheListener implements
+    ApplicationListener<UserDataInvalidationEvent> {
+
+  private final JwtPrincipalCache jwtPrincipalCache;
+  private final JwtUtil jwtUtil;
+
+  @Override
+  public void onApplicationEvent(@NonNull UserDataInvalidationEvent event) {
+
+    if (event.getPersonPurged() != null) {
+      jwtPrincipalCache.evict(event.getPersonPurged());
+    }
+    final UserData userData = event.getUserData();
+    if (userData != null) {
+      jwtPrincipalCache.evict(userData.getPerson());
+      if (userData.getToken() != null) {
+        jwtUtil.evictToken(userData.getToken());
+      }
+    }
+  }
+}
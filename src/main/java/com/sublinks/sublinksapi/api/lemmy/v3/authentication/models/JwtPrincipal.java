@@ -0,0 +1,24 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.models;
+
+import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
+import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.Set;
+
+/**
+ * What authenticating a request needs to know about a person, copied from the entity so it can be
+ * cached and shared between requests without sharing the entity.
+ */
+public record JwtPrincipal(
+    Long personId,
+    String name,
+    Set<RolePermission> permissions
+) {
+
+  public static JwtPrincipal of(final Person person) {
+
+    return new JwtPrincipal(person.getId(), person.getName(),
+        person.getRole() == null ? Set.of()
+            : Set.copyOf(RoleAuthorizingService.getPermissions(person.getRole())));
+  }
+}
@@ -0,0 +1,17 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication.models;
+
+import java.util.Date;
+
+/**
+ * The claims of a token whose signature has already been checked.
+ */
+public record VerifiedToken(
+    String username,
+    Date expiration
+) {
+
+  public boolean isExpired() {
+
+    return expiration.before(new Date());
+  }
+}
@@ -462,17 +462,9 @@ public class CommentController extends AbstractLemmyApiController {
 
     final List<Comment> comments = commentRepository.allCommentsBySearchCriteria(
         commentRepositorySearch);
-    final List<CommentView> commentViews = new ArrayList<>();
-    for (Comment comment : comments) {
-      CommentView commentView;
-      if (person.isPresent()) {
-        commentView = lemmyCommentService.createCommentView(comment, person.get());
-        commentReadService.markCommentReadByPerson(comment, person.get());
-      } else {
-        commentView = lemmyCommentService.createCommentView(comment);
-      }
-      commentViews.add(commentView);
-    }
+    final List<CommentView> commentViews = lemmyCommentService.createCommentViews(comments,
+        person.orElse(null));
+    person.ifPresent(p -> commentReadService.markCommentsReadByPerson(comments, p));
     return GetCommentsResponse.builder().comments(commentViews).build();
   }
 
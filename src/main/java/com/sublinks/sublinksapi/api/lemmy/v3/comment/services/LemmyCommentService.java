@@ -8,17 +8,29 @@ import com.sublinks.sublinksapi.api.lemmy.v3.community.services.LemmyCommunitySe
 import com.sublinks.sublinksapi.api.lemmy.v3.enums.SubscribedType;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post;
 import com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person;
-import com.sublinks.sublinksapi.authorization.enums.RolePermission;
 import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
 import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
-import com.sublinks.sublinksapi.comment.services.CommentLikeService;
-import com.sublinks.sublinksapi.comment.services.CommentSaveService;
+import com.sublinks.sublinksapi.comment.entities.CommentLike;
+import com.sublinks.sublinksapi.comment.entities.CommentSave;
+import com.sublinks.sublinksapi.comment.repositories.ComentSaveRepository;
+import com.sublinks.sublinksapi.comment.repositories.CommentLikeRepository;
+import com.sublinks.sublinksapi.comment.services.CommentVoteAccumulatorService;
 import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
+import com.sublinks.sublinksapi.person.entities.LinkPersonCommunity;
 import com.sublinks.sublinksapi.person.enums.LinkPersonCommunityType;
-import com.sublinks.sublinksapi.person.services.LinkPersonCommunityService;
+import com.sublinks.sublinksapi.person.repositories.LinkPersonCommunityRepository;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -28,10 +40,10 @@ public class LemmyCommentService {
   private final LemmyCommunityService lemmyCommunityService;
   private final LocalInstanceContext localInstanceContext;
   private final ConversionService conversionService;
-  private final CommentLikeService commentLikeService;
-  private final LinkPersonCommunityService linkPersonCommunityService;
-  private final CommentSaveService commentSaveService;
-  private final RoleAuthorizingService roleAuthorizingService;
+  private final CommentLikeRepository commentLikeRepository;
+  private final ComentSaveRepository commentSaveRepository;
+  private final LinkPersonCommunityRepository linkPersonCommunityRepository;
+  private final CommentVoteAccumulatorService commentVoteAccumulatorService;
 
   public String generateActivityPubId(
       final com.sublinks.sublinksapi.comment.entities.Comment comment) {
@@ -46,75 +58,144 @@ public class LemmyCommentService {
       final com.sublinks.sublinksapi.comment.entities.Comment comment,
       final com.sublinks.sublinksapi.person.entities.Person person) {
 
-    return commentViewBuilder(comment, person).build();
+    return createCommentViews(List.of(comment), person).get(0);
   }
 
   @NonNull
   public CommentView createCommentView(
       final com.sublinks.sublinksapi.comment.entities.Comment comment) {
 
-    return commentViewBuilder(comment).build();
+    return createCommentViews(List.of(comment), null).get(0);
   }
 
+  /**
+   * Builds the views of a page of comments for a viewer. The viewer's votes and saves, and the
+   * creators' bans and moderator links, are each loaded for the whole page with a single query,
+   * so the number of queries does not grow with the size of the thread. Admin checks, the
+   * viewer's subscriptions and the converted person, community and post models are resolved once
+   * per page.
+   *
+   * @param comments The comments, in display order.
+   * @param person   The viewer, null for anonymous requests.
+   * @return The comment views, in the same order as the comments.
+   */
   @NonNull
-  private CommentView.CommentViewBuilder commentViewBuilder(
-      final com.sublinks.sublinksapi.comment.entities.Comment comment,
-      final com.sublinks.sublinksapi.person.entities.Person person) {
+  public List<CommentView> createCommentViews(
+      final Collection<com.sublinks.sublinksapi.comment.entities.Comment> comments,
+      @Nullable final com.sublinks.sublinksapi.person.entities.Person person) {
 
-    CommentView.CommentViewBuilder commentView = commentViewBuilder(comment);
+    if (comments.isEmpty()) {
+      return List.of();
+    }
 
-    final SubscribedType subscribedType = lemmyCommunityService.getPersonCommunitySubscribeType(
-        person, comment.getCommunity());
-    final int personVote = commentLikeService.getPersonCommentVote(person, comment);
+    final Set<com.sublinks.sublinksapi.person.entities.Person> creators = new HashSet<>();
+    final Set<com.sublinks.sublinksapi.community.entities.Community> communities = new HashSet<>();
+    for (com.sublinks.sublinksapi.comment.entities.Comment comment : comments) {
+      creators.add(comment.getPerson());
+      communities.add(comment.getCommunity());
+    }
 
-    commentView.subscribed(subscribedType).saved(false)// @todo check if saved
-        .my_vote(personVote);
+    final Set<String> bannedCreators = new HashSet<>();
+    final Set<String> moderatorCreators = new HashSet<>();
+    for (LinkPersonCommunity link : linkPersonCommunityRepository.findAllByPersonInAndCommunityInAndLinkTypeIn(
+        creators, communities,
+        List.of(LinkPersonCommunityType.banned, LinkPersonCommunityType.moderator))) {
+      final String key = linkKey(link.getPerson().getId(), link.getCommunity().getId());
+      if (link.getLinkType() == LinkPersonCommunityType.banned) {
+        bannedCreators.add(key);
+      } else {
+        moderatorCreators.add(key);
+      }
+    }
 
-    commentView.saved(commentSaveService.isCommentSavedByPerson(comment, person));
+    final Map<Long, Integer> votes = new HashMap<>();
+    final Set<Long> savedCommentIds = new HashSet<>();
+    final Map<Long, SubscribedType> subscriptions = new HashMap<>();
+    if (person != null) {
+      for (CommentLike commentLike : commentLikeRepository.findAllByPersonAndCommentIn(person,
+          comments)) {
+        votes.put(commentLike.getComment().getId(), commentLike.getScore());
+      }
+      for (CommentSave commentSave : commentSaveRepository.findAllByPersonAndCommentIn(person,
+          comments)) {
+        savedCommentIds.add(commentSave.getComment().getId());
+      }
+      for (com.sublinks.sublinksapi.community.entities.Community community : communities) {
+        subscriptions.put(community.getId(),
+            lemmyCommunityService.getPersonCommunitySubscribeType(person, community));
+      }
+    }
 
-    return commentView;
+    final Map<Long, Boolean> adminRoles = new HashMap<>();
+    final Map<Long, Person> lemmyPersons = new HashMap<>();
+    final Map<Long, Community> lemmyCommunities = new HashMap<>();
+    final Map<Long, Post> lemmyPosts = new HashMap<>();
+
+    final List<CommentView> commentViews = new ArrayList<>(comments.size());
+    for (com.sublinks.sublinksapi.comment.entities.Comment comment : comments) {
+      final com.sublinks.sublinksapi.person.entities.Person creator = comment.getPerson();
+      final String key = linkKey(creator.getId(), comment.getCommunity().getId());
+
+      CommentAggregate commentAggregate = comment.getCommentAggregate();
+      if (commentAggregate == null) {
+        commentAggregate = CommentAggregate.builder().build();
+      }
+
+      final CommentView.CommentViewBuilder commentView = CommentView.builder()
+          .comment(conversionService.convert(comment, Comment.class))
+          .creator(lemmyPersons.computeIfAbsent(creator.getId(),
+              id -> conversionService.convert(creator, Person.class)))
+          .community(lemmyCommunities.computeIfAbsent(comment.getCommunity().getId(),
+              id -> conversionService.convert(comment.getCommunity(), Community.class)))
+          .post(lemmyPosts.computeIfAbsent(comment.getPost().getId(),
+              id -> conversionService.convert(comment.getPost(), Post.class)))
+          .counts(withPendingVotes(
+              conversionService.convert(commentAggregate, CommentAggregates.class),
+              comment.getId()))
+          .creator_banned_from_community(bannedCreators.contains(key))
+          .creator_blocked(
+              false) // @todo check if creator is blocked by the viewer ( only for logged in users )
+          .creator_is_moderator(moderatorCreators.contains(key))
+          .creator_is_admin(creator.getRole() != null && adminRoles.computeIfAbsent(
+              creator.getRole().getId(), id -> RoleAuthorizingService.isAdmin(creator.getRole())));
+
+      if (person != null) {
+        commentView.subscribed(subscriptions.get(comment.getCommunity().getId()))
+            .saved(savedCommentIds.contains(comment.getId()))
+            .my_vote(votes.getOrDefault(comment.getId(), 0));
+      }
+      commentViews.add(commentView.build());
+    }
+    return commentViews;
   }
 
-  @NonNull
-  private CommentView.CommentViewBuilder commentViewBuilder(
-      final com.sublinks.sublinksapi.comment.entities.Comment comment) {
-
-    final Comment lemmyComment = conversionService.convert(comment, Comment.class);
-
-    final com.sublinks.sublinksapi.person.entities.Person creator = comment.getPerson();
-    final Person lemmyCreator = conversionService.convert(creator, Person.class);
-
-    final Community lemmyCommunity = conversionService.convert(comment.getCommunity(),
-        Community.class);
-    final Post lemmyPost = conversionService.convert(comment.getPost(), Post.class);
+  /**
+   * Adds the votes that are still waiting to be flushed to the aggregate counts.
+   */
+  private CommentAggregates withPendingVotes(@Nullable final CommentAggregates counts,
+      final Long commentId) {
 
-    CommentAggregate commentAggregate = comment.getCommentAggregate();
-    if (comment.getCommentAggregate() == null) {
-      commentAggregate = CommentAggregate.builder().build();
+    if (counts == null) {
+      return null;
     }
+    final VoteDelta pending = commentVoteAccumulatorService.getPendingVotes(commentId);
+    if (pending == null || pending.isZero()) {
+      return counts;
+    }
+    return CommentAggregates.builder()
+        .id(counts.id())
+        .comment_id(counts.comment_id())
+        .score(counts.score() + pending.score())
+        .upvotes(counts.upvotes() + pending.upVotes())
+        .downvotes(counts.downvotes() + pending.downVotes())
+        .published(counts.published())
+        .child_count(counts.child_count())
+        .hot_rank(counts.hot_rank())
+        .build();
+  }
+
+  private static String linkKey(final Long personId, final Long communityId) {
 
-    final CommentAggregates lemmyCommentAggregates = conversionService.convert(commentAggregate,
-        CommentAggregates.class);
-
-    final boolean isBannedFromCommunity = linkPersonCommunityService.hasLink(creator,
-        comment.getCommunity(), LinkPersonCommunityType.banned);
-
-    final boolean createIsAdmin = roleAuthorizingService.hasAdminOrPermission(creator,
-        RolePermission.ADMIN);
-
-    final boolean creatorIsModerator = linkPersonCommunityService.hasLink(creator,
-        comment.getCommunity(), LinkPersonCommunityType.moderator);
-
-    return CommentView.builder()
-        .comment(lemmyComment)
-        .creator(lemmyCreator)
-        .community(lemmyCommunity)
-        .post(lemmyPost)
-        .counts(lemmyCommentAggregates)
-        .creator_banned_from_community(isBannedFromCommunity)
-        .creator_blocked(
-            false) // @todo check if creator is blocked by the viewer ( only for logged in users )
-        .creator_is_moderator(creatorIsModerator)
-        .creator_is_admin(createIsAdmin);
+    return personId + ":" + communityId;
   }
 }
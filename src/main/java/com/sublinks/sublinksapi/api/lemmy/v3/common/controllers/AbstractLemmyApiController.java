@@ -64,4 +64,27 @@ public abstract class AbstractLemmyApiController {
 
     return Optional.ofNullable(principal).map(p -> (Person) p.getPrincipal());
   }
+
+  /**
+   * Get the id of the last event a reconnecting stream client got or throw a 400 Bad Request
+   * exception. Browsers send it as a header, other clients may pass it as a parameter.
+   *
+   * @param header The Last-Event-ID header
+   * @param param  The last_event_id parameter
+   * @return The id, or null for a new client
+   * @throws ResponseStatusException Exception thrown when the id is not a number
+   */
+  public Long getLastEventIdOrThrowBadRequest(String header, String param)
+      throws ResponseStatusException {
+
+    final String lastEventId = header != null ? header : param;
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "couldnt_parse_last_event_id");
+    }
+  }
 }
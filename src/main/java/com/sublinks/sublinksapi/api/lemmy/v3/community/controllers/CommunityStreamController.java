@@ -0,0 +1,77 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.community.controllers;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.enums.ActivityEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.activity.services.ActivityStreamService;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPerson;
+import com.sublinks.sublinksapi.api.lemmy.v3.common.controllers.AbstractLemmyApiController;
+import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
+import com.sublinks.sublinksapi.person.entities.Person;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/v3/community")
+@Tag(name = "Community")
+public class CommunityStreamController extends AbstractLemmyApiController {
+
+  private final ActivityStreamService activityStreamService;
+  private final CommunityRepository communityRepository;
+  private final RoleAuthorizingService roleAuthorizingService;
+
+  @Operation(summary = "Stream the new posts of a community and their score changes as server-sent"
+      + " events. Events only carry ids and counts. Reconnect with Last-Event-ID to get the events"
+      + " missed in between, a resync event means they are gone and the posts need to be fetched"
+      + " again.")
+  @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK")})
+  @GetMapping(path = "stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  SseEmitter stream(@RequestParam("community_id") final Long communityId,
+      @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventIdHeader,
+      @RequestParam(value = "last_event_id", required = false) final String lastEventIdParam,
+      final JwtPerson principal, final HttpServletResponse response) {
+
+    final Person person = getPerson(principal);
+
+    roleAuthorizingService.hasAdminOrPermissionOrThrow(person, RolePermission.READ_POSTS,
+        () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "unauthorized"));
+
+    final List<ActivityEventType> types = Arrays.stream(ActivityEventType.values())
+        .filter(type -> roleAuthorizingService.hasAdminOrPermission(person, type.rolePermission))
+        .toList();
+    if (types.isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "no_permission");
+    }
+
+    final Long lastEventId = getLastEventIdOrThrowBadRequest(lastEventIdHeader,
+        lastEventIdParam);
+
+    final Community community = communityRepository.findById(communityId)
+        .orElseThrow(
+            () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "community_not_found"));
+
+    final SseEmitter emitter = activityStreamService.connect(community, lastEventId, types)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+            "too_many_connections"));
+    // Keeps reverse proxies like nginx from buffering the stream
+    response.setHeader("X-Accel-Buffering", "no");
+    return emitter;
+  }
+}
@@ -19,10 +19,14 @@ import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemoveCommentView;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemoveCommunityView;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemovePostView;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModTransferCommunityView;
+import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModerationLogReferences;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.services.ModerationLogService;
+import com.sublinks.sublinksapi.api.lemmy.v3.utils.PaginationControllerUtils;
 import com.sublinks.sublinksapi.authorization.enums.RolePermission;
 import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
 import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogPageCursor;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogSearchCriteria;
 import com.sublinks.sublinksapi.person.entities.Person;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,13 +34,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -87,45 +93,64 @@ public class ModerationLogController extends AbstractLemmyApiController {
     final List<AdminPurgeCommentView> admin_purged_comments = new ArrayList<>();
     final List<ModHideCommunityView> hidden_communities = new ArrayList<>();
 
-    final Page<ModerationLog> moderationLogs = moderationLogService.searchModerationLogs(
-        getModLogForm.type_(),
-        getModLogForm.community_id(),
-        getModLogForm.mod_person_id(),
-        getModLogForm.other_person_id(),
-        getModLogForm.page(),
-        limit,
-        Sort.by("createdAt").descending());
+    ModerationLogPageCursor pageCursor = null;
+    if (getModLogForm.page_cursor() != null && !getModLogForm.page_cursor().isBlank()) {
+      try {
+        pageCursor = ModerationLogPageCursor.decode(getModLogForm.page_cursor());
+      } catch (IllegalArgumentException e) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+            "couldnt_parse_pagination_token");
+      }
+    }
+
+    final List<ModerationLog> moderationLogs = moderationLogService.searchModerationLogs(
+        ModerationLogSearchCriteria.builder()
+            .actionType(getModLogForm.type_())
+            .communityId(getModLogForm.community_id())
+            .moderationPersonId(getModLogForm.mod_person_id())
+            .otherPersonId(getModLogForm.other_person_id())
+            .createdAfter(parseDate(getModLogForm.created_after()))
+            .createdBefore(parseDate(getModLogForm.created_before()))
+            .page(PaginationControllerUtils.getAbsoluteMinNumber(getModLogForm.page(), 1))
+            .perPage(limit)
+            .pageCursor(pageCursor)
+            .build());
 
-    for (ModerationLog moderationLog : moderationLogs.getContent()) {
+    final ModerationLogReferences references = moderationLogService.loadReferences(
+        moderationLogs);
+
+    for (ModerationLog moderationLog : moderationLogs) {
       switch (moderationLog.getActionType()) {
         case ModRemovePost -> removed_posts.add(
-            moderationLogService.buildModRemovePostView(moderationLog));
+            moderationLogService.buildModRemovePostView(moderationLog, references));
         case ModLockPost -> locked_posts.add(
-            moderationLogService.buildModLockPostView(moderationLog));
+            moderationLogService.buildModLockPostView(moderationLog, references));
         case ModFeaturePost -> featured_posts.add(
-            moderationLogService.buildModFeaturePostView(moderationLog));
+            moderationLogService.buildModFeaturePostView(moderationLog, references));
         case ModRemoveComment -> removed_comments.add(
-            moderationLogService.buildModRemoveCommentView(moderationLog));
+            moderationLogService.buildModRemoveCommentView(moderationLog, references));
         case ModRemoveCommunity -> removed_communities.add(
-            moderationLogService.buildModRemoveCommunityView(moderationLog));
+            moderationLogService.buildModRemoveCommunityView(moderationLog, references));
         case ModBanFromCommunity -> banned_from_community.add(
-            moderationLogService.buildModBanFromCommunityView(moderationLog));
+            moderationLogService.buildModBanFromCommunityView(moderationLog, references));
         case ModAddCommunity -> added_to_community.add(
-            moderationLogService.buildModAddCommunityView(moderationLog));
+            moderationLogService.buildModAddCommunityView(moderationLog, references));
         case ModTransferCommunity -> transferred_to_community.add(
-            moderationLogService.buildModTransferCommunityView(moderationLog));
-        case ModAdd -> added.add(moderationLogService.buildModAddView(moderationLog));
-        case ModBan -> banned.add(moderationLogService.buildModBanView(moderationLog));
+            moderationLogService.buildModTransferCommunityView(moderationLog, references));
+        case ModAdd -> added.add(
+            moderationLogService.buildModAddView(moderationLog, references));
+        case ModBan -> banned.add(
+            moderationLogService.buildModBanView(moderationLog, references));
         case ModHideCommunity -> hidden_communities.add(
-            moderationLogService.buildModHideCommunityView(moderationLog));
+            moderationLogService.buildModHideCommunityView(moderationLog, references));
         case AdminPurgePerson -> admin_purged_persons.add(
-            moderationLogService.buildAdminPurgePersonView(moderationLog));
+            moderationLogService.buildAdminPurgePersonView(moderationLog, references));
         case AdminPurgeCommunity -> admin_purged_communities.add(
-            moderationLogService.buildAdminPurgeCommunityView(moderationLog));
+            moderationLogService.buildAdminPurgeCommunityView(moderationLog, references));
         case AdminPurgePost -> admin_purged_posts.add(
-            moderationLogService.buildAdminPurgePostView(moderationLog));
+            moderationLogService.buildAdminPurgePostView(moderationLog, references));
         case AdminPurgeComment -> admin_purged_comments.add(
-            moderationLogService.buildAdminPurgeCommentView(moderationLog));
+            moderationLogService.buildAdminPurgeCommentView(moderationLog, references));
         default -> {
           // Nothing is needed for All
         }
@@ -148,6 +173,21 @@ public class ModerationLogController extends AbstractLemmyApiController {
         .admin_purged_posts(admin_purged_posts)
         .admin_purged_comments(admin_purged_comments)
         .hidden_communities(hidden_communities)
+        .next_page(moderationLogs.size() < limit ? null
+            : ModerationLogPageCursor.of(moderationLogs.get(moderationLogs.size() - 1)).encode())
         .build();
   }
+
+  @Nullable
+  private static Date parseDate(@Nullable final String date) {
+
+    if (date == null || date.isBlank()) {
+      return null;
+    }
+    try {
+      return Date.from(OffsetDateTime.parse(date).toInstant());
+    } catch (DateTimeParseException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "couldnt_parse_date");
+    }
+  }
 }
@@ -11,7 +11,10 @@ public record GetModLog(
     int page,
     int limit,
     ModlogActionType type_,
-    Long other_person_id
+    Long other_person_id,
+    String page_cursor,
+    String created_after,
+    String created_before
 ) {
 
 }
\ No newline at end of file
@@ -24,7 +24,8 @@ public record GetModlogResponse(
     List<AdminPurgeCommunityView> admin_purged_communities,
     List<AdminPurgePostView> admin_purged_posts,
     List<AdminPurgeCommentView> admin_purged_comments,
-    List<ModHideCommunityView> hidden_communities
+    List<ModHideCommunityView> hidden_communities,
+    String next_page
 ) {
 
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.modlog.models;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.Comment;
+import com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post;
+import com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * The communities, posts, comments and people a page of moderation logs refers to, loaded and
+ * converted once for the whole page.
+ */
+@Builder
+public record ModerationLogReferences(
+    Map<Long, Community> communities,
+    Map<Long, Post> posts,
+    Map<Long, Comment> comments,
+    Map<Long, Person> people
+) {
+
+  public Community community(final Long communityId) {
+
+    return communityId == null ? null : communities.get(communityId);
+  }
+
+  public Post post(final Long postId) {
+
+    return postId == null ? null : posts.get(postId);
+  }
+
+  public Comment comment(final Long commentId) {
+
+    return commentId == null ? null : comments.get(commentId);
+  }
+
+  public Person person(final Long personId) {
+
+    return personId == null ? null : people.get(personId);
+  }
+}
@@ -10,7 +10,6 @@ import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.AdminPurgePost;
 import com.sublinks.sublinksapi.api.lemmy.v3.admin.models.AdminPurgePostView;
 import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.Comment;
 import com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community;
-import com.sublinks.sublinksapi.api.lemmy.v3.enums.ModlogActionType;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModAdd;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModAddCommunity;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModAddCommunityView;
@@ -33,20 +32,25 @@ import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemovePost;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemovePostView;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModTransferCommunity;
 import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModTransferCommunityView;
+import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModerationLogReferences;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post;
 import com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person;
 import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
 import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
 import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
 import com.sublinks.sublinksapi.moderation.events.ModerationLogCreatedPublisher;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogSearchCriteria;
 import com.sublinks.sublinksapi.moderation.repositories.ModerationLogRepository;
 import com.sublinks.sublinksapi.person.repositories.PersonRepository;
 import com.sublinks.sublinksapi.post.repositories.PostRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,30 +70,15 @@ public class ModerationLogService {
   private final ConversionService conversionService;
 
   /**
-   * Search moderation logs and return a page of results
+   * Search moderation logs and return a page of results, newest first
    *
-   * @param actionType         Moderation Log Action Type
-   * @param communityId        Community Id
-   * @param moderationPersonId Moderation Person Id
-   * @param otherPersonId      Other Person Id
-   * @param page               the page number
-   * @param pageSize           the size limit of a page
-   * @param sort               the sort option
-   * @return a Page of moderation logs
+   * @param moderationLogSearchCriteria the filters, page and page cursor
+   * @return a page of moderation logs
    */
-  public Page<ModerationLog> searchModerationLogs(ModlogActionType actionType,
-      final Long communityId,
-      final Long moderationPersonId,
-      final Long otherPersonId,
-      final int page,
-      final int pageSize,
-      final Sort sort) {
-
-    return moderationLogRepository.searchAllByActionTypeAndPersonIds(actionType,
-        communityId,
-        moderationPersonId,
-        otherPersonId,
-        PageRequest.of(page - 1, pageSize, sort));
+  public List<ModerationLog> searchModerationLogs(
+      final ModerationLogSearchCriteria moderationLogSearchCriteria) {
+
+    return moderationLogRepository.allModerationLogsBySearchCriteria(moderationLogSearchCriteria);
   }
 
   /**
@@ -106,309 +95,324 @@ public class ModerationLogService {
   }
 
   /**
-   * Builds a ModRemovePostView using information from the database for the moderation log
+   * Loads everything a page of moderation logs refers to, one query per entity type. Posts,
+   * communities and people come with the relations they load eagerly.
+   *
+   * @param moderationLogs a page of moderation logs
+   * @return the converted entities by id, for the build*View methods
+   */
+  public ModerationLogReferences loadReferences(final Collection<ModerationLog> moderationLogs) {
+
+    final Set<Long> communityIds = new HashSet<>();
+    final Set<Long> postIds = new HashSet<>();
+    final Set<Long> commentIds = new HashSet<>();
+    final Set<Long> personIds = new HashSet<>();
+    for (ModerationLog moderationLog : moderationLogs) {
+      addIfPresent(communityIds, moderationLog.getCommunityId());
+      addIfPresent(postIds, moderationLog.getPostId());
+      addIfPresent(commentIds, moderationLog.getCommentId());
+      addIfPresent(personIds, moderationLog.getModerationPersonId());
+      addIfPresent(personIds, moderationLog.getOtherPersonId());
+      addIfPresent(personIds, moderationLog.getAdminPersonId());
+    }
+
+    final Map<Long, Community> communities = new HashMap<>();
+    if (!communityIds.isEmpty()) {
+      communityRepository.findAllWithAggregatesByIdIn(communityIds).forEach(
+          community -> communities.put(community.getId(),
+              conversionService.convert(community, Community.class)));
+    }
+    final Map<Long, Post> posts = new HashMap<>();
+    if (!postIds.isEmpty()) {
+      postRepository.findAllWithAggregatesByIdIn(postIds).forEach(
+          post -> posts.put(post.getId(), conversionService.convert(post, Post.class)));
+    }
+    final Map<Long, Comment> comments = new HashMap<>();
+    if (!commentIds.isEmpty()) {
+      commentRepository.findAllById(commentIds).forEach(comment -> comments.put(comment.getId(),
+          conversionService.convert(comment, Comment.class)));
+    }
+    final Map<Long, Person> people = new HashMap<>();
+    if (!personIds.isEmpty()) {
+      personRepository.findAllWithAggregatesByIdIn(personIds).forEach(
+          person -> people.put(person.getId(), conversionService.convert(person, Person.class)));
+    }
+
+    return ModerationLogReferences.builder()
+        .communities(communities)
+        .posts(posts)
+        .comments(comments)
+        .people(people)
+        .build();
+  }
+
+  private static void addIfPresent(final Set<Long> ids, final Long id) {
+
+    if (id != null) {
+      ids.add(id);
+    }
+  }
+
+  /**
+   * Builds a ModRemovePostView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModRemovePostView buildModRemovePostView(ModerationLog moderationLog) {
+  public ModRemovePostView buildModRemovePostView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModRemovePostView.builder()
         .mod_remove_post(conversionService.convert(moderationLog, ModRemovePost.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .post(conversionService.convert(
-            postRepository.findById(moderationLog.getPostId())
-                .orElse(null), Post.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .post(references.post(moderationLog.getPostId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModLockPostView using information from the database for the moderation log
+   * Builds a ModLockPostView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModLockPostView buildModLockPostView(ModerationLog moderationLog) {
+  public ModLockPostView buildModLockPostView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModLockPostView.builder()
         .mod_lock_post(conversionService.convert(moderationLog, ModLockPost.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .post(conversionService.convert(
-            postRepository.findById(moderationLog.getPostId())
-                .orElse(null), Post.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .post(references.post(moderationLog.getPostId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModFeaturePostView using information from the database for the moderation log
+   * Builds a ModFeaturePostView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModFeaturePostView buildModFeaturePostView(ModerationLog moderationLog) {
+  public ModFeaturePostView buildModFeaturePostView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModFeaturePostView.builder()
         .mod_feature_post(conversionService.convert(moderationLog, ModFeaturePost.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .post(conversionService.convert(
-            postRepository.findById(moderationLog.getPostId())
-                .orElse(null), Post.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .post(references.post(moderationLog.getPostId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModRemoveCommentView using information from the database for the moderation log
+   * Builds a ModRemoveCommentView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModRemoveCommentView buildModRemoveCommentView(ModerationLog moderationLog) {
+  public ModRemoveCommentView buildModRemoveCommentView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModRemoveCommentView.builder()
         .mod_remove_comment(conversionService.convert(moderationLog, ModRemoveComment.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .post(conversionService.convert(
-            postRepository.findById(moderationLog.getPostId())
-                .orElse(null), Post.class))
-        .comment(conversionService.convert(
-            commentRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Comment.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
-        .commenter(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .post(references.post(moderationLog.getPostId()))
+        .comment(references.comment(moderationLog.getCommentId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
+        .commenter(references.person(moderationLog.getOtherPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModRemoveCommunityView using information from the database for the moderation log
+   * Builds a ModRemoveCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModRemoveCommunityView buildModRemoveCommunityView(ModerationLog moderationLog) {
+  public ModRemoveCommunityView buildModRemoveCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModRemoveCommunityView.builder()
         .mod_remove_community(conversionService.convert(moderationLog, ModRemoveCommunity.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModBanFromCommunityView using information from the database for the moderation log
+   * Builds a ModBanFromCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModBanFromCommunityView buildModBanFromCommunityView(ModerationLog moderationLog) {
+  public ModBanFromCommunityView buildModBanFromCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModBanFromCommunityView.builder()
         .mod_ban_from_community(conversionService.convert(moderationLog, ModBanFromCommunity.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .banned_person(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .banned_person(references.person(moderationLog.getOtherPersonId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModBanView using information from the database for the moderation log
+   * Builds a ModBanView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModBanView buildModBanView(ModerationLog moderationLog) {
+  public ModBanView buildModBanView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModBanView.builder()
         .mod_ban(conversionService.convert(moderationLog, ModBan.class))
-        .banned_person(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .banned_person(references.person(moderationLog.getOtherPersonId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModAddCommunityView using information from the database for the moderation log
+   * Builds a ModAddCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModAddCommunityView buildModAddCommunityView(ModerationLog moderationLog) {
+  public ModAddCommunityView buildModAddCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModAddCommunityView.builder()
         .mod_add_community(conversionService.convert(moderationLog, ModAddCommunity.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .modded_person(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .modded_person(references.person(moderationLog.getOtherPersonId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModTransferCommunityView using information from the database for the moderation log
+   * Builds a ModTransferCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModTransferCommunityView buildModTransferCommunityView(ModerationLog moderationLog) {
+  public ModTransferCommunityView buildModTransferCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModTransferCommunityView.builder()
         .mod_transfer_community(
             conversionService.convert(moderationLog, ModTransferCommunity.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .modded_person(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .modded_person(references.person(moderationLog.getOtherPersonId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModAddView using information from the database for the moderation log
+   * Builds a ModAddView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModAddView buildModAddView(ModerationLog moderationLog) {
+  public ModAddView buildModAddView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModAddView.builder()
         .mod_add(conversionService.convert(moderationLog, ModAdd.class))
-        .modded_person(conversionService.convert(
-            personRepository.findById(moderationLog.getOtherPersonId())
-                .orElse(null), Person.class))
-        .moderator(conversionService.convert(
-            personRepository.findById(moderationLog.getModerationPersonId())
-                .orElse(null), Person.class))
+        .modded_person(references.person(moderationLog.getOtherPersonId()))
+        .moderator(references.person(moderationLog.getModerationPersonId()))
         .build();
   }
 
   /**
-   * Builds a AdminPurgePersonView using information from the database for the moderation log
+   * Builds a AdminPurgePersonView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public AdminPurgePersonView buildAdminPurgePersonView(ModerationLog moderationLog) {
+  public AdminPurgePersonView buildAdminPurgePersonView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return AdminPurgePersonView.builder()
         .admin_purge_person(conversionService.convert(moderationLog, AdminPurgePerson.class))
-        .admin(conversionService.convert(
-            personRepository.findById(moderationLog.getAdminPersonId())
-                .orElse(null), Person.class))
+        .admin(references.person(moderationLog.getAdminPersonId()))
         .build();
   }
 
   /**
-   * Builds a AdminPurgeCommunityView using information from the database for the moderation log
+   * Builds a AdminPurgeCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public AdminPurgeCommunityView buildAdminPurgeCommunityView(ModerationLog moderationLog) {
+  public AdminPurgeCommunityView buildAdminPurgeCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return AdminPurgeCommunityView.builder()
         .admin_purge_community(conversionService.convert(moderationLog, AdminPurgeCommunity.class))
-        .admin(conversionService.convert(
-            personRepository.findById(moderationLog.getAdminPersonId())
-                .orElse(null), Person.class))
+        .admin(references.person(moderationLog.getAdminPersonId()))
         .build();
   }
 
   /**
-   * Builds a AdminPurgePostView using information from the database for the moderation log
+   * Builds a AdminPurgePostView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public AdminPurgePostView buildAdminPurgePostView(ModerationLog moderationLog) {
+  public AdminPurgePostView buildAdminPurgePostView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return AdminPurgePostView.builder()
         .admin_purge_post(conversionService.convert(moderationLog, AdminPurgePost.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .admin(conversionService.convert(
-            personRepository.findById(moderationLog.getAdminPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .admin(references.person(moderationLog.getAdminPersonId()))
         .build();
   }
 
   /**
-   * Builds a AdminPurgeCommentView using information from the database for the moderation log
+   * Builds a AdminPurgeCommentView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public AdminPurgeCommentView buildAdminPurgeCommentView(ModerationLog moderationLog) {
+  public AdminPurgeCommentView buildAdminPurgeCommentView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return AdminPurgeCommentView.builder()
         .admin_purge_comment(conversionService.convert(moderationLog, AdminPurgeComment.class))
-        .post(conversionService.convert(
-            postRepository.findById(moderationLog.getPostId())
-                .orElse(null), Post.class))
-        .admin(conversionService.convert(
-            personRepository.findById(moderationLog.getAdminPersonId())
-                .orElse(null), Person.class))
+        .post(references.post(moderationLog.getPostId()))
+        .admin(references.person(moderationLog.getAdminPersonId()))
         .build();
   }
 
   /**
-   * Builds a ModHideCommunityView using information from the database for the moderation log
+   * Builds a ModHideCommunityView using information loaded for the page of moderation logs
    *
    * @param moderationLog a moderation log
+   * @param references    the entities referred to by the page of moderation logs
    * @return a moderation log view
    */
-  public ModHideCommunityView buildModHideCommunityView(ModerationLog moderationLog) {
+  public ModHideCommunityView buildModHideCommunityView(final ModerationLog moderationLog,
+      final ModerationLogReferences references) {
 
     return ModHideCommunityView.builder()
         .mod_hide_community(conversionService.convert(moderationLog, ModHideCommunity.class))
-        .community(conversionService.convert(
-            communityRepository.findById(moderationLog.getCommunityId())
-                .orElse(null), Community.class))
-        .admin(conversionService.convert(
-            personRepository.findById(moderationLog.getAdminPersonId())
-                .orElse(null), Person.class))
+        .community(references.community(moderationLog.getCommunityId()))
+        .admin(references.person(moderationLog.getAdminPersonId()))
         .build();
   }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.notification.enums;
+
+import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+
+public enum NotificationEventType {
+  MENTION("mention", RolePermission.READ_MENTION_USER),
+  REPLY("reply", RolePermission.READ_REPLIES),
+  PRIVATE_MESSAGE("private_message", RolePermission.READ_PRIVATE_MESSAGES),
+  PRIVATE_MESSAGE_UPDATED("private_message_updated", RolePermission.READ_PRIVATE_MESSAGES),
+  PRIVATE_MESSAGE_DELETED("private_message_deleted", RolePermission.READ_PRIVATE_MESSAGES);
+
+  public final String eventName;
+  public final RolePermission rolePermission;
+
+  NotificationEventType(final String eventName, final RolePermission rolePermission) {
+
+    this.eventName = eventName;
+    this.rolePermission = rolePermission;
+  }
+}
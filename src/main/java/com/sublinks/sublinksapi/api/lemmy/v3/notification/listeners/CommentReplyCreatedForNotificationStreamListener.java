@@ -0,0 +1,32 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.notification.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.CommentReplyResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.services.LemmyCommentReplyService;
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.enums.NotificationEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.services.NotificationStreamService;
+import com.sublinks.sublinksapi.comment.entities.CommentReply;
+import com.sublinks.sublinksapi.comment.events.CommentReplyCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentReplyCreatedForNotificationStreamListener implements
+    ApplicationListener<CommentReplyCreatedEvent> {
+
+  private final NotificationStreamService notificationStreamService;
+  private final LemmyCommentReplyService lemmyCommentReplyService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentReplyCreatedEvent event) {
+
+    final CommentReply commentReply = event.getCommentReply();
+    notificationStreamService.publish(commentReply.getRecipient(), NotificationEventType.REPLY,
+        () -> CommentReplyResponse.builder()
+            .comment_reply_view(lemmyCommentReplyService.createCommentReplyView(commentReply,
+                commentReply.getRecipient()))
+            .build());
+  }
+}
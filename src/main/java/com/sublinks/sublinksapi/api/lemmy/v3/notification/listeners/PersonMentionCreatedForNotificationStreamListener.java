@@ -0,0 +1,31 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.notification.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.enums.NotificationEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.services.NotificationStreamService;
+import com.sublinks.sublinksapi.api.lemmy.v3.user.models.PersonMentionResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.user.services.LemmyPersonMentionService;
+import com.sublinks.sublinksapi.person.entities.PersonMention;
+import com.sublinks.sublinksapi.person.events.PersonMentionCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PersonMentionCreatedForNotificationStreamListener implements
+    ApplicationListener<PersonMentionCreatedEvent> {
+
+  private final NotificationStreamService notificationStreamService;
+  private final LemmyPersonMentionService lemmyPersonMentionService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PersonMentionCreatedEvent event) {
+
+    final PersonMention personMention = event.getPersonMention();
+    notificationStreamService.publish(personMention.getRecipient(), NotificationEventType.MENTION,
+        () -> PersonMentionResponse.builder()
+            .person_mention_view(lemmyPersonMentionService.getPersonMentionView(personMention))
+            .build());
+  }
+}
@@ -0,0 +1,33 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.notification.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.enums.NotificationEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.services.NotificationStreamService;
+import com.sublinks.sublinksapi.api.lemmy.v3.privatemessage.models.PrivateMessageResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.privatemessage.services.LemmyPrivateMessageService;
+import com.sublinks.sublinksapi.privatemessages.entities.PrivateMessage;
+import com.sublinks.sublinksapi.privatemessages.events.PrivateMessageDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PrivateMessageDeletedForNotificationStreamListener implements
+    ApplicationListener<PrivateMessageDeletedEvent> {
+
+  private final NotificationStreamService notificationStreamService;
+  private final LemmyPrivateMessageService lemmyPrivateMessageService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PrivateMessageDeletedEvent event) {
+
+    final PrivateMessage privateMessage = event.getPrivateMessage();
+    notificationStreamService.publish(privateMessage.getRecipient(),
+        NotificationEventType.PRIVATE_MESSAGE_DELETED,
+        () -> PrivateMessageResponse.builder()
+            .private_message_view(
+                lemmyPrivateMessageService.createPrivateMessageView(privateMessage))
+            .build());
+  }
+}
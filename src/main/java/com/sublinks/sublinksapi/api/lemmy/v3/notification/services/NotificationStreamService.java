@@ -0,0 +1,64 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.notification.services;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.notification.enums.NotificationEventType;
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.services.EventStreamService;
+import com.sublinks.sublinksapi.person.entities.Person;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The notification stream of every person, pushing new mentions, replies and private messages to
+ * the person's open clients instead of them polling for unread counts.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService {
+
+  private final EventStreamService eventStreamService;
+
+  private static String topic(final Person person) {
+
+    return "person:" + person.getId();
+  }
+
+  /**
+   * Opens a notification stream.
+   *
+   * @param person      The person.
+   * @param lastEventId The id of the last event the client got, to resume from, or null.
+   * @param types       The notifications the person may receive.
+   * @return The emitter, or empty if the instance holds too many connections.
+   */
+  public Optional<SseEmitter> connect(final Person person, @Nullable final Long lastEventId,
+      final Collection<NotificationEventType> types) {
+
+    final Set<String> eventNames = types.stream()
+        .map(type -> type.eventName)
+        .collect(Collectors.toUnmodifiableSet());
+    return eventStreamService.connect(topic(person), lastEventId, eventNames);
+  }
+
+  /**
+   * Pushes a notification to a person once the current transaction commits. The payload is only
+   * built if the person has a stream open.
+   *
+   * @param recipient The person.
+   * @param type      The notification type.
+   * @param payload   Builds the notification.
+   */
+  public void publish(final Person recipient, final NotificationEventType type,
+      final Supplier<?> payload) {
+
+    if (recipient == null || recipient.getId() == null) {
+      return;
+    }
+    eventStreamService.publish(topic(recipient), type.eventName, payload);
+  }
+}
@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class PostResponseCacheConfig {
+
+  @Value("${sublinks.settings.response_cache.max_size}")
+  private long maxSize;
+
+  @Value("${sublinks.settings.response_cache.ttl}")
+  private long ttl;
+
+  @Value("${sublinks.settings.response_cache.max_page}")
+  private int maxPage;
+}
@@ -22,6 +22,7 @@ import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostResponse;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostView;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.SavePost;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostReportService;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostResponseCache;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostService;
 import com.sublinks.sublinksapi.api.lemmy.v3.site.models.GetSiteMetadata;
 import com.sublinks.sublinksapi.api.lemmy.v3.site.models.GetSiteMetadataResponse;
@@ -40,6 +41,7 @@ import com.sublinks.sublinksapi.person.enums.SortType;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.entities.PostLike;
 import com.sublinks.sublinksapi.post.entities.PostReport;
+import com.sublinks.sublinksapi.post.models.PostPageCursor;
 import com.sublinks.sublinksapi.post.models.PostSearchCriteria;
 import com.sublinks.sublinksapi.post.repositories.PostRepository;
 import com.sublinks.sublinksapi.post.services.PostLikeService;
@@ -83,6 +85,7 @@ public class PostController extends AbstractLemmyApiController {
 
   private final LemmyCommunityService lemmyCommunityService;
   private final LemmyPostService lemmyPostService;
+  private final LemmyPostResponseCache lemmyPostResponseCache;
   private final PostLikeService postLikeService;
   private final PostSaveService postSaveService;
   private final CommunityRepository communityRepository;
@@ -104,16 +107,24 @@ public class PostController extends AbstractLemmyApiController {
   @GetMapping
   GetPostResponse show(@Valid final GetPost getPostForm, final JwtPerson principal) {
 
-    final Post post = postRepository.findById((long) getPostForm.id())
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST));
-    final Community community = post.getCommunity();
-
-    Optional<Person> person = getOptionalPerson(principal);
+    final Optional<Person> person = getOptionalPerson(principal);
 
     roleAuthorizingService.hasAdminOrPermissionOrThrow(person.orElse(null),
         RolePermission.READ_POST,
         () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "unauthorized"));
 
+    if (person.isEmpty() && lemmyPostResponseCache.isEnabled()) {
+      return lemmyPostResponseCache.getPost(getPostForm, () -> getPost(getPostForm, person));
+    }
+    return getPost(getPostForm, person);
+  }
+
+  private GetPostResponse getPost(final GetPost getPostForm, final Optional<Person> person) {
+
+    final Post post = postRepository.findById((long) getPostForm.id())
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST));
+    final Community community = post.getCommunity();
+
     PostView postView;
     final CommunityView communityView;
     if (person.isPresent()) {
@@ -128,16 +139,12 @@ public class PostController extends AbstractLemmyApiController {
         community);
     Set<PostView> crossPosts = new LinkedHashSet<>();
     if (post.getCrossPost() != null && post.getCrossPost().getPosts() != null) {
-      for (Post crossPostPost : post.getCrossPost().getPosts()) {
-        if (post.equals(crossPostPost)) {
-          continue;
-        }
-        if (person.isPresent()) {
-          crossPosts.add(lemmyPostService.postViewFromPost(crossPostPost, person.get()));
-        } else {
-          crossPosts.add(lemmyPostService.postViewFromPost(crossPostPost));
-        }
-      }
+      final List<Post> crossPostPosts = post.getCrossPost()
+          .getPosts()
+          .stream()
+          .filter(crossPostPost -> !post.equals(crossPostPost))
+          .toList();
+      crossPosts.addAll(lemmyPostService.postViewsFromPosts(crossPostPosts, person.orElse(null)));
     }
 
     return GetPostResponse.builder()
@@ -183,6 +190,15 @@ public class PostController extends AbstractLemmyApiController {
     roleAuthorizingService.hasAdminOrPermissionOrThrow(person.orElse(null),
         RolePermission.READ_POSTS,
         () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "unauthorized"));
+
+    if (person.isEmpty() && lemmyPostResponseCache.isCacheable(getPostsForm)) {
+      return lemmyPostResponseCache.getListing(getPostsForm, () -> getPosts(getPostsForm, person));
+    }
+    return getPosts(getPostsForm, person);
+  }
+
+  private GetPostsResponse getPosts(final GetPosts getPostsForm, final Optional<Person> person) {
+
     final List<Long> communityIds = new ArrayList<>();
     Community community = null;
     if (getPostsForm.community_name() != null || getPostsForm.community_id() != null) {
@@ -233,6 +249,20 @@ public class PostController extends AbstractLemmyApiController {
     final int page = PaginationControllerUtils.getAbsoluteMinNumber(getPostsForm.page(), 1);
     final int perPage = PaginationControllerUtils.getAbsoluteMinNumber(getPostsForm.limit(), 20);
 
+    PostPageCursor pageCursor = null;
+    if (getPostsForm.page_cursor() != null && !getPostsForm.page_cursor().isBlank()) {
+      try {
+        pageCursor = PostPageCursor.decode(getPostsForm.page_cursor());
+      } catch (IllegalArgumentException e) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+            "couldnt_parse_pagination_token");
+      }
+      if (pageCursor.sortType() != sortType) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+            "couldnt_parse_pagination_token");
+      }
+    }
+
     final PostSearchCriteria postSearchCriteria = PostSearchCriteria.builder()
         .page(page)
         .listingType(conversionService.convert(listingType,
@@ -243,19 +273,17 @@ public class PostController extends AbstractLemmyApiController {
         .sortType(sortType)
         .person(person.orElse(null))
         .communityIds(communityIds)
+        .pageCursor(pageCursor)
         .build();
 
-    final Collection<Post> posts = postRepository.allPostsBySearchCriteria(postSearchCriteria);
-    final Collection<PostView> postViewCollection = new LinkedHashSet<>();
-    for (Post post : posts) {
-      if (person.isPresent()) {
-        postViewCollection.add(lemmyPostService.postViewFromPost(post, person.get()));
-      } else {
-        postViewCollection.add(lemmyPostService.postViewFromPost(post));
-      }
-    }
+    final List<Post> posts = postRepository.allPostsBySearchCriteria(postSearchCriteria);
+    final Collection<PostView> postViewCollection = new LinkedHashSet<>(
+        lemmyPostService.postViewsFromPosts(posts, person.orElse(null)));
+
+    final String nextPage = posts.isEmpty() ? null
+        : PostPageCursor.of(posts.get(posts.size() - 1), sortType).encode();
 
-    return GetPostsResponse.builder().posts(postViewCollection).build();
+    return GetPostsResponse.builder().posts(postViewCollection).next_page(nextPage).build();
   }
 
   @Operation(summary = "Like / vote on a post.")
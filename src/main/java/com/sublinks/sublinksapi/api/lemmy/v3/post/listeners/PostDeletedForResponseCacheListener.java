@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostResponseCache;
+import com.sublinks.sublinksapi.post.events.PostDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostDeletedForResponseCacheListener implements
+    ApplicationListener<PostDeletedEvent> {
+
+  private final LemmyPostResponseCache lemmyPostResponseCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostDeletedEvent event) {
+
+    lemmyPostResponseCache.evictForChangedPost(event.getPost());
+  }
+}
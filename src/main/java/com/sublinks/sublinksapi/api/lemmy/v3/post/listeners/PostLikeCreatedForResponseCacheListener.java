@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.listeners;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostResponseCache;
+import com.sublinks.sublinksapi.post.events.PostLikeCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostLikeCreatedForResponseCacheListener implements
+    ApplicationListener<PostLikeCreatedEvent> {
+
+  private final LemmyPostResponseCache lemmyPostResponseCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostLikeCreatedEvent event) {
+
+    lemmyPostResponseCache.evictForVotedPost(event.getPostLike().getPost());
+  }
+}
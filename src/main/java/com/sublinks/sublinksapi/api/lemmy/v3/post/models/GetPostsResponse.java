@@ -4,8 +4,10 @@ import java.util.Collection;
 import lombok.Builder;
 
 @Builder
+@SuppressWarnings("RecordComponentName")
 public record GetPostsResponse(
-    Collection<PostView> posts
+    Collection<PostView> posts,
+    String next_page
 ) {
 
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.config.PostResponseCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPost;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPostResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPosts;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPostsResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostView;
+import com.sublinks.sublinksapi.post.entities.Post;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caches the /post and /post/list responses served to logged out users. Entries are bounded by
+ * size and age, and evicted by post events: new posts evict the listings they would appear in,
+ * edits and removals evict every response showing the post, and votes evict the single post
+ * response. Listing vote counts are allowed to be up to the TTL stale, otherwise every vote on a
+ * front page post would empty the front page.
+ */
+@Service
+public class LemmyPostResponseCache {
+
+  private final PostResponseCacheConfig postResponseCacheConfig;
+  private final Cache<GetPosts, CachedResponse<GetPostsResponse>> listings;
+  private final Cache<GetPost, CachedResponse<GetPostResponse>> posts;
+
+  public LemmyPostResponseCache(final PostResponseCacheConfig postResponseCacheConfig) {
+
+    this.postResponseCacheConfig = postResponseCacheConfig;
+    this.listings = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, postResponseCacheConfig.getMaxSize()))
+        .expireAfterWrite(Duration.ofSeconds(postResponseCacheConfig.getTtl()))
+        .recordStats()
+        .build();
+    this.posts = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, postResponseCacheConfig.getMaxSize()))
+        .expireAfterWrite(Duration.ofSeconds(postResponseCacheConfig.getTtl()))
+        .recordStats()
+        .build();
+  }
+
+  public boolean isEnabled() {
+
+    return postResponseCacheConfig.getMaxSize() > 0 && postResponseCacheConfig.getTtl() > 0;
+  }
+
+  /**
+   * Only the first pages of page based listings are cached, cursors and filters that only make
+   * sense for a logged in user are not.
+   *
+   * @param getPosts The listing parameters.
+   * @return True if the listing may be cached.
+   */
+  public boolean isCacheable(final GetPosts getPosts) {
+
+    return isEnabled()
+        && (getPosts.page_cursor() == null || getPosts.page_cursor().isBlank())
+        && (getPosts.page() == null || getPosts.page() <= postResponseCacheConfig.getMaxPage())
+        && !Boolean.TRUE.equals(getPosts.saved_only())
+        && !Boolean.TRUE.equals(getPosts.disliked_only());
+  }
+
+  public GetPostsResponse getListing(final GetPosts getPosts,
+      final Supplier<GetPostsResponse> loader) {
+
+    return listings.get(getPosts, key -> {
+      final GetPostsResponse response = loader.get();
+      return new CachedResponse<>(response, postIds(response.posts()));
+    }).response();
+  }
+
+  public GetPostResponse getPost(final GetPost getPost, final Supplier<GetPostResponse> loader) {
+
+    return posts.get(getPost, key -> {
+      final GetPostResponse response = loader.get();
+      final Set<Long> postIds = postIds(response.cross_posts());
+      if (response.post_view() != null && response.post_view().post() != null) {
+        postIds.add(response.post_view().post().id());
+      }
+      return new CachedResponse<>(response, postIds);
+    }).response();
+  }
+
+  /**
+   * Evicts the listings a new post would show up in, once the post is committed.
+   *
+   * @param post The new post.
+   */
+  public void evictForNewPost(final Post post) {
+
+    final Long communityId = post.getCommunity() == null ? null : post.getCommunity().getId();
+    final String communityName =
+        post.getCommunity() == null ? null : post.getCommunity().getTitleSlug();
+    afterCommit(() -> listings.asMap().keySet().removeIf(getPosts ->
+        (getPosts.community_id() == null && getPosts.community_name() == null)
+            || (getPosts.community_id() != null && communityId != null
+            && getPosts.community_id().longValue() == communityId)
+            || (getPosts.community_name() != null && getPosts.community_name()
+            .equals(communityName))));
+  }
+
+  /**
+   * Evicts every cached response showing a post, once the change is committed.
+   *
+   * @param post The edited, deleted or removed post.
+   */
+  public void evictForChangedPost(final Post post) {
+
+    final Long postId = post.getId();
+    afterCommit(() -> {
+      listings.asMap().values().removeIf(cached -> cached.postIds().contains(postId));
+      posts.asMap().values().removeIf(cached -> cached.postIds().contains(postId));
+    });
+  }
+
+  /**
+   * Evicts every cached response showing any of the posts, once the change is committed.
+   *
+   * @param postIds The ids of the posts changed by a bulk operation.
+   */
+  public void evictForChangedPosts(final Collection<Long> postIds) {
+
+    final Set<Long> changedPostIds = Set.copyOf(postIds);
+    afterCommit(() -> {
+      listings.asMap().values().removeIf(
+          cached -> cached.postIds().stream().anyMatch(changedPostIds::contains));
+      posts.asMap().values().removeIf(
+          cached -> cached.postIds().stream().anyMatch(changedPostIds::contains));
+    });
+  }
+
+  /**
+   * Evicts the single post responses of a post whose votes changed, once the vote is committed.
+   *
+   * @param post The voted on post.
+   */
+  public void evictForVotedPost(final Post post) {
+
+    final Long postId = post.getId();
+    afterCommit(() -> posts.asMap().values().removeIf(cached -> cached.postIds().contains(postId)));
+  }
+
+  /**
+   * Evicts every cached response once the change is committed, for changes that do not say which
+   * posts they touched, like a purge.
+   */
+  public void evictAll() {
+
+    afterCommit(() -> {
+      listings.invalidateAll();
+      posts.invalidateAll();
+    });
+  }
+
+  public CacheStats getListingStats() {
+
+    return listings.stats();
+  }
+
+  public CacheStats getPostStats() {
+
+    return posts.stats();
+  }
+
+  private static Set<Long> postIds(final Collection<PostView> postViews) {
+
+    final Set<Long> postIds = new HashSet<>();
+    if (postViews == null) {
+      return postIds;
+    }
+    postViews.stream()
+        .filter(postView -> postView.post() != null)
+        .map(postView -> postView.post().id())
+        .filter(Objects::nonNull)
+        .forEach(postIds::add);
+    return postIds;
+  }
+
+  /**
+   * Runs an eviction after the current transaction commits so a concurrent request can not cache
+   * the data from before the change again. Without a transaction it runs immediately.
+   */
+  private static void afterCommit(final Runnable eviction) {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      eviction.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+
+        eviction.run();
+      }
+    });
+  }
+
+  private record CachedResponse<T>(T response, Set<Long> postIds) {
+
+  }
+}
@@ -3,76 +3,166 @@ package com.sublinks.sublinksapi.api.lemmy.v3.post.services;
 import com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostAggregates;
 import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostView;
+import com.sublinks.sublinksapi.person.entities.LinkPersonCommunity;
+import com.sublinks.sublinksapi.person.entities.LinkPersonPost;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.enums.LinkPersonCommunityType;
-import com.sublinks.sublinksapi.person.services.LinkPersonCommunityService;
+import com.sublinks.sublinksapi.person.enums.LinkPersonPostType;
+import com.sublinks.sublinksapi.person.repositories.LinkPersonCommunityRepository;
+import com.sublinks.sublinksapi.person.repositories.LinkPersonPostRepository;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.entities.PostLike;
-import com.sublinks.sublinksapi.post.services.PostLikeService;
-import com.sublinks.sublinksapi.post.services.PostSaveService;
-import com.sublinks.sublinksapi.post.services.PostService;
-import java.util.Optional;
+import com.sublinks.sublinksapi.post.entities.PostRead;
+import com.sublinks.sublinksapi.post.entities.PostSave;
+import com.sublinks.sublinksapi.post.repositories.PostLikeRepository;
+import com.sublinks.sublinksapi.post.repositories.PostReadRepository;
+import com.sublinks.sublinksapi.post.repositories.PostSaveRepository;
+import com.sublinks.sublinksapi.post.services.PostVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class LemmyPostService {
 
-  private final PostService postService;
-  private final PostSaveService postSaveService;
-  private final PostLikeService postLikeService;
+  private final PostLikeRepository postLikeRepository;
+  private final PostSaveRepository postSaveRepository;
+  private final PostReadRepository postReadRepository;
+  private final LinkPersonPostRepository linkPersonPostRepository;
+  private final LinkPersonCommunityRepository linkPersonCommunityRepository;
   private final ConversionService conversionService;
-  private final LinkPersonCommunityService linkPersonCommunityService;
+  private final PostVoteAccumulatorService postVoteAccumulatorService;
 
   public PostView postViewFromPost(final Post post) {
 
-    return postViewBuilder(post).saved(false)
-        .read(false)
-        .creator_blocked(false)
-        .my_vote(0)
-        .unread_comments(0)
-        .build();
+    return postViewsFromPosts(List.of(post), null).get(0);
   }
 
   public PostView postViewFromPost(final Post post,
       final com.sublinks.sublinksapi.person.entities.Person person) {
 
-    Optional<PostLike> postLike = postLikeService.getPostLike(post, person);
-    int vote = 0;
-    if (postLike.isPresent()) {
-      vote = postLike.get().getScore();
+    return postViewsFromPosts(List.of(post), person).get(0);
+  }
+
+  /**
+   * Builds the views of a page of posts for a viewer. Votes, saves, read state, creators and
+   * creator bans are each loaded for the whole page with a single query, and the creator and
+   * community models are only converted once per page.
+   *
+   * @param posts  The posts, in display order.
+   * @param person The viewer, null for anonymous requests.
+   * @return The post views, in the same order as the posts.
+   */
+  public List<PostView> postViewsFromPosts(final Collection<Post> posts,
+      @Nullable final Person person) {
+
+    if (posts.isEmpty()) {
+      return List.of();
     }
 
-    return postViewBuilder(post).saved(postSaveService.isPostSaved(post, person))
-        .read(false)
-        .creator_blocked(false)
-        .my_vote(vote)
-        .unread_comments(0)
-        .build();
-  }
+    final Map<Long, Integer> votes = new HashMap<>();
+    final Set<Long> savedPostIds = new HashSet<>();
+    final Set<Long> readPostIds = new HashSet<>();
+    if (person != null) {
+      for (PostLike postLike : postLikeRepository.findAllByPersonAndPostIn(person, posts)) {
+        votes.put(postLike.getPost().getId(), postLike.getScore());
+      }
+      for (PostSave postSave : postSaveRepository.findAllByPersonAndPostIn(person, posts)) {
+        savedPostIds.add(postSave.getPost().getId());
+      }
+      for (PostRead postRead : postReadRepository.findAllByPersonAndPostIn(person, posts)) {
+        readPostIds.add(postRead.getPost().getId());
+      }
+    }
+
+    final Map<Long, Person> creators = new HashMap<>();
+    for (LinkPersonPost linkPersonPost : linkPersonPostRepository.findAllByPostInAndLinkType(
+        posts, LinkPersonPostType.creator)) {
+      creators.put(linkPersonPost.getPost().getId(), linkPersonPost.getPerson());
+    }
+
+    final Set<String> bannedCreators = new HashSet<>();
+    final Set<com.sublinks.sublinksapi.community.entities.Community> communities = new LinkedHashSet<>();
+    for (Post post : posts) {
+      communities.add(post.getCommunity());
+    }
+    if (!creators.isEmpty()) {
+      for (LinkPersonCommunity linkPersonCommunity : linkPersonCommunityRepository.findAllByPersonInAndCommunityInAndLinkType(
+          new HashSet<>(creators.values()), communities, LinkPersonCommunityType.banned)) {
+        bannedCreators.add(banKey(linkPersonCommunity.getPerson().getId(),
+            linkPersonCommunity.getCommunity().getId()));
+      }
+    }
+
+    final Map<Long, com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person> lemmyPersons = new HashMap<>();
+    final Map<Long, Community> lemmyCommunities = new HashMap<>();
 
-  private PostView.PostViewBuilder postViewBuilder(final Post post) {
+    final List<PostView> postViews = new ArrayList<>(posts.size());
+    for (Post post : posts) {
+      final Person creator = creators.get(post.getId());
+      final com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person lemmyCreator =
+          creator == null ? null : lemmyPersons.computeIfAbsent(creator.getId(),
+              id -> conversionService.convert(creator,
+                  com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.class));
+      final Community community = lemmyCommunities.computeIfAbsent(post.getCommunity().getId(),
+          id -> conversionService.convert(post.getCommunity(), Community.class));
+
+      postViews.add(PostView.builder()
+          .post(conversionService.convert(post,
+              com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.class))
+          .creator(lemmyCreator)
+          .community(community)
+          .counts(withPendingVotes(
+              conversionService.convert(post.getPostAggregate(), PostAggregates.class),
+              post.getId()))
+          .creator_banned_from_community(creator != null && bannedCreators.contains(
+              banKey(creator.getId(), post.getCommunity().getId())))
+          .saved(savedPostIds.contains(post.getId()))
+          .read(readPostIds.contains(post.getId()))
+          .creator_blocked(false)
+          .my_vote(votes.getOrDefault(post.getId(), 0))
+          .unread_comments(0)
+          .build());
+    }
+    return postViews;
+  }
 
-    final com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post lemmyPost = conversionService.convert(
-        post, com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.class);
-    final Person creator = postService.getPostCreator(post);
-    final com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person lemmyCreator = conversionService.convert(
-        creator, com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.class);
-    final Community community = conversionService.convert(post.getCommunity(), Community.class);
+  /**
+   * Adds the votes that are still waiting to be flushed to the aggregate counts.
+   */
+  private PostAggregates withPendingVotes(@Nullable final PostAggregates counts,
+      final Long postId) {
 
-    final PostAggregates postAggregates = conversionService.convert(post.getPostAggregate(),
-        PostAggregates.class);
+    if (counts == null) {
+      return null;
+    }
+    final VoteDelta pending = postVoteAccumulatorService.getPendingVotes(postId);
+    if (pending == null || pending.isZero()) {
+      return counts;
+    }
+    return PostAggregates.builder()
+        .post_id(counts.post_id())
+        .comments(counts.comments())
+        .score(counts.score() + pending.score())
+        .upvotes(counts.upvotes() + pending.upVotes())
+        .downvotes(counts.downvotes() + pending.downVotes())
+        .published(counts.published())
+        .build();
+  }
 
-    final boolean creatorBannedFromCommunity = linkPersonCommunityService.hasLink(creator,
-        post.getCommunity(), LinkPersonCommunityType.banned);
+  private static String banKey(final Long personId, final Long communityId) {
 
-    return PostView.builder()
-        .post(lemmyPost)
-        .creator(lemmyCreator)
-        .community(community)
-        .counts(postAggregates)
-        .creator_banned_from_community(creatorBannedFromCommunity);
+    return personId + ":" + communityId;
   }
 }
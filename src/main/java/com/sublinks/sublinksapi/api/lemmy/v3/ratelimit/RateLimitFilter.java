@@ -0,0 +1,114 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPerson;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.enums.RateLimitType;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services.RateLimitService;
+import com.sublinks.sublinksapi.utils.models.LemmyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rate limits api calls by their Lemmy action class. Every call counts against the limit of its
+ * address, and a signed in call also against the limit of its person, so neither signing in to
+ * several accounts from one address nor spreading one account over several addresses raises the
+ * limit. Runs after the {@link com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtFilter} to
+ * know the person.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(2)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitService rateLimitService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  protected void doFilterInternal(final HttpServletRequest request,
+      final HttpServletResponse response, final FilterChain filterChain)
+      throws ServletException, IOException {
+
+    final RateLimitType type = getRateLimitType(request.getMethod(), request.getServletPath());
+    if (type != null && !rateLimitService.tryAcquire(type, getKeys(request))) {
+      sendRateLimitError(response);
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * Writes the error the way Lemmy does, sending it through the error page would lose the message.
+   */
+  private void sendRateLimitError(final HttpServletResponse response) throws IOException {
+
+    final LemmyException exception = new LemmyException("rate_limit_error",
+        HttpStatus.TOO_MANY_REQUESTS);
+    response.setStatus(exception.getStatus().value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), exception.getException());
+  }
+
+  private static List<String> getKeys(final HttpServletRequest request) {
+
+    final String ipKey = "ip:" + request.getRemoteAddr();
+    final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication instanceof JwtPerson jwtPerson
+        && jwtPerson.getJwtPrincipal().personId() != null) {
+      return List.of("person:" + jwtPerson.getJwtPrincipal().personId(), ipKey);
+    }
+    return List.of(ipKey);
+  }
+
+  /**
+   * Maps an api call to its action class, the way Lemmy does.
+   *
+   * @param method The http method.
+   * @param path   The servlet path.
+   * @return The action class, or null for calls that are not limited.
+   */
+  static RateLimitType getRateLimitType(final String method, final String path) {
+
+    if (path.startsWith("/pictrs/image")) {
+      return "POST".equals(method) ? RateLimitType.IMAGE : null;
+    }
+    if ("POST".equals(method)) {
+      switch (path) {
+        case "/api/v3/user/register":
+          return RateLimitType.REGISTER;
+        case "/api/v3/post":
+          return RateLimitType.POST;
+        case "/api/v3/comment":
+          return RateLimitType.COMMENT;
+        default:
+          return RateLimitType.MESSAGE;
+      }
+    }
+    if ("GET".equals(method)
+        && ("/api/v3/search".equals(path) || "/api/v3/resolve_object".equals(path))) {
+      return RateLimitType.SEARCH;
+    }
+    return RateLimitType.MESSAGE;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+
+    if (!rateLimitService.isEnabled() || "OPTIONS".equals(request.getMethod())) {
+      return true;
+    }
+    final String path = request.getServletPath();
+    return !path.startsWith("/api/v3") && !path.startsWith("/pictrs/image");
+  }
+}
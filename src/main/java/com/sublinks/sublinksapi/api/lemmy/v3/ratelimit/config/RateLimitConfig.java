@@ -0,0 +1,16 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class RateLimitConfig {
+
+  @Value("${sublinks.settings.rate_limit.enabled}")
+  private boolean enabled;
+
+  @Value("${sublinks.settings.rate_limit.shards}")
+  private int shards;
+}
@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.enums;
+
+import com.sublinks.sublinksapi.instance.models.InstanceRateLimits;
+import java.util.function.Function;
+
+/**
+ * The action classes of the Lemmy rate limits. Each allows a number of actions per a number of
+ * seconds, message covers every api call not in another class.
+ */
+public enum RateLimitType {
+  MESSAGE(InstanceRateLimits::getMessage, InstanceRateLimits::getMessagePerSecond),
+  POST(InstanceRateLimits::getPost, InstanceRateLimits::getPostPerSecond),
+  REGISTER(InstanceRateLimits::getRegister, InstanceRateLimits::getRegisterPerSecond),
+  IMAGE(InstanceRateLimits::getImage, InstanceRateLimits::getImagePerSecond),
+  COMMENT(InstanceRateLimits::getComment, InstanceRateLimits::getCommentPerSecond),
+  SEARCH(InstanceRateLimits::getSearch, InstanceRateLimits::getSearchPerSecond);
+
+  public final Function<InstanceRateLimits, Integer> actions;
+  public final Function<InstanceRateLimits, Integer> seconds;
+
+  RateLimitType(final Function<InstanceRateLimits, Integer> actions,
+      final Function<InstanceRateLimits, Integer> seconds) {
+
+    this.actions = actions;
+    this.seconds = seconds;
+  }
+}
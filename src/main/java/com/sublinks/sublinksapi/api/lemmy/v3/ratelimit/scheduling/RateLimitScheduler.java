@@ -0,0 +1,24 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.scheduling;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services.RateLimitService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitScheduler {
+
+  private final RateLimitService rateLimitService;
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.rate_limit.evict_rate}", timeUnit = TimeUnit.SECONDS)
+  public void evictIdle() {
+
+    rateLimitService.evictIdle();
+  }
+}
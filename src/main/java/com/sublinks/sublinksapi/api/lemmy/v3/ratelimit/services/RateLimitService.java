@@ -0,0 +1,98 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.config.RateLimitConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.enums.RateLimitType;
+import com.sublinks.sublinksapi.instance.models.InstanceRateLimits;
+import com.sublinks.sublinksapi.utils.TokenBuckets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Enforces the instance rate limits with a token bucket per action class and client, kept in
+ * memory. Limits are per node, a client spread over several nodes by a load balancer gets the limit
+ * of each.
+ */
+@Service
+public class RateLimitService {
+
+  private final boolean enabled;
+  private final Map<RateLimitType, TokenBuckets> tokenBuckets = new EnumMap<>(
+      RateLimitType.class);
+  private final LongAdder rejected = new LongAdder();
+
+  public RateLimitService(final InstanceRateLimits instanceRateLimits,
+      final RateLimitConfig rateLimitConfig) {
+
+    this.enabled = rateLimitConfig.isEnabled();
+    for (RateLimitType type : RateLimitType.values()) {
+      tokenBuckets.put(type, new TokenBuckets(type.actions.apply(instanceRateLimits),
+          TimeUnit.SECONDS.toNanos(type.seconds.apply(instanceRateLimits)),
+          rateLimitConfig.getShards()));
+    }
+  }
+
+  public boolean isEnabled() {
+
+    return enabled;
+  }
+
+  /**
+   * Counts an action against the limit of a client.
+   *
+   * @param type The action class.
+   * @param key  The client, like ip:127.0.0.1 or person:1.
+   * @return False if the client is over the limit.
+   */
+  public boolean tryAcquire(final RateLimitType type, final String key) {
+
+    return tryAcquire(type, List.of(key));
+  }
+
+  /**
+   * Counts an action against the limits of several clients at once, like a person and the address
+   * they call from. The action is refused if any of them is over its limit, and then counts
+   * against none of them.
+   *
+   * @param type The action class.
+   * @param keys The clients.
+   * @return False if any client is over the limit.
+   */
+  public boolean tryAcquire(final RateLimitType type, final List<String> keys) {
+
+    final TokenBuckets buckets = tokenBuckets.get(type);
+    final long now = System.nanoTime();
+    for (int i = 0; i < keys.size(); i++) {
+      if (!buckets.tryAcquire(keys.get(i), now)) {
+        for (int acquired = 0; acquired < i; acquired++) {
+          buckets.release(keys.get(acquired), now);
+        }
+        rejected.increment();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Drops the buckets of clients that have been idle long enough to be back at their full limit.
+   */
+  public void evictIdle() {
+
+    final long now = System.nanoTime();
+    tokenBuckets.values().forEach(buckets -> buckets.evictIdle(now));
+  }
+
+  public int getBucketCount() {
+
+    return tokenBuckets.values().stream().mapToInt(TokenBuckets::size).sum();
+  }
+
+  public long getRejectedCount() {
+
+    return rejected.sum();
+  }
+}
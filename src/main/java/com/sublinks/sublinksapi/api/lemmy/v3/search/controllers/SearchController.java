@@ -93,14 +93,13 @@ public class SearchController extends AbstractLemmyApiController {
     if (searchForm.type_() == SearchType.Comments || isAll) {
       List<Comment> comments = searchService.searchComments(searchForm.q(), page, limit, sort)
           .getContent();
-      commentViewList.addAll(
-          comments.stream().map(lemmyCommentService::createCommentView).toList());
+      commentViewList.addAll(lemmyCommentService.createCommentViews(comments, null));
 
     }
 
     if (searchForm.type_() == SearchType.Posts || isAll) {
       List<Post> posts = searchService.searchPost(searchForm.q(), page, limit, sort).getContent();
-      postViewList.addAll(posts.stream().map(lemmyPostService::postViewFromPost).toList());
+      postViewList.addAll(lemmyPostService.postViewsFromPosts(posts, null));
     }
 
     if (searchForm.type_() == SearchType.Communities || isAll) {
@@ -121,7 +120,7 @@ public class SearchController extends AbstractLemmyApiController {
     if (searchForm.type_() == SearchType.Url || isAll) {
       List<Post> posts = searchService.searchPostByUrl(searchForm.q(), page, limit, sort)
           .getContent();
-      postViewList.addAll(posts.stream().map(lemmyPostService::postViewFromPost).toList());
+      postViewList.addAll(lemmyPostService.postViewsFromPosts(posts, null));
     }
 
     responseBuilder.comments(commentViewList);
@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class EventStreamConfig {
+
+  @Value("${sublinks.settings.event_stream.max_connections}")
+  private int maxConnections;
+
+  @Value("${sublinks.settings.event_stream.ring_size}")
+  private int ringSize;
+
+  @Value("${sublinks.settings.event_stream.resume_window}")
+  private long resumeWindow;
+
+  @Value("${sublinks.settings.event_stream.timeout}")
+  private long timeout;
+
+  @Value("${sublinks.settings.event_stream.workers}")
+  private int workers;
+}
@@ -0,0 +1,18 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.models;
+
+/**
+ * An event of a stream, as sent to its connections.
+ *
+ * @param id   The id of the event, increasing across every stream of the instance.
+ * @param name The name of the event, like mention.
+ * @param data The event as JSON.
+ */
+public record StreamEvent(long id, String name, String data) {
+
+  public static final String RESYNC = "resync";
+
+  public static StreamEvent resync(final long id) {
+
+    return new StreamEvent(id, RESYNC, "{}");
+  }
+}
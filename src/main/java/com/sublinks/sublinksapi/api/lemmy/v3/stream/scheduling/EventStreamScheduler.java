@@ -0,0 +1,24 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.scheduling;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.services.EventStreamService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class EventStreamScheduler {
+
+  private final EventStreamService eventStreamService;
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.event_stream.heartbeat}", timeUnit = TimeUnit.SECONDS)
+  public void heartbeat() {
+
+    eventStreamService.heartbeat();
+  }
+}
@@ -0,0 +1,176 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.services;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.models.StreamEvent;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * A client connected to a stream. A connection queues nothing itself, it only remembers the id of
+ * the last event it wrote and reads the events after it from the ring of its topic, so every event
+ * is kept once however many clients watch the topic. Events are written by a stream worker, never
+ * by the thread publishing them. A connection falling behind by more than the ring holds is closed,
+ * the client reconnects and resumes from its last event.
+ */
+public class EventStreamConnection {
+
+  private final SseEmitter emitter;
+  private final Set<String> eventNames;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicBoolean released = new AtomicBoolean();
+  private EventStreamTopic topic;
+  private long lastEventId;
+  private boolean resync;
+  private volatile boolean heartbeat;
+  private volatile boolean closed;
+
+  /**
+   * @param emitter    The emitter of the connection.
+   * @param eventNames The names of the events the client may receive, or null for every event.
+   */
+  public EventStreamConnection(final SseEmitter emitter, @Nullable final Set<String> eventNames) {
+
+    this.emitter = emitter;
+    this.eventNames = eventNames;
+  }
+
+  /**
+   * Attaches the connection to its topic, before any worker can drain it.
+   *
+   * @param topic       The topic.
+   * @param lastEventId The id of the event to continue after.
+   * @param resync      Whether the client missed events the topic no longer has.
+   */
+  void attach(final EventStreamTopic topic, final long lastEventId, final boolean resync) {
+
+    this.topic = topic;
+    this.lastEventId = lastEventId;
+    this.resync = resync;
+  }
+
+  public SseEmitter getEmitter() {
+
+    return emitter;
+  }
+
+  public boolean isClosed() {
+
+    return closed;
+  }
+
+  /**
+   * Asks for a heartbeat, sent unless an event is written first.
+   *
+   * @return True if the connection needs to be drained.
+   */
+  public boolean requestHeartbeat() {
+
+    if (closed) {
+      return false;
+    }
+    heartbeat = true;
+    return true;
+  }
+
+  /**
+   * Marks the connection as removed from its stream.
+   *
+   * @return True the first time only.
+   */
+  public boolean release() {
+
+    return released.compareAndSet(false, true);
+  }
+
+  /**
+   * Claims the connection for a worker.
+   *
+   * @return True if no worker is draining it already.
+   */
+  public boolean schedule() {
+
+    return scheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Writes the events of the topic after the last one written, until there are none left. Only
+   * called by the worker that claimed the connection, so one worker at a time.
+   *
+   * @return The number of events written.
+   */
+  public int drain() {
+
+    int written = 0;
+    try {
+      while (!closed) {
+        final List<StreamEvent> events = topic.getEventsAfter(lastEventId);
+        if (events == null) {
+          close(null);
+          break;
+        }
+        if (resync) {
+          resync = false;
+          heartbeat = false;
+          emitter.send(toSseEvent(StreamEvent.resync(lastEventId)));
+          written++;
+        }
+        for (StreamEvent event : events) {
+          lastEventId = event.id();
+          if (eventNames == null || eventNames.contains(event.name())) {
+            heartbeat = false;
+            emitter.send(toSseEvent(event));
+            written++;
+          }
+        }
+        if (heartbeat) {
+          heartbeat = false;
+          emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+        if (events.isEmpty()) {
+          scheduled.set(false);
+          // An event published after the read above could not claim the connection, take it back
+          if ((topic.getLastEventId() <= lastEventId && !heartbeat) || !scheduled.compareAndSet(
+              false, true)) {
+            return written;
+          }
+        }
+      }
+    } catch (IOException | IllegalStateException e) {
+      close(e);
+    }
+    scheduled.set(false);
+    return written;
+  }
+
+  private static SseEmitter.SseEventBuilder toSseEvent(final StreamEvent event) {
+
+    return SseEmitter.event()
+        .id(Long.toString(event.id()))
+        .name(event.name())
+        .data(event.data(), MediaType.APPLICATION_JSON);
+  }
+
+  /**
+   * Closes the connection, the emitter's completion callbacks remove it from its stream.
+   */
+  public void close(@Nullable final Throwable cause) {
+
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (cause == null) {
+        emitter.complete();
+      } else {
+        emitter.completeWithError(cause);
+      }
+    } catch (IllegalStateException ignored) {
+      // Already completed by the container
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.config.EventStreamConfig;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event streams, one per topic like the notifications of a person or the activity of a
+ * post. An idle connection costs an emitter and a topic entry, no thread: events are serialized
+ * once on the publishing thread, stored once in the ring of their topic after its transaction
+ * commits, and written to each connection by a pool of workers.
+ *
+ * <p>Event ids are taken from the clock at startup, so a client resuming after a restart gets a
+ * resync event instead of events of the previous run.</p>
+ */
+@Service
+public class EventStreamService {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventStreamService.class);
+
+  private final EventStreamConfig eventStreamConfig;
+  private final ObjectMapper objectMapper;
+  private final ExecutorService executorService;
+  private final Map<String, EventStreamTopic> topics = new ConcurrentHashMap<>();
+  private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis() * 1000);
+  private final AtomicInteger connectionCount = new AtomicInteger();
+  private final AtomicInteger threadCount = new AtomicInteger();
+  private final LongAdder published = new LongAdder();
+  private final LongAdder written = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  public EventStreamService(final EventStreamConfig eventStreamConfig,
+      final ObjectMapper objectMapper) {
+
+    this.eventStreamConfig = eventStreamConfig;
+    this.objectMapper = objectMapper;
+    this.executorService = createExecutorService(Math.max(1, eventStreamConfig.getWorkers()));
+  }
+
+  /**
+   * Opens a connection to a topic.
+   *
+   * @param topic       The topic, like person:1.
+   * @param lastEventId The id of the last event the client got, to resume from, or null.
+   * @param eventNames  The events the client may receive, or null for every event.
+   * @return The emitter of the connection, or empty if the instance holds too many connections.
+   */
+  public Optional<SseEmitter> connect(final String topic, @Nullable final Long lastEventId,
+      @Nullable final Set<String> eventNames) {
+
+    if (connectionCount.incrementAndGet() > eventStreamConfig.getMaxConnections()) {
+      connectionCount.decrementAndGet();
+      rejected.increment();
+      return Optional.empty();
+    }
+    final SseEmitter emitter = new SseEmitter(
+        TimeUnit.SECONDS.toMillis(Math.max(1, eventStreamConfig.getTimeout())));
+    final EventStreamConnection connection = new EventStreamConnection(emitter, eventNames);
+    final boolean[] drain = new boolean[1];
+    final EventStreamTopic eventStreamTopic = topics.compute(topic, (key, existing) -> {
+      final EventStreamTopic current = existing == null ? new EventStreamTopic(eventIds,
+          eventStreamConfig.getRingSize(), System.currentTimeMillis()) : existing;
+      drain[0] = current.connect(connection, lastEventId);
+      return current;
+    });
+
+    final Runnable disconnect = () -> disconnect(eventStreamTopic, connection);
+    emitter.onCompletion(disconnect);
+    emitter.onTimeout(disconnect);
+    emitter.onError(error -> disconnect.run());
+    if (drain[0]) {
+      schedule(connection);
+    }
+    return Optional.of(emitter);
+  }
+
+  private void disconnect(final EventStreamTopic eventStreamTopic,
+      final EventStreamConnection connection) {
+
+    if (!connection.isClosed()) {
+      connection.close(null);
+    }
+    eventStreamTopic.disconnect(connection, System.currentTimeMillis());
+    if (connection.release()) {
+      connectionCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Whether a topic has connections, or had some recently.
+   *
+   * @param topic The topic.
+   */
+  public boolean isListening(final String topic) {
+
+    return topics.containsKey(topic);
+  }
+
+  /**
+   * Publishes an event to a topic once the current transaction commits. Nothing is built or
+   * serialized if no client listens to the topic.
+   *
+   * @param topic   The topic.
+   * @param name    The name of the event.
+   * @param payload Builds the event, serialized as JSON.
+   */
+  public void publish(final String topic, final String name, final Supplier<?> payload) {
+
+    if (!isListening(topic)) {
+      return;
+    }
+    final String data;
+    try {
+      data = objectMapper.writeValueAsString(payload.get());
+    } catch (JsonProcessingException e) {
+      logger.warn("Could not serialize {} event of {}", name, topic, e);
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+
+          deliver(topic, name, data);
+        }
+      });
+    } else {
+      deliver(topic, name, data);
+    }
+  }
+
+  private void deliver(final String topic, final String name, final String data) {
+
+    final EventStreamTopic eventStreamTopic = topics.get(topic);
+    if (eventStreamTopic == null) {
+      return;
+    }
+    published.increment();
+    eventStreamTopic.publish(name, data).forEach(this::schedule);
+  }
+
+  /**
+   * Sends a comment on every connection with nothing to send, so proxies keep them open and
+   * clients notice dropped connections. Drops topics nobody reconnected to in time.
+   */
+  public void heartbeat() {
+
+    final long now = System.currentTimeMillis();
+    final long resumeWindow = TimeUnit.SECONDS.toMillis(eventStreamConfig.getResumeWindow());
+    topics.forEach((topic, eventStreamTopic) -> {
+      for (EventStreamConnection connection : eventStreamTopic.getConnections()) {
+        if (connection.requestHeartbeat()) {
+          schedule(connection);
+        }
+      }
+      topics.computeIfPresent(topic,
+          (key, current) -> current.isExpired(now, resumeWindow) ? null : current);
+    });
+  }
+
+  private void schedule(final EventStreamConnection connection) {
+
+    if (!connection.schedule()) {
+      return;
+    }
+    try {
+      executorService.execute(() -> written.add(connection.drain()));
+    } catch (RejectedExecutionException e) {
+      connection.close(e);
+    }
+  }
+
+  public int getConnectionCount() {
+
+    return connectionCount.get();
+  }
+
+  public int getTopicCount() {
+
+    return topics.size();
+  }
+
+  public long getPublishedCount() {
+
+    return published.sum();
+  }
+
+  public long getWrittenCount() {
+
+    return written.sum();
+  }
+
+  public long getRejectedCount() {
+
+    return rejected.sum();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    topics.values().forEach(eventStreamTopic -> eventStreamTopic.getConnections()
+        .forEach(connection -> connection.close(null)));
+    executorService.shutdownNow();
+  }
+
+  /**
+   * Uses a virtual thread per task on runtimes that have them, so a slow client only blocks its
+   * own writes.
+   */
+  private ExecutorService createExecutorService(final int workerCount) {
+
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newFixedThreadPool(workerCount, runnable -> {
+        final Thread thread = new Thread(runnable,
+            "event-stream-worker-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.services;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.models.StreamEvent;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The connections of a stream and a broadcast ring of its last events. Publishing an event stores
+ * it once in the ring, every connection then reads it from there, and clients reconnecting with
+ * the id of the last event they got are resumed from it.
+ */
+public class EventStreamTopic {
+
+  private final AtomicLong eventIds;
+  private final int ringSize;
+  private final List<EventStreamConnection> connections = new ArrayList<>(1);
+  private StreamEvent[] ring;
+  private int ringNext;
+  private int ringCount;
+  private long ringFrom;
+  private long lastEventId;
+  private long idleSince;
+
+  /**
+   * @param eventIds The ids of events, shared by every stream.
+   * @param ringSize The number of events kept, for connections that are behind and reconnecting
+   *                 clients.
+   * @param now      The current time in milliseconds.
+   */
+  public EventStreamTopic(final AtomicLong eventIds, final int ringSize, final long now) {
+
+    this.eventIds = eventIds;
+    this.ringSize = Math.max(1, ringSize);
+    this.ringFrom = eventIds.get();
+    this.lastEventId = ringFrom;
+    this.idleSince = now;
+  }
+
+  /**
+   * Adds a connection. A client resuming from an event still in the ring gets the events after it,
+   * a client resuming from an older event gets a resync event.
+   *
+   * @param connection  The connection.
+   * @param lastEventId The id of the last event the client got, null for a new client.
+   * @return True if the connection needs to be drained.
+   */
+  public synchronized boolean connect(final EventStreamConnection connection,
+      @Nullable final Long lastEventId) {
+
+    connections.add(connection);
+    if (lastEventId == null || lastEventId > this.lastEventId) {
+      connection.attach(this, this.lastEventId, false);
+      return false;
+    }
+    if (lastEventId < ringFrom) {
+      connection.attach(this, this.lastEventId, true);
+      return true;
+    }
+    connection.attach(this, lastEventId, false);
+    return lastEventId < this.lastEventId;
+  }
+
+  /**
+   * Removes a connection.
+   *
+   * @param connection The connection.
+   * @param now        The current time in milliseconds.
+   */
+  public synchronized void disconnect(final EventStreamConnection connection, final long now) {
+
+    if (connections.remove(connection) && connections.isEmpty()) {
+      idleSince = now;
+    }
+  }
+
+  /**
+   * Stores an event in the ring, dropping the oldest one if it is full.
+   *
+   * @param name The event name.
+   * @param data The event as JSON.
+   * @return The connections to wake up.
+   */
+  public synchronized List<EventStreamConnection> publish(final String name, final String data) {
+
+    final StreamEvent event = new StreamEvent(eventIds.incrementAndGet(), name, data);
+    if (ring == null) {
+      // Allocated on the first event, most notification streams never get one
+      ring = new StreamEvent[ringSize];
+    }
+    if (ringCount == ring.length) {
+      ringFrom = ring[ringNext].id();
+    } else {
+      ringCount++;
+    }
+    ring[ringNext] = event;
+    ringNext = (ringNext + 1) % ring.length;
+    lastEventId = event.id();
+    return List.copyOf(connections);
+  }
+
+  /**
+   * Gets the events after an event.
+   *
+   * @param eventId The id of the event.
+   * @return The events after it, oldest first, or null if some of them are no longer kept.
+   */
+  @Nullable
+  public synchronized List<StreamEvent> getEventsAfter(final long eventId) {
+
+    if (eventId < ringFrom) {
+      return null;
+    }
+    if (eventId >= lastEventId) {
+      return List.of();
+    }
+    final List<StreamEvent> events = new ArrayList<>();
+    for (int i = 0; i < ringCount; i++) {
+      final StreamEvent event = ring[(ringNext - ringCount + i + ring.length) % ring.length];
+      if (event.id() > eventId) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  public synchronized long getLastEventId() {
+
+    return lastEventId;
+  }
+
+  public synchronized List<EventStreamConnection> getConnections() {
+
+    return List.copyOf(connections);
+  }
+
+  public synchronized int getConnectionCount() {
+
+    return connections.size();
+  }
+
+  /**
+   * Whether the topic has had no connection for longer than a client can take to reconnect.
+   *
+   * @param now          The current time in milliseconds.
+   * @param resumeWindow The time in milliseconds a client has to reconnect.
+   */
+  public synchronized boolean isExpired(final long now, final long resumeWindow) {
+
+    if (connections.removeIf(EventStreamConnection::isClosed) && connections.isEmpty()) {
+      idleSince = now;
+    }
+    return connections.isEmpty() && now - idleSince > resumeWindow;
+  }
+}
@@ -38,12 +38,14 @@ import com.sublinks.sublinksapi.person.enums.LinkPersonCommunityType;
 import com.sublinks.sublinksapi.person.enums.ListingType;
 import com.sublinks.sublinksapi.person.enums.SortType;
 import com.sublinks.sublinksapi.person.models.PersonMentionSearchCriteria;
+import com.sublinks.sublinksapi.person.models.UnreadCounts;
 import com.sublinks.sublinksapi.person.repositories.PersonMentionRepository;
 import com.sublinks.sublinksapi.person.repositories.PersonRepository;
 import com.sublinks.sublinksapi.person.services.LinkPersonCommunityService;
+import com.sublinks.sublinksapi.person.services.PersonMentionService;
 import com.sublinks.sublinksapi.person.services.PersonService;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
 import com.sublinks.sublinksapi.privatemessages.models.MarkAllAsReadResponse;
-import com.sublinks.sublinksapi.privatemessages.repositories.PrivateMessageRepository;
 import com.sublinks.sublinksapi.privatemessages.services.PrivateMessageService;
 import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterBlockedException;
 import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterReportException;
@@ -91,11 +93,12 @@ public class UserController extends AbstractLemmyApiController {
   private final LemmyPersonMentionService lemmyPersonMentionService;
   private final CommentReplyRepository commentReplyRepository;
   private final LemmyCommentReplyService lemmyCommentReplyService;
-  private final PrivateMessageRepository privateMessageRepository;
   private final SlurFilterService slurFilterService;
   private final RoleAuthorizingService roleAuthorizingService;
   private final LinkPersonCommunityService linkPersonCommunityService;
   private final PrivateMessageService privateMessageService;
+  private final PersonMentionService personMentionService;
+  private final PersonUnreadCountService personUnreadCountService;
 
   @Operation(summary = "Get the details for a person.")
   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK", content = {
@@ -184,7 +187,7 @@ public class UserController extends AbstractLemmyApiController {
 
     personMention.setRead(markPersonMentionAsReadForm.read());
 
-    personMentionRepository.save(personMention);
+    personMentionService.updatePersonMention(personMention);
 
     final PersonMentionView personMentionView = conversionService.convert(personMention,
         PersonMentionView.class);
@@ -372,21 +375,22 @@ public class UserController extends AbstractLemmyApiController {
             RolePermission.READ_PRIVATE_MESSAGES),
         () -> new ResponseStatusException(HttpStatus.FORBIDDEN, "no_permission"));
 
+    final UnreadCounts unreadCounts = personUnreadCountService.getUnreadCounts(person);
+
     GetUnreadCountResponse.GetUnreadCountResponseBuilder builder = GetUnreadCountResponse.builder();
 
     if (roleAuthorizingService.hasAdminOrPermission(person, RolePermission.READ_MENTION_USER)) {
-      builder.mentions((int) personMentionRepository.countByRecipientAndIsReadIsFalse(person));
+      builder.mentions(unreadCounts.mentions());
     } else {
       builder.mentions(0);
     }
     if (roleAuthorizingService.hasAdminOrPermission(person, RolePermission.READ_REPLIES)) {
-      builder.replies((int) commentReplyRepository.countByRecipientAndReadIsFalse(person));
+      builder.replies(unreadCounts.replies());
     } else {
       builder.replies(0);
     }
     if (roleAuthorizingService.hasAdminOrPermission(person, RolePermission.READ_PRIVATE_MESSAGES)) {
-      builder.private_messages(
-          (int) privateMessageRepository.countByRecipientAndReadIsFalse(person));
+      builder.private_messages(unreadCounts.privateMessages());
     } else {
       builder.private_messages(0);
     }
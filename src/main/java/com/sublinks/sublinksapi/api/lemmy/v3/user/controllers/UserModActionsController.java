@@ -28,6 +28,7 @@ import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.enums.LinkPersonCommunityType;
 import com.sublinks.sublinksapi.person.repositories.PersonRepository;
 import com.sublinks.sublinksapi.person.services.LinkPersonCommunityService;
+import com.sublinks.sublinksapi.person.services.PersonService;
 import com.sublinks.sublinksapi.post.repositories.PostReportRepository;
 import com.sublinks.sublinksapi.post.services.PostReportService;
 import com.sublinks.sublinksapi.post.services.PostService;
@@ -69,6 +70,7 @@ public class UserModActionsController extends AbstractLemmyApiController {
   private final LinkPersonCommunityService linkPersonCommunityService;
   private final RoleAuthorizingService roleAuthorizingService;
   private final PersonRepository personRepository;
+  private final PersonService personService;
   private final PostService postService;
   private final CommentService commentService;
   private final LemmyPersonService lemmyPersonService;
@@ -117,6 +119,7 @@ public class UserModActionsController extends AbstractLemmyApiController {
       commentService.removeAllCommentsFromUser(personToBan, false);
       personToBan.setRole(roleAuthorizingService.getUserRole());
     }
+    personService.updatePerson(personToBan);
 
     // Create Moderation Log
     ModerationLog moderationLog = ModerationLog.builder()
@@ -238,6 +241,7 @@ public class UserModActionsController extends AbstractLemmyApiController {
     }
 
     person.setRole(roleAuthorizingService.getUserRole());
+    personService.updatePerson(person);
 
     // Create Moderation Log
     ModerationLog moderationLog = ModerationLog.builder()
@@ -43,13 +43,8 @@ public class LemmyPersonService {
 
   public Collection<PostView> getPersonPosts(Person person) {
 
-    Collection<PostView> postViews = new ArrayList<>();
-
-    postRepository.allPostsByPersonAndRemoved(person, null).forEach(post -> {
-      postViews.add(lemmyPostService.postViewFromPost(post, person));
-    });
-
-    return postViews;
+    return lemmyPostService.postViewsFromPosts(
+        postRepository.allPostsByPersonAndRemoved(person, null), person);
   }
 
   public Collection<CommunityModeratorView> getPersonModerates(Person person) {
@@ -70,12 +65,6 @@ public class LemmyPersonService {
   @Transactional
   public Collection<CommentView> getPersonComments(Person person) {
 
-    Collection<CommentView> commentViews = new ArrayList<>();
-
-    person.getComments()
-        .forEach(
-            comment -> commentViews.add(lemmyCommentService.createCommentView(comment, person)));
-
-    return commentViews;
+    return lemmyCommentService.createCommentViews(person.getComments(), person);
   }
 }
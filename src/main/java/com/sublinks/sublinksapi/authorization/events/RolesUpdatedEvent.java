@@ -0,0 +1,14 @@
+package com.sublinks.sublinksapi.authorization.events;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when roles are created or their permissions change.
+ */
+public class RolesUpdatedEvent extends ApplicationEvent {
+
+  public RolesUpdatedEvent(Object source) {
+
+    super(source);
+  }
+}
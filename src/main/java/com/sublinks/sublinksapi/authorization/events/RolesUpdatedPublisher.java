@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.authorization.events;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RolesUpdatedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public RolesUpdatedPublisher(ApplicationEventPublisher applicationEventPublisher) {
+
+    this.applicationEventPublisher = applicationEventPublisher;
+  }
+
+  public void publish() {
+
+    RolesUpdatedEvent rolesUpdatedEvent = new RolesUpdatedEvent(this);
+    applicationEventPublisher.publishEvent(rolesUpdatedEvent);
+  }
+}
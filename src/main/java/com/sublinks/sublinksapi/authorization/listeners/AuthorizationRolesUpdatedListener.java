@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.authorization.listeners;
+
+import com.sublinks.sublinksapi.authorization.events.RolesUpdatedEvent;
+import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthorizationRolesUpdatedListener implements
+    ApplicationListener<RolesUpdatedEvent> {
+
+  private final RoleAuthorizingService roleAuthorizingService;
+
+  @Override
+  public void onApplicationEvent(RolesUpdatedEvent event) {
+
+    roleAuthorizingService.invalidateRoles();
+  }
+}
@@ -1,28 +1,60 @@
 package com.sublinks.sublinksapi.authorization.services;
 
 import com.sublinks.sublinksapi.authorization.entities.Role;
+import com.sublinks.sublinksapi.authorization.entities.RolePermissions;
 import com.sublinks.sublinksapi.authorization.enums.RolePermission;
 import com.sublinks.sublinksapi.authorization.repositories.RoleRepository;
 import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.utils.CacheGeneration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+/**
+ * Permission checks against roles. The permissions of each role are compiled once into an
+ * immutable {@link EnumSet} held by role id, so a check is a bit test instead of a walk over the
+ * role's permission rows, and the admin, registered, default and banned roles are only looked up
+ * once. Both are cleared when roles change, see {@link #invalidateRoles()}.
+ */
 @Service
 @RequiredArgsConstructor
 public class RoleAuthorizingService {
 
+  private static final Map<Long, Set<RolePermission>> rolePermissionMatrix =
+      new ConcurrentHashMap<>();
+  private static final CacheGeneration cacheGeneration = new CacheGeneration();
+
   private final RoleRepository roleRepository;
+  private final Map<RolePermission, Role> rolesByPermission = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the compiled permissions of a role. Roles that are not saved yet are compiled on every
+   * call instead of being cached.
+   *
+   * @param role The role.
+   * @return An immutable set of the role's permissions.
+   */
+  public static Set<RolePermission> getPermissions(@NonNull final Role role) {
+
+    if (role.getId() == null) {
+      return compilePermissions(role);
+    }
+    return cacheGeneration.get(() -> rolePermissionMatrix.get(role.getId()),
+        () -> compilePermissions(role),
+        permissions -> rolePermissionMatrix.put(role.getId(), permissions));
+  }
 
   public static boolean isBanned(final Role role) {
 
-    return role.getRolePermissions()
-        .stream()
-        .anyMatch(x -> x.getPermission().equals(RolePermission.BANNED));
+    return getPermissions(role).contains(RolePermission.BANNED);
   }
 
   public static boolean isBanned(final Person person) {
@@ -45,9 +77,32 @@ public class RoleAuthorizingService {
 
   public static boolean isAdmin(@NonNull final Role role) {
 
-    return role.getRolePermissions()
-        .stream()
-        .anyMatch(x -> x.getPermission().equals(RolePermission.ADMIN));
+    return getPermissions(role).contains(RolePermission.ADMIN);
+  }
+
+  private static Set<RolePermission> compilePermissions(final Role role) {
+
+    final EnumSet<RolePermission> permissions = EnumSet.noneOf(RolePermission.class);
+    if (role.getRolePermissions() != null) {
+      for (RolePermissions rolePermission : role.getRolePermissions()) {
+        if (rolePermission.getPermission() != null) {
+          permissions.add(rolePermission.getPermission());
+        }
+      }
+    }
+    return Collections.unmodifiableSet(permissions);
+  }
+
+  /**
+   * Forgets the compiled permissions and the resolved admin, registered, default and banned roles,
+   * see {@link CacheGeneration#evict}.
+   */
+  public void invalidateRoles() {
+
+    cacheGeneration.evict(() -> {
+      rolePermissionMatrix.clear();
+      rolesByPermission.clear();
+    });
   }
 
   public static <X extends Throwable> void isAdminElseThrow(Person person,
@@ -114,34 +169,49 @@ public class RoleAuthorizingService {
 
   public Role getAdminRole() {
 
-    return roleRepository.findAllByRolePermissionContains(RolePermission.ADMIN)
-        .stream()
-        .findFirst()
-        .orElseThrow(() -> new RuntimeException("Admin role not found"));
+    final Role role = getRoleByPermission(RolePermission.ADMIN);
+    if (role == null) {
+      throw new RuntimeException("Admin role not found");
+    }
+    return role;
   }
 
   public Role getUserRole() {
 
-    return roleRepository.findAllByRolePermissionContains(RolePermission.REGISTERED)
-        .stream()
-        .findFirst()
-        .orElse(getDefaultRole());
+    final Role role = getRoleByPermission(RolePermission.REGISTERED);
+    return role == null ? getDefaultRole() : role;
   }
 
   public Role getDefaultRole() {
 
-    return roleRepository.findAllByRolePermissionContains(RolePermission.DEFAULT)
-        .stream()
-        .findFirst()
-        .orElseThrow(() -> new RuntimeException("User role not found"));
+    final Role role = getRoleByPermission(RolePermission.DEFAULT);
+    if (role == null) {
+      throw new RuntimeException("User role not found");
+    }
+    return role;
   }
 
   public Role getBannedRole() {
 
-    return roleRepository.findAllByRolePermissionContains(RolePermission.BANNED)
-        .stream()
-        .findFirst()
-        .orElseThrow(() -> new RuntimeException("Banned role not found"));
+    final Role role = getRoleByPermission(RolePermission.BANNED);
+    if (role == null) {
+      throw new RuntimeException("Banned role not found");
+    }
+    return role;
+  }
+
+  /**
+   * Returns the first role with a permission, looked up once. Missing roles are not remembered, so
+   * they are found once they are created.
+   */
+  private Role getRoleByPermission(final RolePermission rolePermission) {
+
+    return cacheGeneration.get(() -> rolesByPermission.get(rolePermission),
+        () -> roleRepository.findAllByRolePermissionContains(rolePermission)
+            .stream()
+            .findFirst()
+            .orElse(null),
+        role -> rolesByPermission.put(rolePermission, role));
   }
 
   public boolean hasAdminOrPermission(final Person person, final RolePermission rolePermission) {
@@ -160,7 +230,7 @@ public class RoleAuthorizingService {
   public boolean hasAdminOrAnyPermission(@NonNull final Role role,
       final Set<RolePermission> rolePermissions) {
 
-    return rolePermissions.stream().anyMatch(x -> hasPermission(role, x));
+    return hasAnyPermission(role, rolePermissions);
   }
 
   public boolean hasAdminOrAnyPermission(final Person person,
@@ -238,13 +308,8 @@ public class RoleAuthorizingService {
 
   public boolean hasPermission(final Role role, final RolePermission rolePermission) {
 
-    if (isAdmin(role)) {
-      return true;
-    }
-
-    return role.getRolePermissions()
-        .stream()
-        .anyMatch(x -> x.getPermission().equals(rolePermission));
+    final Set<RolePermission> permissions = getPermissions(role);
+    return permissions.contains(RolePermission.ADMIN) || permissions.contains(rolePermission);
   }
 
   public boolean hasPermission(final Person person, final RolePermission rolePermission) {
@@ -273,7 +338,8 @@ public class RoleAuthorizingService {
   public boolean hasAllPermissions(@NonNull final Role role,
       final Set<RolePermission> rolePermissions) {
 
-    return rolePermissions.stream().allMatch(x -> hasPermission(role, x));
+    final Set<RolePermission> permissions = getPermissions(role);
+    return permissions.contains(RolePermission.ADMIN) || permissions.containsAll(rolePermissions);
   }
 
   public boolean hasAllPermissions(final Person person, final Set<RolePermission> rolePermissions) {
@@ -302,7 +368,19 @@ public class RoleAuthorizingService {
   public boolean hasAnyPermission(@NonNull final Role role,
       final Set<RolePermission> rolePermissions) {
 
-    return rolePermissions.stream().anyMatch(x -> hasPermission(role, x));
+    final Set<RolePermission> permissions = getPermissions(role);
+    if (rolePermissions.isEmpty()) {
+      return false;
+    }
+    if (permissions.contains(RolePermission.ADMIN)) {
+      return true;
+    }
+    for (RolePermission rolePermission : rolePermissions) {
+      if (permissions.contains(rolePermission)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public boolean hasAnyPermission(final Person person, final Set<RolePermission> rolePermissions) {
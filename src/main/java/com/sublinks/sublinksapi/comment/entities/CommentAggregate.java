@@ -3,6 +3,7 @@ package com.sublinks.sublinksapi.comment.entities;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.proxy.HibernateProxy;
 import java.util.Date;
 import java.util.Objects;
@@ -13,6 +14,7 @@ import java.util.Objects;
 @NoArgsConstructor
 @Builder
 @Entity
+@DynamicUpdate
 @Table(name = "comment_aggregates")
 public class CommentAggregate {
 
@@ -26,8 +28,8 @@ public class CommentAggregate {
   /**
    * Attributes.
    */
+  // The id of the comment, the comment joins its aggregate by primary key
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
   @Column(nullable = false, name = "up_votes")
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.io.Serializable;
 import java.util.Date;
@@ -42,7 +43,8 @@ public class CommentHistory implements Serializable {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_history_id_seq")
+  @SequenceGenerator(name = "comment_history_id_seq", sequenceName = "comment_history_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "content")
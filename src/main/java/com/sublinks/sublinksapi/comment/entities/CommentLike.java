@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.io.Serializable;
 import java.util.Date;
@@ -51,7 +52,8 @@ public class CommentLike implements Serializable {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_likes_id_seq")
+  @SequenceGenerator(name = "comment_likes_id_seq", sequenceName = "comment_likes_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "is_up_vote")
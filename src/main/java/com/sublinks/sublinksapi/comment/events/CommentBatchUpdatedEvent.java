@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.comment.events;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once per chunk of a bulk operation, instead of one event per comment.
+ */
+@Getter
+public class CommentBatchUpdatedEvent extends ApplicationEvent {
+
+  private final List<Long> commentIds;
+
+  public CommentBatchUpdatedEvent(final Object source, final List<Long> commentIds) {
+
+    super(source);
+    this.commentIds = commentIds;
+  }
+}
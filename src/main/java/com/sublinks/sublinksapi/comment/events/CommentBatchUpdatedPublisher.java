@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.comment.events;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentBatchUpdatedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public void publish(final List<Long> commentIds) {
+
+    final CommentBatchUpdatedEvent commentBatchUpdatedEvent = new CommentBatchUpdatedEvent(this,
+        commentIds);
+    applicationEventPublisher.publishEvent(commentBatchUpdatedEvent);
+  }
+}
@@ -0,0 +1,33 @@
+package com.sublinks.sublinksapi.comment.events;
+
+import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
+import com.sublinks.sublinksapi.outbox.services.OutboxEventCodec;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCreatedOutboxCodec implements OutboxEventCodec<CommentCreatedEvent> {
+
+  private final CommentRepository commentRepository;
+
+  @Override
+  public String getAggregateKey(final CommentCreatedEvent event) {
+
+    return "comment:" + event.getComment().getId();
+  }
+
+  @Override
+  public String encode(final CommentCreatedEvent event) {
+
+    return String.valueOf(event.getComment().getId());
+  }
+
+  @Override
+  public Optional<CommentCreatedEvent> decode(final String payload) {
+
+    return commentRepository.findById(Long.parseLong(payload))
+        .map(comment -> new CommentCreatedEvent(this, comment));
+  }
+}
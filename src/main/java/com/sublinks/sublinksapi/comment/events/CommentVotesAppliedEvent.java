@@ -0,0 +1,23 @@
+package com.sublinks.sublinksapi.comment.events;
+
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once per vote flush with the new counts of the comments it changed, instead of one
+ * event per vote.
+ */
+@Getter
+public class CommentVotesAppliedEvent extends ApplicationEvent {
+
+  private final List<CommentVoteCounts> commentVoteCounts;
+
+  public CommentVotesAppliedEvent(final Object source,
+      final List<CommentVoteCounts> commentVoteCounts) {
+
+    super(source);
+    this.commentVoteCounts = commentVoteCounts;
+  }
+}
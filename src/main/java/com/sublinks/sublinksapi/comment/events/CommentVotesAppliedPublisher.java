@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.comment.events;
+
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentVotesAppliedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public void publish(final List<CommentVoteCounts> commentVoteCounts) {
+
+    final CommentVotesAppliedEvent commentVotesAppliedEvent = new CommentVotesAppliedEvent(this,
+        commentVoteCounts);
+    applicationEventPublisher.publishEvent(commentVotesAppliedEvent);
+  }
+}
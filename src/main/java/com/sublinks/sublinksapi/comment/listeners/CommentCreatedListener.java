@@ -5,22 +5,22 @@ import com.sublinks.sublinksapi.comment.entities.CommentReply;
 import com.sublinks.sublinksapi.comment.events.CommentCreatedEvent;
 import com.sublinks.sublinksapi.comment.services.CommentReplyService;
 import com.sublinks.sublinksapi.comment.services.CommentService;
+import com.sublinks.sublinksapi.outbox.listeners.OutboxListener;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class CommentCreatedListener implements ApplicationListener<CommentCreatedEvent> {
+public class CommentCreatedListener implements OutboxListener<CommentCreatedEvent> {
 
   private final CommentReplyService commentReplyService;
   private final CommentService commentService;
 
   @Override
   @Transactional
-  public void onApplicationEvent(CommentCreatedEvent event) {
+  public void onOutboxEvent(CommentCreatedEvent event) {
 
     Optional<Comment> parent = commentService.getParentComment(event.getComment());
 
@@ -1,34 +1,29 @@
 package com.sublinks.sublinksapi.comment.listeners;
 
-import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
 import com.sublinks.sublinksapi.comment.events.CommentLikeCreatedEvent;
-import com.sublinks.sublinksapi.comment.repositories.CommentAggregateRepository;
+import com.sublinks.sublinksapi.comment.services.CommentVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class CommentLikeCreatedListener implements ApplicationListener<CommentLikeCreatedEvent> {
 
-  private final CommentAggregateRepository commentAggregateRepository;
+  private final CommentVoteAccumulatorService commentVoteAccumulatorService;
 
   @Override
-  @Transactional
   public void onApplicationEvent(CommentLikeCreatedEvent event) {
 
-    final CommentAggregate commentAggregate = event.getCommentLike().getComment()
-        .getCommentAggregate();
+    final VoteDelta voteDelta;
     if (event.getCommentLike().isUpVote()) {
-      commentAggregate.setUpVotes(commentAggregate.getUpVotes() + 1);
-      commentAggregate.setScore(commentAggregate.getScore() + 1);
+      voteDelta = new VoteDelta(1, 1, 0);
     } else if (event.getCommentLike().isDownVote()) {
-      commentAggregate.setDownVotes(commentAggregate.getDownVotes() - 1);
-      commentAggregate.setScore(commentAggregate.getScore() - 1);
+      voteDelta = new VoteDelta(-1, 0, 1);
     } else {
       return;
     }
-    commentAggregateRepository.save(commentAggregate);
+    commentVoteAccumulatorService.addVote(event.getCommentLike().getComment(), voteDelta);
   }
 }
@@ -0,0 +1,17 @@
+package com.sublinks.sublinksapi.comment.models;
+
+/**
+ * The counts of a comment right after a vote flush updated them, with the post it is on.
+ */
+public interface CommentVoteCounts {
+
+  Long getCommentId();
+
+  Long getPostId();
+
+  int getScore();
+
+  int getUpVotes();
+
+  int getDownVotes();
+}
@@ -3,6 +3,7 @@ package com.sublinks.sublinksapi.comment.repositories;
 import com.sublinks.sublinksapi.comment.entities.Comment;
 import com.sublinks.sublinksapi.comment.entities.CommentSave;
 import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +16,8 @@ public interface ComentSaveRepository extends JpaRepository<CommentSave, Long> {
 
   List<CommentSave> findAllByComment(Comment comment);
 
+  List<CommentSave> findAllByPersonAndCommentIn(Person person, Collection<Comment> comments);
+
 
   boolean existsByPersonAndComment(Person person, Comment comment);
 
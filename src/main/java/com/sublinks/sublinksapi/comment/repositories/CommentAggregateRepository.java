@@ -1,8 +1,37 @@
 package com.sublinks.sublinksapi.comment.repositories;
 
 import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentAggregateRepository extends JpaRepository<CommentAggregate, Long> {
 
+  /**
+   * Adds a vote delta to the counts of a comment and returns the new counts, so they can be
+   * published without loading the aggregate or the comment.
+   *
+   * @param commentId The comment id.
+   * @param score     The score delta.
+   * @param upVotes   The up vote delta.
+   * @param downVotes The down vote delta.
+   * @return The new counts, or null if the comment has no aggregate.
+   */
+  @Query(value = """
+      UPDATE comment_aggregates
+      SET score      = comment_aggregates.score + :score,
+          up_votes   = comment_aggregates.up_votes + :upVotes,
+          down_votes = comment_aggregates.down_votes + :downVotes
+      FROM comments
+      WHERE comment_aggregates.comment_id = :commentId
+        AND comments.id = comment_aggregates.comment_id
+      RETURNING comment_aggregates.comment_id AS "commentId",
+          comments.post_id AS "postId",
+          comment_aggregates.score AS "score",
+          comment_aggregates.up_votes AS "upVotes",
+          comment_aggregates.down_votes AS "downVotes"
+      """, nativeQuery = true)
+  CommentVoteCounts addVotes(@Param("commentId") Long commentId, @Param("score") int score,
+      @Param("upVotes") int upVotes, @Param("downVotes") int downVotes);
 }
@@ -3,11 +3,60 @@ package com.sublinks.sublinksapi.comment.repositories;
 import com.sublinks.sublinksapi.comment.entities.Comment;
 import com.sublinks.sublinksapi.comment.entities.CommentLike;
 import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.utils.models.VoteUpsertResult;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>,
     CommentLikeRepositorySearch {
 
   Optional<CommentLike> getCommentLikeByPersonAndComment(Person person, Comment comment);
+
+  List<CommentLike> findAllByPersonAndCommentIn(Person person, Collection<Comment> comments);
+
+  /**
+   * Creates or updates the vote of a person on a comment in a single statement. An existing vote is
+   * locked and updated, so its previous score is the one this update replaced. A vote created by a
+   * transaction that had not committed when the statement started is neither seen nor overwritten:
+   * nothing is returned and the statement has to be run again.
+   *
+   * @param commentId The comment id.
+   * @param postId    The id of the post the comment belongs to.
+   * @param personId  The voter id.
+   * @param score     The new score, 1, 0 or -1.
+   * @return The vote id, whether it was inserted, and the score it had before, or null if a
+   * concurrent transaction created the vote first.
+   */
+  @Query(value = """
+      WITH previous AS (SELECT id, score
+                        FROM comment_likes
+                        WHERE comment_id = :commentId
+                          AND person_id = :personId
+                          FOR UPDATE),
+           updated AS (UPDATE comment_likes
+                       SET is_up_vote   = :score = 1,
+                           is_down_vote = :score = -1,
+                           score        = :score,
+                           updated_at   = CURRENT_TIMESTAMP(3)
+                       FROM previous
+                       WHERE comment_likes.id = previous.id
+                       RETURNING comment_likes.id, previous.score),
+           inserted AS (INSERT INTO comment_likes (comment_id, post_id, person_id, is_up_vote,
+                                                   is_down_vote, score)
+                        SELECT :commentId, :postId, :personId, :score = 1, :score = -1, :score
+                        WHERE NOT EXISTS (SELECT 1 FROM previous)
+                        ON CONFLICT (comment_id, person_id) DO NOTHING
+                        RETURNING id)
+      SELECT id AS "id", TRUE AS "inserted", NULL AS "previousScore"
+      FROM inserted
+      UNION ALL
+      SELECT id AS "id", FALSE AS "inserted", score AS "previousScore"
+      FROM updated
+      """, nativeQuery = true)
+  VoteUpsertResult upsertCommentLike(@Param("commentId") Long commentId,
+      @Param("postId") Long postId, @Param("personId") Long personId, @Param("score") int score);
 }
@@ -3,6 +3,7 @@ package com.sublinks.sublinksapi.comment.repositories;
 import static com.sublinks.sublinksapi.utils.PaginationUtils.applyPagination;
 
 import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
 import com.sublinks.sublinksapi.comment.entities.CommentRead;
 import com.sublinks.sublinksapi.comment.models.CommentSearchCriteria;
 import com.sublinks.sublinksapi.community.entities.Community;
@@ -10,6 +11,7 @@ import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.shared.RemovedState;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -27,6 +29,13 @@ public class CommentRepositoryImpl implements CommentRepositorySearch {
 
   private final EntityManager em;
 
+  @Override
+  public void persist(final Comment comment, final CommentAggregate commentAggregate) {
+
+    em.persist(comment);
+    em.persist(commentAggregate);
+  }
+
   @Override
   public List<Comment> allCommentsBySearchCriteria(CommentSearchCriteria commentSearchCriteria) {
 
@@ -34,6 +43,11 @@ public class CommentRepositoryImpl implements CommentRepositorySearch {
     final CriteriaQuery<Comment> cq = cb.createQuery(Comment.class);
 
     final Root<Comment> commentTable = cq.from(Comment.class);
+    // Fetched so building the comment views does not load them with a query per comment
+    commentTable.fetch("commentAggregate", JoinType.LEFT);
+    commentTable.fetch("person", JoinType.INNER);
+    commentTable.fetch("post", JoinType.INNER);
+    commentTable.fetch("community", JoinType.INNER);
 
     final List<Predicate> predicates = new ArrayList<>();
     // Post
@@ -132,4 +146,59 @@ public class CommentRepositoryImpl implements CommentRepositorySearch {
 
     return em.createQuery(cq).getResultList();
   }
+
+  @Override
+  public List<Long> updateRemovedStateOfChunkByPerson(final Person person,
+      @Nullable final Community community, final RemovedState fromRemovedState,
+      final RemovedState toRemovedState, final int chunkSize) {
+
+    final Query query = em.createNativeQuery("""
+        UPDATE comments
+        SET removed_state = :toRemovedState
+        WHERE id IN (SELECT id
+                     FROM comments
+                     WHERE person_id = :personId
+                       AND removed_state = :fromRemovedState
+                       %s
+                     ORDER BY id
+                     LIMIT :chunkSize)
+        RETURNING id
+        """.formatted(community == null ? "" : "AND community_id = :communityId"));
+    query.setParameter("personId", person.getId());
+    query.setParameter("fromRemovedState", fromRemovedState.name());
+    query.setParameter("toRemovedState", toRemovedState.name());
+    query.setParameter("chunkSize", chunkSize);
+    if (community != null) {
+      query.setParameter("communityId", community.getId());
+    }
+    return ids(query.getResultList());
+  }
+
+  @Override
+  public List<Long> purgeChunkByPerson(final Person person, final String commentBody,
+      final int chunkSize) {
+
+    final Query query = em.createNativeQuery("""
+        UPDATE comments
+        SET comment_body  = :commentBody,
+            removed_state = :purged
+        WHERE id IN (SELECT id
+                     FROM comments
+                     WHERE person_id = :personId
+                       AND removed_state IS DISTINCT FROM :purged
+                     ORDER BY id
+                     LIMIT :chunkSize)
+        RETURNING id
+        """);
+    query.setParameter("personId", person.getId());
+    query.setParameter("commentBody", commentBody);
+    query.setParameter("purged", RemovedState.PURGED.name());
+    query.setParameter("chunkSize", chunkSize);
+    return ids(query.getResultList());
+  }
+
+  private static List<Long> ids(final List<?> rows) {
+
+    return rows.stream().map(row -> ((Number) row).longValue()).toList();
+  }
 }
@@ -1,10 +1,12 @@
 package com.sublinks.sublinksapi.comment.repositories;
 
 import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
 import com.sublinks.sublinksapi.comment.models.CommentSearchCriteria;
 import com.sublinks.sublinksapi.community.entities.Community;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.shared.RemovedState;
+import jakarta.annotation.Nullable;
 import java.util.List;
 
 public interface CommentRepositorySearch {
@@ -15,4 +17,28 @@ public interface CommentRepositorySearch {
 
   List<Comment> allCommentsByCommunityAndPersonAndRemoved(Community community, Person person,
       List<RemovedState> removedStates);
+
+  /**
+   * Queues the inserts of a new comment and its aggregate whose ids were assigned up front. Unlike
+   * save, this does not look the ids up first, and the inserts are batched with the others of the
+   * transaction.
+   */
+  void persist(Comment comment, CommentAggregate commentAggregate);
+
+  /**
+   * Moves at most chunkSize comments of a person from one removed state to another, optionally
+   * only in one community. Updated comments no longer match, so calling it until it returns fewer
+   * ids than chunkSize covers every comment.
+   *
+   * @return The ids of the updated comments.
+   */
+  List<Long> updateRemovedStateOfChunkByPerson(Person person, @Nullable Community community,
+      RemovedState fromRemovedState, RemovedState toRemovedState, int chunkSize);
+
+  /**
+   * Purges at most chunkSize comments of a person that are not purged yet, replacing their body.
+   *
+   * @return The ids of the purged comments.
+   */
+  List<Long> purgeChunkByPerson(Person person, String commentBody, int chunkSize);
 }
@@ -0,0 +1,42 @@
+package com.sublinks.sublinksapi.comment.scheduling;
+
+import com.sublinks.sublinksapi.comment.services.CommentVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class CommentVoteFlushScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(CommentVoteFlushScheduler.class);
+
+  private final CommentVoteAccumulatorService commentVoteAccumulatorService;
+
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${sublinks.settings.vote_flush.rate}", timeUnit = TimeUnit.SECONDS)
+  public void flushCommentVotes() {
+
+    final Map<Long, VoteDelta> votes = commentVoteAccumulatorService.drainVotes();
+    if (votes.isEmpty()) {
+      return;
+    }
+    try {
+      commentVoteAccumulatorService.applyVotes(votes);
+      commentVoteAccumulatorService.completeVotes(votes);
+    } catch (RuntimeException e) {
+      logger.error("Could not flush votes of {} comments, retrying on the next run", votes.size(), e);
+      commentVoteAccumulatorService.restoreVotes(votes);
+    }
+  }
+}
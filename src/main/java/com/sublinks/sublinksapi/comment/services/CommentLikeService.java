@@ -8,6 +8,7 @@ import com.sublinks.sublinksapi.comment.events.CommentLikeUpdatedPublisher;
 import com.sublinks.sublinksapi.comment.models.CommentLikeSearchCriteria;
 import com.sublinks.sublinksapi.comment.repositories.CommentLikeRepository;
 import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.utils.models.VoteUpsertResult;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class CommentLikeService {
 
+  private static final int MAX_UPSERT_ATTEMPTS = 3;
+
   private final CommentLikeRepository commentLikeRepository;
   private final CommentLikeCreatedPublisher commentLikeCreatedPublisher;
   private final CommentLikeUpdatedPublisher commentLikeUpdatedPublisher;
@@ -96,36 +99,43 @@ public class CommentLikeService {
 
   }
 
-  @NonNull
+  /**
+   * Writes the vote with a single upsert and publishes the created or updated event. The
+   * transition comes from the score the locked row had before, so the vote is never read first.
+   * The upsert runs again if another transaction created the vote first, it then sees that vote.
+   */
   private void updateOrCreateCommentLike(final Comment comment, final Person person,
       final int score) {
 
-    final Optional<CommentLike> commentLike = getCommentLike(comment, person);
-    if (commentLike.isEmpty()) {
-      createCommentLike(comment, person, score);
-    } else {
-      updateCommentLike(commentLike.get(), score);
+    VoteUpsertResult result = null;
+    for (int attempt = 0; result == null; attempt++) {
+      if (attempt == MAX_UPSERT_ATTEMPTS) {
+        throw new IllegalStateException("Could not write the vote on comment " + comment.getId());
+      }
+      result = commentLikeRepository.upsertCommentLike(comment.getId(),
+          comment.getPost().getId(), person.getId(), score);
     }
+    final CommentLike commentLike = CommentLike.builder().id(result.getId()).comment(comment)
+        .post(comment.getPost()).person(person).isUpVote(score == 1).isDownVote(score == -1)
+        .score(score).build();
+    if (result.isInserted()) {
+      commentLikeCreatedPublisher.publish(commentLike);
+      return;
+    }
+    commentLikeUpdatedPublisher.publish(commentLike, getAction(result.getPreviousScore(), score));
   }
 
-  private void createCommentLike(final Comment comment, final Person person, final int score) {
-
-    final CommentLike commentLike = CommentLike.builder().comment(comment).post(comment.getPost())
-        .person(person).isUpVote(score == 1).isDownVote(score == -1).score(score).build();
-    commentLikeRepository.save(commentLike);
-    commentLikeCreatedPublisher.publish(commentLike);
-  }
-
-  private void updateCommentLike(final CommentLike commentLike, final int score) {
+  private static CommentLikeUpdatedEvent.Action getAction(final int previousScore,
+      final int score) {
 
     CommentLikeUpdatedEvent.Action action = CommentLikeUpdatedEvent.Action.NO_CHANGE;
-    if (commentLike.isUpVote()) {
+    if (previousScore == 1) {
       if (score == -1) {
         action = CommentLikeUpdatedEvent.Action.FROM_UP_TO_DOWN;
       } else if (score == 0) {
         action = CommentLikeUpdatedEvent.Action.FROM_UP_TO_NEUTRAL;
       }
-    } else if (commentLike.isDownVote()) {
+    } else if (previousScore == -1) {
       if (score == 1) {
         action = CommentLikeUpdatedEvent.Action.FROM_DOWN_TO_UP;
       } else if (score == 0) {
@@ -138,11 +148,6 @@ public class CommentLikeService {
         action = CommentLikeUpdatedEvent.Action.FROM_NEUTRAL_TO_DOWN;
       }
     }
-
-    commentLike.setUpVote(score == 1);
-    commentLike.setDownVote(score == -1);
-    commentLike.setScore(score);
-    commentLikeRepository.save(commentLike);
-    commentLikeUpdatedPublisher.publish(commentLike, action);
+    return action;
   }
 }
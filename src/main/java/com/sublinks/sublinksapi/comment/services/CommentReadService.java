@@ -4,7 +4,11 @@ import com.sublinks.sublinksapi.comment.entities.Comment;
 import com.sublinks.sublinksapi.comment.entities.CommentRead;
 import com.sublinks.sublinksapi.comment.repositories.CommentReadRepository;
 import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -34,4 +38,28 @@ public class CommentReadService {
       commentReadRepository.save(commentRead);
     }
   }
+
+  /**
+   * Marks a page of comments as read by a specific person, looking up the existing reads with a
+   * single query and saving only the missing ones.
+   *
+   * @param comments The comments that are being marked as read.
+   * @param person   The person who has read the comments.
+   */
+  public void markCommentsReadByPerson(Collection<Comment> comments, Person person) {
+
+    if (comments.isEmpty()) {
+      return;
+    }
+    final Set<Long> readCommentIds = new HashSet<>();
+    for (CommentRead commentRead : commentReadRepository.findAllByPersonAndCommentIn(person,
+        comments)) {
+      readCommentIds.add(commentRead.getComment().getId());
+    }
+    final List<CommentRead> commentReads = comments.stream()
+        .filter(comment -> readCommentIds.add(comment.getId()))
+        .map(comment -> CommentRead.builder().comment(comment).person(person).build())
+        .toList();
+    commentReadRepository.saveAll(commentReads);
+  }
 }
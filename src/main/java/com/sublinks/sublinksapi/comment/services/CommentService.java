@@ -2,15 +2,18 @@ package com.sublinks.sublinksapi.comment.services;
 
 import com.sublinks.sublinksapi.comment.entities.Comment;
 import com.sublinks.sublinksapi.comment.entities.CommentAggregate;
+import com.sublinks.sublinksapi.comment.events.CommentBatchUpdatedPublisher;
 import com.sublinks.sublinksapi.comment.events.CommentCreatedPublisher;
 import com.sublinks.sublinksapi.comment.events.CommentDeletedPublisher;
 import com.sublinks.sublinksapi.comment.events.CommentUpdatedPublisher;
-import com.sublinks.sublinksapi.comment.repositories.CommentAggregateRepository;
 import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
 import com.sublinks.sublinksapi.community.entities.Community;
 import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
+import com.sublinks.sublinksapi.moderation.models.BulkOperationProgress;
+import com.sublinks.sublinksapi.moderation.services.BulkOperationService;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.shared.RemovedState;
+import com.sublinks.sublinksapi.utils.SequenceIdAllocator;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
@@ -24,12 +27,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentService {
 
   private static final org.slf4j.Logger logger = LoggerFactory.getLogger(CommentService.class);
-  private final CommentAggregateRepository commentAggregateRepository;
+  private static final String COMMENTS_ID_SEQUENCE = "comments_id_seq";
   private final CommentRepository commentRepository;
   private final CommentCreatedPublisher commentCreatedPublisher;
   private final CommentUpdatedPublisher commentUpdatedPublisher;
   private final CommentDeletedPublisher commentDeletedPublisher;
   private final LocalInstanceContext localInstanceContext;
+  private final SequenceIdAllocator sequenceIdAllocator;
+  private final BulkOperationService bulkOperationService;
+  private final CommentBatchUpdatedPublisher commentBatchUpdatedPublisher;
 
   /**
    * Generates an ActivityPub ID for a given comment.
@@ -73,19 +79,11 @@ public class CommentService {
   @Transactional
   public void createComment(final Comment comment) {
 
+    comment.setId(sequenceIdAllocator.nextId(COMMENTS_ID_SEQUENCE));
     if (comment.getPath() == null || comment.getPath().isBlank()) {
-      commentRepository.saveAndFlush(comment);
       comment.setPath(String.format("0.%d", comment.getId()));
     }
-    comment.setActivityPubId(generateActivityPubId(comment));
-    commentRepository.save(comment);
-
-    CommentAggregate commentAggregate = CommentAggregate.builder().comment(comment).build();
-    commentAggregateRepository.save(commentAggregate);
-    comment.setCommentAggregate(commentAggregate);
-    commentRepository.save(comment);
-
-    commentCreatedPublisher.publish(comment);
+    insertComment(comment);
   }
 
   /**
@@ -97,9 +95,28 @@ public class CommentService {
   @Transactional
   public void createComment(final Comment comment, final Comment parent) {
 
-    commentRepository.saveAndFlush(comment);
+    comment.setId(sequenceIdAllocator.nextId(COMMENTS_ID_SEQUENCE));
     comment.setPath(String.format("%s.%d", parent.getPath(), comment.getId()));
-    createComment(comment);
+    insertComment(comment);
+  }
+
+  /**
+   * Inserts a comment with its id and path already set. The ActivityPub id and the aggregate, which
+   * shares the comment's id, are filled in before the insert, so the comment and its aggregate are
+   * written with one insert each when the transaction flushes.
+   */
+  private void insertComment(final Comment comment) {
+
+    comment.setActivityPubId(generateActivityPubId(comment));
+
+    final CommentAggregate commentAggregate = CommentAggregate.builder()
+        .id(comment.getId())
+        .comment(comment)
+        .build();
+    commentRepository.persist(comment, commentAggregate);
+    comment.setCommentAggregate(commentAggregate);
+
+    commentCreatedPublisher.publish(comment);
   }
 
   /**
@@ -135,18 +152,34 @@ public class CommentService {
     return updatedComment;
   }
 
-  public List<Comment> deleteAllCommentsByPerson(final Person person) {
+  /**
+   * Purges every comment of a person, chunk by chunk.
+   *
+   * @param person The person whose comments are purged.
+   * @return The progress after the last chunk.
+   */
+  public BulkOperationProgress deleteAllCommentsByPerson(final Person person) {
 
-    List<Comment> comments = commentRepository.findByPerson(person);
+    return bulkOperationService.run("Purge comments of person %d".formatted(person.getId()),
+        chunkSize -> deleteCommentsByPersonChunk(person, chunkSize));
+  }
 
-    comments.forEach(comment -> {
-      comment.setCommentBody("*Permanently deleted by creator*");
-      comment.setRemovedState(RemovedState.PURGED);
-      commentRepository.save(comment);
-      this.softDeleteComment(comment);
-    });
+  /**
+   * Purges at most chunkSize comments of a person and publishes them as one batch.
+   *
+   * @param person    The person whose comments are purged.
+   * @param chunkSize The maximum number of comments to purge.
+   * @return The ids of the purged comments, fewer than chunkSize once none are left.
+   */
+  @Transactional
+  public List<Long> deleteCommentsByPersonChunk(final Person person, final int chunkSize) {
 
-    return comments;
+    final List<Long> commentIds = commentRepository.purgeChunkByPerson(person,
+        "*Permanently deleted by creator*", chunkSize);
+    if (!commentIds.isEmpty()) {
+      commentBatchUpdatedPublisher.publish(commentIds);
+    }
+    return commentIds;
   }
 
   /**
@@ -173,41 +206,46 @@ public class CommentService {
   }
 
   /**
-   * Removes all comments made by a specific user in a specific community.
+   * Removes all comments made by a specific user in a specific community, chunk by chunk.
    *
    * @param community The community from which comments are to be removed.
    * @param person    The user whose comments are to be removed.
    * @param removed   Boolean flag indicating whether the comments should be marked as removed.
+   * @return The progress after the last chunk.
    */
-  @Transactional
-  public void removeAllCommentsFromCommunityAndUser(final Community community, final Person person,
-      final boolean removed) {
-
-    commentRepository.allCommentsByCommunityAndPersonAndRemoved(community, person,
-            List.of(removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_COMMUNITY))
-        .forEach(comment -> {
-          comment.setRemovedState(
-              removed ? RemovedState.REMOVED_BY_COMMUNITY : RemovedState.NOT_REMOVED);
-          commentRepository.save(comment);
-        });
+  public BulkOperationProgress removeAllCommentsFromCommunityAndUser(final Community community,
+      final Person person, final boolean removed) {
+
+    final RemovedState fromRemovedState =
+        removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_COMMUNITY;
+    final RemovedState toRemovedState =
+        removed ? RemovedState.REMOVED_BY_COMMUNITY : RemovedState.NOT_REMOVED;
+    return bulkOperationService.run(
+        "%s comments of person %d in community %d".formatted(removed ? "Remove" : "Restore",
+            person.getId(), community.getId()),
+        chunkSize -> commentRepository.updateRemovedStateOfChunkByPerson(person, community,
+            fromRemovedState, toRemovedState, chunkSize),
+        commentBatchUpdatedPublisher::publish);
   }
 
   /**
-   * Removes all comments made by a specific user.
+   * Removes all comments made by a specific user, chunk by chunk.
    *
    * @param person  The user whose comments are to be removed.
    * @param removed Boolean flag indicating whether the comments should be marked as removed.
+   * @return The progress after the last chunk.
    */
-  @Transactional
-  public void removeAllCommentsFromUser(final Person person, final boolean removed) {
-
-    commentRepository.allCommentsByPersonAndRemoved(person,
-            List.of(removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_INSTANCE))
-        .forEach(comment -> {
-          comment.setRemovedState(
-              removed ? RemovedState.REMOVED_BY_INSTANCE : RemovedState.NOT_REMOVED);
-          commentRepository.save(comment);
-        });
-  }
+  public BulkOperationProgress removeAllCommentsFromUser(final Person person,
+      final boolean removed) {
 
+    final RemovedState fromRemovedState =
+        removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_INSTANCE;
+    final RemovedState toRemovedState =
+        removed ? RemovedState.REMOVED_BY_INSTANCE : RemovedState.NOT_REMOVED;
+    return bulkOperationService.run(
+        "%s comments of person %d".formatted(removed ? "Remove" : "Restore", person.getId()),
+        chunkSize -> commentRepository.updateRemovedStateOfChunkByPerson(person, null,
+            fromRemovedState, toRemovedState, chunkSize),
+        commentBatchUpdatedPublisher::publish);
+  }
 }
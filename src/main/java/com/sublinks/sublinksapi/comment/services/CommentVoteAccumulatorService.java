@@ -0,0 +1,95 @@
+package com.sublinks.sublinksapi.comment.services;
+
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.events.CommentVotesAppliedPublisher;
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
+import com.sublinks.sublinksapi.comment.repositories.CommentAggregateRepository;
+import com.sublinks.sublinksapi.utils.VoteDeltaAccumulator;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps comment vote counts in memory and writes them to comment_aggregates in batches, so votes
+ * on a busy comment do not queue up on its aggregate row or overwrite each other.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentVoteAccumulatorService {
+
+  private final CommentAggregateRepository commentAggregateRepository;
+  private final CommentVotesAppliedPublisher commentVotesAppliedPublisher;
+  private final VoteDeltaAccumulator voteDeltaAccumulator = new VoteDeltaAccumulator();
+
+  /**
+   * Records a vote change right away so the voter sees it, and takes it back if the transaction
+   * that made it rolls back.
+   *
+   * @param comment   The voted on comment.
+   * @param voteDelta The change to its counts.
+   */
+  public void addVote(final Comment comment, final VoteDelta voteDelta) {
+
+    final Long commentId = comment.getId();
+    voteDeltaAccumulator.add(commentId, voteDelta);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(final int status) {
+
+        if (status != STATUS_COMMITTED) {
+          voteDeltaAccumulator.add(commentId, voteDelta.negate());
+        }
+      }
+    });
+  }
+
+  public VoteDelta getPendingVotes(final Long commentId) {
+
+    return voteDeltaAccumulator.pending(commentId);
+  }
+
+  public Map<Long, VoteDelta> drainVotes() {
+
+    return voteDeltaAccumulator.drain();
+  }
+
+  /**
+   * Adds drained deltas to the aggregate counts with relative updates, then publishes the new
+   * counts the updates returned.
+   *
+   * @param votes The deltas by comment id.
+   */
+  @Transactional
+  public void applyVotes(final Map<Long, VoteDelta> votes) {
+
+    final List<CommentVoteCounts> commentVoteCounts = new ArrayList<>(votes.size());
+    votes.forEach((commentId, voteDelta) -> {
+      final CommentVoteCounts counts = commentAggregateRepository.addVotes(commentId,
+          voteDelta.score(), voteDelta.upVotes(), voteDelta.downVotes());
+      if (counts != null) {
+        commentVoteCounts.add(counts);
+      }
+    });
+
+    commentVotesAppliedPublisher.publish(commentVoteCounts);
+  }
+
+  public void completeVotes(final Map<Long, VoteDelta> votes) {
+
+    voteDeltaAccumulator.complete(votes);
+  }
+
+  public void restoreVotes(final Map<Long, VoteDelta> votes) {
+
+    voteDeltaAccumulator.restore(votes);
+  }
+}
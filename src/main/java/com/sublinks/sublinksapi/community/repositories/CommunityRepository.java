@@ -1,7 +1,11 @@
 package com.sublinks.sublinksapi.community.repositories;
 
 import com.sublinks.sublinksapi.community.entities.Community;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityRepository extends JpaRepository<Community, Long>,
     CommunitySearchRepository {
@@ -11,4 +15,11 @@ public interface CommunityRepository extends JpaRepository<Community, Long>,
   Community findCommunityByIsLocalTrueAndTitleSlug(String titleSlug);
 
   Community findCommunityByTitleSlug(String titleSlug);
+
+  /**
+   * Finds communities with their aggregates, which would otherwise be loaded with a query per
+   * community.
+   */
+  @Query("SELECT c FROM Community c LEFT JOIN FETCH c.communityAggregate WHERE c.id IN :ids")
+  List<Community> findAllWithAggregatesByIdIn(@Param("ids") Collection<Long> ids);
 }
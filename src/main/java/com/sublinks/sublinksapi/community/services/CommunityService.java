@@ -6,8 +6,8 @@ import com.sublinks.sublinksapi.community.events.CommunityCreatedPublisher;
 import com.sublinks.sublinksapi.community.repositories.CommunityAggregateRepository;
 import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
 import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
-import com.sublinks.sublinksapi.utils.KeyGeneratorUtil;
 import com.sublinks.sublinksapi.utils.KeyStore;
+import com.sublinks.sublinksapi.utils.KeyStorePool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,12 +18,12 @@ public class CommunityService {
   private final CommunityRepository communityRepository;
   private final CommunityAggregateRepository communityAggregateRepository;
   private final CommunityCreatedPublisher communityCreatedPublisher;
-  private final KeyGeneratorUtil keyGeneratorUtil;
+  private final KeyStorePool keyStorePool;
   private final LocalInstanceContext localInstanceContext;
 
   public void createCommunity(Community community) {
 
-    KeyStore keys = keyGeneratorUtil.generate();
+    KeyStore keys = keyStorePool.take();
     community.setPrivateKey(keys.privateKey());
     community.setPublicKey(keys.publicKey());
     community.setActivityPubId(
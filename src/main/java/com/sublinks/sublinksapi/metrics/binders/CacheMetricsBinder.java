@@ -0,0 +1,54 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPrincipalCache;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtUtil;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.services.LemmyPostResponseCache;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hits, misses and evictions of the in-memory caches, under the names Micrometer uses for Spring
+ * caches so the usual cache dashboards work.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+  private final JwtUtil jwtUtil;
+  private final JwtPrincipalCache jwtPrincipalCache;
+  private final LemmyPostResponseCache lemmyPostResponseCache;
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    bindCache(registry, "jwt_verified_tokens", jwtUtil::getVerifiedTokenStats);
+    bindCache(registry, "jwt_principals", jwtPrincipalCache::getStats);
+    bindCache(registry, "post_listings", lemmyPostResponseCache::getListingStats);
+    bindCache(registry, "posts", lemmyPostResponseCache::getPostStats);
+    bindCache(registry, "unread_counts", personUnreadCountService::getStats);
+  }
+
+  private static void bindCache(final MeterRegistry registry, final String cache,
+      final Supplier<CacheStats> stats) {
+
+    FunctionCounter.builder("cache.gets", stats, s -> s.get().hitCount())
+        .tag("cache", cache)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", stats, s -> s.get().missCount())
+        .tag("cache", cache)
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", stats, s -> s.get().evictionCount())
+        .tag("cache", cache)
+        .register(registry);
+  }
+}
@@ -0,0 +1,41 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.stream.services.EventStreamService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Open event stream connections and the events written to them.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventStreamMetricsBinder implements MeterBinder {
+
+  private final EventStreamService eventStreamService;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    Gauge.builder("sublinks.event_stream.connections", eventStreamService,
+            EventStreamService::getConnectionCount)
+        .register(registry);
+    Gauge.builder("sublinks.event_stream.topics", eventStreamService,
+            EventStreamService::getTopicCount)
+        .register(registry);
+    FunctionCounter.builder("sublinks.event_stream.published", eventStreamService,
+            EventStreamService::getPublishedCount)
+        .register(registry);
+    FunctionCounter.builder("sublinks.event_stream.written", eventStreamService,
+            EventStreamService::getWrittenCount)
+        .register(registry);
+    FunctionCounter.builder("sublinks.event_stream.rejected", eventStreamService,
+            EventStreamService::getRejectedCount)
+        .description("Connections refused because the instance held too many")
+        .register(registry);
+  }
+}
@@ -0,0 +1,46 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.sublinks.sublinksapi.utils.KeyStorePool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Depth of the pregenerated key pair pool, and how often a request had to generate its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeyStorePoolMetricsBinder implements MeterBinder {
+
+  private final KeyStorePool keyStorePool;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    Gauge.builder("sublinks.key_pool.depth", keyStorePool, KeyStorePool::getDepth)
+        .description("Key pairs ready in the pool")
+        .register(registry);
+    Gauge.builder("sublinks.key_pool.capacity", keyStorePool, KeyStorePool::getCapacity)
+        .register(registry);
+    FunctionCounter.builder("sublinks.key_pool.takes", keyStorePool,
+            KeyStorePool::getPooledCount)
+        .tag("source", "pool")
+        .register(registry);
+    FunctionCounter.builder("sublinks.key_pool.takes", keyStorePool,
+            KeyStorePool::getFallbackCount)
+        .tag("source", "generated")
+        .register(registry);
+    FunctionCounter.builder("sublinks.key_pool.refills", keyStorePool,
+            KeyStorePool::getRefillCount)
+        .register(registry);
+    FunctionCounter.builder("sublinks.key_pool.refill.time", keyStorePool,
+            pool -> pool.getRefillNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+        .baseUnit("seconds")
+        .register(registry);
+  }
+}
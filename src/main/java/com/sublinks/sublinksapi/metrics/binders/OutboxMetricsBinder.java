@@ -0,0 +1,52 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.sublinks.sublinksapi.outbox.services.OutboxDispatcher;
+import com.sublinks.sublinksapi.outbox.services.OutboxService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backlog and delivery of the outbox. The backlog gauges query the database on every scrape.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxMetricsBinder implements MeterBinder {
+
+  private final OutboxService outboxService;
+  private final OutboxDispatcher outboxDispatcher;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    Gauge.builder("sublinks.outbox.events", outboxService, OutboxService::getPendingCount)
+        .tag("status", "pending")
+        .register(registry);
+    Gauge.builder("sublinks.outbox.events", outboxService, OutboxService::getFailedCount)
+        .tag("status", "failed")
+        .register(registry);
+    Gauge.builder("sublinks.outbox.oldest_pending_age", outboxService,
+            service -> service.getOldestPendingAge() / 1000.0)
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder("sublinks.outbox.busy_workers", outboxDispatcher,
+            OutboxDispatcher::getBusyWorkers)
+        .register(registry);
+    FunctionCounter.builder("sublinks.outbox.dispatched", outboxDispatcher,
+            OutboxDispatcher::getDeliveredCount)
+        .tag("result", "delivered")
+        .register(registry);
+    FunctionCounter.builder("sublinks.outbox.dispatched", outboxDispatcher,
+            OutboxDispatcher::getRetriedCount)
+        .tag("result", "retried")
+        .register(registry);
+    FunctionCounter.builder("sublinks.outbox.dispatched", outboxDispatcher,
+            OutboxDispatcher::getFailedCount)
+        .tag("result", "failed")
+        .register(registry);
+  }
+}
@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.sublinks.sublinksapi.moderation.services.PurgeJobRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Whether a purge job is running, a long running one holds its worker.
+ */
+@Component
+@RequiredArgsConstructor
+public class PurgeJobMetricsBinder implements MeterBinder {
+
+  private final PurgeJobRunner purgeJobRunner;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    Gauge.builder("sublinks.purge_jobs.running", purgeJobRunner,
+            runner -> runner.isRunning() ? 1 : 0)
+        .register(registry);
+  }
+}
@@ -0,0 +1,31 @@
+package com.sublinks.sublinksapi.metrics.binders;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services.RateLimitService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calls refused by the rate limits and the number of clients being tracked.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitMetricsBinder implements MeterBinder {
+
+  private final RateLimitService rateLimitService;
+
+  @Override
+  public void bindTo(@NonNull final MeterRegistry registry) {
+
+    Gauge.builder("sublinks.rate_limit.buckets", rateLimitService,
+            RateLimitService::getBucketCount)
+        .register(registry);
+    FunctionCounter.builder("sublinks.rate_limit.rejected", rateLimitService,
+            RateLimitService::getRejectedCount)
+        .register(registry);
+  }
+}
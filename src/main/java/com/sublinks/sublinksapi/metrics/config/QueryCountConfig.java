@@ -0,0 +1,13 @@
+package com.sublinks.sublinksapi.metrics.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class QueryCountConfig {
+
+  @Value("${sublinks.settings.query_count.warn_threshold}")
+  private int warnThreshold;
+}
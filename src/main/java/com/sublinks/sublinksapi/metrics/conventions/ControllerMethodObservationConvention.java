@@ -0,0 +1,41 @@
+package com.sublinks.sublinksapi.metrics.conventions;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tags request metrics with the controller method that handled them, like PostController.index, so
+ * latencies can be told apart for endpoints sharing a path.
+ */
+@Component
+public class ControllerMethodObservationConvention extends
+    DefaultServerRequestObservationConvention {
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(final ServerRequestObservationContext context) {
+
+    return super.getLowCardinalityKeyValues(context)
+        .and(KeyValue.of("handler", getHandlerName(context.getCarrier())));
+  }
+
+  /**
+   * @param request The request, once it was mapped to a handler.
+   * @return The controller and method that handled it, or none.
+   */
+  public static String getHandlerName(@Nullable final HttpServletRequest request) {
+
+    if (request != null && request.getAttribute(
+        HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+      return handlerMethod.getBeanType().getSimpleName() + "."
+          + handlerMethod.getMethod().getName();
+    }
+    return "none";
+  }
+}
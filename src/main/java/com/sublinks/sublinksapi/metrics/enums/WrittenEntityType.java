@@ -0,0 +1,15 @@
+package com.sublinks.sublinksapi.metrics.enums;
+
+public enum WrittenEntityType {
+  POST("post"),
+  COMMENT("comment"),
+  POST_VOTE("post_vote"),
+  COMMENT_VOTE("comment_vote");
+
+  public final String tag;
+
+  WrittenEntityType(final String tag) {
+
+    this.tag = tag;
+  }
+}
@@ -0,0 +1,93 @@
+package com.sublinks.sublinksapi.metrics.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Delivers application events like the default multicaster, on the publishing thread, and times
+ * every listener. Listeners run inside the transaction of the publisher, so a slow one shows up as
+ * a slow request. Timing starts once every singleton is created, events published while the
+ * context starts are not timed.
+ */
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+public class TimedApplicationEventMulticaster extends SimpleApplicationEventMulticaster implements
+    SmartInitializingSingleton {
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+  private volatile MeterRegistry meterRegistry;
+
+  public TimedApplicationEventMulticaster(
+      final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+    this.meterRegistryProvider = meterRegistryProvider;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+
+    meterRegistry = meterRegistryProvider.getIfAvailable();
+  }
+
+  /**
+   * Names a listener for its timer. Every {@code @EventListener} method is invoked through the
+   * same adapter class, so those are named by their declaring class and method instead, like
+   * controller handlers are.
+   *
+   * @param listener The listener.
+   * @return The simple class name, or the class and method name of a listener method.
+   */
+  static String listenerName(final ApplicationListener<?> listener) {
+
+    if (listener instanceof SmartApplicationListener smartApplicationListener) {
+      final String listenerId = smartApplicationListener.getListenerId();
+      if (!listenerId.isEmpty()) {
+        final int parameters = listenerId.indexOf('(');
+        final String qualifiedName =
+            parameters < 0 ? listenerId : listenerId.substring(0, parameters);
+        final int methodDot = qualifiedName.lastIndexOf('.');
+        if (methodDot <= 0) {
+          return qualifiedName;
+        }
+        final int classStart = Math.max(qualifiedName.lastIndexOf('.', methodDot - 1),
+            qualifiedName.lastIndexOf('$', methodDot - 1));
+        return qualifiedName.substring(classStart + 1);
+      }
+    }
+    return ClassUtils.getUserClass(listener).getSimpleName();
+  }
+
+  @Override
+  protected void invokeListener(final ApplicationListener<?> listener,
+      final ApplicationEvent event) {
+
+    final MeterRegistry registry = meterRegistry;
+    if (registry == null) {
+      super.invokeListener(listener, event);
+      return;
+    }
+    final Timer.Sample sample = Timer.start(registry);
+    String exception = "none";
+    try {
+      super.invokeListener(listener, event);
+    } catch (RuntimeException | Error e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(Timer.builder("sublinks.events.listener")
+          .description("Time spent in application event listeners")
+          .tag("listener", listenerName(listener))
+          .tag("event", event.getClass().getSimpleName())
+          .tag("exception", exception)
+          .register(registry));
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.comment.events.CommentCreatedEvent;
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCreatedForMetricsListener implements ApplicationListener<CommentCreatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentCreatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.COMMENT);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.comment.events.CommentLikeCreatedEvent;
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCreatedForMetricsListener implements
+    ApplicationListener<CommentLikeCreatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentLikeCreatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.COMMENT_VOTE);
+  }
+}
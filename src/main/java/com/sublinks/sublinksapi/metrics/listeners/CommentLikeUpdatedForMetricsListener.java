@@ -0,0 +1,23 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.comment.events.CommentLikeUpdatedEvent;
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentLikeUpdatedForMetricsListener implements
+    ApplicationListener<CommentLikeUpdatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull CommentLikeUpdatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.COMMENT_VOTE);
+  }
+}
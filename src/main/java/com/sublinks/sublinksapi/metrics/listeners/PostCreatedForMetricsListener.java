@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import com.sublinks.sublinksapi.post.events.PostCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostCreatedForMetricsListener implements ApplicationListener<PostCreatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostCreatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.POST);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import com.sublinks.sublinksapi.post.events.PostLikeCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostLikeCreatedForMetricsListener implements
+    ApplicationListener<PostLikeCreatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostLikeCreatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.POST_VOTE);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sublinks.sublinksapi.metrics.listeners;
+
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import com.sublinks.sublinksapi.metrics.services.WriteMetricsService;
+import com.sublinks.sublinksapi.post.events.PostLikeUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostLikeUpdatedForMetricsListener implements
+    ApplicationListener<PostLikeUpdatedEvent> {
+
+  private final WriteMetricsService writeMetricsService;
+
+  @Override
+  public void onApplicationEvent(@NonNull PostLikeUpdatedEvent event) {
+
+    writeMetricsService.increment(WrittenEntityType.POST_VOTE);
+  }
+}
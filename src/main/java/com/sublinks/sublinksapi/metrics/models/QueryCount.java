@@ -0,0 +1,48 @@
+package com.sublinks.sublinksapi.metrics.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SQL statements run by one thread while it was being counted, like during one request.
+ */
+public class QueryCount {
+
+  private final Map<String, Integer> statements = new HashMap<>();
+  private int count;
+
+  public void record(final String sql) {
+
+    count++;
+    statements.merge(sql, 1, Integer::sum);
+  }
+
+  public int getCount() {
+
+    return count;
+  }
+
+  /**
+   * @param prefix The start of the statements, like "insert into comments ".
+   * @return The number of statements run that start with the prefix.
+   */
+  public int getCount(final String prefix) {
+
+    return statements.entrySet().stream()
+        .filter(statement -> statement.getKey().startsWith(prefix))
+        .mapToInt(Map.Entry::getValue)
+        .sum();
+  }
+
+  /**
+   * The statement run the most times, usually the one an N+1 pattern repeats.
+   *
+   * @return The statement and how many times it ran, or null if none ran.
+   */
+  public Map.Entry<String, Integer> getMostRepeated() {
+
+    return statements.entrySet().stream()
+        .max(Map.Entry.comparingByValue())
+        .orElse(null);
+  }
+}
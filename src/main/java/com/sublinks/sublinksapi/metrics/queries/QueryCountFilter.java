@@ -0,0 +1,74 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import com.sublinks.sublinksapi.metrics.config.QueryCountConfig;
+import com.sublinks.sublinksapi.metrics.conventions.ControllerMethodObservationConvention;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Counts the SQL statements of every request, authentication included, into the
+ * sublinks.http.queries summary by controller method, and logs requests running more than the
+ * warn threshold along with the statement they repeated the most.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+  private final MeterRegistry meterRegistry;
+  private final QueryCountConfig queryCountConfig;
+
+  @Override
+  protected void doFilterInternal(final HttpServletRequest request,
+      final HttpServletResponse response, final FilterChain filterChain)
+      throws ServletException, IOException {
+
+    final boolean owner = QueryCounter.start();
+    final QueryCount queryCount = QueryCounter.get();
+    final int before = queryCount.getCount();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      final int queries = queryCount.getCount() - before;
+      if (owner) {
+        QueryCounter.stop();
+      }
+      record(request, queryCount, queries);
+    }
+  }
+
+  private void record(final HttpServletRequest request, final QueryCount queryCount,
+      final int queries) {
+
+    final String handler = ControllerMethodObservationConvention.getHandlerName(request);
+    DistributionSummary.builder("sublinks.http.queries")
+        .description("SQL statements run per request")
+        .tag("handler", handler)
+        .register(meterRegistry)
+        .record(queries);
+
+    final int warnThreshold = queryCountConfig.getWarnThreshold();
+    if (warnThreshold > 0 && queries > warnThreshold) {
+      final Map.Entry<String, Integer> mostRepeated = queryCount.getMostRepeated();
+      logger.warn("{} {} ({}) ran {} queries, {} times: {}", request.getMethod(),
+          request.getRequestURI(), handler, queries, mostRepeated.getValue(),
+          mostRepeated.getKey());
+    }
+  }
+}
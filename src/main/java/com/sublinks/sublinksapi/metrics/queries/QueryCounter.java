@@ -0,0 +1,59 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, between {@link #start()} and
+ * {@link #stop()}. Statements of threads that are not being counted cost a thread local lookup.
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<QueryCount> current = new ThreadLocal<>();
+
+  private QueryCounter() {
+
+  }
+
+  /**
+   * Starts counting on the current thread, unless it already is.
+   *
+   * @return True if counting started, false if an outer caller is counting already and owns the
+   * count.
+   */
+  public static boolean start() {
+
+    if (current.get() != null) {
+      return false;
+    }
+    current.set(new QueryCount());
+    return true;
+  }
+
+  /**
+   * @return The count of the current thread, or null if it is not being counted.
+   */
+  public static QueryCount get() {
+
+    return current.get();
+  }
+
+  /**
+   * Stops counting on the current thread.
+   *
+   * @return The count, or null if the thread was not being counted.
+   */
+  public static QueryCount stop() {
+
+    final QueryCount queryCount = current.get();
+    current.remove();
+    return queryCount;
+  }
+
+  static void record(final String sql) {
+
+    final QueryCount queryCount = current.get();
+    if (queryCount != null) {
+      queryCount.record(sql);
+    }
+  }
+}
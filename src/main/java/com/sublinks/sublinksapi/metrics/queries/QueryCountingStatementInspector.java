@@ -0,0 +1,17 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hands every statement Hibernate prepares to the {@link QueryCounter}, unchanged. Set as
+ * hibernate.session_factory.statement_inspector, Hibernate creates it itself.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(final String sql) {
+
+    QueryCounter.record(sql);
+    return sql;
+  }
+}
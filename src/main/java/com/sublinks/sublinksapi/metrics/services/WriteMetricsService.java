@@ -0,0 +1,46 @@
+package com.sublinks.sublinksapi.metrics.services;
+
+import com.sublinks.sublinksapi.metrics.enums.WrittenEntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts the posts, comments and votes written, local and federated. Writes are counted once their
+ * transaction commits, so rolled back ones are not.
+ */
+@Service
+public class WriteMetricsService {
+
+  private final Map<WrittenEntityType, Counter> counters = new EnumMap<>(WrittenEntityType.class);
+
+  public WriteMetricsService(final MeterRegistry meterRegistry) {
+
+    for (WrittenEntityType type : WrittenEntityType.values()) {
+      counters.put(type, Counter.builder("sublinks.writes")
+          .description("Posts, comments and votes written")
+          .tag("type", type.tag)
+          .register(meterRegistry));
+    }
+  }
+
+  public void increment(final WrittenEntityType type) {
+
+    final Counter counter = counters.get(type);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      counter.increment();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+
+        counter.increment();
+      }
+    });
+  }
+}
@@ -0,0 +1,13 @@
+package com.sublinks.sublinksapi.moderation.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class BulkOperationConfig {
+
+  @Value("${sublinks.settings.bulk_operations.chunk_size}")
+  private int chunkSize;
+}
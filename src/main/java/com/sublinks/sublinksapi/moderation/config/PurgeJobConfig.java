@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.moderation.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class PurgeJobConfig {
+
+  @Value("${sublinks.settings.purge_jobs.chunk_size}")
+  private int chunkSize;
+
+  @Value("${sublinks.settings.purge_jobs.max_rows_per_second}")
+  private int maxRowsPerSecond;
+
+  @Value("${sublinks.settings.purge_jobs.lease}")
+  private long lease;
+
+  @Value("${sublinks.settings.purge_jobs.max_attempts}")
+  private int maxAttempts;
+
+  @Value("${sublinks.settings.purge_jobs.retry_delay}")
+  private long retryDelay;
+}
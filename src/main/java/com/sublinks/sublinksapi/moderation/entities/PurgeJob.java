@@ -0,0 +1,120 @@
+package com.sublinks.sublinksapi.moderation.entities;
+
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobStatus;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.proxy.HibernateProxy;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "purge_jobs")
+public class PurgeJob {
+
+  /**
+   * Attributes.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, name = "job_type")
+  @Enumerated(EnumType.STRING)
+  private PurgeJobType jobType;
+
+  @Column(nullable = false, name = "target_id")
+  private Long targetId;
+
+  @Column(nullable = true, name = "requested_by_id")
+  private Long requestedById;
+
+  @Column(nullable = true, name = "reason")
+  private String reason;
+
+  @Column(nullable = false, name = "status")
+  @Enumerated(EnumType.STRING)
+  private PurgeJobStatus status;
+
+  /**
+   * The index of the step being run, every step before it is done.
+   */
+  @Column(nullable = false, name = "step")
+  private int step;
+
+  @Column(nullable = false, name = "processed")
+  private long processed;
+
+  @Column(nullable = false, name = "attempts")
+  private int attempts;
+
+  @Column(nullable = true, name = "last_error")
+  private String lastError;
+
+  /**
+   * The instance running the job, the job is leased to it until available_at.
+   */
+  @Column(nullable = true, name = "worker_id")
+  private String workerId;
+
+  @Column(nullable = false, name = "available_at")
+  private Date availableAt;
+
+  @CreationTimestamp
+  @Column(updatable = false, nullable = false, name = "created_at")
+  private Date createdAt;
+
+  @UpdateTimestamp
+  @Column(nullable = false, name = "updated_at")
+  private Date updatedAt;
+
+  @Column(nullable = true, name = "finished_at")
+  private Date finishedAt;
+
+  @Override
+  public final boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    Class<?> objectEffectiveClass =
+        o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer()
+            .getPersistentClass() : o.getClass();
+    Class<?> thisEffectiveClass =
+        this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+            .getPersistentClass() : this.getClass();
+    if (thisEffectiveClass != objectEffectiveClass) {
+      return false;
+    }
+    PurgeJob that = (PurgeJob) o;
+    return getId() != null && Objects.equals(getId(), that.getId());
+  }
+
+  @Override
+  public final int hashCode() {
+
+    return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+        .getPersistentClass().hashCode() : getClass().hashCode();
+  }
+}
@@ -0,0 +1,8 @@
+package com.sublinks.sublinksapi.moderation.enums;
+
+public enum PurgeJobStatus {
+  PENDING,
+  RUNNING,
+  DONE,
+  FAILED
+}
@@ -0,0 +1,8 @@
+package com.sublinks.sublinksapi.moderation.enums;
+
+public enum PurgeJobType {
+  PERSON,
+  PERSON_CONTENT,
+  COMMUNITY,
+  POST
+}
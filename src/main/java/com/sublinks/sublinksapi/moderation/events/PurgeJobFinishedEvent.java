@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.moderation.events;
+
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Purge Job Finished Event, published once the last step of a purge job ran. The steps delete and
+ * update rows with native statements, without the events of the rows they purge.
+ */
+@Getter
+public class PurgeJobFinishedEvent extends ApplicationEvent {
+
+  private final PurgeJob purgeJob;
+
+  public PurgeJobFinishedEvent(final Object source, final PurgeJob purgeJob) {
+
+    super(source);
+    this.purgeJob = purgeJob;
+  }
+}
@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.moderation.events;
+
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purge Job Finished Publisher
+ */
+@Component
+@RequiredArgsConstructor
+public class PurgeJobFinishedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  /**
+   * Publishes a PurgeJobFinishedEvent event
+   *
+   * @param purgeJob a finished PurgeJob
+   */
+  public void publish(final PurgeJob purgeJob) {
+
+    final PurgeJobFinishedEvent purgeJobFinishedEvent = new PurgeJobFinishedEvent(this, purgeJob);
+    applicationEventPublisher.publishEvent(purgeJobFinishedEvent);
+  }
+}
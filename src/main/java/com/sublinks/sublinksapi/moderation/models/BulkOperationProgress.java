@@ -0,0 +1,16 @@
+package com.sublinks.sublinksapi.moderation.models;
+
+import lombok.Builder;
+
+/**
+ * The progress of a bulk operation, reported after every committed chunk.
+ *
+ * @param operation The name of the operation.
+ * @param processed The number of rows updated so far.
+ * @param chunks    The number of chunks committed so far.
+ * @param done      Whether no rows are left to update.
+ */
+@Builder
+public record BulkOperationProgress(String operation, long processed, int chunks, boolean done) {
+
+}
@@ -0,0 +1,43 @@
+package com.sublinks.sublinksapi.moderation.models;
+
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.utils.PaginationUtils;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * The (created at, id) position of the last moderation log of a page, the next page starts right
+ * after it.
+ */
+@Builder
+public record ModerationLogPageCursor(
+    Date createdAt,
+    long id
+) {
+
+  public static ModerationLogPageCursor of(final ModerationLog moderationLog) {
+
+    return new ModerationLogPageCursor(moderationLog.getCreatedAt(), moderationLog.getId());
+  }
+
+  /**
+   * Decodes a cursor sent back by a client.
+   *
+   * @param pageCursor The opaque page cursor.
+   * @return The cursor.
+   * @throws IllegalArgumentException If the page cursor is malformed.
+   */
+  public static ModerationLogPageCursor decode(final String pageCursor) {
+
+    final List<String> parts = PaginationUtils.decodeCursor(pageCursor, 2);
+    return new ModerationLogPageCursor(new Date(Long.parseLong(parts.get(0))),
+        Long.parseLong(parts.get(1)));
+  }
+
+  public String encode() {
+
+    return PaginationUtils.encodeCursor(
+        List.of(Long.toString(createdAt.getTime()), Long.toString(id)));
+  }
+}
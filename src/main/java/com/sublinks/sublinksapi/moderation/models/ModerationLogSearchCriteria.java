@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.moderation.models;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.enums.ModlogActionType;
+import java.util.Date;
+import lombok.Builder;
+
+@Builder
+public record ModerationLogSearchCriteria(
+    ModlogActionType actionType,
+    Long communityId,
+    Long moderationPersonId,
+    Long otherPersonId,
+    Date createdAfter,
+    Date createdBefore,
+    int page,
+    int perPage,
+    ModerationLogPageCursor pageCursor
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.sublinks.sublinksapi.moderation.models;
+
+/**
+ * One step of a purge job, run chunk by chunk until a chunk affects fewer rows than its limit.
+ *
+ * @param name  The name of the step, for logs and status.
+ * @param chunk Purges at most limit rows of the target and returns how many it purged.
+ */
+public record PurgeStep(String name, Chunk chunk) {
+
+  @FunctionalInterface
+  public interface Chunk {
+
+    int run(long targetId, int limit);
+  }
+}
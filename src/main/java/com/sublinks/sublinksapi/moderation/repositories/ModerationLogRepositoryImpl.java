@@ -0,0 +1,89 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import static com.sublinks.sublinksapi.utils.PaginationUtils.applyPagination;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.enums.ModlogActionType;
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogPageCursor;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogSearchCriteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class ModerationLogRepositoryImpl implements ModerationLogRepositorySearch {
+
+  private final EntityManager em;
+
+  @Override
+  public List<ModerationLog> allModerationLogsBySearchCriteria(
+      final ModerationLogSearchCriteria moderationLogSearchCriteria) {
+
+    final CriteriaBuilder cb = em.getCriteriaBuilder();
+    final CriteriaQuery<ModerationLog> cq = cb.createQuery(ModerationLog.class);
+
+    final Root<ModerationLog> moderationLogTable = cq.from(ModerationLog.class);
+
+    final List<Predicate> predicates = new ArrayList<>();
+    if (moderationLogSearchCriteria.actionType() != null
+        && moderationLogSearchCriteria.actionType() != ModlogActionType.All) {
+      predicates.add(cb.equal(moderationLogTable.get("actionType"),
+          moderationLogSearchCriteria.actionType()));
+    }
+    if (moderationLogSearchCriteria.communityId() != null) {
+      predicates.add(cb.equal(moderationLogTable.get("communityId"),
+          moderationLogSearchCriteria.communityId()));
+    }
+    if (moderationLogSearchCriteria.moderationPersonId() != null) {
+      predicates.add(cb.or(
+          cb.equal(moderationLogTable.get("moderationPersonId"),
+              moderationLogSearchCriteria.moderationPersonId()),
+          cb.equal(moderationLogTable.get("adminPersonId"),
+              moderationLogSearchCriteria.moderationPersonId())));
+    }
+    if (moderationLogSearchCriteria.otherPersonId() != null) {
+      predicates.add(cb.equal(moderationLogTable.get("otherPersonId"),
+          moderationLogSearchCriteria.otherPersonId()));
+    }
+
+    final Path<Date> createdAt = moderationLogTable.get("createdAt");
+    final Path<Long> id = moderationLogTable.get("id");
+    if (moderationLogSearchCriteria.createdAfter() != null) {
+      predicates.add(
+          cb.greaterThanOrEqualTo(createdAt, moderationLogSearchCriteria.createdAfter()));
+    }
+    if (moderationLogSearchCriteria.createdBefore() != null) {
+      predicates.add(cb.lessThan(createdAt, moderationLogSearchCriteria.createdBefore()));
+    }
+
+    // The redundant bound on created_at alone lets the index range scan start at the cursor
+    final ModerationLogPageCursor cursor = moderationLogSearchCriteria.pageCursor();
+    if (cursor != null) {
+      predicates.add(cb.lessThanOrEqualTo(createdAt, cursor.createdAt()));
+      predicates.add(cb.or(cb.lessThan(createdAt, cursor.createdAt()),
+          cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+    }
+
+    cq.where(predicates.toArray(new Predicate[0]));
+    cq.orderBy(cb.desc(createdAt), cb.desc(id));
+
+    final TypedQuery<ModerationLog> query = em.createQuery(cq);
+
+    if (cursor != null) {
+      query.setMaxResults(moderationLogSearchCriteria.perPage());
+    } else {
+      applyPagination(query, moderationLogSearchCriteria.page(),
+          moderationLogSearchCriteria.perPage());
+    }
+
+    return query.getResultList();
+  }
+}
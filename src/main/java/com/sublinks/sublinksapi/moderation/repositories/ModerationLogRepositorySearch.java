@@ -0,0 +1,15 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogSearchCriteria;
+import java.util.List;
+
+public interface ModerationLogRepositorySearch {
+
+  /**
+   * Lists moderation logs newest first. Only the filters that are set end up in the query, so each
+   * combination can use its own index.
+   */
+  List<ModerationLog> allModerationLogsBySearchCriteria(
+      ModerationLogSearchCriteria moderationLogSearchCriteria);
+}
@@ -0,0 +1,26 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long>,
+    PurgeJobRepositoryExtended {
+
+  /**
+   * Locks the oldest job that is pending, or running on an instance whose lease ended. Rows locked
+   * by another instance are skipped, so every job is claimed by one instance only.
+   *
+   * @return The claimable job, if any.
+   */
+  @Query(value = """
+      SELECT j.*
+      FROM purge_jobs j
+      WHERE j.status IN ('PENDING', 'RUNNING')
+        AND j.available_at <= CURRENT_TIMESTAMP(3)
+      ORDER BY j.id
+      LIMIT 1 FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  Optional<PurgeJob> findClaimable();
+}
@@ -0,0 +1,28 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+public interface PurgeJobRepositoryExtended {
+
+  /**
+   * Deletes at most limit rows of a table matching a condition.
+   *
+   * @param table     The table, never user input.
+   * @param condition The SQL condition, never user input, with a :targetId parameter.
+   * @param targetId  The id of the purged person, community or post.
+   * @param limit     The maximum number of rows to delete.
+   * @return The number of deleted rows.
+   */
+  int deleteChunk(String table, String condition, long targetId, int limit);
+
+  /**
+   * Applies an assignment to at most limit rows of a table matching a condition. The assignment
+   * must make the rows stop matching, so repeated calls end.
+   *
+   * @param table      The table, never user input.
+   * @param assignment The SQL SET clause, never user input.
+   * @param condition  The SQL condition, never user input, with a :targetId parameter.
+   * @param targetId   The id of the purged person, community or post.
+   * @param limit      The maximum number of rows to update.
+   * @return The number of updated rows.
+   */
+  int updateChunk(String table, String assignment, String condition, long targetId, int limit);
+}
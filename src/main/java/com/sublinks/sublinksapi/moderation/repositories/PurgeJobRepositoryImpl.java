@@ -0,0 +1,40 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class PurgeJobRepositoryImpl implements PurgeJobRepositoryExtended {
+
+  private final EntityManager em;
+
+  @Override
+  public int deleteChunk(final String table, final String condition, final long targetId,
+      final int limit) {
+
+    final Query query = em.createNativeQuery("""
+        DELETE FROM %1$s
+        WHERE id IN (SELECT id FROM %1$s WHERE %2$s LIMIT :limit)
+        """.formatted(table, condition));
+    query.setParameter("targetId", targetId);
+    query.setParameter("limit", limit);
+    em.joinTransaction();
+    return query.executeUpdate();
+  }
+
+  @Override
+  public int updateChunk(final String table, final String assignment, final String condition,
+      final long targetId, final int limit) {
+
+    final Query query = em.createNativeQuery("""
+        UPDATE %1$s
+        SET %2$s
+        WHERE id IN (SELECT id FROM %1$s WHERE %3$s LIMIT :limit)
+        """.formatted(table, assignment, condition));
+    query.setParameter("targetId", targetId);
+    query.setParameter("limit", limit);
+    em.joinTransaction();
+    return query.executeUpdate();
+  }
+}
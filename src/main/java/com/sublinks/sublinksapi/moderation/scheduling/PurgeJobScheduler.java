@@ -0,0 +1,24 @@
+package com.sublinks.sublinksapi.moderation.scheduling;
+
+import com.sublinks.sublinksapi.moderation.services.PurgeJobRunner;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class PurgeJobScheduler {
+
+  private final PurgeJobRunner purgeJobRunner;
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.purge_jobs.poll_rate}", timeUnit = TimeUnit.SECONDS)
+  public void pollPurgeJobs() {
+
+    purgeJobRunner.poll();
+  }
+}
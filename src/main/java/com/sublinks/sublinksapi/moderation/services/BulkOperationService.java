@@ -0,0 +1,96 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import com.sublinks.sublinksapi.moderation.config.BulkOperationConfig;
+import com.sublinks.sublinksapi.moderation.models.BulkOperationProgress;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs set based bulk updates, like removing every post of a banned user, one chunk per
+ * transaction. A chunk is a single UPDATE of at most the configured number of rows, so neither the
+ * persistence context nor the transaction grows with the number of rows updated.
+ */
+@Service
+public class BulkOperationService {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkOperationService.class);
+
+  private final BulkOperationConfig bulkOperationConfig;
+  private final TransactionTemplate transactionTemplate;
+
+  public BulkOperationService(final BulkOperationConfig bulkOperationConfig,
+      final PlatformTransactionManager transactionManager) {
+
+    this.bulkOperationConfig = bulkOperationConfig;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public BulkOperationProgress run(final String operation,
+      final IntFunction<List<Long>> updateChunk) {
+
+    return run(operation, updateChunk, ids -> {
+    }, null);
+  }
+
+  public BulkOperationProgress run(final String operation,
+      final IntFunction<List<Long>> updateChunk, final Consumer<List<Long>> chunkUpdated) {
+
+    return run(operation, updateChunk, chunkUpdated, null);
+  }
+
+  /**
+   * Updates chunks until a chunk updates fewer rows than the chunk size.
+   *
+   * @param operation        The name of the operation, for logs and progress.
+   * @param updateChunk      Updates at most the given number of rows and returns their ids. Updated
+   *                         rows must no longer match, otherwise the operation never ends.
+   * @param chunkUpdated     Called with the ids of every non empty chunk inside its transaction,
+   *                         usually to publish a batch event.
+   * @param progressListener Called after every committed chunk, if not null.
+   * @return The progress after the last chunk.
+   */
+  public BulkOperationProgress run(final String operation,
+      final IntFunction<List<Long>> updateChunk, final Consumer<List<Long>> chunkUpdated,
+      @Nullable final Consumer<BulkOperationProgress> progressListener) {
+
+    final int chunkSize = Math.max(1, bulkOperationConfig.getChunkSize());
+    long processed = 0;
+    int chunks = 0;
+    BulkOperationProgress progress;
+    do {
+      final List<Long> ids = transactionTemplate.execute(status -> {
+        final List<Long> updated = updateChunk.apply(chunkSize);
+        if (!updated.isEmpty()) {
+          chunkUpdated.accept(updated);
+        }
+        return updated;
+      });
+      final int updatedCount = ids == null ? 0 : ids.size();
+      processed += updatedCount;
+      chunks++;
+      progress = BulkOperationProgress.builder()
+          .operation(operation)
+          .processed(processed)
+          .chunks(chunks)
+          .done(updatedCount < chunkSize)
+          .build();
+      logger.debug("{}: {} rows updated in {} chunks", operation, processed, chunks);
+      if (progressListener != null) {
+        progressListener.accept(progress);
+      }
+    } while (!progress.done());
+
+    logger.info("{}: done, {} rows updated in {} chunks", operation, processed, chunks);
+    return progress;
+  }
+}
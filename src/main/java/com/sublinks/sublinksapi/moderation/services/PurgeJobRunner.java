@@ -0,0 +1,111 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import com.sublinks.sublinksapi.moderation.config.PurgeJobConfig;
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs claimed purge jobs on a single background thread, one at a time, pausing between chunks so
+ * purging stays under the configured number of rows per second.
+ */
+@Service
+public class PurgeJobRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(PurgeJobRunner.class);
+
+  private final PurgeJobService purgeJobService;
+  private final PurgeJobConfig purgeJobConfig;
+  private final String workerId = UUID.randomUUID().toString();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "purge-job-runner");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public PurgeJobRunner(final PurgeJobService purgeJobService,
+      final PurgeJobConfig purgeJobConfig) {
+
+    this.purgeJobService = purgeJobService;
+    this.purgeJobConfig = purgeJobConfig;
+  }
+
+  /**
+   * Claims a job and runs it in the background, unless a job is running already.
+   */
+  public void poll() {
+
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      final Optional<PurgeJob> purgeJob = purgeJobService.claim(workerId);
+      if (purgeJob.isEmpty()) {
+        running.set(false);
+        return;
+      }
+      executorService.execute(() -> {
+        try {
+          run(purgeJob.get());
+        } finally {
+          running.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      running.set(false);
+      logger.error("Could not claim a purge job", e);
+    }
+  }
+
+  private void run(final PurgeJob purgeJob) {
+
+    logger.info("Purge job {}: purging {} {}", purgeJob.getId(), purgeJob.getJobType(),
+        purgeJob.getTargetId());
+    try {
+      int purged;
+      while ((purged = purgeJobService.runChunk(purgeJob.getId(), workerId)) >= 0) {
+        throttle(purged);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      logger.warn("Purge job {} failed", purgeJob.getId(), e);
+      try {
+        purgeJobService.fail(purgeJob.getId(), e);
+      } catch (RuntimeException failException) {
+        logger.error("Could not reschedule purge job {}, it is resumed once its lease ends",
+            purgeJob.getId(), failException);
+      }
+    }
+  }
+
+  private void throttle(final int purged) throws InterruptedException {
+
+    if (purgeJobConfig.getMaxRowsPerSecond() > 0 && purged > 0) {
+      TimeUnit.MILLISECONDS.sleep(purged * 1000L / purgeJobConfig.getMaxRowsPerSecond());
+    }
+  }
+
+  public boolean isRunning() {
+
+    return running.get();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+
+    executorService.shutdownNow();
+    if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+      logger.warn("Purge job runner did not stop, its job is resumed once the lease ends");
+    }
+  }
+}
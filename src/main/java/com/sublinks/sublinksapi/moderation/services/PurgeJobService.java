@@ -0,0 +1,172 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import com.sublinks.sublinksapi.moderation.config.PurgeJobConfig;
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobStatus;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.events.PurgeJobFinishedPublisher;
+import com.sublinks.sublinksapi.moderation.models.PurgeStep;
+import com.sublinks.sublinksapi.moderation.repositories.PurgeJobRepository;
+import jakarta.annotation.Nullable;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores purge jobs and runs them one chunk per transaction. A job keeps its step and the number
+ * of rows purged, so a job whose instance stopped is resumed by another instance once the lease
+ * ends, from the chunk it was at.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurgeJobService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PurgeJobService.class);
+  private static final int MAX_ERROR_LENGTH = 2000;
+
+  private final PurgeJobRepository purgeJobRepository;
+  private final PurgeJobConfig purgeJobConfig;
+  private final PurgeJobSteps purgeJobSteps;
+  private final PurgeJobFinishedPublisher purgeJobFinishedPublisher;
+
+  /**
+   * Queues a purge, it is run in the background by the next free instance.
+   *
+   * @param purgeJobType  What to purge.
+   * @param targetId      The id of the person, community or post to purge.
+   * @param requestedById The person who asked for the purge, if any.
+   * @param reason        Why, if given.
+   * @return The queued job.
+   */
+  @Transactional
+  public PurgeJob enqueue(final PurgeJobType purgeJobType, final Long targetId,
+      @Nullable final Long requestedById, @Nullable final String reason) {
+
+    return purgeJobRepository.save(PurgeJob.builder()
+        .jobType(purgeJobType)
+        .targetId(targetId)
+        .requestedById(requestedById)
+        .reason(reason)
+        .status(PurgeJobStatus.PENDING)
+        .availableAt(new Date())
+        .build());
+  }
+
+  public Optional<PurgeJob> getJob(final Long purgeJobId) {
+
+    return purgeJobRepository.findById(purgeJobId);
+  }
+
+  public List<PurgeStep> getSteps(final PurgeJob purgeJob) {
+
+    return purgeJobSteps.getSteps(purgeJob.getJobType());
+  }
+
+  /**
+   * Leases the oldest claimable job to a worker.
+   *
+   * @param workerId The id of the claiming instance.
+   * @return The claimed job, if any.
+   */
+  @Transactional
+  public Optional<PurgeJob> claim(final String workerId) {
+
+    final Optional<PurgeJob> purgeJob = purgeJobRepository.findClaimable();
+    purgeJob.ifPresent(claimed -> {
+      claimed.setStatus(PurgeJobStatus.RUNNING);
+      claimed.setWorkerId(workerId);
+      claimed.setAvailableAt(leaseEnd());
+    });
+    return purgeJob;
+  }
+
+  /**
+   * Runs one chunk of the current step of a job, in the same transaction as the job's progress.
+   * The step is done once a chunk purges fewer rows than the chunk size, and the job once its last
+   * step is. A finished job is published for the caches of the rows it purged.
+   *
+   * @param purgeJobId The claimed job id.
+   * @param workerId   The id of the instance the job is leased to.
+   * @return The number of rows purged, or -1 if the job is done or no longer leased to the worker.
+   */
+  @Transactional
+  public int runChunk(final Long purgeJobId, final String workerId) {
+
+    final PurgeJob purgeJob = purgeJobRepository.findById(purgeJobId).orElse(null);
+    if (purgeJob == null || purgeJob.getStatus() != PurgeJobStatus.RUNNING
+        || !workerId.equals(purgeJob.getWorkerId())) {
+      return -1;
+    }
+    final List<PurgeStep> steps = getSteps(purgeJob);
+    if (purgeJob.getStep() >= steps.size()) {
+      finish(purgeJob);
+      return -1;
+    }
+    final int chunkSize = Math.max(1, purgeJobConfig.getChunkSize());
+    final PurgeStep step = steps.get(purgeJob.getStep());
+    final int purged = step.chunk().run(purgeJob.getTargetId(), chunkSize);
+    purgeJob.setProcessed(purgeJob.getProcessed() + purged);
+    purgeJob.setAvailableAt(leaseEnd());
+    if (purged < chunkSize) {
+      logger.debug("Purge job {}: step {} done", purgeJob.getId(), step.name());
+      purgeJob.setStep(purgeJob.getStep() + 1);
+      if (purgeJob.getStep() >= steps.size()) {
+        finish(purgeJob);
+      }
+    }
+    return purged;
+  }
+
+  /**
+   * Schedules a retry of the current chunk with an exponential delay, or marks the job failed once
+   * it ran out of attempts.
+   *
+   * @param purgeJobId The claimed job id.
+   * @param exception  Why the chunk failed.
+   * @return True if the job will be retried.
+   */
+  @Transactional
+  public boolean fail(final Long purgeJobId, final Exception exception) {
+
+    final Optional<PurgeJob> purgeJob = purgeJobRepository.findById(purgeJobId);
+    if (purgeJob.isEmpty()) {
+      return false;
+    }
+    final PurgeJob failed = purgeJob.get();
+    failed.setAttempts(failed.getAttempts() + 1);
+    failed.setWorkerId(null);
+    final String error = String.valueOf(exception);
+    failed.setLastError(
+        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    if (failed.getAttempts() >= purgeJobConfig.getMaxAttempts()) {
+      failed.setStatus(PurgeJobStatus.FAILED);
+      failed.setFinishedAt(new Date());
+      return false;
+    }
+    final long delay = purgeJobConfig.getRetryDelay() * 1000 * (1L << Math.min(
+        failed.getAttempts() - 1, 16));
+    failed.setStatus(PurgeJobStatus.PENDING);
+    failed.setAvailableAt(new Date(System.currentTimeMillis() + delay));
+    return true;
+  }
+
+  private void finish(final PurgeJob purgeJob) {
+
+    purgeJob.setStatus(PurgeJobStatus.DONE);
+    purgeJob.setWorkerId(null);
+    purgeJob.setFinishedAt(new Date());
+    logger.info("Purge job {}: {} {} purged, {} rows", purgeJob.getId(), purgeJob.getJobType(),
+        purgeJob.getTargetId(), purgeJob.getProcessed());
+    purgeJobFinishedPublisher.publish(purgeJob);
+  }
+
+  private Date leaseEnd() {
+
+    return new Date(System.currentTimeMillis() + purgeJobConfig.getLease() * 1000);
+  }
+}
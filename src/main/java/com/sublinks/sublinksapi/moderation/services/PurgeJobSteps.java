@@ -0,0 +1,99 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import com.sublinks.sublinksapi.comment.services.CommentService;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.models.PurgeStep;
+import com.sublinks.sublinksapi.moderation.repositories.PurgeJobRepository;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import com.sublinks.sublinksapi.post.services.PostService;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * The steps of every purge job type, in the order they run. Rows that reference the purged rows
+ * without a cascading foreign key are deleted first, and large sets of rows that would be removed
+ * by a cascade are deleted in chunks before the row they cascade from.
+ */
+@Component
+public class PurgeJobSteps {
+
+  private static final String CREATED_POST_IDS = """
+      (SELECT post_id FROM link_person_posts WHERE person_id = :targetId AND link_type = 'creator')""";
+
+  private final PurgeJobRepository purgeJobRepository;
+  private final Map<PurgeJobType, List<PurgeStep>> steps = new EnumMap<>(PurgeJobType.class);
+
+  public PurgeJobSteps(final PurgeJobRepository purgeJobRepository,
+      final PersonRepository personRepository, final PostService postService,
+      final CommentService commentService) {
+
+    this.purgeJobRepository = purgeJobRepository;
+
+    steps.put(PurgeJobType.POST, List.of(
+        delete("comment reads", "comment_reads",
+            "comment_id IN (SELECT id FROM comments WHERE post_id = :targetId)"),
+        delete("comments", "comments", "post_id = :targetId"),
+        delete("post reads", "post_reads", "post_id = :targetId"),
+        delete("post saves", "post_saves", "post_id = :targetId"),
+        delete("post links", "link_person_posts", "post_id = :targetId"),
+        delete("post", "posts", "id = :targetId")));
+
+    steps.put(PurgeJobType.COMMUNITY, List.of(
+        delete("comment reads", "comment_reads",
+            "comment_id IN (SELECT id FROM comments WHERE community_id = :targetId)"),
+        delete("comments", "comments", "community_id = :targetId"),
+        delete("post reads", "post_reads",
+            "post_id IN (SELECT id FROM posts WHERE community_id = :targetId)"),
+        delete("post saves", "post_saves",
+            "post_id IN (SELECT id FROM posts WHERE community_id = :targetId)"),
+        delete("post links", "link_person_posts",
+            "post_id IN (SELECT id FROM posts WHERE community_id = :targetId)"),
+        delete("posts", "posts", "community_id = :targetId"),
+        delete("community links", "link_person_communities", "community_id = :targetId"),
+        delete("community", "communities", "id = :targetId")));
+
+    steps.put(PurgeJobType.PERSON, List.of(
+        delete("comment reads", "comment_reads",
+            "person_id = :targetId OR comment_id IN (SELECT id FROM comments WHERE person_id = :targetId)"),
+        delete("comments", "comments", "person_id = :targetId"),
+        delete("comments on posts", "comments", "post_id IN " + CREATED_POST_IDS),
+        delete("post reads", "post_reads",
+            "person_id = :targetId OR post_id IN " + CREATED_POST_IDS),
+        delete("post saves", "post_saves",
+            "person_id = :targetId OR post_id IN " + CREATED_POST_IDS),
+        delete("posts", "posts", "id IN " + CREATED_POST_IDS),
+        delete("post links", "link_person_posts", "person_id = :targetId"),
+        delete("community links", "link_person_communities", "person_id = :targetId"),
+        delete("access control", "acl", "person_id = :targetId"),
+        delete("sessions", "user_data", "person_id = :targetId"),
+        delete("person", "people", "id = :targetId")));
+
+    steps.put(PurgeJobType.PERSON_CONTENT, List.of(
+        new PurgeStep("post history", (targetId, limit) -> purgeJobRepository.deleteChunk(
+            "post_history", "post_id IN " + CREATED_POST_IDS, targetId, limit)),
+        new PurgeStep("posts", (targetId, limit) -> postService.deletePostsByPersonChunk(
+            personRepository.getReferenceById(targetId), limit).size()),
+        delete("comment history", "comment_history",
+            "comment_id IN (SELECT id FROM comments WHERE person_id = :targetId)"),
+        new PurgeStep("comments", (targetId, limit) -> commentService.deleteCommentsByPersonChunk(
+            personRepository.getReferenceById(targetId), limit).size()),
+        new PurgeStep("private messages", (targetId, limit) -> purgeJobRepository.updateChunk(
+            "private_messages",
+            "is_deleted = true, is_read = true, content = '*Permanently deleted by creator*'",
+            "sender_id = :targetId AND content <> '*Permanently deleted by creator*'", targetId,
+            limit))));
+  }
+
+  public List<PurgeStep> getSteps(final PurgeJobType purgeJobType) {
+
+    return steps.get(purgeJobType);
+  }
+
+  private PurgeStep delete(final String name, final String table, final String condition) {
+
+    return new PurgeStep(name,
+        (targetId, limit) -> purgeJobRepository.deleteChunk(table, condition, targetId, limit));
+  }
+}
@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.outbox.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class OutboxConfig {
+
+  @Value("${sublinks.settings.outbox.enabled}")
+  private boolean enabled;
+
+  @Value("${sublinks.settings.outbox.workers}")
+  private int workers;
+
+  @Value("${sublinks.settings.outbox.max_attempts}")
+  private int maxAttempts;
+
+  @Value("${sublinks.settings.outbox.retry_delay}")
+  private long retryDelay;
+
+  @Value("${sublinks.settings.outbox.lease}")
+  private long lease;
+}
@@ -0,0 +1,95 @@
+package com.sublinks.sublinksapi.outbox.entities;
+
+import com.sublinks.sublinksapi.outbox.enums.OutboxEventStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.proxy.HibernateProxy;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+  /**
+   * Attributes.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, name = "event_type")
+  private String eventType;
+
+  @Column(nullable = false, name = "listener")
+  private String listener;
+
+  @Column(nullable = false, name = "aggregate_key")
+  private String aggregateKey;
+
+  @Column(nullable = false, name = "payload")
+  private String payload;
+
+  @Column(nullable = false, name = "status")
+  @Enumerated(EnumType.STRING)
+  private OutboxEventStatus status;
+
+  @Column(nullable = false, name = "attempts")
+  private int attempts;
+
+  @Column(nullable = true, name = "last_error")
+  private String lastError;
+
+  @Column(nullable = false, name = "available_at")
+  private Date availableAt;
+
+  @CreationTimestamp
+  @Column(updatable = false, nullable = false, name = "created_at")
+  private Date createdAt;
+
+  @Override
+  public final boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    Class<?> objectEffectiveClass =
+        o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer()
+            .getPersistentClass() : o.getClass();
+    Class<?> thisEffectiveClass =
+        this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+            .getPersistentClass() : this.getClass();
+    if (thisEffectiveClass != objectEffectiveClass) {
+      return false;
+    }
+    OutboxEvent that = (OutboxEvent) o;
+    return getId() != null && Objects.equals(getId(), that.getId());
+  }
+
+  @Override
+  public final int hashCode() {
+
+    return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+        .getPersistentClass().hashCode() : getClass().hashCode();
+  }
+}
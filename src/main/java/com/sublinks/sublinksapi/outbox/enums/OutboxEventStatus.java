@@ -0,0 +1,7 @@
+package com.sublinks.sublinksapi.outbox.enums;
+
+public enum OutboxEventStatus {
+  PENDING,
+  PROCESSING,
+  FAILED
+}
@@ -0,0 +1,50 @@
+package com.sublinks.sublinksapi.outbox.listeners;
+
+import com.sublinks.sublinksapi.outbox.config.OutboxConfig;
+import com.sublinks.sublinksapi.outbox.services.OutboxDispatcher;
+import com.sublinks.sublinksapi.outbox.services.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes events that have {@link OutboxListener}s to the outbox, and wakes the workers up once the
+ * publishing transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorderListener implements ApplicationListener<ApplicationEvent> {
+
+  private final OutboxService outboxService;
+  private final OutboxDispatcher outboxDispatcher;
+  private final OutboxConfig outboxConfig;
+
+  @Override
+  public void onApplicationEvent(@NonNull ApplicationEvent event) {
+
+    if (!outboxService.hasListeners(event)) {
+      return;
+    }
+    if (!outboxConfig.isEnabled()) {
+      outboxService.deliverNow(event);
+      return;
+    }
+
+    outboxService.record(event);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      outboxDispatcher.wakeUp();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+
+        outboxDispatcher.wakeUp();
+      }
+    });
+  }
+}
@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.outbox.listeners;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * A listener that receives its events from the outbox workers after the publishing transaction
+ * commits, instead of on the publishing thread. Implementing this instead of
+ * {@link org.springframework.context.ApplicationListener} is how a listener opts in to async
+ * delivery, its event type then needs an
+ * {@link com.sublinks.sublinksapi.outbox.services.OutboxEventCodec}.
+ *
+ * @param <E> The event type.
+ */
+public interface OutboxListener<E extends ApplicationEvent> {
+
+  /**
+   * Handles an event. Throwing retries the event later, the delivery and the listener changes are
+   * committed together.
+   */
+  void onOutboxEvent(E event);
+}
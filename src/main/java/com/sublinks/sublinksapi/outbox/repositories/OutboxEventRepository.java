@@ -0,0 +1,50 @@
+package com.sublinks.sublinksapi.outbox.repositories;
+
+import com.sublinks.sublinksapi.outbox.entities.OutboxEvent;
+import com.sublinks.sublinksapi.outbox.enums.OutboxEventStatus;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Locks the next deliverable events. An event is only deliverable once every earlier event of
+   * the same listener and aggregate is delivered, so each aggregate is handled in order. Rows
+   * locked by another instance are skipped.
+   *
+   * @param limit The maximum number of events to claim.
+   * @return The claimed events, oldest first.
+   */
+  @Query(value = """
+      SELECT o.*
+      FROM outbox_events o
+      WHERE o.status = 'PENDING'
+        AND o.available_at <= CURRENT_TIMESTAMP(3)
+        AND NOT EXISTS (SELECT 1
+                        FROM outbox_events earlier
+                        WHERE earlier.listener = o.listener
+                          AND earlier.aggregate_key = o.aggregate_key
+                          AND earlier.id < o.id
+                          AND earlier.status IN ('PENDING', 'PROCESSING'))
+      ORDER BY o.id
+      LIMIT :limit FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<OutboxEvent> findDeliverable(@Param("limit") int limit);
+
+  long countByStatus(OutboxEventStatus status);
+
+  Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEventStatus status);
+
+  /**
+   * Hands events claimed by a worker that died back to the pool.
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent o SET o.status = :pending WHERE o.status = :processing AND o.availableAt < :now")
+  int releaseExpired(@Param("now") Date now, @Param("pending") OutboxEventStatus pending,
+      @Param("processing") OutboxEventStatus processing);
+}
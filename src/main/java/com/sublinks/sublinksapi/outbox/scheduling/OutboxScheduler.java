@@ -0,0 +1,32 @@
+package com.sublinks.sublinksapi.outbox.scheduling;
+
+import com.sublinks.sublinksapi.outbox.services.OutboxDispatcher;
+import com.sublinks.sublinksapi.outbox.services.OutboxService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class OutboxScheduler {
+
+  private final OutboxDispatcher outboxDispatcher;
+  private final OutboxService outboxService;
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.outbox.poll_rate}", timeUnit = TimeUnit.MILLISECONDS)
+  public void pollOutbox() {
+
+    outboxDispatcher.poll();
+  }
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.outbox.lease}", timeUnit = TimeUnit.SECONDS)
+  public void releaseExpiredOutboxEvents() {
+
+    outboxService.releaseExpired();
+  }
+}
@@ -0,0 +1,160 @@
+package com.sublinks.sublinksapi.outbox.services;
+
+import com.sublinks.sublinksapi.outbox.config.OutboxConfig;
+import com.sublinks.sublinksapi.outbox.entities.OutboxEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Drains the outbox with a bounded number of workers. Events are only claimed while a worker is
+ * free, so when listeners fall behind the backlog waits in the database instead of in memory.
+ */
+@Service
+public class OutboxDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+  private final OutboxService outboxService;
+  private final OutboxConfig outboxConfig;
+  private final ExecutorService executorService;
+  private final Semaphore workers;
+  private final AtomicBoolean polling = new AtomicBoolean();
+  private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+  private final AtomicInteger threadCount = new AtomicInteger();
+  private final LongAdder delivered = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  public OutboxDispatcher(final OutboxService outboxService, final OutboxConfig outboxConfig) {
+
+    this.outboxService = outboxService;
+    this.outboxConfig = outboxConfig;
+    this.workers = new Semaphore(Math.max(1, outboxConfig.getWorkers()));
+    this.executorService = createExecutorService(Math.max(1, outboxConfig.getWorkers()));
+  }
+
+  /**
+   * Claims as many events as there are free workers and hands them out, until the outbox is empty
+   * or every worker is busy. Only one poll runs at a time.
+   */
+  public void poll() {
+
+    wakeUpQueued.set(false);
+    if (!outboxConfig.isEnabled() || !polling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int free;
+      while ((free = workers.availablePermits()) > 0) {
+        final List<OutboxEvent> claimed = outboxService.claim(free);
+        for (OutboxEvent outboxEvent : claimed) {
+          workers.acquireUninterruptibly();
+          executorService.execute(() -> {
+            try {
+              deliver(outboxEvent);
+            } finally {
+              workers.release();
+            }
+          });
+        }
+        if (claimed.size() < free) {
+          break;
+        }
+      }
+    } catch (RuntimeException e) {
+      logger.error("Could not claim outbox events", e);
+    } finally {
+      polling.set(false);
+    }
+  }
+
+  /**
+   * Polls as soon as possible, called when new events are committed.
+   */
+  public void wakeUp() {
+
+    if (outboxConfig.isEnabled() && wakeUpQueued.compareAndSet(false, true)) {
+      executorService.execute(this::poll);
+    }
+  }
+
+  private void deliver(final OutboxEvent outboxEvent) {
+
+    try {
+      outboxService.deliver(outboxEvent.getId());
+      delivered.increment();
+    } catch (RuntimeException e) {
+      logger.warn("Could not deliver outbox event {} of {} to {}", outboxEvent.getId(),
+          outboxEvent.getEventType(), outboxEvent.getListener(), e);
+      try {
+        if (outboxService.fail(outboxEvent.getId(), e)) {
+          retried.increment();
+        } else {
+          failed.increment();
+        }
+      } catch (RuntimeException failException) {
+        logger.error("Could not reschedule outbox event {}, it is retried once its lease ends",
+            outboxEvent.getId(), failException);
+      }
+    }
+  }
+
+  public int getBusyWorkers() {
+
+    return Math.max(1, outboxConfig.getWorkers()) - workers.availablePermits();
+  }
+
+  public long getDeliveredCount() {
+
+    return delivered.sum();
+  }
+
+  public long getRetriedCount() {
+
+    return retried.sum();
+  }
+
+  public long getFailedCount() {
+
+    return failed.sum();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+
+    executorService.shutdown();
+    if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+      logger.warn("Outbox workers did not finish, their events are retried once the lease ends");
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Uses a virtual thread per task on runtimes that have them, the semaphore bounds how many run
+   * at once either way.
+   */
+  private ExecutorService createExecutorService(final int workerCount) {
+
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newFixedThreadPool(workerCount + 1, runnable -> {
+        final Thread thread = new Thread(runnable,
+            "outbox-worker-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.sublinks.sublinksapi.outbox.services;
+
+import java.util.Optional;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Turns an event into an outbox row and back. Events carry entities, so the payload is usually
+ * just the entity id and decoding loads it again.
+ *
+ * @param <E> The event type.
+ */
+public interface OutboxEventCodec<E extends ApplicationEvent> {
+
+  /**
+   * Events with the same aggregate key are delivered to a listener in the order they were
+   * published.
+   */
+  String getAggregateKey(E event);
+
+  String encode(E event);
+
+  /**
+   * Rebuilds the event from its payload.
+   *
+   * @return The event, empty if what it was about no longer exists.
+   */
+  Optional<E> decode(String payload);
+}
@@ -0,0 +1,223 @@
+package com.sublinks.sublinksapi.outbox.services;
+
+import com.sublinks.sublinksapi.outbox.config.OutboxConfig;
+import com.sublinks.sublinksapi.outbox.entities.OutboxEvent;
+import com.sublinks.sublinksapi.outbox.enums.OutboxEventStatus;
+import com.sublinks.sublinksapi.outbox.listeners.OutboxListener;
+import com.sublinks.sublinksapi.outbox.repositories.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Stores events for {@link OutboxListener}s in the publishing transaction and delivers them from
+ * there, so slow listeners no longer add to the latency of the request that published the event.
+ */
+@Service
+public class OutboxService {
+
+  private static final int MAX_ERROR_LENGTH = 2000;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxConfig outboxConfig;
+  private final Map<Class<?>, OutboxEventCodec<?>> codecs = new HashMap<>();
+  private final Map<Class<?>, List<OutboxListener<?>>> listenersByEventType = new HashMap<>();
+  private final Map<String, OutboxListener<?>> listenersByName = new HashMap<>();
+
+  public OutboxService(final OutboxEventRepository outboxEventRepository,
+      final OutboxConfig outboxConfig, final List<OutboxEventCodec<?>> outboxEventCodecs,
+      final List<OutboxListener<?>> outboxListeners) {
+
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxConfig = outboxConfig;
+    for (OutboxEventCodec<?> codec : outboxEventCodecs) {
+      codecs.put(resolveEventType(codec, OutboxEventCodec.class), codec);
+    }
+    for (OutboxListener<?> listener : outboxListeners) {
+      final Class<?> eventType = resolveEventType(listener, OutboxListener.class);
+      if (!codecs.containsKey(eventType)) {
+        throw new IllegalStateException(
+            "No outbox codec for " + eventType.getSimpleName() + " used by " + getName(listener));
+      }
+      listenersByEventType.computeIfAbsent(eventType, key -> new ArrayList<>()).add(listener);
+      listenersByName.put(getName(listener), listener);
+    }
+  }
+
+  public boolean hasListeners(final ApplicationEvent event) {
+
+    return listenersByEventType.containsKey(event.getClass());
+  }
+
+  /**
+   * Writes one outbox row per listener of the event, in the current transaction.
+   *
+   * @param event The published event.
+   */
+  @Transactional
+  public void record(final ApplicationEvent event) {
+
+    final OutboxEventCodec<ApplicationEvent> codec = getCodec(event.getClass());
+    final String aggregateKey = codec.getAggregateKey(event);
+    final String payload = codec.encode(event);
+    final Date now = new Date();
+    final List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (OutboxListener<?> listener : listenersByEventType.get(event.getClass())) {
+      outboxEvents.add(OutboxEvent.builder()
+          .eventType(event.getClass().getSimpleName())
+          .listener(getName(listener))
+          .aggregateKey(aggregateKey)
+          .payload(payload)
+          .status(OutboxEventStatus.PENDING)
+          .availableAt(now)
+          .build());
+    }
+    outboxEventRepository.saveAll(outboxEvents);
+  }
+
+  /**
+   * Calls the listeners of an event on the publishing thread, used when the outbox is disabled.
+   *
+   * @param event The published event.
+   */
+  public void deliverNow(final ApplicationEvent event) {
+
+    for (OutboxListener<?> listener : listenersByEventType.get(event.getClass())) {
+      getListener(listener).onOutboxEvent(event);
+    }
+  }
+
+  /**
+   * Claims deliverable events for the workers. Claimed events are leased, if they are neither
+   * delivered nor failed before the lease ends they are handed out again.
+   *
+   * @param limit The maximum number of events to claim.
+   * @return The claimed events.
+   */
+  @Transactional
+  public List<OutboxEvent> claim(final int limit) {
+
+    final List<OutboxEvent> outboxEvents = outboxEventRepository.findDeliverable(limit);
+    final Date leaseEnd = new Date(System.currentTimeMillis() + outboxConfig.getLease() * 1000);
+    for (OutboxEvent outboxEvent : outboxEvents) {
+      outboxEvent.setStatus(OutboxEventStatus.PROCESSING);
+      outboxEvent.setAvailableAt(leaseEnd);
+    }
+    return outboxEvents;
+  }
+
+  /**
+   * Delivers a claimed event to its listener and deletes it, in one transaction.
+   *
+   * @param outboxEventId The claimed event id.
+   */
+  @Transactional
+  public void deliver(final Long outboxEventId) {
+
+    final Optional<OutboxEvent> outboxEvent = outboxEventRepository.findById(outboxEventId);
+    if (outboxEvent.isEmpty()) {
+      return;
+    }
+    final OutboxListener<?> listener = listenersByName.get(outboxEvent.get().getListener());
+    if (listener != null) {
+      final Class<?> eventType = resolveEventType(listener, OutboxListener.class);
+      getCodec(eventType).decode(outboxEvent.get().getPayload())
+          .ifPresent(event -> getListener(listener).onOutboxEvent(event));
+    }
+    outboxEventRepository.delete(outboxEvent.get());
+  }
+
+  /**
+   * Schedules a retry with an exponential delay, or marks the event failed once it ran out of
+   * attempts.
+   *
+   * @param outboxEventId The claimed event id.
+   * @param exception     Why the delivery failed.
+   * @return True if the event will be retried.
+   */
+  @Transactional
+  public boolean fail(final Long outboxEventId, final Exception exception) {
+
+    final Optional<OutboxEvent> outboxEvent = outboxEventRepository.findById(outboxEventId);
+    if (outboxEvent.isEmpty()) {
+      return false;
+    }
+    final OutboxEvent failed = outboxEvent.get();
+    failed.setAttempts(failed.getAttempts() + 1);
+    final String error = String.valueOf(exception);
+    failed.setLastError(
+        error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    if (failed.getAttempts() >= outboxConfig.getMaxAttempts()) {
+      failed.setStatus(OutboxEventStatus.FAILED);
+      return false;
+    }
+    final long delay = outboxConfig.getRetryDelay() * 1000 * (1L << Math.min(
+        failed.getAttempts() - 1, 16));
+    failed.setStatus(OutboxEventStatus.PENDING);
+    failed.setAvailableAt(new Date(System.currentTimeMillis() + delay));
+    return true;
+  }
+
+  @Transactional
+  public int releaseExpired() {
+
+    return outboxEventRepository.releaseExpired(new Date(), OutboxEventStatus.PENDING,
+        OutboxEventStatus.PROCESSING);
+  }
+
+  public long getPendingCount() {
+
+    return outboxEventRepository.countByStatus(OutboxEventStatus.PENDING);
+  }
+
+  public long getFailedCount() {
+
+    return outboxEventRepository.countByStatus(OutboxEventStatus.FAILED);
+  }
+
+  /**
+   * How long the oldest pending event has been waiting, in milliseconds, 0 if none is.
+   */
+  public long getOldestPendingAge() {
+
+    return outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEventStatus.PENDING)
+        .map(outboxEvent -> System.currentTimeMillis() - outboxEvent.getCreatedAt().getTime())
+        .orElse(0L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private OutboxEventCodec<ApplicationEvent> getCodec(final Class<?> eventType) {
+
+    return (OutboxEventCodec<ApplicationEvent>) codecs.get(eventType);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static OutboxListener<ApplicationEvent> getListener(final OutboxListener<?> listener) {
+
+    return (OutboxListener<ApplicationEvent>) listener;
+  }
+
+  private static String getName(final Object listener) {
+
+    return ClassUtils.getUserClass(listener).getSimpleName();
+  }
+
+  private static Class<?> resolveEventType(final Object bean, final Class<?> genericInterface) {
+
+    final Class<?> eventType = ResolvableType.forClass(ClassUtils.getUserClass(bean))
+        .as(genericInterface).getGeneric(0).resolve();
+    if (eventType == null) {
+      throw new IllegalStateException(
+          "Can not resolve the event type of " + ClassUtils.getUserClass(bean).getName());
+    }
+    return eventType;
+  }
+}
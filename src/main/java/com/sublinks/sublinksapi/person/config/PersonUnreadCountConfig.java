@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.person.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class PersonUnreadCountConfig {
+
+  @Value("${sublinks.settings.unread_counts.cache_max_size}")
+  private long cacheMaxSize;
+
+  @Value("${sublinks.settings.unread_counts.cache_ttl}")
+  private long cacheTtl;
+
+  @Value("${sublinks.settings.unread_counts.reconcile_chunk_size}")
+  private int reconcileChunkSize;
+}
@@ -16,4 +16,7 @@ public class UserDataConfig {
 
   @Value("${sublinks.settings.userdata.clear_older_than}")
   private long clearOlderThan;
+
+  @Value("${sublinks.settings.userdata.session_cache_max_size}")
+  private long sessionCacheMaxSize;
 }
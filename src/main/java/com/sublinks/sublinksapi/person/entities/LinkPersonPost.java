@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Date;
 import java.util.Objects;
@@ -46,7 +47,8 @@ public class LinkPersonPost {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "link_person_posts_id_seq")
+  @SequenceGenerator(name = "link_person_posts_id_seq", sequenceName = "link_person_posts_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "link_type")
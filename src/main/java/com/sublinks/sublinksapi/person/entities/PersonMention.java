@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Date;
 import lombok.AllArgsConstructor;
@@ -41,7 +42,8 @@ public class PersonMention {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "people_mentions_id_seq")
+  @SequenceGenerator(name = "people_mentions_id_seq", sequenceName = "people_mentions_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "is_read")
@@ -0,0 +1,74 @@
+package com.sublinks.sublinksapi.person.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.proxy.HibernateProxy;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "person_unread_counts")
+public class PersonUnreadCount {
+
+  /**
+   * Attributes.
+   */
+  @Id
+  @Column(nullable = false, name = "person_id")
+  private Long personId;
+
+  @Column(nullable = false, name = "mentions")
+  private int mentions;
+
+  @Column(nullable = false, name = "replies")
+  private int replies;
+
+  @Column(nullable = false, name = "private_messages")
+  private int privateMessages;
+
+  @UpdateTimestamp
+  @Column(nullable = false, name = "updated_at")
+  private Date updatedAt;
+
+  @Override
+  public final boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (o == null) {
+      return false;
+    }
+    Class<?> objectEffectiveClass =
+        o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer()
+            .getPersistentClass() : o.getClass();
+    Class<?> thisEffectiveClass =
+        this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+            .getPersistentClass() : this.getClass();
+    if (thisEffectiveClass != objectEffectiveClass) {
+      return false;
+    }
+    PersonUnreadCount that = (PersonUnreadCount) o;
+    return getPersonId() != null && Objects.equals(getPersonId(), that.getPersonId());
+  }
+
+  @Override
+  public final int hashCode() {
+
+    return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer()
+        .getPersistentClass().hashCode() : getClass().hashCode();
+  }
+}
@@ -0,0 +1,7 @@
+package com.sublinks.sublinksapi.person.enums;
+
+public enum UnreadCountType {
+  MENTIONS,
+  REPLIES,
+  PRIVATE_MESSAGES
+}
@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.comment.events.CommentReplyCreatedEvent;
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CommentReplyCreatedForUnreadCountListener implements
+    ApplicationListener<CommentReplyCreatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(CommentReplyCreatedEvent event) {
+
+    if (!event.getCommentReply().isRead()) {
+      personUnreadCountService.increment(
+          event.getCommentReply().getRecipient(), UnreadCountType.REPLIES);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.comment.events.CommentReplyUpdatedEvent;
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CommentReplyUpdatedForUnreadCountListener implements
+    ApplicationListener<CommentReplyUpdatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(CommentReplyUpdatedEvent event) {
+
+    personUnreadCountService.recount(
+        event.getCommentReply().getRecipient(), UnreadCountType.REPLIES);
+  }
+}
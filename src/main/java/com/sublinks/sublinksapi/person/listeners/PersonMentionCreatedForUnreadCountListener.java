@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.events.PersonMentionCreatedEvent;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PersonMentionCreatedForUnreadCountListener implements
+    ApplicationListener<PersonMentionCreatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(PersonMentionCreatedEvent event) {
+
+    if (!event.getPersonMention().isRead()) {
+      personUnreadCountService.increment(
+          event.getPersonMention().getRecipient(), UnreadCountType.MENTIONS);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.events.PersonMentionupdatedEvent;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PersonMentionUpdatedForUnreadCountListener implements
+    ApplicationListener<PersonMentionupdatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(PersonMentionupdatedEvent event) {
+
+    personUnreadCountService.recount(
+        event.getPersonMention().getRecipient(), UnreadCountType.MENTIONS);
+  }
+}
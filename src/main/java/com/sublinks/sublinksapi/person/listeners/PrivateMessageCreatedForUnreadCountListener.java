@@ -0,0 +1,27 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import com.sublinks.sublinksapi.privatemessages.events.PrivateMessageCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PrivateMessageCreatedForUnreadCountListener implements
+    ApplicationListener<PrivateMessageCreatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(PrivateMessageCreatedEvent event) {
+
+    if (!event.getPrivateMessage().isRead()) {
+      personUnreadCountService.increment(
+          event.getPrivateMessage().getRecipient(), UnreadCountType.PRIVATE_MESSAGES);
+    }
+  }
+}
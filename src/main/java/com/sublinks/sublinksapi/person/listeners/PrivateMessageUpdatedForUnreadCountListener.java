@@ -0,0 +1,25 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import com.sublinks.sublinksapi.privatemessages.events.PrivateMessageUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PrivateMessageUpdatedForUnreadCountListener implements
+    ApplicationListener<PrivateMessageUpdatedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(PrivateMessageUpdatedEvent event) {
+
+    personUnreadCountService.recount(
+        event.getPrivateMessage().getRecipient(), UnreadCountType.PRIVATE_MESSAGES);
+  }
+}
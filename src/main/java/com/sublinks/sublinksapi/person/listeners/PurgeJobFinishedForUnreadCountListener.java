@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.person.listeners;
+
+import com.sublinks.sublinksapi.moderation.events.PurgeJobFinishedEvent;
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PurgeJobFinishedForUnreadCountListener implements
+    ApplicationListener<PurgeJobFinishedEvent> {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Override
+  public void onApplicationEvent(PurgeJobFinishedEvent event) {
+
+    personUnreadCountService.reconcileAfterCommit();
+  }
+}
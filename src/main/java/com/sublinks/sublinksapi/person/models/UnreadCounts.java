@@ -0,0 +1,11 @@
+package com.sublinks.sublinksapi.person.models;
+
+import lombok.Builder;
+
+/**
+ * The unread mentions, replies and private messages of a person.
+ */
+@Builder
+public record UnreadCounts(int mentions, int replies, int privateMessages) {
+
+}
@@ -0,0 +1,14 @@
+package com.sublinks.sublinksapi.person.models;
+
+/**
+ * The columns that identify a user data row, ip address and user agent are null when user data is
+ * not saved.
+ */
+public record UserDataSessionKey(
+    Long personId,
+    String token,
+    String ipAddress,
+    String userAgent
+) {
+
+}
@@ -25,4 +25,12 @@ public interface LinkPersonCommunityRepository extends JpaRepository<LinkPersonC
 
   Collection<LinkPersonCommunity> getLinkPersonCommunitiesByCommunityAndLinkTypeIsIn(
       Community community, List<LinkPersonCommunityType> types);
+
+  List<LinkPersonCommunity> findAllByPersonInAndCommunityInAndLinkType(
+      Collection<Person> persons, Collection<Community> communities,
+      LinkPersonCommunityType type);
+
+  List<LinkPersonCommunity> findAllByPersonInAndCommunityInAndLinkTypeIn(
+      Collection<Person> persons, Collection<Community> communities,
+      Collection<LinkPersonCommunityType> types);
 }
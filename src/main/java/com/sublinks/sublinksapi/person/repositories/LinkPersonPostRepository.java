@@ -4,11 +4,23 @@ import com.sublinks.sublinksapi.person.entities.LinkPersonPost;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.enums.LinkPersonPostType;
 import com.sublinks.sublinksapi.post.entities.Post;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LinkPersonPostRepository extends JpaRepository<LinkPersonPost, Long> {
 
   Optional<LinkPersonPost> getLinkPersonPostByPostAndPersonAndLinkType(Post post, Person person,
       LinkPersonPostType type);
+
+  /**
+   * Finds the links of a page of posts with their people, and the one to one relations of the
+   * people that would otherwise be loaded with a query per person.
+   */
+  @Query("SELECT l FROM LinkPersonPost l JOIN FETCH l.person p LEFT JOIN FETCH p.personAggregate LEFT JOIN FETCH p.linkPersonInstance LEFT JOIN FETCH p.registrationApplication WHERE l.post IN :posts AND l.linkType = :linkType")
+  List<LinkPersonPost> findAllByPostInAndLinkType(@Param("posts") Collection<Post> posts,
+      @Param("linkType") LinkPersonPostType linkType);
 }
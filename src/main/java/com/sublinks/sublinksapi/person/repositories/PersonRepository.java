@@ -1,12 +1,23 @@
 package com.sublinks.sublinksapi.person.repositories;
 
 import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
   Optional<Person> findOneByName(String name);
 
   Optional<Person> findOneByEmail(String email);
+
+  /**
+   * Finds people with their one to one relations, which would otherwise be loaded with a query per
+   * person.
+   */
+  @Query("SELECT p FROM Person p LEFT JOIN FETCH p.personAggregate LEFT JOIN FETCH p.linkPersonInstance LEFT JOIN FETCH p.registrationApplication WHERE p.id IN :ids")
+  List<Person> findAllWithAggregatesByIdIn(@Param("ids") Collection<Long> ids);
 }
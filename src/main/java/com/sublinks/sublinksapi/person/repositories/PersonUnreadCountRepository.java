@@ -0,0 +1,141 @@
+package com.sublinks.sublinksapi.person.repositories;
+
+import com.sublinks.sublinksapi.person.entities.PersonUnreadCount;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PersonUnreadCountRepository extends JpaRepository<PersonUnreadCount, Long> {
+
+  /**
+   * Creates the counts of a person from the mentions, replies and private messages tables, unless
+   * another request created them first.
+   *
+   * @param personId The person id.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO person_unread_counts (person_id, mentions, replies, private_messages)
+      SELECT :personId,
+             (SELECT count(*)
+              FROM people_mentions
+              WHERE recipient_id = :personId
+                AND is_read = false),
+             (SELECT count(*)
+              FROM comment_replies
+              WHERE recipient_id = :personId
+                AND is_read = false),
+             (SELECT count(*)
+              FROM private_messages
+              WHERE recipient_id = :personId
+                AND is_read = false)
+      ON CONFLICT (person_id) DO NOTHING
+      """, nativeQuery = true)
+  void insertCounted(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET mentions = mentions + 1, updated_at = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int incrementMentions(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET replies = replies + 1, updated_at = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int incrementReplies(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET private_messages = private_messages + 1, updated_at = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int incrementPrivateMessages(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET mentions   = (SELECT count(*)
+                        FROM people_mentions
+                        WHERE recipient_id = :personId
+                          AND is_read = false),
+          updated_at = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int recountMentions(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET replies    = (SELECT count(*)
+                        FROM comment_replies
+                        WHERE recipient_id = :personId
+                          AND is_read = false),
+          updated_at = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int recountReplies(@Param("personId") Long personId);
+
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts
+      SET private_messages = (SELECT count(*)
+                              FROM private_messages
+                              WHERE recipient_id = :personId
+                                AND is_read = false),
+          updated_at       = CURRENT_TIMESTAMP(3)
+      WHERE person_id = :personId
+      """, nativeQuery = true)
+  int recountPrivateMessages(@Param("personId") Long personId);
+
+  @Query(value = """
+      SELECT person_id
+      FROM person_unread_counts
+      WHERE person_id > :afterId
+      ORDER BY person_id
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<Long> findPersonIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+  /**
+   * Recounts the counts of some people, only writing the rows that drifted.
+   *
+   * @param personIds The person ids.
+   * @return The number of rows that drifted.
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE person_unread_counts u
+      SET mentions         = c.mentions,
+          replies          = c.replies,
+          private_messages = c.private_messages,
+          updated_at       = CURRENT_TIMESTAMP(3)
+      FROM (SELECT p.person_id,
+                   (SELECT count(*)
+                    FROM people_mentions m
+                    WHERE m.recipient_id = p.person_id
+                      AND m.is_read = false) AS mentions,
+                   (SELECT count(*)
+                    FROM comment_replies r
+                    WHERE r.recipient_id = p.person_id
+                      AND r.is_read = false) AS replies,
+                   (SELECT count(*)
+                    FROM private_messages pm
+                    WHERE pm.recipient_id = p.person_id
+                      AND pm.is_read = false) AS private_messages
+            FROM person_unread_counts p
+            WHERE p.person_id IN :personIds) c
+      WHERE u.person_id = c.person_id
+        AND (u.mentions, u.replies, u.private_messages)
+          IS DISTINCT FROM (c.mentions, c.replies, c.private_messages)
+      """, nativeQuery = true)
+  int reconcile(@Param("personIds") Collection<Long> personIds);
+}
@@ -2,6 +2,7 @@ package com.sublinks.sublinksapi.person.repositories;
 
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.entities.UserData;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +22,9 @@ public interface UserDataRepository extends JpaRepository<UserData, Long> {
   Optional<UserData> findFirstByPersonAndTokenAndIpAddressAndUserAgentAndActiveIsTrue(Person person,
       String token, String ipAddress, String userAgent);
 
+  Optional<UserData> findFirstByPersonIdAndTokenAndIpAddressAndUserAgentAndActiveIsTrue(
+      Long personId, String token, String ipAddress, String userAgent);
+
   Optional<UserData> findFirstByPersonAndTokenAndIpAddressAndActiveIsTrue(Person person,
       String token, String ipAddress);
 
@@ -35,4 +39,9 @@ public interface UserDataRepository extends JpaRepository<UserData, Long> {
   @Modifying
   @Query("update UserData u set u.active = false where u.person = :person")
   void updateAllByPersonSetActiveToFalse(@Param(value = "person") Person person);
+
+  @Modifying
+  @Query("update UserData u set u.lastUsedAt = :lastUsedAt where u.id in :ids and u.lastUsedAt < :lastUsedAt")
+  int updateLastUsedAtByIdIn(@Param(value = "ids") Collection<Long> ids,
+      @Param(value = "lastUsedAt") Date lastUsedAt);
 }
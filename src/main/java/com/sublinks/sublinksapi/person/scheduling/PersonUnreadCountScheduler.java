@@ -0,0 +1,24 @@
+package com.sublinks.sublinksapi.person.scheduling;
+
+import com.sublinks.sublinksapi.person.services.PersonUnreadCountService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class PersonUnreadCountScheduler {
+
+  private final PersonUnreadCountService personUnreadCountService;
+
+  @Scheduled(fixedDelayString = "${sublinks.settings.unread_counts.reconcile_rate}", timeUnit = TimeUnit.SECONDS)
+  public void reconcileUnreadCounts() {
+
+    personUnreadCountService.reconcile();
+  }
+}
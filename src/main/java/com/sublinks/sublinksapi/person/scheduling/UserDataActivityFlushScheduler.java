@@ -0,0 +1,42 @@
+package com.sublinks.sublinksapi.person.scheduling;
+
+import com.sublinks.sublinksapi.person.services.UserDataActivityService;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class UserDataActivityFlushScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+      UserDataActivityFlushScheduler.class);
+
+  private final UserDataActivityService userDataActivityService;
+
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${sublinks.settings.userdata.flush_rate}", timeUnit = TimeUnit.SECONDS)
+  public void flushUserDataActivity() {
+
+    final Map<Long, Long> touches = userDataActivityService.drainTouches();
+    if (touches.isEmpty()) {
+      return;
+    }
+    try {
+      userDataActivityService.applyTouches(touches);
+    } catch (RuntimeException e) {
+      logger.error("Could not flush activity of {} sessions, retrying on the next run",
+          touches.size(), e);
+      userDataActivityService.restoreTouches(touches);
+    }
+  }
+}
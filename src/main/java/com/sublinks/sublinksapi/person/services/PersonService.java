@@ -3,14 +3,15 @@ package com.sublinks.sublinksapi.person.services;
 import com.sublinks.sublinksapi.authorization.entities.Role;
 import com.sublinks.sublinksapi.authorization.entities.RolePermissions;
 import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+import com.sublinks.sublinksapi.authorization.events.RolesUpdatedPublisher;
 import com.sublinks.sublinksapi.authorization.repositories.RolePermissionsRepository;
 import com.sublinks.sublinksapi.authorization.repositories.RoleRepository;
 import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
-import com.sublinks.sublinksapi.comment.repositories.CommentHistoryRepository;
-import com.sublinks.sublinksapi.comment.services.CommentService;
 import com.sublinks.sublinksapi.community.entities.Community;
 import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
 import com.sublinks.sublinksapi.language.entities.Language;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.services.PurgeJobService;
 import com.sublinks.sublinksapi.person.entities.LinkPersonInstance;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.entities.PersonAggregate;
@@ -20,12 +21,9 @@ import com.sublinks.sublinksapi.person.events.PersonDeletedPublisher;
 import com.sublinks.sublinksapi.person.events.PersonUpdatedPublisher;
 import com.sublinks.sublinksapi.person.repositories.PersonAggregateRepository;
 import com.sublinks.sublinksapi.person.repositories.PersonRepository;
-import com.sublinks.sublinksapi.post.repositories.PostHistoryRepository;
-import com.sublinks.sublinksapi.post.services.PostService;
-import com.sublinks.sublinksapi.privatemessages.services.PrivateMessageService;
 import com.sublinks.sublinksapi.utils.BaseUrlUtil;
-import com.sublinks.sublinksapi.utils.KeyGeneratorUtil;
 import com.sublinks.sublinksapi.utils.KeyStore;
+import com.sublinks.sublinksapi.utils.KeyStorePool;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -44,23 +42,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PersonService {
 
-  private final KeyGeneratorUtil keyGeneratorUtil;
+  private final KeyStorePool keyStorePool;
   private final BaseUrlUtil baseUrlUtil;
   private final PersonRepository personRepository;
   private final PersonAggregateRepository personAggregateRepository;
   private final LocalInstanceContext localInstanceContext;
   private final PersonCreatedPublisher personCreatedPublisher;
   private final PersonUpdatedPublisher personUpdatedPublisher;
-  private final PostService postService;
-  private final PostHistoryRepository postHistoryRepository;
-  private final CommentService commentService;
-  private final CommentHistoryRepository commentHistoryRepository;
-  private final PrivateMessageService privateMessageService;
+  private final PurgeJobService purgeJobService;
 
 
   private final RoleRepository roleRepository;
   private final RolePermissionsRepository rolePermissionsRepository;
   private final RoleAuthorizingService roleAuthorizingService;
+  private final RolesUpdatedPublisher rolesUpdatedPublisher;
   private final PersonDeletedPublisher personDeletedPublisher;
 
   public Set<Role> generateInitialRoles() {
@@ -176,6 +171,7 @@ public class PersonService {
             RolePermissions.builder().role(registeredUserRole).permission(rolePermission).build()))
         .collect(Collectors.toSet()));
 
+    rolesUpdatedPublisher.publish();
     return new HashSet<>(roleRepository.findAll());
   }
 
@@ -205,7 +201,7 @@ public class PersonService {
 
     person.setPassword(passwordEncoder.encode(person.getPassword()));
 
-    final KeyStore keys = keyGeneratorUtil.generate();
+    final KeyStore keys = keyStorePool.take();
     person.setPublicKey(keys.publicKey());
     person.setPrivateKey(keys.privateKey());
     person.setLocal(true);
@@ -284,12 +280,8 @@ public class PersonService {
   public void deleteUserAccount(final Person person, final boolean deleteContent) {
 
     if (deleteContent) {
-      // Log results ? @todo
-      postService.deleteAllPostsByPerson(person);
-      postHistoryRepository.deleteAllByCreator(person);
-      commentService.deleteAllCommentsByPerson(person);
-      commentHistoryRepository.deleteAllByCreator(person);
-      privateMessageService.deleteAllPrivateMessagesByPerson(person);
+      // Posts, comments and private messages are deleted in the background, see PurgeJobSteps
+      purgeJobService.enqueue(PurgeJobType.PERSON_CONTENT, person.getId(), person.getId(), null);
     }
 
     person.setBiography("*Permanently Deleted*");
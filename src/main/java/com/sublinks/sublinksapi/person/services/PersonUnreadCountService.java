@@ -0,0 +1,232 @@
+package com.sublinks.sublinksapi.person.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sublinks.sublinksapi.person.config.PersonUnreadCountConfig;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.entities.PersonUnreadCount;
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.models.UnreadCounts;
+import com.sublinks.sublinksapi.person.repositories.PersonUnreadCountRepository;
+import com.sublinks.sublinksapi.utils.CacheGeneration;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the unread mentions, replies and private messages of every person that asked for them in
+ * the person_unread_counts table, fronted by a cache, so polling the unread counts is a single key
+ * lookup instead of three counts.
+ *
+ * <p>A new unread row increments its counter. A row marked as read or deleted recounts its counter
+ * instead, since the events do not tell whether it was unread before, once per person and counter
+ * before the transaction commits. Anything changing the tables without an event is fixed by
+ * {@link #reconcile()}, on a schedule and once a purge job finished.</p>
+ */
+@Service
+public class PersonUnreadCountService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PersonUnreadCountService.class);
+
+  private final PersonUnreadCountRepository personUnreadCountRepository;
+  private final PersonUnreadCountConfig personUnreadCountConfig;
+  private final TransactionTemplate transactionTemplate;
+  private final Cache<Long, UnreadCounts> unreadCounts;
+  private final CacheGeneration cacheGeneration = new CacheGeneration();
+
+  public PersonUnreadCountService(final PersonUnreadCountRepository personUnreadCountRepository,
+      final PersonUnreadCountConfig personUnreadCountConfig,
+      final PlatformTransactionManager transactionManager) {
+
+    this.personUnreadCountRepository = personUnreadCountRepository;
+    this.personUnreadCountConfig = personUnreadCountConfig;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.unreadCounts = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, personUnreadCountConfig.getCacheMaxSize()))
+        .expireAfterWrite(Duration.ofSeconds(Math.max(0, personUnreadCountConfig.getCacheTtl())))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Gets the unread counts of a person, counting them the first time they are asked for.
+   *
+   * @param person The person.
+   * @return The unread counts.
+   */
+  public UnreadCounts getUnreadCounts(final Person person) {
+
+    return cacheGeneration.get(unreadCounts, person.getId(), this::loadUnreadCounts);
+  }
+
+  private UnreadCounts loadUnreadCounts(final Long personId) {
+
+    final PersonUnreadCount personUnreadCount = personUnreadCountRepository.findById(personId)
+        .orElseGet(() -> transactionTemplate.execute(status -> {
+          personUnreadCountRepository.insertCounted(personId);
+          return personUnreadCountRepository.findById(personId).orElseThrow();
+        }));
+    return UnreadCounts.builder()
+        .mentions(personUnreadCount.getMentions())
+        .replies(personUnreadCount.getReplies())
+        .privateMessages(personUnreadCount.getPrivateMessages())
+        .build();
+  }
+
+  /**
+   * Counts a new unread row. People whose counts were never asked for are left alone, their
+   * counts are made from the tables when they are.
+   *
+   * @param recipient The recipient of the row.
+   * @param type      The counter.
+   */
+  public void increment(final Person recipient, final UnreadCountType type) {
+
+    final Long personId = recipient.getId();
+    switch (type) {
+      case MENTIONS -> personUnreadCountRepository.incrementMentions(personId);
+      case REPLIES -> personUnreadCountRepository.incrementReplies(personId);
+      case PRIVATE_MESSAGES -> personUnreadCountRepository.incrementPrivateMessages(personId);
+      default -> throw new IllegalArgumentException("Unknown unread count type " + type);
+    }
+    evict(personId);
+  }
+
+  /**
+   * Recounts a counter of a person before the current transaction commits, once however many of
+   * the person's rows the transaction marks as read. Without a transaction it is recounted now.
+   *
+   * @param recipient The recipient of the changed row.
+   * @param type      The counter.
+   */
+  public void recount(final Person recipient, final UnreadCountType type) {
+
+    final PendingRecount pendingRecount = new PendingRecount(recipient.getId(), type);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      transactionTemplate.executeWithoutResult(status -> recountNow(pendingRecount));
+      cacheGeneration.evictNow(() -> unreadCounts.invalidate(pendingRecount.personId()));
+      return;
+    }
+    cacheGeneration.evictNow(() -> unreadCounts.invalidate(pendingRecount.personId()));
+    @SuppressWarnings("unchecked")
+    Set<PendingRecount> pendingRecounts = (Set<PendingRecount>) TransactionSynchronizationManager
+        .getResource(this);
+    if (pendingRecounts == null) {
+      pendingRecounts = new LinkedHashSet<>();
+      TransactionSynchronizationManager.bindResource(this, pendingRecounts);
+      final Set<PendingRecount> recounts = pendingRecounts;
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+
+          personUnreadCountRepository.flush();
+          recounts.forEach(PersonUnreadCountService.this::recountNow);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+
+          TransactionSynchronizationManager.unbindResourceIfPossible(
+              PersonUnreadCountService.this);
+          cacheGeneration.evictNow(() -> recounts.forEach(
+              recount -> unreadCounts.invalidate(recount.personId())));
+        }
+      });
+    }
+    pendingRecounts.add(pendingRecount);
+  }
+
+  private void recountNow(final PendingRecount pendingRecount) {
+
+    final Long personId = pendingRecount.personId();
+    switch (pendingRecount.type()) {
+      case MENTIONS -> personUnreadCountRepository.recountMentions(personId);
+      case REPLIES -> personUnreadCountRepository.recountReplies(personId);
+      case PRIVATE_MESSAGES -> personUnreadCountRepository.recountPrivateMessages(personId);
+      default -> throw new IllegalArgumentException(
+          "Unknown unread count type " + pendingRecount.type());
+    }
+  }
+
+  /**
+   * Recounts the counts of every person, a chunk of people per transaction, fixing counts that
+   * drifted from the tables.
+   *
+   * @return The number of people whose counts drifted.
+   */
+  public long reconcile() {
+
+    final int chunkSize = Math.max(1, personUnreadCountConfig.getReconcileChunkSize());
+    long afterId = 0;
+    long drifted = 0;
+    List<Long> personIds;
+    do {
+      personIds = personUnreadCountRepository.findPersonIdsAfter(afterId, chunkSize);
+      if (personIds.isEmpty()) {
+        break;
+      }
+      final List<Long> chunk = personIds;
+      final Integer updated = transactionTemplate.execute(
+          status -> personUnreadCountRepository.reconcile(chunk));
+      if (updated != null && updated > 0) {
+        drifted += updated;
+        cacheGeneration.evictNow(() -> unreadCounts.invalidateAll(chunk));
+      }
+      afterId = personIds.get(personIds.size() - 1);
+    } while (personIds.size() == chunkSize);
+
+    if (drifted > 0) {
+      logger.info("Reconciled the unread counts of {} people", drifted);
+    }
+    return drifted;
+  }
+
+  /**
+   * Reconciles the counts of every person once the current transaction commits, for changes that
+   * delete or update unread rows without their events, like a purge. Without a transaction they
+   * are reconciled now.
+   */
+  public void reconcileAfterCommit() {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      reconcile();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+
+        reconcile();
+      }
+    });
+  }
+
+  /**
+   * Evicts the counts of a person, see {@link CacheGeneration#evict}.
+   */
+  private void evict(final Long personId) {
+
+    cacheGeneration.evict(() -> unreadCounts.invalidate(personId));
+  }
+
+  public CacheStats getStats() {
+
+    return unreadCounts.stats();
+  }
+
+  private record PendingRecount(Long personId, UnreadCountType type) {
+
+  }
+}
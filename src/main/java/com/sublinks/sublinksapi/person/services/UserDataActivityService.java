@@ -0,0 +1,121 @@
+package com.sublinks.sublinksapi.person.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sublinks.sublinksapi.person.config.UserDataConfig;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.models.UserDataSessionKey;
+import com.sublinks.sublinksapi.person.repositories.UserDataRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tracks when sessions were last used without writing user_data on every request. The ids of known
+ * sessions are cached by their (person, token, ip address, user agent) columns, and the last used
+ * times are coalesced in memory per session and written with a few batched updates every flush.
+ */
+@Service
+public class UserDataActivityService {
+
+  private static final int UPDATE_CHUNK_SIZE = 500;
+
+  private final UserDataRepository userDataRepository;
+  private final Cache<UserDataSessionKey, Long> knownSessions;
+  private final Map<Long, Long> pendingLastUsedAt = new ConcurrentHashMap<>();
+
+  public UserDataActivityService(final UserDataRepository userDataRepository,
+      final UserDataConfig userDataConfig) {
+
+    this.userDataRepository = userDataRepository;
+    this.knownSessions = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, userDataConfig.getSessionCacheMaxSize()))
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+  }
+
+  public Optional<Long> getKnownSession(final UserDataSessionKey sessionKey) {
+
+    return Optional.ofNullable(knownSessions.getIfPresent(sessionKey));
+  }
+
+  public void rememberSession(final UserDataSessionKey sessionKey, final Long userDataId) {
+
+    knownSessions.put(sessionKey, userDataId);
+  }
+
+  public void forgetSession(final Long userDataId) {
+
+    knownSessions.asMap().values().removeIf(userDataId::equals);
+  }
+
+  public void forgetSessions(final Person person) {
+
+    knownSessions.asMap().keySet()
+        .removeIf(sessionKey -> sessionKey.personId().equals(person.getId()));
+  }
+
+  /**
+   * Marks a session as used now, the time is written on the next flush.
+   *
+   * @param userDataId The id of the user data row of the session.
+   */
+  public void touch(final Long userDataId) {
+
+    pendingLastUsedAt.merge(userDataId, System.currentTimeMillis(), Math::max);
+  }
+
+  /**
+   * Takes the pending last used times out of the buffer. Times added while draining stay in the
+   * buffer for the next flush.
+   *
+   * @return The last used times in epoch milliseconds by user data id.
+   */
+  public Map<Long, Long> drainTouches() {
+
+    final Map<Long, Long> touches = new HashMap<>();
+    for (Map.Entry<Long, Long> entry : pendingLastUsedAt.entrySet()) {
+      if (pendingLastUsedAt.remove(entry.getKey(), entry.getValue())) {
+        touches.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return touches;
+  }
+
+  /**
+   * Writes drained last used times, grouped by second so a flush only needs one update per second
+   * and chunk of ids.
+   *
+   * @param touches The last used times in epoch milliseconds by user data id.
+   */
+  @Transactional
+  public void applyTouches(final Map<Long, Long> touches) {
+
+    final Map<Long, List<Long>> idsBySecond = new TreeMap<>();
+    touches.forEach((userDataId, lastUsedAt) -> idsBySecond.computeIfAbsent(lastUsedAt / 1000,
+        second -> new ArrayList<>()).add(userDataId));
+
+    idsBySecond.forEach((second, userDataIds) -> {
+      final Date lastUsedAt = new Date(second * 1000);
+      for (int i = 0; i < userDataIds.size(); i += UPDATE_CHUNK_SIZE) {
+        userDataRepository.updateLastUsedAtByIdIn(
+            userDataIds.subList(i, Math.min(i + UPDATE_CHUNK_SIZE, userDataIds.size())),
+            lastUsedAt);
+      }
+    });
+  }
+
+  public void restoreTouches(final Map<Long, Long> touches) {
+
+    touches.forEach((userDataId, lastUsedAt) -> pendingLastUsedAt.merge(userDataId, lastUsedAt,
+        Math::max));
+  }
+}
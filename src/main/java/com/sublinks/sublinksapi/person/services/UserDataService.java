@@ -5,12 +5,13 @@ import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.entities.UserData;
 import com.sublinks.sublinksapi.person.events.UserDataCreatedEventPublisher;
 import com.sublinks.sublinksapi.person.events.UserDataInvalidationEventPublisher;
-import com.sublinks.sublinksapi.person.events.UserDataUpdatedPublisher;
+import com.sublinks.sublinksapi.person.models.UserDataSessionKey;
 import com.sublinks.sublinksapi.person.repositories.UserDataRepository;
 import jakarta.annotation.Nullable;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,70 +23,64 @@ public class UserDataService {
   private final UserDataRepository userDataRepository;
   private final UserDataConfig userDataConfig;
   private final UserDataCreatedEventPublisher userDataCreatedEventPublisher;
-  private final UserDataUpdatedPublisher userDataUpdatedPublisher;
   private final UserDataInvalidationEventPublisher userDataInvalidationEventPublisher;
+  private final UserDataActivityService userDataActivityService;
 
 
   public void invalidate(UserData userData) {
 
     userData.setActive(false);
     userDataRepository.save(userData);
+    userDataActivityService.forgetSession(userData.getId());
     userDataInvalidationEventPublisher.publish(userData);
   }
 
+  /**
+   * Records that a session was used. Known sessions only have their last used time buffered, a new
+   * (person, token, ip address, user agent) combination is looked up and, if missing, inserted
+   * right away.
+   */
   public void checkAndAddIpRelation(Person person, String ipAddress, String token,
       @Nullable String userAgent) {
 
+    checkAndAddIpRelation(person.getId(), () -> person, ipAddress, token, userAgent);
+  }
+
+  /**
+   * Records that a session was used, for callers that have not loaded the person. The person is
+   * only loaded when the session is new.
+   */
+  public void checkAndAddIpRelation(Long personId, Supplier<Person> person, String ipAddress,
+      String token, @Nullable String userAgent) {
+
     boolean saveUserIps = userDataConfig.isSaveUserData();
-    Optional<UserData> foundData = getActiveUserDataByPersonAndIpAddress(person, token, ipAddress,
-        userAgent);
+    final UserDataSessionKey sessionKey = new UserDataSessionKey(personId, token,
+        saveUserIps ? ipAddress : null, saveUserIps ? userAgent : null);
 
-    if (foundData.isPresent()) {
+    final Optional<Long> knownUserDataId = userDataActivityService.getKnownSession(sessionKey);
+    if (knownUserDataId.isPresent()) {
+      userDataActivityService.touch(knownUserDataId.get());
+      return;
+    }
 
-      UserData userData = foundData.get();
-
-      if (saveUserIps && userAgent != null && !userData.getUserAgent().equals(userAgent)) {
-        final UserData newUserData = UserData.builder()
-            .person(person)
-            .ipAddress(ipAddress)
-            .userAgent(userAgent)
-            .token(token)
-            .active(true)
-            .build();
-
-        userDataRepository.save(newUserData);
-        userDataCreatedEventPublisher.publish(newUserData);
-        return;
-      }
-
-      if (saveUserIps && !userData.getIpAddress().equals(ipAddress)) {
-        final UserData newUserData = UserData.builder()
-            .person(person)
-            .ipAddress(ipAddress)
-            .userAgent(userAgent)
-            .token(token)
-            .active(true)
-            .build();
-
-        userDataRepository.save(newUserData);
-        userDataCreatedEventPublisher.publish(newUserData);
-        return;
-      }
-
-      userData.setLastUsedAt(new Date());
-
-      userDataRepository.save(userData);
-      userDataUpdatedPublisher.publish(userData);
+    Optional<UserData> foundData = userDataRepository
+        .findFirstByPersonIdAndTokenAndIpAddressAndUserAgentAndActiveIsTrue(personId, token,
+            sessionKey.ipAddress(), sessionKey.userAgent());
+    if (foundData.isPresent()) {
+      userDataActivityService.rememberSession(sessionKey, foundData.get().getId());
+      userDataActivityService.touch(foundData.get().getId());
       return;
     }
+
     UserData userData = UserData.builder()
-        .person(person)
-        .ipAddress(saveUserIps ? ipAddress : null)
-        .userAgent(saveUserIps ? userAgent : null)
+        .person(person.get())
+        .ipAddress(sessionKey.ipAddress())
+        .userAgent(sessionKey.userAgent())
         .token(token)
         .active(true)
         .build();
     UserData createdUserData = userDataRepository.save(userData);
+    userDataActivityService.rememberSession(sessionKey, createdUserData.getId());
     userDataCreatedEventPublisher.publish(createdUserData);
   }
 
@@ -94,21 +89,11 @@ public class UserDataService {
     return userDataRepository.findFirstByPersonAndTokenAndActiveIsTrue(person, token);
   }
 
-  private Optional<UserData> getActiveUserDataByPersonAndIpAddress(Person person, String token,
-      String ipAddress, String userAgent) {
-
-    if (userDataConfig.isSaveUserData()) {
-      return userDataRepository.findFirstByPersonAndTokenAndActiveIsTrue(person, ipAddress);
-    }
-
-    return userDataRepository.findFirstByPersonAndTokenAndIpAddressAndUserAgentAndActiveIsTrue(
-        person, token, ipAddress, userAgent);
-  }
-
   @Transactional
   public void invalidateAllUserData(Person person) {
 
     userDataRepository.updateAllByPersonSetActiveToFalse(person);
+    userDataActivityService.forgetSessions(person);
     userDataInvalidationEventPublisher.publish(person);
   }
 
@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.post.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class PostRankingConfig {
+
+  @Value("${sublinks.settings.post_ranking.rate}")
+  private long rate;
+
+  @Value("${sublinks.settings.post_ranking.max_age}")
+  private long maxAge;
+
+  @Value("${sublinks.settings.post_ranking.chunk_size}")
+  private int chunkSize;
+}
@@ -8,13 +8,16 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.util.Date;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.proxy.HibernateProxy;
 
 @Getter
@@ -23,6 +26,7 @@ import org.hibernate.proxy.HibernateProxy;
 @NoArgsConstructor
 @Builder
 @Entity
+@DynamicUpdate
 @Table(name = "post_aggregates")
 public class PostAggregate {
 
@@ -41,7 +45,8 @@ public class PostAggregate {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_aggregates_id_seq")
+  @SequenceGenerator(name = "post_aggregates_id_seq", sequenceName = "post_aggregates_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "comment_count")
@@ -65,6 +70,12 @@ public class PostAggregate {
   @Column(nullable = false, name = "controversy_rank")
   private int controversyRank;
 
+  @Column(nullable = false, name = "scaled_rank")
+  private int scaledRank;
+
+  @Column(nullable = false, name = "newest_comment_at")
+  private Date newestCommentAt;
+
   @Override
   public final boolean equals(Object o) {
 
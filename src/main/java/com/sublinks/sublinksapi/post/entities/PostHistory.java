@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Date;
 import java.util.Objects;
@@ -40,7 +41,8 @@ public class PostHistory {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_history_id_seq")
+  @SequenceGenerator(name = "post_history_id_seq", sequenceName = "post_history_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "title")
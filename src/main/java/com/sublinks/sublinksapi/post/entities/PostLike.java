@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Date;
 import java.util.Objects;
@@ -44,7 +45,8 @@ public class PostLike {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_likes_id_seq")
+  @SequenceGenerator(name = "post_likes_id_seq", sequenceName = "post_likes_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, name = "is_up_vote")
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.Date;
 import java.util.Objects;
@@ -44,7 +45,8 @@ public class PostRead {
    * Attributes.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_reads_id_seq")
+  @SequenceGenerator(name = "post_reads_id_seq", sequenceName = "post_reads_id_seq", allocationSize = 50)
   private Long id;
 
   @CreationTimestamp
@@ -0,0 +1,20 @@
+package com.sublinks.sublinksapi.post.events;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once per chunk of a bulk operation, instead of one event per post.
+ */
+@Getter
+public class PostBatchUpdatedEvent extends ApplicationEvent {
+
+  private final List<Long> postIds;
+
+  public PostBatchUpdatedEvent(final Object source, final List<Long> postIds) {
+
+    super(source);
+    this.postIds = postIds;
+  }
+}
@@ -0,0 +1,19 @@
+package com.sublinks.sublinksapi.post.events;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostBatchUpdatedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public void publish(final List<Long> postIds) {
+
+    final PostBatchUpdatedEvent postBatchUpdatedEvent = new PostBatchUpdatedEvent(this, postIds);
+    applicationEventPublisher.publishEvent(postBatchUpdatedEvent);
+  }
+}
@@ -0,0 +1,33 @@
+package com.sublinks.sublinksapi.post.events;
+
+import com.sublinks.sublinksapi.outbox.services.OutboxEventCodec;
+import com.sublinks.sublinksapi.post.repositories.PostRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostCreatedOutboxCodec implements OutboxEventCodec<PostCreatedEvent> {
+
+  private final PostRepository postRepository;
+
+  @Override
+  public String getAggregateKey(final PostCreatedEvent event) {
+
+    return "post:" + event.getPost().getId();
+  }
+
+  @Override
+  public String encode(final PostCreatedEvent event) {
+
+    return String.valueOf(event.getPost().getId());
+  }
+
+  @Override
+  public Optional<PostCreatedEvent> decode(final String payload) {
+
+    return postRepository.findById(Long.parseLong(payload))
+        .map(post -> new PostCreatedEvent(this, post));
+  }
+}
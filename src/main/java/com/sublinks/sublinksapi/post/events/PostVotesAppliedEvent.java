@@ -0,0 +1,22 @@
+package com.sublinks.sublinksapi.post.events;
+
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once per vote flush with the aggregates whose counts it changed, instead of one event
+ * per vote.
+ */
+@Getter
+public class PostVotesAppliedEvent extends ApplicationEvent {
+
+  private final List<PostAggregate> postAggregates;
+
+  public PostVotesAppliedEvent(final Object source, final List<PostAggregate> postAggregates) {
+
+    super(source);
+    this.postAggregates = postAggregates;
+  }
+}
@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.post.events;
+
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostVotesAppliedPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public void publish(final List<PostAggregate> postAggregates) {
+
+    final PostVotesAppliedEvent postVotesAppliedEvent = new PostVotesAppliedEvent(this,
+        postAggregates);
+    applicationEventPublisher.publishEvent(postVotesAppliedEvent);
+  }
+}
@@ -3,6 +3,8 @@ package com.sublinks.sublinksapi.post.listeners;
 import com.sublinks.sublinksapi.comment.events.CommentCreatedEvent;
 import com.sublinks.sublinksapi.post.entities.PostAggregate;
 import com.sublinks.sublinksapi.post.repositories.PostAggregateRepository;
+import com.sublinks.sublinksapi.post.services.PostRankingService;
+import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostCommentCreatedListener implements ApplicationListener<CommentCreatedEvent> {
 
   private final PostAggregateRepository postAggregateRepository;
+  private final PostRankingService postRankingService;
 
   @Override
   @Transactional
@@ -24,6 +27,8 @@ public class PostCommentCreatedListener implements ApplicationListener<CommentCr
 
     final PostAggregate postAggregate = event.getComment().getPost().getPostAggregate();
     postAggregate.setCommentCount(postAggregate.getCommentCount() + 1);
+    postAggregate.setNewestCommentAt(new Date());
+    postRankingService.refreshRanks(postAggregate);
     postAggregateRepository.save(postAggregate);
   }
 }
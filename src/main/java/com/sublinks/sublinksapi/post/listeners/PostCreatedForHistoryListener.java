@@ -1,24 +1,24 @@
 package com.sublinks.sublinksapi.post.listeners;
 
+import com.sublinks.sublinksapi.outbox.listeners.OutboxListener;
 import com.sublinks.sublinksapi.post.config.PostHistoryConfig;
 import com.sublinks.sublinksapi.post.events.PostCreatedEvent;
 import com.sublinks.sublinksapi.post.services.PostHistoryService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationListener;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class PostCreatedForHistoryListener implements ApplicationListener<PostCreatedEvent> {
+public class PostCreatedForHistoryListener implements OutboxListener<PostCreatedEvent> {
 
   private final PostHistoryConfig postHistoryConfig;
   private final PostHistoryService postHistoryService;
 
   @Override
   @Transactional
-  public void onApplicationEvent(@NonNull PostCreatedEvent event) {
+  public void onOutboxEvent(@NonNull PostCreatedEvent event) {
 
     if (!postHistoryConfig.isKeepPostHistory()) {
       return;
@@ -1,5 +1,6 @@
 package com.sublinks.sublinksapi.post.listeners;
 
+import com.sublinks.sublinksapi.outbox.listeners.OutboxListener;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.post.entities.CrossPost;
 import com.sublinks.sublinksapi.post.entities.Post;
@@ -10,14 +11,13 @@ import com.sublinks.sublinksapi.post.services.PostReadService;
 import com.sublinks.sublinksapi.post.services.PostService;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationListener;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class PostCreatedListener implements ApplicationListener<PostCreatedEvent> {
+public class PostCreatedListener implements OutboxListener<PostCreatedEvent> {
 
   private final PostReadService postReadService;
   private final PostService postService;
@@ -26,7 +26,7 @@ public class PostCreatedListener implements ApplicationListener<PostCreatedEvent
 
   @Override
   @Transactional
-  public void onApplicationEvent(@NonNull PostCreatedEvent event) {
+  public void onOutboxEvent(@NonNull PostCreatedEvent event) {
 
     try {
       markPostRead(event.getPost());
@@ -1,33 +1,29 @@
 package com.sublinks.sublinksapi.post.listeners;
 
-import com.sublinks.sublinksapi.post.entities.PostAggregate;
 import com.sublinks.sublinksapi.post.events.PostLikeCreatedEvent;
-import com.sublinks.sublinksapi.post.repositories.PostAggregateRepository;
+import com.sublinks.sublinksapi.post.services.PostVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class PostLikeCreatedListener implements ApplicationListener<PostLikeCreatedEvent> {
 
-  private final PostAggregateRepository postAggregateRepository;
+  private final PostVoteAccumulatorService postVoteAccumulatorService;
 
   @Override
-  @Transactional
   public void onApplicationEvent(PostLikeCreatedEvent event) {
 
-    final PostAggregate postAggregate = event.getPostLike().getPost().getPostAggregate();
+    final VoteDelta voteDelta;
     if (event.getPostLike().isUpVote()) {
-      postAggregate.setUpVoteCount(postAggregate.getUpVoteCount() + 1);
-      postAggregate.setScore(postAggregate.getScore() + 1);
+      voteDelta = new VoteDelta(1, 1, 0);
     } else if (event.getPostLike().isDownVote()) {
-      postAggregate.setDownVoteCount(postAggregate.getDownVoteCount() + 1);
-      postAggregate.setScore(postAggregate.getScore() - 1);
+      voteDelta = new VoteDelta(-1, 0, 1);
     } else {
       return;
     }
-    postAggregateRepository.save(postAggregate);
+    postVoteAccumulatorService.addVote(event.getPostLike().getPost(), voteDelta);
   }
 }
@@ -1,55 +1,30 @@
 package com.sublinks.sublinksapi.post.listeners;
 
-import com.sublinks.sublinksapi.post.entities.PostAggregate;
 import com.sublinks.sublinksapi.post.events.PostLikeUpdatedEvent;
-import com.sublinks.sublinksapi.post.repositories.PostAggregateRepository;
+import com.sublinks.sublinksapi.post.services.PostVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class PostLikeUpdatedListener implements ApplicationListener<PostLikeUpdatedEvent> {
 
-  private final PostAggregateRepository postAggregateRepository;
+  private final PostVoteAccumulatorService postVoteAccumulatorService;
 
   @Override
-  @Transactional
   public void onApplicationEvent(PostLikeUpdatedEvent event) {
 
-    final PostAggregate postAggregate = event.getPostLike().getPost().getPostAggregate();
-    switch (event.getAction()) {
-      case FROM_UP_TO_DOWN -> {
-        postAggregate.setScore(postAggregate.getScore() - 2);
-        postAggregate.setUpVoteCount(postAggregate.getUpVoteCount() - 1);
-        postAggregate.setDownVoteCount(postAggregate.getDownVoteCount() + 1);
-      }
-      case FROM_UP_TO_NEUTRAL -> {
-        postAggregate.setScore(postAggregate.getScore() - 1);
-        postAggregate.setUpVoteCount(postAggregate.getUpVoteCount() - 1);
-      }
-      case FROM_DOWN_TO_UP -> {
-        postAggregate.setScore(postAggregate.getScore() + 2);
-        postAggregate.setUpVoteCount(postAggregate.getUpVoteCount() + 1);
-        postAggregate.setDownVoteCount(postAggregate.getDownVoteCount() - 1);
-      }
-      case FROM_DOWN_TO_NEUTRAL -> {
-        postAggregate.setScore(postAggregate.getScore() + 1);
-        postAggregate.setDownVoteCount(postAggregate.getDownVoteCount() - 1);
-      }
-      case FROM_NEUTRAL_TO_UP -> {
-        postAggregate.setScore(postAggregate.getScore() + 1);
-        postAggregate.setUpVoteCount(postAggregate.getUpVoteCount() + 1);
-      }
-      case FROM_NEUTRAL_TO_DOWN -> {
-        postAggregate.setScore(postAggregate.getScore() - 1);
-        postAggregate.setDownVoteCount(postAggregate.getDownVoteCount() + 1);
-      }
-      default -> {
-        // do nothing
-      }
-    }
-    postAggregateRepository.save(postAggregate);
+    final VoteDelta voteDelta = switch (event.getAction()) {
+      case FROM_UP_TO_DOWN -> new VoteDelta(-2, -1, 1);
+      case FROM_UP_TO_NEUTRAL -> new VoteDelta(-1, -1, 0);
+      case FROM_DOWN_TO_UP -> new VoteDelta(2, 1, -1);
+      case FROM_DOWN_TO_NEUTRAL -> new VoteDelta(1, 0, -1);
+      case FROM_NEUTRAL_TO_UP -> new VoteDelta(1, 1, 0);
+      case FROM_NEUTRAL_TO_DOWN -> new VoteDelta(-1, 0, 1);
+      default -> VoteDelta.ZERO;
+    };
+    postVoteAccumulatorService.addVote(event.getPostLike().getPost(), voteDelta);
   }
 }
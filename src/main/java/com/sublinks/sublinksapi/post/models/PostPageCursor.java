@@ -0,0 +1,69 @@
+package com.sublinks.sublinksapi.post.models;
+
+import com.sublinks.sublinksapi.person.enums.SortType;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.utils.PaginationUtils;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * The (sort key, id) position of the last post of a page, the next page starts right after it.
+ */
+@Builder
+public record PostPageCursor(
+    SortType sortType,
+    long sortKey,
+    long id
+) {
+
+  /**
+   * Creates the cursor pointing right after a post for a given sort.
+   *
+   * @param post     The last post of the page.
+   * @param sortType The sort the page was listed with.
+   * @return The cursor.
+   */
+  public static PostPageCursor of(final Post post, final SortType sortType) {
+
+    final PostAggregate postAggregate = post.getPostAggregate();
+    final long sortKey = switch (sortType) {
+      case Hot -> postAggregate.getHotRank();
+      case Active -> postAggregate.getHotRankActive();
+      case Controversial -> postAggregate.getControversyRank();
+      case Scaled -> postAggregate.getScaledRank();
+      case MostComments -> postAggregate.getCommentCount();
+      case NewComments -> toMillis(postAggregate.getNewestCommentAt());
+      case TopHour, TopSixHour, TopTwelveHour, TopDay, TopWeek, TopMonth, TopThreeMonths,
+          TopSixMonths, TopNineMonths, TopYear, TopAll -> postAggregate.getScore();
+      default -> toMillis(post.getCreatedAt());
+    };
+    return new PostPageCursor(sortType, sortKey, post.getId());
+  }
+
+  /**
+   * Decodes a cursor sent back by a client.
+   *
+   * @param pageCursor The opaque page cursor.
+   * @return The cursor.
+   * @throws IllegalArgumentException If the page cursor is malformed.
+   */
+  public static PostPageCursor decode(final String pageCursor) {
+
+    final List<String> parts = PaginationUtils.decodeCursor(pageCursor, 3);
+    return new PostPageCursor(SortType.valueOf(parts.get(0)), Long.parseLong(parts.get(1)),
+        Long.parseLong(parts.get(2)));
+  }
+
+  private static long toMillis(final Date date) {
+
+    return date == null ? 0 : date.getTime();
+  }
+
+  public String encode() {
+
+    return PaginationUtils.encodeCursor(
+        List.of(sortType.name(), Long.toString(sortKey), Long.toString(id)));
+  }
+}
@@ -16,7 +16,8 @@ public record PostSearchCriteria(
     Person person,
     boolean isSavedOnly,
     boolean isLikedOnly,
-    boolean isDislikedOnly
+    boolean isDislikedOnly,
+    PostPageCursor pageCursor
 ) {
 
 }
@@ -1,8 +1,29 @@
 package com.sublinks.sublinksapi.post.repositories;
 
 import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostAggregateRepository extends JpaRepository<PostAggregate, Long> {
 
+  List<PostAggregate> findAllByPostCreatedAtAfterAndIdGreaterThanOrderByIdAsc(Date createdAt,
+      Long id, Limit limit);
+
+  List<PostAggregate> findAllByPostIdIn(Collection<Long> postIds);
+
+  @Modifying
+  @Query("UPDATE PostAggregate pa SET pa.score = pa.score + :score, pa.upVoteCount = pa.upVoteCount + :upVotes, pa.downVoteCount = pa.downVoteCount + :downVotes WHERE pa.post.id = :postId")
+  void addVotes(@Param("postId") Long postId, @Param("score") int score,
+      @Param("upVotes") int upVotes, @Param("downVotes") int downVotes);
+
+  @Modifying
+  @Query("UPDATE PostAggregate pa SET pa.hotRank = 0, pa.hotRankActive = 0, pa.scaledRank = 0 WHERE (pa.hotRank <> 0 OR pa.hotRankActive <> 0 OR pa.scaledRank <> 0) AND pa.post.id IN (SELECT p.id FROM Post p WHERE p.createdAt > :createdAfter AND p.createdAt <= :createdBefore)")
+  int clearTimeRanks(@Param("createdAfter") Date createdAfter,
+      @Param("createdBefore") Date createdBefore);
 }
@@ -3,11 +3,58 @@ package com.sublinks.sublinksapi.post.repositories;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.entities.PostLike;
+import com.sublinks.sublinksapi.utils.models.VoteUpsertResult;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long>,
     PostLikeRepositorySearch {
 
   Optional<PostLike> getPostLikesByPostAndPerson(Post post, Person person);
+
+  List<PostLike> findAllByPersonAndPostIn(Person person, Collection<Post> posts);
+
+  /**
+   * Creates or updates the vote of a person on a post in a single statement. An existing vote is
+   * locked and updated, so its previous score is the one this update replaced. A vote created by a
+   * transaction that had not committed when the statement started is neither seen nor overwritten:
+   * nothing is returned and the statement has to be run again.
+   *
+   * @param postId   The post id.
+   * @param personId The voter id.
+   * @param score    The new score, 1, 0 or -1.
+   * @return The vote id, whether it was inserted, and the score it had before, or null if a
+   * concurrent transaction created the vote first.
+   */
+  @Query(value = """
+      WITH previous AS (SELECT id, score
+                        FROM post_likes
+                        WHERE post_id = :postId
+                          AND person_id = :personId
+                          FOR UPDATE),
+           updated AS (UPDATE post_likes
+                       SET is_up_vote   = :score = 1,
+                           is_down_vote = :score = -1,
+                           score        = :score,
+                           updated_at   = CURRENT_TIMESTAMP(3)
+                       FROM previous
+                       WHERE post_likes.id = previous.id
+                       RETURNING post_likes.id, previous.score),
+           inserted AS (INSERT INTO post_likes (post_id, person_id, is_up_vote, is_down_vote, score)
+                        SELECT :postId, :personId, :score = 1, :score = -1, :score
+                        WHERE NOT EXISTS (SELECT 1 FROM previous)
+                        ON CONFLICT (post_id, person_id) DO NOTHING
+                        RETURNING id)
+      SELECT id AS "id", TRUE AS "inserted", NULL AS "previousScore"
+      FROM inserted
+      UNION ALL
+      SELECT id AS "id", FALSE AS "inserted", score AS "previousScore"
+      FROM updated
+      """, nativeQuery = true)
+  VoteUpsertResult upsertPostLike(@Param("postId") Long postId,
+      @Param("personId") Long personId, @Param("score") int score);
 }
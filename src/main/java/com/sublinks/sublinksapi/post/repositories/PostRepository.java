@@ -1,8 +1,18 @@
 package com.sublinks.sublinksapi.post.repositories;
 
 import com.sublinks.sublinksapi.post.entities.Post;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositorySearch {
 
+  /**
+   * Finds posts with their communities and aggregates, which would otherwise be loaded with a
+   * query per post.
+   */
+  @Query("SELECT p FROM Post p JOIN FETCH p.community c LEFT JOIN FETCH c.communityAggregate LEFT JOIN FETCH p.postAggregate WHERE p.id IN :ids")
+  List<Post> findAllWithAggregatesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -8,21 +8,30 @@ import com.sublinks.sublinksapi.person.entities.LinkPersonPost;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.enums.LinkPersonPostType;
 import com.sublinks.sublinksapi.person.enums.ListingType;
+import com.sublinks.sublinksapi.person.enums.SortType;
 import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
 import com.sublinks.sublinksapi.post.entities.PostLike;
+import com.sublinks.sublinksapi.post.models.PostPageCursor;
 import com.sublinks.sublinksapi.post.models.PostSearchCriteria;
 import com.sublinks.sublinksapi.shared.RemovedState;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import lombok.AllArgsConstructor;
 
@@ -31,6 +40,12 @@ public class PostRepositoryImpl implements PostRepositorySearch {
 
   private final EntityManager em;
 
+  @Override
+  public void persist(final Post post) {
+
+    em.persist(post);
+  }
+
   @Override
   public List<Post> allPostsBySearchCriteria(final PostSearchCriteria postSearchCriteria) {
 
@@ -38,7 +53,11 @@ public class PostRepositoryImpl implements PostRepositorySearch {
     final CriteriaQuery<Post> cq = cb.createQuery(Post.class);
 
     final Root<Post> postTable = cq.from(Post.class);
-    final Join<Post, Community> communityJoin = postTable.join("community", JoinType.INNER);
+    // Fetched with its aggregate so a page of posts from many communities is one query
+    @SuppressWarnings("unchecked")
+    final Join<Post, Community> communityJoin = (Join<Post, Community>) postTable.fetch(
+        "community", JoinType.INNER);
+    communityJoin.fetch("communityAggregate", JoinType.LEFT);
 
     final List<Predicate> predicates = new ArrayList<>();
     // Community filter
@@ -59,29 +78,128 @@ public class PostRepositoryImpl implements PostRepositorySearch {
       postPostLikeJoin.on(cb.equal(postPostLikeJoin.get("person"), postSearchCriteria.person()));
     }
 
-    cq.where(predicates.toArray(new Predicate[0]));
+    // Fetched rather than joined so each aggregate is not loaded with its own query afterwards
+    @SuppressWarnings("unchecked")
+    final Join<Post, PostAggregate> postAggregateJoin = (Join<Post, PostAggregate>) postTable.fetch(
+        "postAggregate", JoinType.INNER);
+
+    // Top sorts only rank posts published within their window
+    final Duration topWindow = getTopSortWindow(postSearchCriteria.sortType());
+    if (topWindow != null) {
+      predicates.add(cb.greaterThanOrEqualTo(postTable.get("createdAt"),
+          Date.from(Instant.now().minus(topWindow))));
+    }
 
-    switch (postSearchCriteria.sortType()) {
-      case New:
-        cq.orderBy(cb.desc(postTable.get("createdAt")));
-        break;
-      case Old:
-        cq.orderBy(cb.asc(postTable.get("createdAt")));
-        break;
-      default:
-        cq.orderBy(cb.desc(postTable.get("createdAt")));
-        break;
+    final SortType sortType =
+        postSearchCriteria.sortType() == null ? SortType.New : postSearchCriteria.sortType();
+    final PostPageCursor cursor = postSearchCriteria.pageCursor();
+    if (cursor != null && cursor.sortType() != sortType) {
+      throw new IllegalArgumentException("Page cursor does not match the sort type");
     }
+    final Path<Long> idPath = postTable.get("id");
+    final Long afterId = cursor == null ? null : cursor.id();
+    final Date afterDate = cursor == null ? null : new Date(cursor.sortKey());
+    final Integer afterInt = cursor == null ? null : (int) cursor.sortKey();
+
+    // Ranked sorts break ties on the newest post so they match the post_aggregates indexes
+    final List<Order> orders = switch (sortType) {
+      case Old -> seek(cb, predicates, postTable.get("createdAt"), afterDate, idPath, afterId,
+          true);
+      case Hot -> seek(cb, predicates, postAggregateJoin.get("hotRank"), afterInt, idPath,
+          afterId, false);
+      case Active -> seek(cb, predicates, postAggregateJoin.get("hotRankActive"), afterInt, idPath,
+          afterId, false);
+      case Controversial -> seek(cb, predicates, postAggregateJoin.get("controversyRank"),
+          afterInt, idPath, afterId, false);
+      case Scaled -> seek(cb, predicates, postAggregateJoin.get("scaledRank"), afterInt, idPath,
+          afterId, false);
+      case MostComments -> seek(cb, predicates, postAggregateJoin.get("commentCount"), afterInt,
+          idPath, afterId, false);
+      case NewComments -> seek(cb, predicates, postAggregateJoin.get("newestCommentAt"),
+          afterDate, idPath, afterId, false);
+      case TopHour, TopSixHour, TopTwelveHour, TopDay, TopWeek, TopMonth, TopThreeMonths,
+          TopSixMonths, TopNineMonths, TopYear, TopAll ->
+          seek(cb, predicates, postAggregateJoin.get("score"), afterInt, idPath, afterId, false);
+      default -> seek(cb, predicates, postTable.get("createdAt"), afterDate, idPath, afterId,
+          false);
+    };
+
+    cq.where(predicates.toArray(new Predicate[0]));
+    cq.orderBy(orders);
 
     int perPage = Math.min(Math.abs(postSearchCriteria.perPage()), 20);
 
     TypedQuery<Post> query = em.createQuery(cq);
 
-    applyPagination(query, postSearchCriteria.page(), perPage);
+    if (cursor != null) {
+      query.setMaxResults(perPage);
+    } else {
+      applyPagination(query, postSearchCriteria.page(), perPage);
+    }
 
     return query.getResultList();
   }
 
+  /**
+   * Orders by a sort key then id, and when continuing from a cursor only keeps the rows that come
+   * after it. The redundant bound on the sort key alone lets the index range scan start at the
+   * cursor instead of filtering from the top.
+   *
+   * @param cb         The criteria builder.
+   * @param predicates The predicates to add the seek predicate to.
+   * @param sortKey    The sort key.
+   * @param afterKey   The sort key of the last row of the previous page, or null.
+   * @param id         The id used to break ties.
+   * @param afterId    The id of the last row of the previous page, or null.
+   * @param ascending  Whether the sort is ascending.
+   * @return The order by clause.
+   */
+  private static <Y extends Comparable<? super Y>> List<Order> seek(final CriteriaBuilder cb,
+      final List<Predicate> predicates, final Path<Y> sortKey, @Nullable final Y afterKey,
+      final Path<Long> id, @Nullable final Long afterId, final boolean ascending) {
+
+    if (afterKey != null && afterId != null) {
+      if (ascending) {
+        predicates.add(cb.greaterThanOrEqualTo(sortKey, afterKey));
+        predicates.add(cb.or(cb.greaterThan(sortKey, afterKey),
+            cb.and(cb.equal(sortKey, afterKey), cb.greaterThan(id, afterId))));
+      } else {
+        predicates.add(cb.lessThanOrEqualTo(sortKey, afterKey));
+        predicates.add(cb.or(cb.lessThan(sortKey, afterKey),
+            cb.and(cb.equal(sortKey, afterKey), cb.lessThan(id, afterId))));
+      }
+    }
+    return ascending ? List.of(cb.asc(sortKey), cb.asc(id))
+        : List.of(cb.desc(sortKey), cb.desc(id));
+  }
+
+  /**
+   * Gets how far back a Top sort looks.
+   *
+   * @param sortType The sort type.
+   * @return The window, or null if the sort is not time limited.
+   */
+  @Nullable
+  private static Duration getTopSortWindow(@Nullable final SortType sortType) {
+
+    if (sortType == null) {
+      return null;
+    }
+    return switch (sortType) {
+      case TopHour -> Duration.ofHours(1);
+      case TopSixHour -> Duration.ofHours(6);
+      case TopTwelveHour -> Duration.ofHours(12);
+      case TopDay -> Duration.ofDays(1);
+      case TopWeek -> Duration.ofDays(7);
+      case TopMonth -> Duration.ofDays(30);
+      case TopThreeMonths -> Duration.ofDays(90);
+      case TopSixMonths -> Duration.ofDays(180);
+      case TopNineMonths -> Duration.ofDays(270);
+      case TopYear -> Duration.ofDays(365);
+      default -> null;
+    };
+  }
+
   @Override
   public List<Post> allPostsByCommunityAndPersonAndRemoved(Community community, Person person,
       List<RemovedState> removedStates) {
@@ -143,4 +261,65 @@ public class PostRepositoryImpl implements PostRepositorySearch {
     return em.createQuery(cq).getResultList();
   }
 
+  @Override
+  public List<Long> updateRemovedStateOfChunkByCreator(final Person person,
+      @Nullable final Community community, final RemovedState fromRemovedState,
+      final RemovedState toRemovedState, final int chunkSize) {
+
+    final Query query = em.createNativeQuery("""
+        UPDATE posts
+        SET removed_state = :toRemovedState
+        WHERE id IN (SELECT p.id
+                     FROM posts p
+                              JOIN link_person_posts l ON l.post_id = p.id
+                     WHERE l.person_id = :personId
+                       AND l.link_type = 'creator'
+                       AND p.removed_state = :fromRemovedState
+                       %s
+                     ORDER BY p.id
+                     LIMIT :chunkSize)
+        RETURNING id
+        """.formatted(community == null ? "" : "AND p.community_id = :communityId"));
+    query.setParameter("personId", person.getId());
+    query.setParameter("fromRemovedState", fromRemovedState.name());
+    query.setParameter("toRemovedState", toRemovedState.name());
+    query.setParameter("chunkSize", chunkSize);
+    if (community != null) {
+      query.setParameter("communityId", community.getId());
+    }
+    return ids(query.getResultList());
+  }
+
+  @Override
+  public List<Long> purgeChunkByCreator(final Person person, final String title,
+      final int chunkSize) {
+
+    final Query query = em.createNativeQuery("""
+        UPDATE posts
+        SET is_deleted    = true,
+            title         = :title,
+            removed_state = :purged,
+            post_body     = '',
+            link_url      = ''
+        WHERE id IN (SELECT p.id
+                     FROM posts p
+                              JOIN link_person_posts l ON l.post_id = p.id
+                     WHERE l.person_id = :personId
+                       AND l.link_type = 'creator'
+                       AND p.removed_state IS DISTINCT FROM :purged
+                     ORDER BY p.id
+                     LIMIT :chunkSize)
+        RETURNING id
+        """);
+    query.setParameter("personId", person.getId());
+    query.setParameter("title", title);
+    query.setParameter("purged", RemovedState.PURGED.name());
+    query.setParameter("chunkSize", chunkSize);
+    return ids(query.getResultList());
+  }
+
+  private static List<Long> ids(final List<?> rows) {
+
+    return rows.stream().map(row -> ((Number) row).longValue()).toList();
+  }
 }
@@ -5,6 +5,7 @@ import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.models.PostSearchCriteria;
 import com.sublinks.sublinksapi.shared.RemovedState;
+import jakarta.annotation.Nullable;
 import java.util.List;
 
 public interface PostRepositorySearch {
@@ -15,4 +16,28 @@ public interface PostRepositorySearch {
       List<RemovedState> removedStates);
 
   List<Post> allPostsByPersonAndRemoved(Person person, List<RemovedState> removedStates);
+
+  /**
+   * Queues the insert of a new post whose id was assigned up front. Unlike save, this does not
+   * look the id up first, and the insert is batched with the others of the transaction.
+   */
+  void persist(Post post);
+
+  /**
+   * Moves at most chunkSize posts of a creator from one removed state to another, optionally only
+   * in one community. Updated posts no longer match, so calling it until it returns fewer ids than
+   * chunkSize covers every post.
+   *
+   * @return The ids of the updated posts.
+   */
+  List<Long> updateRemovedStateOfChunkByCreator(Person person, @Nullable Community community,
+      RemovedState fromRemovedState, RemovedState toRemovedState, int chunkSize);
+
+  /**
+   * Purges at most chunkSize posts of a creator that are not purged yet, replacing their title and
+   * clearing their body and link.
+   *
+   * @return The ids of the purged posts.
+   */
+  List<Long> purgeChunkByCreator(Person person, String title, int chunkSize);
 }
@@ -0,0 +1,46 @@
+package com.sublinks.sublinksapi.post.scheduling;
+
+import com.sublinks.sublinksapi.post.config.PostRankingConfig;
+import com.sublinks.sublinksapi.post.services.PostRankingService;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class PostRankingScheduler {
+
+  private final PostRankingService postRankingService;
+  private final PostRankingConfig postRankingConfig;
+
+  /**
+   * Posts published at or before this time already had their ranks cleared, so each run only
+   * clears the posts that aged out since the previous one. The first run catches up on all.
+   */
+  private Date ranksClearedBefore = new Date(0);
+
+  @Scheduled(fixedRateString = "${sublinks.settings.post_ranking.rate}", timeUnit = TimeUnit.SECONDS)
+  public void decayRecentPostRanks() {
+
+    if (postRankingConfig.getMaxAge() <= 0) {
+      return;
+    }
+    final Date publishedAfter = new Date(
+        System.currentTimeMillis() - (postRankingConfig.getMaxAge() * 1000));
+
+    postRankingService.clearAgedOutPostRanks(ranksClearedBefore, publishedAfter);
+    ranksClearedBefore = publishedAfter;
+
+    Long lastId = 0L;
+    while (lastId != null) {
+      lastId = postRankingService.refreshRecentPostRanks(publishedAfter, lastId,
+          postRankingConfig.getChunkSize());
+    }
+  }
+}
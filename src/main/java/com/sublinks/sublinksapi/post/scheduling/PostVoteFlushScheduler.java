@@ -0,0 +1,42 @@
+package com.sublinks.sublinksapi.post.scheduling;
+
+import com.sublinks.sublinksapi.post.services.PostVoteAccumulatorService;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class PostVoteFlushScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostVoteFlushScheduler.class);
+
+  private final PostVoteAccumulatorService postVoteAccumulatorService;
+
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${sublinks.settings.vote_flush.rate}", timeUnit = TimeUnit.SECONDS)
+  public void flushPostVotes() {
+
+    final Map<Long, VoteDelta> votes = postVoteAccumulatorService.drainVotes();
+    if (votes.isEmpty()) {
+      return;
+    }
+    try {
+      postVoteAccumulatorService.applyVotes(votes);
+      postVoteAccumulatorService.completeVotes(votes);
+    } catch (RuntimeException e) {
+      logger.error("Could not flush votes of {} posts, retrying on the next run", votes.size(), e);
+      postVoteAccumulatorService.restoreVotes(votes);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.sublinks.sublinksapi.post.events.PostLikeUpdatedEvent;
 import com.sublinks.sublinksapi.post.events.PostLikeUpdatedPublisher;
 import com.sublinks.sublinksapi.post.models.PostLikeSearchCriteria;
 import com.sublinks.sublinksapi.post.repositories.PostLikeRepository;
+import com.sublinks.sublinksapi.utils.models.VoteUpsertResult;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PostLikeService {
 
+  private static final int MAX_UPSERT_ATTEMPTS = 3;
+
   private final PostLikeRepository postLikeRepository;
   private final PostLikeCreatedPublisher postLikeCreatedPublisher;
   private final PostLikeUpdatedPublisher postLikeUpdatedPublisher;
@@ -45,34 +48,40 @@ public class PostLikeService {
     return postLikeRepository.getPostLikesByPostAndPerson(post, person);
   }
 
+  /**
+   * Writes the vote with a single upsert and publishes the created or updated event. The
+   * transition comes from the score the locked row had before, so the vote is never read first.
+   * The upsert runs again if another transaction created the vote first, it then sees that vote.
+   */
   private void updateOrCreatePostLike(final Post post, final Person person, final int score) {
 
-    final Optional<PostLike> postLike = getPostLike(post, person);
-    if (postLike.isEmpty()) {
-      createPostLike(post, person, score);
-    } else {
-      updatePostLike(postLike.get(), score);
+    VoteUpsertResult result = null;
+    for (int attempt = 0; result == null; attempt++) {
+      if (attempt == MAX_UPSERT_ATTEMPTS) {
+        throw new IllegalStateException("Could not write the vote on post " + post.getId());
+      }
+      result = postLikeRepository.upsertPostLike(post.getId(), person.getId(), score);
     }
+    final PostLike postLike = PostLike.builder().id(result.getId()).post(post).person(person)
+        .isUpVote(score == 1).isDownVote(score == -1).score(score).build();
+    if (result.isInserted()) {
+      postLikeCreatedPublisher.publish(postLike);
+      return;
+    }
+    postLikeUpdatedPublisher.publish(postLike, getAction(result.getPreviousScore(), score));
   }
 
-  private void createPostLike(final Post post, final Person person, final int score) {
-
-    final PostLike postLike = PostLike.builder().post(post).person(person).isUpVote(score == 1)
-        .isDownVote(score == -1).score(score).build();
-    postLikeRepository.save(postLike);
-    postLikeCreatedPublisher.publish(postLike);
-  }
-
-  private void updatePostLike(final PostLike postLike, final int score) {
+  private static PostLikeUpdatedEvent.Action getAction(final int previousScore,
+      final int score) {
 
     PostLikeUpdatedEvent.Action action = PostLikeUpdatedEvent.Action.NO_CHANGE;
-    if (postLike.isUpVote()) {
+    if (previousScore == 1) {
       if (score == -1) {
         action = PostLikeUpdatedEvent.Action.FROM_UP_TO_DOWN;
       } else if (score == 0) {
         action = PostLikeUpdatedEvent.Action.FROM_UP_TO_NEUTRAL;
       }
-    } else if (postLike.isDownVote()) {
+    } else if (previousScore == -1) {
       if (score == 1) {
         action = PostLikeUpdatedEvent.Action.FROM_DOWN_TO_UP;
       } else if (score == 0) {
@@ -85,12 +94,7 @@ public class PostLikeService {
         action = PostLikeUpdatedEvent.Action.FROM_NEUTRAL_TO_DOWN;
       }
     }
-
-    postLike.setUpVote(score == 1);
-    postLike.setDownVote(score == -1);
-    postLike.setScore(score);
-    postLikeRepository.save(postLike);
-    postLikeUpdatedPublisher.publish(postLike, action);
+    return action;
   }
 
   public List<PostLike> getPostLikes(final Post post, final int page, final int perPage) {
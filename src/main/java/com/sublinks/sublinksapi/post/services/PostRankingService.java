@@ -0,0 +1,190 @@
+package com.sublinks.sublinksapi.post.services;
+
+import com.sublinks.sublinksapi.community.entities.CommunityAggregate;
+import com.sublinks.sublinksapi.post.config.PostRankingConfig;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.post.repositories.PostAggregateRepository;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+  /**
+   * Comments made later than this after the post was published no longer bump it in Active.
+   */
+  public static final long NECRO_BUMP_WINDOW_MILLIS = 2L * 24 * 60 * 60 * 1000;
+
+  private static final double GRAVITY = 1.8;
+  private static final double RANK_SCALE = 10000;
+
+  private final PostAggregateRepository postAggregateRepository;
+  private final PostRankingConfig postRankingConfig;
+
+  /**
+   * Calculates the hot rank of a score at a given age, the same way Lemmy does.
+   *
+   * @param score        The post score.
+   * @param published    The time the ranking clock starts from.
+   * @param now          The current time in milliseconds.
+   * @param maxAgeMillis The age from which the rank is zero, 0 or less for no limit.
+   * @return The hot rank, zero once the post is too old to matter.
+   */
+  public static int hotRank(final int score, final Date published, final long now,
+      final long maxAgeMillis) {
+
+    if (published == null || isTooOld(published, now, maxAgeMillis)) {
+      return 0;
+    }
+    final double hoursAgo = Math.max(0, now - published.getTime()) / 3_600_000d;
+    return (int) (RANK_SCALE * Math.log10(Math.max(1, score + 3)) / Math.pow(hoursAgo + 2,
+        GRAVITY));
+  }
+
+  /**
+   * Checks if a post published at a given time is too old to have a hot rank.
+   *
+   * @param published    The time the post was published.
+   * @param now          The current time in milliseconds.
+   * @param maxAgeMillis The age from which the rank is zero, 0 or less for no limit.
+   * @return True once the post is at least the maximum age.
+   */
+  public static boolean isTooOld(final Date published, final long now, final long maxAgeMillis) {
+
+    return maxAgeMillis > 0 && published != null && now - published.getTime() >= maxAgeMillis;
+  }
+
+  /**
+   * Calculates the controversy rank, highest when up and down votes are many and balanced.
+   *
+   * @param upVotes   The up vote count.
+   * @param downVotes The down vote count.
+   * @return The controversy rank.
+   */
+  public static int controversyRank(final int upVotes, final int downVotes) {
+
+    if (upVotes <= 0 || downVotes <= 0) {
+      return 0;
+    }
+    final double balance = (double) Math.min(upVotes, downVotes) / Math.max(upVotes, downVotes);
+    return (int) Math.pow(upVotes + downVotes, balance);
+  }
+
+  /**
+   * Scales a hot rank down by community activity so small communities are not drowned out.
+   *
+   * @param hotRank              The hot rank of the post.
+   * @param activeMonthlyUsers   The monthly active users of the post community.
+   * @return The scaled rank.
+   */
+  public static int scaledRank(final int hotRank, final int activeMonthlyUsers) {
+
+    return (int) (hotRank / Math.log10(2 + Math.max(0, activeMonthlyUsers)));
+  }
+
+  /**
+   * Recalculates every rank of a post aggregate from its current counts.
+   *
+   * @param postAggregate The aggregate to update in place.
+   * @param now           The current time in milliseconds.
+   * @return True if any of the ranks changed.
+   */
+  public boolean refreshRanks(final PostAggregate postAggregate, final long now) {
+
+    final Post post = postAggregate.getPost();
+    final Date published = post == null ? null : post.getCreatedAt();
+
+    Date activeFrom = published;
+    final Date newestCommentAt = postAggregate.getNewestCommentAt();
+    if (published != null && newestCommentAt != null && newestCommentAt.after(published)
+        && newestCommentAt.getTime() - published.getTime() < NECRO_BUMP_WINDOW_MILLIS) {
+      activeFrom = newestCommentAt;
+    }
+
+    int activeMonthlyUsers = 0;
+    if (postAggregate.getCommunity() != null) {
+      final CommunityAggregate communityAggregate = postAggregate.getCommunity()
+          .getCommunityAggregate();
+      if (communityAggregate != null) {
+        activeMonthlyUsers = communityAggregate.getActiveMonthlyUserCount();
+      }
+    }
+
+    // Active ranks age out with the post, like the swept ranks, not with the newest comment
+    final long maxAgeMillis = postRankingConfig.getMaxAge() * 1000;
+    final int hotRank = hotRank(postAggregate.getScore(), published, now, maxAgeMillis);
+    final int hotRankActive = isTooOld(published, now, maxAgeMillis) ? 0
+        : hotRank(postAggregate.getScore(), activeFrom, now, maxAgeMillis);
+    final int controversyRank = controversyRank(postAggregate.getUpVoteCount(),
+        postAggregate.getDownVoteCount());
+    final int scaledRank = scaledRank(hotRank, activeMonthlyUsers);
+
+    final boolean changed = hotRank != postAggregate.getHotRank()
+        || hotRankActive != postAggregate.getHotRankActive()
+        || controversyRank != postAggregate.getControversyRank()
+        || scaledRank != postAggregate.getScaledRank();
+
+    postAggregate.setHotRank(hotRank);
+    postAggregate.setHotRankActive(hotRankActive);
+    postAggregate.setControversyRank(controversyRank);
+    postAggregate.setScaledRank(scaledRank);
+    return changed;
+  }
+
+  public boolean refreshRanks(final PostAggregate postAggregate) {
+
+    return refreshRanks(postAggregate, System.currentTimeMillis());
+  }
+
+  /**
+   * Recalculates the ranks of one chunk of posts published after a given time, so ranks decay
+   * even when nobody votes or comments. Only aggregates whose ranks changed are written.
+   *
+   * @param publishedAfter Only posts published after this time are swept.
+   * @param afterId        The aggregate id the previous chunk ended at, 0 to start.
+   * @param chunkSize      The maximum number of aggregates to load.
+   * @return The id of the last aggregate in the chunk, or null when the sweep is done.
+   */
+  @Transactional
+  public Long refreshRecentPostRanks(final Date publishedAfter, final long afterId,
+      final int chunkSize) {
+
+    final List<PostAggregate> postAggregates = postAggregateRepository.findAllByPostCreatedAtAfterAndIdGreaterThanOrderByIdAsc(
+        publishedAfter, afterId, Limit.of(chunkSize));
+    if (postAggregates.isEmpty()) {
+      return null;
+    }
+
+    final long now = System.currentTimeMillis();
+    final List<PostAggregate> changed = new ArrayList<>();
+    for (PostAggregate postAggregate : postAggregates) {
+      if (refreshRanks(postAggregate, now)) {
+        changed.add(postAggregate);
+      }
+    }
+    postAggregateRepository.saveAll(changed);
+
+    return postAggregates.get(postAggregates.size() - 1).getId();
+  }
+
+  /**
+   * Zeroes the Hot, Active and Scaled ranks of posts that aged out of the sweep, since
+   * {@link #refreshRecentPostRanks} no longer loads them. Controversy does not decay and is kept.
+   *
+   * @param publishedAfter  Only posts published after this time are cleared.
+   * @param publishedBefore Only posts published at or before this time are cleared.
+   * @return The number of aggregates cleared.
+   */
+  @Transactional
+  public int clearAgedOutPostRanks(final Date publishedAfter, final Date publishedBefore) {
+
+    return postAggregateRepository.clearTimeRanks(publishedAfter, publishedBefore);
+  }
+}
@@ -1,23 +1,28 @@
 package com.sublinks.sublinksapi.post.services;
 
 import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.moderation.models.BulkOperationProgress;
+import com.sublinks.sublinksapi.moderation.services.BulkOperationService;
 import com.sublinks.sublinksapi.person.entities.LinkPersonPost;
 import com.sublinks.sublinksapi.person.entities.Person;
 import com.sublinks.sublinksapi.person.enums.LinkPersonPostType;
 import com.sublinks.sublinksapi.person.services.LinkPersonPostService;
 import com.sublinks.sublinksapi.post.entities.Post;
 import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.post.events.PostBatchUpdatedPublisher;
 import com.sublinks.sublinksapi.post.events.PostCreatedPublisher;
 import com.sublinks.sublinksapi.post.events.PostDeletedPublisher;
 import com.sublinks.sublinksapi.post.events.PostUpdatedPublisher;
 import com.sublinks.sublinksapi.post.repositories.PostRepository;
 import com.sublinks.sublinksapi.shared.RemovedState;
-import com.sublinks.sublinksapi.utils.KeyGeneratorUtil;
 import com.sublinks.sublinksapi.utils.KeyStore;
+import com.sublinks.sublinksapi.utils.KeyStorePool;
+import com.sublinks.sublinksapi.utils.SequenceIdAllocator;
 import com.sublinks.sublinksapi.utils.UrlUtil;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,14 +32,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PostService {
 
+  private static final String POSTS_ID_SEQUENCE = "posts_id_seq";
   private final PostRepository postRepository;
   private final PostCreatedPublisher postCreatedPublisher;
-  private final KeyGeneratorUtil keyGeneratorUtil;
+  private final KeyStorePool keyStorePool;
   private final LinkPersonPostService linkPersonPostService;
   private final PostDeletedPublisher postDeletedPublisher;
   private final PostLikeService postLikeService;
   private final PostUpdatedPublisher postUpdatedPublisher;
   private final UrlUtil urlUtil;
+  private final SequenceIdAllocator sequenceIdAllocator;
+  private final BulkOperationService bulkOperationService;
+  private final PostBatchUpdatedPublisher postBatchUpdatedPublisher;
 
   public String getPostMd5Hash(final Post post) {
 
@@ -80,7 +89,7 @@ public class PostService {
   @Transactional
   public void createPost(final Post post, final Person creator) {
 
-    final KeyStore keys = keyGeneratorUtil.generate();
+    final KeyStore keys = keyStorePool.take();
     post.setPublicKey(keys.publicKey());
     post.setPrivateKey(keys.privateKey());
 
@@ -88,12 +97,12 @@ public class PostService {
     final PostAggregate postAggregate = PostAggregate.builder()
         .post(post)
         .community(post.getCommunity())
+        .newestCommentAt(new Date())
         .build();
     post.setPostAggregate(postAggregate);
-    post.setActivityPubId("");
-    postRepository.save(post); // @todo fix second save making post look edited right away
+    post.setId(sequenceIdAllocator.nextId(POSTS_ID_SEQUENCE));
     post.setActivityPubId("%s/post/%d".formatted(post.getInstance().getDomain(), post.getId()));
-    postRepository.save(post);
+    postRepository.persist(post);
 
     linkPersonPostService.createLink(creator, post, LinkPersonPostType.creator);
     postLikeService.updateOrCreatePostLikeLike(post, creator);
@@ -107,44 +116,77 @@ public class PostService {
     postDeletedPublisher.publish(post);
   }
 
-  public List<Post> deleteAllPostsByPerson(final Person person) {
-
-    final List<Post> posts = postRepository.allPostsByPersonAndRemoved(person,
-        List.of(RemovedState.NOT_REMOVED, RemovedState.REMOVED_BY_INSTANCE,
-            RemovedState.REMOVED_BY_COMMUNITY, RemovedState.REMOVED));
-    posts.forEach(post -> {
-      post.setDeleted(true);
-      post.setTitle("*Permanently deleted by creator*");
-      post.setRemovedState(RemovedState.PURGED);
-      post.setPostBody("");
-      post.setLinkUrl("");
-      postRepository.save(post);
-    });
-    return posts;
+  /**
+   * Purges every post of a person, chunk by chunk.
+   *
+   * @param person The person whose posts are purged.
+   * @return The progress after the last chunk.
+   */
+  public BulkOperationProgress deleteAllPostsByPerson(final Person person) {
+
+    return bulkOperationService.run("Purge posts of person %d".formatted(person.getId()),
+        chunkSize -> deletePostsByPersonChunk(person, chunkSize));
   }
 
+  /**
+   * Purges at most chunkSize posts of a person and publishes them as one batch.
+   *
+   * @param person    The person whose posts are purged.
+   * @param chunkSize The maximum number of posts to purge.
+   * @return The ids of the purged posts, fewer than chunkSize once none are left.
+   */
   @Transactional
-  public void removeAllPostsFromCommunityAndUser(final Community community, final Person person,
-      final boolean removed) {
+  public List<Long> deletePostsByPersonChunk(final Person person, final int chunkSize) {
 
-    postRepository.allPostsByCommunityAndPersonAndRemoved(community, person,
-            List.of(removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_COMMUNITY))
-        .forEach(post -> {
-          post.setRemovedState(
-              removed ? RemovedState.REMOVED_BY_COMMUNITY : RemovedState.NOT_REMOVED);
-          postRepository.save(post);
-        });
+    final List<Long> postIds = postRepository.purgeChunkByCreator(person,
+        "*Permanently deleted by creator*", chunkSize);
+    if (!postIds.isEmpty()) {
+      postBatchUpdatedPublisher.publish(postIds);
+    }
+    return postIds;
   }
 
-  @Transactional
-  public void removeAllPostsFromUser(final Person person, final boolean removed) {
-
-    postRepository.allPostsByPersonAndRemoved(person,
-            List.of(removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_INSTANCE))
-        .forEach(post -> {
-          post.setRemovedState(
-              removed ? RemovedState.REMOVED_BY_INSTANCE : RemovedState.NOT_REMOVED);
-          postRepository.save(post);
-        });
+  /**
+   * Removes or restores the posts of a person in a community, chunk by chunk.
+   *
+   * @param community The community of the posts.
+   * @param person    The person whose posts are removed or restored.
+   * @param removed   Whether to remove the posts, or restore the posts removed in the community.
+   * @return The progress after the last chunk.
+   */
+  public BulkOperationProgress removeAllPostsFromCommunityAndUser(final Community community,
+      final Person person, final boolean removed) {
+
+    final RemovedState fromRemovedState =
+        removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_COMMUNITY;
+    final RemovedState toRemovedState =
+        removed ? RemovedState.REMOVED_BY_COMMUNITY : RemovedState.NOT_REMOVED;
+    return bulkOperationService.run(
+        "%s posts of person %d in community %d".formatted(removed ? "Remove" : "Restore",
+            person.getId(), community.getId()),
+        chunkSize -> postRepository.updateRemovedStateOfChunkByCreator(person, community,
+            fromRemovedState, toRemovedState, chunkSize),
+        postBatchUpdatedPublisher::publish);
+  }
+
+  /**
+   * Removes or restores the posts of a person on the instance, chunk by chunk.
+   *
+   * @param person  The person whose posts are removed or restored.
+   * @param removed Whether to remove the posts, or restore the posts removed by the instance.
+   * @return The progress after the last chunk.
+   */
+  public BulkOperationProgress removeAllPostsFromUser(final Person person,
+      final boolean removed) {
+
+    final RemovedState fromRemovedState =
+        removed ? RemovedState.NOT_REMOVED : RemovedState.REMOVED_BY_INSTANCE;
+    final RemovedState toRemovedState =
+        removed ? RemovedState.REMOVED_BY_INSTANCE : RemovedState.NOT_REMOVED;
+    return bulkOperationService.run(
+        "%s posts of person %d".formatted(removed ? "Remove" : "Restore", person.getId()),
+        chunkSize -> postRepository.updateRemovedStateOfChunkByCreator(person, null,
+            fromRemovedState, toRemovedState, chunkSize),
+        postBatchUpdatedPublisher::publish);
   }
 }
@@ -0,0 +1,95 @@
+package com.sublinks.sublinksapi.post.services;
+
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import com.sublinks.sublinksapi.post.events.PostVotesAppliedPublisher;
+import com.sublinks.sublinksapi.post.repositories.PostAggregateRepository;
+import com.sublinks.sublinksapi.utils.VoteDeltaAccumulator;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps post vote counts in memory and writes them to post_aggregates in batches, so votes on a
+ * busy post do not queue up on its aggregate row or overwrite each other.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostVoteAccumulatorService {
+
+  private final PostAggregateRepository postAggregateRepository;
+  private final PostRankingService postRankingService;
+  private final PostVotesAppliedPublisher postVotesAppliedPublisher;
+  private final VoteDeltaAccumulator voteDeltaAccumulator = new VoteDeltaAccumulator();
+
+  /**
+   * Records a vote change right away so the voter sees it, and takes it back if the transaction
+   * that made it rolls back.
+   *
+   * @param post      The voted on post.
+   * @param voteDelta The change to its counts.
+   */
+  public void addVote(final Post post, final VoteDelta voteDelta) {
+
+    final Long postId = post.getId();
+    voteDeltaAccumulator.add(postId, voteDelta);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(final int status) {
+
+        if (status != STATUS_COMMITTED) {
+          voteDeltaAccumulator.add(postId, voteDelta.negate());
+        }
+      }
+    });
+  }
+
+  public VoteDelta getPendingVotes(final Long postId) {
+
+    return voteDeltaAccumulator.pending(postId);
+  }
+
+  public Map<Long, VoteDelta> drainVotes() {
+
+    return voteDeltaAccumulator.drain();
+  }
+
+  /**
+   * Adds drained deltas to the aggregate counts with relative updates, then refreshes the ranks of
+   * the posts they belong to and publishes their new counts.
+   *
+   * @param votes The deltas by post id.
+   */
+  @Transactional
+  public void applyVotes(final Map<Long, VoteDelta> votes) {
+
+    votes.forEach((postId, voteDelta) -> postAggregateRepository.addVotes(postId,
+        voteDelta.score(), voteDelta.upVotes(), voteDelta.downVotes()));
+
+    final long now = System.currentTimeMillis();
+    final List<PostAggregate> postAggregates = postAggregateRepository.findAllByPostIdIn(
+        votes.keySet());
+    for (PostAggregate postAggregate : postAggregates) {
+      postRankingService.refreshRanks(postAggregate, now);
+    }
+    postVotesAppliedPublisher.publish(postAggregates);
+  }
+
+  public void completeVotes(final Map<Long, VoteDelta> votes) {
+
+    voteDeltaAccumulator.complete(votes);
+  }
+
+  public void restoreVotes(final Map<Long, VoteDelta> votes) {
+
+    voteDeltaAccumulator.restore(votes);
+  }
+}
@@ -62,6 +62,7 @@ public class PrivateMessageService {
   public void deletePrivateMessage(final PrivateMessage privateMessage) {
 
     privateMessageRepository.delete(privateMessage);
+    privateMessageDeletedPublisher.publish(privateMessage);
   }
 
   @Transactional
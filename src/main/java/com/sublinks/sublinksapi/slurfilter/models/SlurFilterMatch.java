@@ -0,0 +1,21 @@
+package com.sublinks.sublinksapi.slurfilter.models;
+
+import com.sublinks.sublinksapi.slurfilter.entities.SlurFilter;
+import java.util.List;
+
+/**
+ * The most severe filter matching a text and, when that filter replaces, the spans of the text to
+ * censor.
+ */
+public record SlurFilterMatch(
+    SlurFilter slurFilter,
+    List<Span> replacements
+) {
+
+  public record Span(
+      int start,
+      int end
+  ) {
+
+  }
+}
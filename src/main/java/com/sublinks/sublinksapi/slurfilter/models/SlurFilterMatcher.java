@@ -0,0 +1,213 @@
+package com.sublinks.sublinksapi.slurfilter.models;
+
+import com.sublinks.sublinksapi.slurfilter.entities.SlurFilter;
+import com.sublinks.sublinksapi.slurfilter.enums.SlurActionType;
+import com.sublinks.sublinksapi.slurfilter.models.SlurFilterMatch.Span;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The slur filters compiled for matching. The patterns of each action type are combined into one
+ * alternation, so a text is scanned once per action type, most severe first, instead of once per
+ * filter. Action types whose patterns can not be combined, because they use back references or
+ * clashing group names, fall back to one pattern per filter. Filters with an invalid regex are
+ * skipped.
+ */
+public final class SlurFilterMatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(SlurFilterMatcher.class);
+  private static final Pattern backReference = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+  private final List<FilterGroup> filterGroups = new ArrayList<>();
+  private final List<Pattern> replacePatterns = new ArrayList<>();
+
+  public SlurFilterMatcher(final Collection<SlurFilter> slurFilters) {
+
+    final List<SlurFilter> validFilters = slurFilters.stream()
+        .filter(slurFilter -> slurFilter.getSlurRegex() != null)
+        .filter(slurFilter -> !slurFilter.getSlurRegex().isBlank())
+        .filter(SlurFilterMatcher::isValid)
+        .toList();
+
+    // Most severe first, filters without an action type last
+    validFilters.stream()
+        .map(SlurFilter::getSlurActionType)
+        .distinct()
+        .sorted(Comparator.nullsFirst(Comparator.<SlurActionType>naturalOrder()).reversed())
+        .forEach(slurActionType -> filterGroups.add(new FilterGroup(validFilters.stream()
+            .filter(slurFilter -> slurFilter.getSlurActionType() == slurActionType)
+            .toList())));
+
+    final List<String> replaceRegexes = validFilters.stream()
+        .filter(slurFilter -> slurFilter.getSlurActionType() == SlurActionType.REPLACE)
+        .map(SlurFilter::getSlurRegex)
+        .toList();
+    if (replaceRegexes.isEmpty()) {
+      return;
+    }
+    final Pattern combined = combine(replaceRegexes, false, Pattern.CASE_INSENSITIVE);
+    if (combined != null) {
+      replacePatterns.add(combined);
+    } else {
+      replaceRegexes.forEach(
+          regex -> replacePatterns.add(Pattern.compile(regex, Pattern.CASE_INSENSITIVE)));
+    }
+  }
+
+  public boolean isEmpty() {
+
+    return filterGroups.isEmpty();
+  }
+
+  /**
+   * Finds the most severe filter matching a text.
+   *
+   * @param text The text to check.
+   * @return The match, or null if no filter matches.
+   */
+  public SlurFilterMatch match(final String text) {
+
+    if (text == null || text.isBlank()) {
+      return null;
+    }
+    for (FilterGroup filterGroup : filterGroups) {
+      final SlurFilter slurFilter = filterGroup.find(text);
+      if (slurFilter != null) {
+        return new SlurFilterMatch(slurFilter,
+            slurFilter.getSlurActionType() == SlurActionType.REPLACE ? replacementSpans(text)
+                : List.of());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the spans of a text matched by any replace filter, ignoring case.
+   *
+   * @param text The text to censor.
+   * @return The spans, in order of their start.
+   */
+  public List<Span> replacementSpans(final String text) {
+
+    final List<Span> spans = new ArrayList<>();
+    for (Pattern pattern : replacePatterns) {
+      final Matcher matcher = pattern.matcher(text);
+      while (matcher.find()) {
+        if (matcher.end() > matcher.start()) {
+          spans.add(new Span(matcher.start(), matcher.end()));
+        }
+      }
+    }
+    if (replacePatterns.size() > 1) {
+      spans.sort(Comparator.comparingInt(Span::start));
+    }
+    return spans;
+  }
+
+  /**
+   * Replaces every character of the given spans with a *.
+   */
+  public static String censor(final String text, final List<Span> spans) {
+
+    if (spans.isEmpty()) {
+      return text;
+    }
+    final char[] chars = text.toCharArray();
+    for (Span span : spans) {
+      for (int i = span.start(); i < span.end(); i++) {
+        chars[i] = '*';
+      }
+    }
+    return new String(chars);
+  }
+
+  private static boolean isValid(final SlurFilter slurFilter) {
+
+    try {
+      Pattern.compile(slurFilter.getSlurRegex());
+      return true;
+    } catch (PatternSyntaxException e) {
+      logger.warn("Skipping slur filter {} with an invalid regex", slurFilter.getId(), e);
+      return false;
+    }
+  }
+
+  /**
+   * Joins regexes into one alternation, each in its own group when capturing, or returns null if
+   * they can not be combined without changing what they match.
+   */
+  private static Pattern combine(final List<String> regexes, final boolean capturing,
+      final int flags) {
+
+    if (regexes.stream().anyMatch(regex -> backReference.matcher(regex).find())) {
+      return null;
+    }
+    final StringBuilder alternation = new StringBuilder();
+    for (String regex : regexes) {
+      if (!alternation.isEmpty()) {
+        alternation.append('|');
+      }
+      alternation.append(capturing ? "(" : "(?:").append(regex).append(')');
+    }
+    try {
+      return Pattern.compile(alternation.toString(), flags);
+    } catch (PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+  private static final class FilterGroup {
+
+    private final List<SlurFilter> slurFilters;
+    private final Pattern combined;
+    private final int[] groupIndexes;
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    private FilterGroup(final List<SlurFilter> slurFilters) {
+
+      this.slurFilters = slurFilters;
+      final List<String> regexes = slurFilters.stream().map(SlurFilter::getSlurRegex).toList();
+      this.combined = slurFilters.size() > 1 ? combine(regexes, true, 0) : null;
+      this.groupIndexes = new int[slurFilters.size()];
+      if (combined == null) {
+        regexes.forEach(regex -> patterns.add(Pattern.compile(regex)));
+        return;
+      }
+      // Each filter's group comes right after the groups of the filters before it
+      int groupIndex = 1;
+      for (int i = 0; i < regexes.size(); i++) {
+        groupIndexes[i] = groupIndex;
+        groupIndex += 1 + Pattern.compile(regexes.get(i)).matcher("").groupCount();
+      }
+    }
+
+    private SlurFilter find(final String text) {
+
+      if (combined == null) {
+        for (int i = 0; i < patterns.size(); i++) {
+          if (patterns.get(i).matcher(text).find()) {
+            return slurFilters.get(i);
+          }
+        }
+        return null;
+      }
+      final Matcher matcher = combined.matcher(text);
+      if (!matcher.find()) {
+        return null;
+      }
+      for (int i = 0; i < groupIndexes.length; i++) {
+        if (matcher.start(groupIndexes[i]) != -1) {
+          return slurFilters.get(i);
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -4,10 +4,10 @@ import com.sublinks.sublinksapi.slurfilter.entities.SlurFilter;
 import com.sublinks.sublinksapi.slurfilter.enums.SlurActionType;
 import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterBlockedException;
 import com.sublinks.sublinksapi.slurfilter.exceptions.SlurFilterReportException;
+import com.sublinks.sublinksapi.slurfilter.models.SlurFilterMatch;
+import com.sublinks.sublinksapi.slurfilter.models.SlurFilterMatcher;
 import com.sublinks.sublinksapi.slurfilter.repositories.SlurFilterRepository;
-import java.util.Comparator;
-import java.util.List;
-import java.util.regex.Pattern;
+import com.sublinks.sublinksapi.utils.CacheGeneration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class SlurFilterService {
 
   private final SlurFilterRepository slurFilterRepository;
+  private final CacheGeneration cacheGeneration = new CacheGeneration();
+  private volatile SlurFilterMatcher slurFilterMatcher;
 
   @Transactional
   public void updateOrCreateLemmySlur(String regex) {
@@ -32,6 +34,7 @@ public class SlurFilterService {
       slurFilter.setSlurRegex(regex);
     }
     slurFilterRepository.save(slurFilter);
+    invalidateSlurFilterMatcher();
   }
 
   public SlurFilter getLemmySlurFilter() {
@@ -39,56 +42,52 @@ public class SlurFilterService {
     SlurFilter slurFilter = slurFilterRepository.findAll().stream().findFirst().orElse(null);
     if (slurFilter == null) {
       slurFilter = SlurFilter.builder().slurRegex("").slurActionType(SlurActionType.BLOCK).build();
+      slurFilterRepository.save(slurFilter);
+      invalidateSlurFilterMatcher();
     }
-    slurFilterRepository.save(slurFilter);
     return slurFilter;
   }
 
   public SlurFilter getHighestSlurFilterMatchingText(String text) {
 
-    List<SlurFilter> slurFilters = slurFilterRepository.findAll();
-    if (text == null || text.isEmpty() || text.isBlank() || slurFilters.isEmpty()) {
-      return null;
-    }
-
-    return slurFilters.stream()
-        .filter(slurFilter -> !slurFilter.getSlurRegex().isBlank() && Pattern.compile(
-            slurFilter.getSlurRegex()).matcher(text).find())
-        .max(Comparator.comparing(SlurFilter::getSlurActionType))
-        .orElse(null);
+    final SlurFilterMatch slurFilterMatch = getSlurFilterMatcher().match(text);
+    return slurFilterMatch == null ? null : slurFilterMatch.slurFilter();
   }
 
   public String censorText(final String text)
       throws SlurFilterBlockedException, SlurFilterReportException {
 
-    String censoredText = text;
-    SlurFilter filter = getHighestSlurFilterMatchingText(text);
-    if (filter == null) {
-      return censoredText;
+    final SlurFilterMatch slurFilterMatch = getSlurFilterMatcher().match(text);
+    if (slurFilterMatch == null) {
+      return text;
     }
 
+    final SlurFilter filter = slurFilterMatch.slurFilter();
     if (filter.getSlurActionType() == SlurActionType.BLOCK) {
       throw new SlurFilterBlockedException("Text blocked by slur filter", filter);
     } else if (filter.getSlurActionType() == SlurActionType.REPORT) {
       throw new SlurFilterReportException("Text should be reported", filter);
     }
 
-    List<SlurFilter> slurFilters = slurFilterRepository.findBySlurActionType(
-        SlurActionType.REPLACE);
-    if (censoredText == null || censoredText.isEmpty() || censoredText.isBlank()
-        || slurFilters.isEmpty()) {
-      return censoredText;
-    }
+    // Censor all found text with the same word count of the found word with *
+    return SlurFilterMatcher.censor(text, slurFilterMatch.replacements());
+  }
 
-    List<Pattern> patterns = slurFilters.stream()
-        .map((pattern) -> Pattern.compile(pattern.getSlurRegex(), Pattern.CASE_INSENSITIVE))
-        .toList();
+  /**
+   * Returns the compiled filters, loading and compiling them on first use after a change.
+   */
+  public SlurFilterMatcher getSlurFilterMatcher() {
 
-    for (Pattern pattern : patterns) {
-      // Censor all found text with the same word count of the found word with *
-      censoredText = pattern.matcher(censoredText)
-          .replaceAll(match -> "*".repeat(match.group().length()));
-    }
-    return censoredText;
+    return cacheGeneration.get(() -> slurFilterMatcher,
+        () -> new SlurFilterMatcher(slurFilterRepository.findAll()),
+        matcher -> slurFilterMatcher = matcher);
+  }
+
+  /**
+   * Drops the compiled filters, see {@link CacheGeneration#evict}.
+   */
+  private void invalidateSlurFilterMatcher() {
+
+    cacheGeneration.evict(() -> slurFilterMatcher = null);
   }
 }
@@ -0,0 +1,125 @@
+package com.sublinks.sublinksapi.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Guards a cache of database rows against loads that race with a change to those rows.
+ *
+ * <p>Evicting once the changing transaction commits is not enough on its own: a request that read
+ * the rows before the commit can still store what it read after the eviction ran, and that stale
+ * entry then lives until it expires. So every eviction bumps a generation, and a loader reads the
+ * generation before it reads the rows and only stores its result if no eviction happened since.
+ * Storing and evicting share a lock, so a store can not slip in between the bump and the eviction.
+ * Loads themselves run outside the lock, a load that lost the race still returns what it read but
+ * leaves the cache empty for the next one.</p>
+ *
+ * <p>Evictions run right away, so the changing transaction does not read its own cached rows, and
+ * again once it commits, which is when other transactions start seeing the change.</p>
+ */
+public class CacheGeneration {
+
+  private final AtomicLong generation = new AtomicLong();
+  private final Object lock = new Object();
+
+  /**
+   * @return The generation to pass to {@link #storeIfCurrent}, read before loading the rows.
+   */
+  public long current() {
+
+    return generation.get();
+  }
+
+  /**
+   * Stores a loaded value, unless the cache was evicted since the load started.
+   *
+   * @param loadGeneration The generation read before loading.
+   * @param store          Stores the value.
+   * @return False if the value was not stored.
+   */
+  public boolean storeIfCurrent(final long loadGeneration, final Runnable store) {
+
+    synchronized (lock) {
+      if (generation.get() != loadGeneration) {
+        return false;
+      }
+      store.run();
+      return true;
+    }
+  }
+
+  /**
+   * Loads and stores a value, see {@link #storeIfCurrent}.
+   *
+   * @param cached Returns the cached value, or null if there is none.
+   * @param loader Loads the value.
+   * @param store  Stores the loaded value.
+   * @return The cached or loaded value.
+   */
+  public <V> V get(final Supplier<V> cached, final Supplier<V> loader,
+      final Consumer<V> store) {
+
+    final V value = cached.get();
+    if (value != null) {
+      return value;
+    }
+    final long loadGeneration = current();
+    final V loaded = loader.get();
+    if (loaded != null) {
+      storeIfCurrent(loadGeneration, () -> store.accept(loaded));
+    }
+    return loaded;
+  }
+
+  /**
+   * Gets a value from a cache, loading it on a miss, see {@link #storeIfCurrent}.
+   *
+   * @param cache  The cache.
+   * @param key    The key.
+   * @param loader Loads the value of the key, null values are not cached.
+   * @return The cached or loaded value.
+   */
+  public <K, V> V get(final Cache<K, V> cache, final K key, final Function<K, V> loader) {
+
+    return get(() -> cache.getIfPresent(key), () -> loader.apply(key),
+        value -> cache.put(key, value));
+  }
+
+  /**
+   * Evicts right away and again once the current transaction commits. Without a transaction it
+   * only evicts right away.
+   *
+   * @param eviction Evicts the changed entries.
+   */
+  public void evict(final Runnable eviction) {
+
+    evictNow(eviction);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+
+          evictNow(eviction);
+        }
+      });
+    }
+  }
+
+  /**
+   * Evicts right away only, for changes that are already committed.
+   *
+   * @param eviction Evicts the changed entries.
+   */
+  public void evictNow(final Runnable eviction) {
+
+    synchronized (lock) {
+      generation.incrementAndGet();
+      eviction.run();
+    }
+  }
+}
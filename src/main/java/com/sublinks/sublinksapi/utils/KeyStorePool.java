@@ -0,0 +1,154 @@
+package com.sublinks.sublinksapi.utils;
+
+import com.sublinks.sublinksapi.utils.config.KeyStorePoolConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * A bounded pool of RSA key pairs generated ahead of time, so creating a post, community or person
+ * does not spend tens of milliseconds generating a key pair on the request thread. Worker threads
+ * refill the pool whenever a key pair is taken, and an empty pool falls back to generating the key
+ * pair synchronously.
+ */
+@Service
+public class KeyStorePool {
+
+  private static final Logger logger = LoggerFactory.getLogger(KeyStorePool.class);
+  private static final long FAILURE_BACKOFF_MILLIS = 1000;
+
+  private final KeyGeneratorUtil keyGeneratorUtil;
+  private final KeyStorePoolConfig keyStorePoolConfig;
+  private final BlockingQueue<KeyStore> keyStores;
+  private final List<Thread> workers = new ArrayList<>();
+  private final LongAdder pooledCount = new LongAdder();
+  private final LongAdder fallbackCount = new LongAdder();
+  private final LongAdder refillCount = new LongAdder();
+  private final LongAdder refillNanos = new LongAdder();
+  private final AtomicLong lastRefillNanos = new AtomicLong();
+  private volatile boolean running;
+
+  public KeyStorePool(final KeyGeneratorUtil keyGeneratorUtil,
+      final KeyStorePoolConfig keyStorePoolConfig) {
+
+    this.keyGeneratorUtil = keyGeneratorUtil;
+    this.keyStorePoolConfig = keyStorePoolConfig;
+    this.keyStores = isEnabled() ? new ArrayBlockingQueue<>(keyStorePoolConfig.getSize()) : null;
+  }
+
+  public boolean isEnabled() {
+
+    return keyStorePoolConfig.getSize() > 0 && keyStorePoolConfig.getWorkers() > 0;
+  }
+
+  @PostConstruct
+  public void start() {
+
+    if (!isEnabled()) {
+      return;
+    }
+    running = true;
+    for (int i = 0; i < keyStorePoolConfig.getWorkers(); i++) {
+      final Thread worker = new Thread(this::refill, "key-store-pool-" + i);
+      worker.setDaemon(true);
+      worker.setPriority(Thread.MIN_PRIORITY);
+      workers.add(worker);
+      worker.start();
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+
+    running = false;
+    workers.forEach(Thread::interrupt);
+    workers.clear();
+  }
+
+  /**
+   * Takes a pre-generated key pair, or generates one right away if the pool is empty.
+   *
+   * @return The key pair.
+   */
+  public KeyStore take() {
+
+    final KeyStore keyStore = keyStores == null ? null : keyStores.poll();
+    if (keyStore != null) {
+      pooledCount.increment();
+      return keyStore;
+    }
+    fallbackCount.increment();
+    return keyGeneratorUtil.generate();
+  }
+
+  /**
+   * Generates key pairs until stopped, blocking while the pool is full. Each worker may hold one
+   * generated key pair while it waits for room in the pool.
+   */
+  private void refill() {
+
+    while (running) {
+      try {
+        final long start = System.nanoTime();
+        final KeyStore keyStore = keyGeneratorUtil.generate();
+        final long elapsed = System.nanoTime() - start;
+        if (keyStore.publicKey() == null || keyStore.privateKey() == null) {
+          logger.error("Could not generate a key pair for the pool, retrying");
+          TimeUnit.MILLISECONDS.sleep(FAILURE_BACKOFF_MILLIS);
+          continue;
+        }
+        refillCount.increment();
+        refillNanos.add(elapsed);
+        lastRefillNanos.set(elapsed);
+        keyStores.put(keyStore);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  public int getDepth() {
+
+    return keyStores == null ? 0 : keyStores.size();
+  }
+
+  public int getCapacity() {
+
+    return keyStores == null ? 0 : keyStorePoolConfig.getSize();
+  }
+
+  public long getPooledCount() {
+
+    return pooledCount.sum();
+  }
+
+  public long getFallbackCount() {
+
+    return fallbackCount.sum();
+  }
+
+  public long getRefillCount() {
+
+    return refillCount.sum();
+  }
+
+  public long getRefillNanos() {
+
+    return refillNanos.sum();
+  }
+
+  public long getLastRefillNanos() {
+
+    return lastRefillNanos.get();
+  }
+}
@@ -1,9 +1,14 @@
 package com.sublinks.sublinksapi.utils;
 
 import jakarta.persistence.TypedQuery;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 
 public class PaginationUtils {
 
+  private static final String CURSOR_SEPARATOR = ":";
+
   /**
    * Calculates the offset for pagination query.
    *
@@ -29,4 +34,36 @@ public class PaginationUtils {
     query.setFirstResult(getOffset(page, size));
     query.setMaxResults(Math.abs(size));
   }
+
+  /**
+   * Encodes the values of a keyset position into an opaque, URL safe page cursor.
+   *
+   * @param parts The values identifying the last row of a page, none may contain ':'.
+   * @return The page cursor.
+   */
+  public static String encodeCursor(List<String> parts) {
+
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(String.join(CURSOR_SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a page cursor created by {@link #encodeCursor(List)}.
+   *
+   * @param cursor        The page cursor.
+   * @param expectedParts The number of values the cursor must hold.
+   * @return The values of the keyset position.
+   * @throws IllegalArgumentException If the cursor is malformed.
+   */
+  public static List<String> decodeCursor(String cursor, int expectedParts) {
+
+    final String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+        StandardCharsets.UTF_8);
+    final List<String> parts = List.of(decoded.split(CURSOR_SEPARATOR, -1));
+    if (parts.size() != expectedParts) {
+      throw new IllegalArgumentException("Invalid page cursor");
+    }
+    return parts;
+  }
 }
@@ -0,0 +1,70 @@
+package com.sublinks.sublinksapi.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out ids of tables whose rows need their id before they are inserted, like the path and
+ * ActivityPub id of a comment. Ids are taken from the table's sequence in blocks, the sequence
+ * being incremented by {@link #ALLOCATION_SIZE}, so only one in every fifty ids costs a query.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+
+  public static final int ALLOCATION_SIZE = 50;
+
+  private final EntityManager entityManager;
+  private final Map<String, IdBlock> idBlocks = new ConcurrentHashMap<>();
+
+  /**
+   * Takes the next id of a sequence.
+   *
+   * @param sequenceName The name of the sequence, like comments_id_seq.
+   * @return An id no other caller got.
+   */
+  public long nextId(final String sequenceName) {
+
+    return idBlocks.computeIfAbsent(sequenceName, IdBlock::new).next();
+  }
+
+  private long nextSequenceValue(final String sequenceName) {
+
+    return ((Number) entityManager.createNativeQuery("SELECT nextval(CAST(:sequence AS regclass))")
+        .setParameter("sequence", sequenceName)
+        .setFlushMode(FlushModeType.COMMIT)
+        .getSingleResult()).longValue();
+  }
+
+  /**
+   * The ids left of the last value taken from a sequence. A value v stands for the ids v - 49 to v,
+   * like Hibernate's pooled optimizer, so ids taken from the same sequence by the column default
+   * never fall inside a block.
+   */
+  private final class IdBlock {
+
+    private final String sequenceName;
+    private long next = 1;
+    private long last = 0;
+
+    private IdBlock(final String sequenceName) {
+
+      this.sequenceName = sequenceName;
+    }
+
+    private synchronized long next() {
+
+      if (next > last) {
+        final long value = nextSequenceValue(sequenceName);
+        // A new sequence starts at 1, which leaves a block of only that id
+        next = Math.max(1, value - ALLOCATION_SIZE + 1);
+        last = value;
+      }
+      return next++;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.sublinks.sublinksapi.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets by key, like an ip address or a person, taken without locking. A bucket is a single
+ * number, the time at which it is full again: taking a token moves it one emission interval
+ * further, and is refused if that is more than one period ahead. A full bucket is the same as no
+ * bucket, so idle ones are simply removed.
+ *
+ * <p>Buckets are split over shards by key, so eviction sweeps one shard at a time and a busy key
+ * only contends with the keys of its own shard.</p>
+ */
+public class TokenBuckets {
+
+  private final int capacity;
+  private final long emissionIntervalNanos;
+  private final long periodNanos;
+  private final Map<String, AtomicLong>[] shards;
+
+  /**
+   * @param capacity    The tokens a bucket holds, the burst allowed after being idle. Buckets with
+   *                    no capacity never refuse.
+   * @param periodNanos The time in nanoseconds an empty bucket takes to fill up.
+   * @param shardCount  The number of shards, rounded up to a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  public TokenBuckets(final int capacity, final long periodNanos, final int shardCount) {
+
+    this.capacity = capacity;
+    this.emissionIntervalNanos = capacity > 0 ? Math.max(1, periodNanos / capacity) : 0;
+    this.periodNanos = emissionIntervalNanos * Math.max(capacity, 0);
+    shards = new Map[shardCount > 1 ? Integer.highestOneBit(shardCount - 1) << 1 : 1];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new ConcurrentHashMap<>();
+    }
+  }
+
+  private Map<String, AtomicLong> shard(final String key) {
+
+    final int hash = key.hashCode();
+    return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+  }
+
+  /**
+   * Takes a token from the bucket of a key.
+   *
+   * @param key      The key.
+   * @param nowNanos The current {@link System#nanoTime()}.
+   * @return False if the bucket is empty.
+   */
+  public boolean tryAcquire(final String key, final long nowNanos) {
+
+    if (capacity <= 0) {
+      return true;
+    }
+    final AtomicLong fullAt = shard(key).computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+    while (true) {
+      final long current = fullAt.get();
+      final long next = Math.max(current - nowNanos, 0) + nowNanos + emissionIntervalNanos;
+      if (next - nowNanos > periodNanos) {
+        return false;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Gives back a token taken by {@link #tryAcquire}, for an action that was refused by another
+   * limit and so never ran.
+   *
+   * @param key      The key.
+   * @param nowNanos The current {@link System#nanoTime()}.
+   */
+  public void release(final String key, final long nowNanos) {
+
+    if (capacity <= 0) {
+      return;
+    }
+    final AtomicLong fullAt = shard(key).get(key);
+    if (fullAt != null) {
+      fullAt.getAndUpdate(current -> Math.max(current - emissionIntervalNanos, nowNanos));
+    }
+  }
+
+  /**
+   * Removes the buckets that are full again. A request racing the removal of its bucket may get one
+   * token more than it should.
+   *
+   * @param nowNanos The current {@link System#nanoTime()}.
+   * @return The number of buckets removed.
+   */
+  public int evictIdle(final long nowNanos) {
+
+    int evicted = 0;
+    for (Map<String, AtomicLong> shard : shards) {
+      final int before = shard.size();
+      shard.values().removeIf(fullAt -> fullAt.get() - nowNanos <= 0);
+      evicted += before - shard.size();
+    }
+    return evicted;
+  }
+
+  public int size() {
+
+    int size = 0;
+    for (Map<String, AtomicLong> shard : shards) {
+      size += shard.size();
+    }
+    return size;
+  }
+}
@@ -4,9 +4,9 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -15,6 +15,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class UrlUtil {
 
+  private static final Pattern QUERY_PARAMETER_PATTERN = Pattern.compile("(\\w+)=?([^&]+)?");
+  private static final Set<String> TRACKING_PARAMETERS = Set.of("utm_source", "utm_medium",
+      "utm_campaign", "utm_term", "utm_content", "gclid", "gclsrc", "dclid", "fbclid");
+
   /**
    * Normalizes a provided URL by removing tracking parameters. This method processes the URL,
    * removes any known tracking parameters from its query string, and reconstructs the URL. It
@@ -44,13 +48,10 @@ public class UrlUtil {
     if (queryString == null || queryString.isEmpty()) {
       return null;
     }
-    Pattern pattern = Pattern.compile("(\\w+)=?([^&]+)?");
-    Matcher matcher = pattern.matcher(queryString);
-    Collection<String> spyList = List.of("utm_source", "utm_medium", "utm_campaign", "utm_term",
-        "utm_content", "gclid", "gclsrc", "dclid", "fbclid");
+    Matcher matcher = QUERY_PARAMETER_PATTERN.matcher(queryString);
     HashMap<String, String> parameters = new HashMap<>();
     while ((matcher.find())) {
-      if (!spyList.contains(matcher.group(1))) {
+      if (!TRACKING_PARAMETERS.contains(matcher.group(1))) {
         parameters.put(matcher.group(1), matcher.group(2));
       }
     }
@@ -0,0 +1,128 @@
+package com.sublinks.sublinksapi.utils;
+
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects vote deltas per post or comment id without locking, so concurrent votes on the same
+ * row never wait on each other. Deltas are drained periodically and applied to the database in one
+ * go, drained deltas stay visible through {@link #pending(Long)} until they are completed or
+ * restored.
+ */
+public class VoteDeltaAccumulator {
+
+  /**
+   * How long a removed counter keeps being drained, a vote can only be lost if the thread adding it
+   * stalls for longer than this between looking the counter up and adding to it.
+   */
+  private static final long RETIRED_GRACE_MILLIS = 60_000;
+
+  private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+  private final Map<Long, VoteDelta> inFlight = new ConcurrentHashMap<>();
+  private final List<RetiredCounter> retired = new ArrayList<>();
+
+  public void add(final Long id, final VoteDelta voteDelta) {
+
+    if (voteDelta.isZero()) {
+      return;
+    }
+    counters.computeIfAbsent(id, key -> new Counter()).add(voteDelta);
+  }
+
+  /**
+   * Sums the deltas of an id that are not in the database yet.
+   *
+   * @param id The post or comment id.
+   * @return The pending delta, {@link VoteDelta#ZERO} if there is none.
+   */
+  public VoteDelta pending(final Long id) {
+
+    final Counter counter = counters.get(id);
+    final VoteDelta pending = counter == null ? VoteDelta.ZERO : counter.sum();
+    return pending.plus(inFlight.get(id));
+  }
+
+  /**
+   * Takes every delta recorded since the last drain. Counters that were idle for a whole cycle are
+   * removed, and drained for a grace period afterwards in case a vote raced the removal.
+   *
+   * @return The non zero deltas by id.
+   */
+  public synchronized Map<Long, VoteDelta> drain() {
+
+    final long now = System.currentTimeMillis();
+    final Map<Long, VoteDelta> drained = new HashMap<>();
+    for (RetiredCounter retiredCounter : retired) {
+      drained.merge(retiredCounter.id(), retiredCounter.counter().sumThenReset(), VoteDelta::plus);
+    }
+    retired.removeIf(retiredCounter -> now - retiredCounter.retiredAt() > RETIRED_GRACE_MILLIS);
+
+    for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+      final VoteDelta voteDelta = entry.getValue().sumThenReset();
+      if (!voteDelta.isZero()) {
+        drained.merge(entry.getKey(), voteDelta, VoteDelta::plus);
+      } else if (counters.remove(entry.getKey(), entry.getValue())) {
+        retired.add(new RetiredCounter(entry.getKey(), entry.getValue(), now));
+      }
+    }
+
+    drained.values().removeIf(VoteDelta::isZero);
+    drained.forEach((id, voteDelta) -> inFlight.merge(id, voteDelta, VoteDelta::plus));
+    return drained;
+  }
+
+  /**
+   * Forgets drained deltas once they are committed to the database.
+   *
+   * @param drained The deltas returned by {@link #drain()}.
+   */
+  public void complete(final Map<Long, VoteDelta> drained) {
+
+    drained.keySet().forEach(inFlight::remove);
+  }
+
+  /**
+   * Puts drained deltas back when applying them failed, they are retried on the next drain.
+   *
+   * @param drained The deltas returned by {@link #drain()}.
+   */
+  public void restore(final Map<Long, VoteDelta> drained) {
+
+    drained.forEach(this::add);
+    drained.keySet().forEach(inFlight::remove);
+  }
+
+  private record RetiredCounter(Long id, Counter counter, long retiredAt) {
+
+  }
+
+  private static class Counter {
+
+    private final LongAdder score = new LongAdder();
+    private final LongAdder upVotes = new LongAdder();
+    private final LongAdder downVotes = new LongAdder();
+
+    void add(final VoteDelta voteDelta) {
+
+      score.add(voteDelta.score());
+      upVotes.add(voteDelta.upVotes());
+      downVotes.add(voteDelta.downVotes());
+    }
+
+    VoteDelta sum() {
+
+      return new VoteDelta(score.intValue(), upVotes.intValue(), downVotes.intValue());
+    }
+
+    VoteDelta sumThenReset() {
+
+      return new VoteDelta((int) score.sumThenReset(), (int) upVotes.sumThenReset(),
+          (int) downVotes.sumThenReset());
+    }
+  }
+}
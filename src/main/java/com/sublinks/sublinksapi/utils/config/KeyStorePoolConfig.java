@@ -0,0 +1,16 @@
+package com.sublinks.sublinksapi.utils.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class KeyStorePoolConfig {
+
+  @Value("${sublinks.settings.key_pool.size}")
+  private int size;
+
+  @Value("${sublinks.settings.key_pool.workers}")
+  private int workers;
+}
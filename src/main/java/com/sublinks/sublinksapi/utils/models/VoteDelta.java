@@ -0,0 +1,35 @@
+package com.sublinks.sublinksapi.utils.models;
+
+import lombok.Builder;
+
+/**
+ * A change to the score, up vote and down vote counts of a post or comment.
+ */
+@Builder
+public record VoteDelta(
+    int score,
+    int upVotes,
+    int downVotes
+) {
+
+  public static final VoteDelta ZERO = new VoteDelta(0, 0, 0);
+
+  public boolean isZero() {
+
+    return score == 0 && upVotes == 0 && downVotes == 0;
+  }
+
+  public VoteDelta plus(final VoteDelta other) {
+
+    if (other == null) {
+      return this;
+    }
+    return new VoteDelta(score + other.score, upVotes + other.upVotes,
+        downVotes + other.downVotes);
+  }
+
+  public VoteDelta negate() {
+
+    return new VoteDelta(-score, -upVotes, -downVotes);
+  }
+}
@@ -0,0 +1,16 @@
+package com.sublinks.sublinksapi.utils.models;
+
+/**
+ * The row written by a vote upsert, and the score it had before.
+ */
+public interface VoteUpsertResult {
+
+  Long getId();
+
+  boolean isInserted();
+
+  /**
+   * The score before the upsert, read from the locked row. Null only if the vote was created.
+   */
+  Integer getPreviousScore();
+}
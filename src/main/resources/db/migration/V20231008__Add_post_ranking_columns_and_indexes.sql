@@ -0,0 +1,34 @@
+/**
+  Post aggregates ranking columns
+ */
+ALTER TABLE post_aggregates
+  ADD COLUMN scaled_rank       INT          DEFAULT 0 NOT NULL,
+  ADD COLUMN newest_comment_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL;
+
+UPDATE post_aggregates
+SET newest_comment_at = posts.created_at
+FROM posts
+WHERE posts.id = post_aggregates.post_id;
+
+/**
+  Post aggregates ranking indexes, newest post first on ties
+ */
+CREATE INDEX IDX_POST_AGGREGATES_HOT_RANK ON post_aggregates (hot_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_HOT_RANK_ACTIVE ON post_aggregates (hot_rank_active DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_CONTROVERSY_RANK ON post_aggregates (controversy_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_SCALED_RANK ON post_aggregates (scaled_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_SCORE ON post_aggregates (score DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_COMMENT_COUNT ON post_aggregates (comment_count DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_NEWEST_COMMENT_AT ON post_aggregates (newest_comment_at DESC, post_id DESC);
+
+CREATE INDEX IDX_POST_AGGREGATES_COMMUNITY_ID_HOT_RANK ON post_aggregates (community_id, hot_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_COMMUNITY_ID_HOT_RANK_ACTIVE ON post_aggregates (community_id, hot_rank_active DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_COMMUNITY_ID_CONTROVERSY_RANK ON post_aggregates (community_id, controversy_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_COMMUNITY_ID_SCALED_RANK ON post_aggregates (community_id, scaled_rank DESC, post_id DESC);
+CREATE INDEX IDX_POST_AGGREGATES_COMMUNITY_ID_SCORE ON post_aggregates (community_id, score DESC, post_id DESC);
+
+/**
+  Posts chronological indexes
+ */
+CREATE INDEX IDX_POSTS_CREATED_AT ON posts (created_at DESC, id DESC);
+CREATE INDEX IDX_POSTS_COMMUNITY_ID_CREATED_AT ON posts (community_id, created_at DESC, id DESC);
@@ -0,0 +1,25 @@
+/**
+  Post Likes table, keep the latest vote of duplicated votes
+ */
+DELETE
+FROM post_likes
+WHERE id IN (SELECT id
+             FROM (SELECT id,
+                          ROW_NUMBER() OVER (PARTITION BY post_id, person_id ORDER BY id DESC) AS row_number
+                   FROM post_likes) AS duplicates
+             WHERE duplicates.row_number > 1);
+
+CREATE UNIQUE INDEX IDX_POST_LIKES_POST_ID_PERSON_ID ON post_likes (post_id, person_id);
+
+/**
+  Comment Likes table, keep the latest vote of duplicated votes
+ */
+DELETE
+FROM comment_likes
+WHERE id IN (SELECT id
+             FROM (SELECT id,
+                          ROW_NUMBER() OVER (PARTITION BY comment_id, person_id ORDER BY id DESC) AS row_number
+                   FROM comment_likes) AS duplicates
+             WHERE duplicates.row_number > 1);
+
+CREATE UNIQUE INDEX IDX_COMMENT_LIKES_COMMENT_ID_PERSON_ID ON comment_likes (comment_id, person_id);
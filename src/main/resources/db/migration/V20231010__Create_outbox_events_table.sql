@@ -0,0 +1,19 @@
+/**
+  Outbox events table, one row per event and async listener
+ */
+CREATE TABLE outbox_events
+(
+  id            BIGSERIAL PRIMARY KEY,
+  event_type    VARCHAR(255)                              NOT NULL,
+  listener      VARCHAR(255)                              NOT NULL,
+  aggregate_key VARCHAR(255)                              NOT NULL,
+  payload       TEXT                                      NOT NULL,
+  status        VARCHAR(32)                               NOT NULL,
+  attempts      INT          DEFAULT 0                    NOT NULL,
+  last_error    TEXT                                      NULL,
+  available_at  TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+  created_at    TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX IDX_OUTBOX_EVENTS_STATUS_AVAILABLE_AT ON outbox_events (status, available_at, id);
+CREATE INDEX IDX_OUTBOX_EVENTS_LISTENER_AGGREGATE_KEY ON outbox_events (listener, aggregate_key, id);
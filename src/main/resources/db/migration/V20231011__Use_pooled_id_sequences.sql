@@ -0,0 +1,28 @@
+/**
+  Hot tables hand out ids in blocks of 50, so inserts can be batched instead of returning each
+  generated id. Rows inserted with the column default still take the next value of the sequence,
+  which never falls inside a block handed out to the application.
+ */
+ALTER SEQUENCE posts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_aggregates_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_likes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_reads_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_history_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comment_likes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comment_reads_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comment_history_id_seq INCREMENT BY 50;
+ALTER SEQUENCE people_mentions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE link_person_posts_id_seq INCREMENT BY 50;
+
+/**
+  Comment aggregates are joined to their comment by primary key, so give every aggregate the id of
+  its comment instead of relying on both sequences advancing together
+ */
+UPDATE comment_aggregates
+SET id = -id
+WHERE id <> comment_id;
+
+UPDATE comment_aggregates
+SET id = comment_id
+WHERE id < 0;
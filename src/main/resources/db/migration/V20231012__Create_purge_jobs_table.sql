@@ -0,0 +1,23 @@
+/**
+  Purge jobs table, one row per purge of a person, community or post, run in the background
+ */
+CREATE TABLE purge_jobs
+(
+  id                 BIGSERIAL PRIMARY KEY,
+  job_type           VARCHAR(32)                               NOT NULL,
+  target_id          BIGINT                                    NOT NULL,
+  requested_by_id    BIGINT                                    NULL,
+  reason             TEXT                                      NULL,
+  status             VARCHAR(32)                               NOT NULL,
+  step               INT          DEFAULT 0                    NOT NULL,
+  processed          BIGINT       DEFAULT 0                    NOT NULL,
+  attempts           INT          DEFAULT 0                    NOT NULL,
+  last_error         TEXT                                      NULL,
+  worker_id          VARCHAR(64)                               NULL,
+  available_at       TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+  created_at         TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+  updated_at         TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+  finished_at        TIMESTAMP(3)                              NULL
+);
+
+CREATE INDEX IDX_PURGE_JOBS_STATUS_AVAILABLE_AT ON purge_jobs (status, available_at, id);
@@ -0,0 +1,19 @@
+/**
+  The modlog is listed newest first, optionally filtered by action type, community, moderator and
+  other person. Every filter gets an index ending in (created_at, id), so a page is an index range
+  scan starting at the page cursor instead of a sort of every matching row.
+ */
+DROP INDEX IDX_MODERATION_LOGS_ACTION_TYPE;
+
+CREATE INDEX IDX_MODERATION_LOGS_CREATED_AT ON moderation_logs (created_at, id);
+CREATE INDEX IDX_MODERATION_LOGS_ACTION_TYPE_CREATED_AT ON moderation_logs (action_type, created_at, id);
+CREATE INDEX IDX_MODERATION_LOGS_COMMUNITY_CREATED_AT ON moderation_logs (community_id, created_at, id)
+  WHERE community_id IS NOT NULL;
+CREATE INDEX IDX_MODERATION_LOGS_COMMUNITY_ACTION_TYPE_CREATED_AT ON moderation_logs (community_id, action_type, created_at, id)
+  WHERE community_id IS NOT NULL;
+CREATE INDEX IDX_MODERATION_LOGS_MODERATION_PERSON_CREATED_AT ON moderation_logs (moderation_person_id, created_at, id)
+  WHERE moderation_person_id IS NOT NULL;
+CREATE INDEX IDX_MODERATION_LOGS_ADMIN_PERSON_CREATED_AT ON moderation_logs (admin_person_id, created_at, id)
+  WHERE admin_person_id IS NOT NULL;
+CREATE INDEX IDX_MODERATION_LOGS_OTHER_PERSON_CREATED_AT ON moderation_logs (other_person_id, created_at, id)
+  WHERE other_person_id IS NOT NULL;
@@ -0,0 +1,20 @@
+/**
+  Unread mentions, replies and private messages of a person, kept up to date by their create and
+  mark as read events and reconciled in the background. A row is created the first time the counts
+  of a person are read, and recounts use the partial indexes of unread rows.
+ */
+CREATE TABLE person_unread_counts
+(
+  person_id        BIGINT PRIMARY KEY REFERENCES people (id) ON DELETE CASCADE,
+  mentions         INT          DEFAULT 0                    NOT NULL,
+  replies          INT          DEFAULT 0                    NOT NULL,
+  private_messages INT          DEFAULT 0                    NOT NULL,
+  updated_at       TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX IDX_PEOPLE_MENTIONS_RECIPIENT_ID_UNREAD ON people_mentions (recipient_id)
+  WHERE is_read = false;
+CREATE INDEX IDX_COMMENT_REPLIES_RECIPIENT_ID_UNREAD ON comment_replies (recipient_id)
+  WHERE is_read = false;
+CREATE INDEX IDX_PRIVATE_MESSAGES_RECIPIENT_ID_UNREAD ON private_messages (recipient_id)
+  WHERE is_read = false;
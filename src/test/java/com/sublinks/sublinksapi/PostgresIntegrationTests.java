@@ -0,0 +1,35 @@
+package com.sublinks.sublinksapi;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs tests against the whole application and a PostgreSQL database migrated by Flyway, for the
+ * queries that mocks cannot check. The container is started once and shared by every test class,
+ * the tests are skipped where Docker is not available.
+ */
+@SpringBootTest(properties = {
+    "SUBLINKS_JWT_SECRET=c3VibGlua3MtaW50ZWdyYXRpb24tdGVzdHMtc2lnbmluZy1rZXkhIQ==",
+    "SUBLINKS_BASE_URL=http://localhost:8080",
+    "SUBLINKS_PICTRS_URL=http://localhost:8081"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTests {
+
+  private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+      "postgres:16-alpine");
+
+  @DynamicPropertySource
+  static void postgresProperties(final DynamicPropertyRegistry registry) {
+
+    if (!postgres.isRunning()) {
+      postgres.start();
+    }
+    registry.add("SUBLINKS_DB_URL", postgres::getJdbcUrl);
+    registry.add("SUBLINKS_DB_USERNAME", postgres::getUsername);
+    registry.add("SUBLINKS_DB_PASSWORD", postgres::getPassword);
+  }
+}
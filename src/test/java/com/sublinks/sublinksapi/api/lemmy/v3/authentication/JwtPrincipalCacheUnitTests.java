@@ -0,0 +1,96 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.config.JwtCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.models.JwtPrincipal;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JwtPrincipalCacheUnitTests {
+
+  @Mock
+  JwtCacheConfig jwtCacheConfig;
+
+  @Mock
+  PersonRepository personRepository;
+
+  JwtPrincipalCache jwtPrincipalCache;
+
+  @BeforeEach
+  void setUp() {
+
+    when(jwtCacheConfig.getPrincipalMaxSize()).thenReturn(100L);
+    when(jwtCacheConfig.getPrincipalTtl()).thenReturn(60L);
+    jwtPrincipalCache = new JwtPrincipalCache(personRepository, jwtCacheConfig);
+  }
+
+  @Test
+  void givenCachedPrincipal_whenGetPrincipal_thenPersonNotLoadedAgain() {
+
+    when(personRepository.findOneByName("alice")).thenReturn(
+        Optional.of(Person.builder().id(1L).name("alice").build()));
+
+    final JwtPrincipal first = jwtPrincipalCache.getPrincipal("alice").orElseThrow();
+    final JwtPrincipal second = jwtPrincipalCache.getPrincipal("alice").orElseThrow();
+
+    assertEquals(new JwtPrincipal(1L, "alice", Set.of()), first);
+    assertSame(first, second);
+    verify(personRepository, times(1)).findOneByName("alice");
+    verify(personRepository, never()).findById(any());
+  }
+
+  @Test
+  void givenPrincipal_whenPersonNeeded_thenLoadedByIdForEveryRequest() {
+
+    when(personRepository.findOneByName("alice")).thenReturn(
+        Optional.of(Person.builder().id(1L).name("alice").build()));
+    when(personRepository.findById(1L)).thenAnswer(
+        invocation -> Optional.of(Person.builder().id(1L).name("alice").build()));
+    final JwtPrincipal principal = jwtPrincipalCache.getPrincipal("alice").orElseThrow();
+
+    final JwtPerson firstRequest = new JwtPerson(principal,
+        () -> jwtPrincipalCache.loadPerson(principal));
+    final JwtPerson secondRequest = new JwtPerson(principal,
+        () -> jwtPrincipalCache.loadPerson(principal));
+
+    assertEquals("alice", firstRequest.getName());
+    verify(personRepository, never()).findById(any());
+    assertSame(firstRequest.getPrincipal(), firstRequest.getPrincipal());
+    assertNotSame(firstRequest.getPrincipal(), secondRequest.getPrincipal());
+    verify(personRepository, times(2)).findById(1L);
+  }
+
+  @Test
+  void givenCachedPersonDeleted_whenPersonLoaded_thenNullAndPrincipalEvicted() {
+
+    when(personRepository.findOneByName("alice")).thenReturn(
+        Optional.of(Person.builder().id(1L).name("alice").build()));
+    final JwtPrincipal principal = jwtPrincipalCache.getPrincipal("alice").orElseThrow();
+    when(personRepository.findOneByName("alice")).thenReturn(Optional.empty());
+    when(personRepository.findById(1L)).thenReturn(Optional.empty());
+
+    assertNull(jwtPrincipalCache.loadPerson(principal));
+    assertTrue(jwtPrincipalCache.getPrincipal("alice").isEmpty());
+  }
+}
@@ -0,0 +1,85 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.config.JwtCacheConfig;
+import com.sublinks.sublinksapi.person.entities.Person;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JwtUtilUnitTests {
+
+  @Mock
+  JwtCacheConfig jwtCacheConfig;
+
+  JwtUtil jwtUtil;
+
+  final Person person = Person.builder().name("alice").build();
+
+  @BeforeEach
+  void setUp() {
+
+    when(jwtCacheConfig.getTokenMaxSize()).thenReturn(100L);
+    jwtUtil = new JwtUtil(randomSecret(), jwtCacheConfig);
+  }
+
+  @Test
+  void givenToken_whenVerifiedTwice_thenParsedOnce() {
+
+    final String token = jwtUtil.generateToken(person);
+
+    assertEquals("alice", jwtUtil.extractUsername(token));
+    assertTrue(jwtUtil.validateToken(token, person));
+
+    assertEquals(1, jwtUtil.getVerifiedTokenStats().missCount());
+    assertEquals(1, jwtUtil.getVerifiedTokenStats().hitCount());
+  }
+
+  @Test
+  void givenEvictedToken_whenVerified_thenParsedAgain() {
+
+    final String token = jwtUtil.generateToken(person);
+    jwtUtil.verifyToken(token);
+
+    jwtUtil.evictToken(token);
+    jwtUtil.verifyToken(token);
+
+    assertEquals(2, jwtUtil.getVerifiedTokenStats().missCount());
+  }
+
+  @Test
+  void givenOtherPerson_whenValidated_thenFalse() {
+
+    final String token = jwtUtil.generateToken(person);
+
+    assertFalse(jwtUtil.validateToken(token, Person.builder().name("bob").build()));
+  }
+
+  @Test
+  void givenTokenSignedWithOtherKey_whenVerified_thenRejectedAndNotCached() {
+
+    final String token = new JwtUtil(randomSecret(), jwtCacheConfig).generateToken(person);
+
+    assertThrows(JwtException.class, () -> jwtUtil.verifyToken(token));
+    assertThrows(JwtException.class, () -> jwtUtil.verifyToken(token));
+  }
+
+  private static String randomSecret() {
+
+    return Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+  }
+}
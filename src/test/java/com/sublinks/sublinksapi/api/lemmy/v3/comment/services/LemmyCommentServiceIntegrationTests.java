@@ -0,0 +1,43 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.comment.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.CommentView;
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.enums.CommentSortType;
+import com.sublinks.sublinksapi.comment.models.CommentSearchCriteria;
+import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
+import com.sublinks.sublinksapi.metrics.queries.MaxQueries;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@Sql({"/db/testdata/community.sql", "/db/testdata/comments.sql"})
+public class LemmyCommentServiceIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  CommentRepository commentRepository;
+
+  @Autowired
+  LemmyCommentService lemmyCommentService;
+
+  @Test
+  @MaxQueries(30)
+  void givenFullPage_whenCommentViewsBuilt_thenQueriesDoNotGrowWithPage() {
+
+    final List<Comment> comments = commentRepository.allCommentsBySearchCriteria(
+        CommentSearchCriteria.builder().commentSortType(CommentSortType.New).perPage(50).page(1)
+            .build());
+    final List<CommentView> commentViews = lemmyCommentService.createCommentViews(comments,
+        null);
+
+    assertEquals(50, commentViews.size());
+    assertTrue(commentViews.stream()
+        .allMatch(commentView -> Long.valueOf(1).equals(commentView.counts().score())));
+  }
+}
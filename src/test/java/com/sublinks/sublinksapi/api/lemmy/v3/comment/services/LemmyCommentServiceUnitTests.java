@@ -0,0 +1,123 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.comment.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.comment.models.CommentView;
+import com.sublinks.sublinksapi.api.lemmy.v3.community.services.LemmyCommunityService;
+import com.sublinks.sublinksapi.authorization.entities.Role;
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.entities.CommentLike;
+import com.sublinks.sublinksapi.comment.repositories.ComentSaveRepository;
+import com.sublinks.sublinksapi.comment.repositories.CommentLikeRepository;
+import com.sublinks.sublinksapi.comment.services.CommentVoteAccumulatorService;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
+import com.sublinks.sublinksapi.person.entities.LinkPersonCommunity;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.enums.LinkPersonCommunityType;
+import com.sublinks.sublinksapi.person.repositories.LinkPersonCommunityRepository;
+import com.sublinks.sublinksapi.post.entities.Post;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+
+@ExtendWith(MockitoExtension.class)
+public class LemmyCommentServiceUnitTests {
+
+  @Mock
+  LemmyCommunityService lemmyCommunityService;
+  @Mock
+  LocalInstanceContext localInstanceContext;
+  @Mock
+  ConversionService conversionService;
+  @Mock
+  CommentLikeRepository commentLikeRepository;
+  @Mock
+  ComentSaveRepository commentSaveRepository;
+  @Mock
+  LinkPersonCommunityRepository linkPersonCommunityRepository;
+  @Mock
+  CommentVoteAccumulatorService commentVoteAccumulatorService;
+  @InjectMocks
+  LemmyCommentService lemmyCommentService;
+
+  private final Role role = Role.builder().id(1L).rolePermissions(Set.of()).build();
+  private final Community community = Community.builder().id(1L).build();
+  private final Post post = Post.builder().id(1L).community(community).build();
+  private final Person viewer = Person.builder().id(1L).role(role).build();
+
+  private List<Comment> thread(int size) {
+
+    final List<Comment> comments = new ArrayList<>();
+    for (long i = 1; i <= size; i++) {
+      final Person creator = Person.builder().id(100 + (i % 25)).role(role).build();
+      comments.add(Comment.builder()
+          .id(i)
+          .person(creator)
+          .community(community)
+          .post(post)
+          .build());
+    }
+    return comments;
+  }
+
+  /**
+   * Query count benchmark: the repositories are hit once per page whatever the thread size.
+   */
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 300, 1000})
+  void givenThreadOfAnySize_whenCreateCommentViews_thenQueryCountIsConstant(int size) {
+
+    final List<Comment> comments = thread(size);
+
+    final List<CommentView> commentViews = lemmyCommentService.createCommentViews(comments,
+        viewer);
+
+    assertEquals(size, commentViews.size());
+    verify(commentLikeRepository, times(1)).findAllByPersonAndCommentIn(viewer, comments);
+    verify(commentSaveRepository, times(1)).findAllByPersonAndCommentIn(viewer, comments);
+    verify(linkPersonCommunityRepository, times(1)).findAllByPersonInAndCommunityInAndLinkTypeIn(
+        anyCollection(), anyCollection(), anyCollection());
+    verifyNoMoreInteractions(commentLikeRepository, commentSaveRepository,
+        linkPersonCommunityRepository);
+  }
+
+  @Test
+  void givenVotesAndLinks_whenCreateCommentViews_thenViewsReflectThem() {
+
+    final List<Comment> comments = thread(2);
+    final Person bannedModerator = comments.get(1).getPerson();
+
+    when(commentLikeRepository.findAllByPersonAndCommentIn(viewer, comments)).thenReturn(
+        List.of(CommentLike.builder().comment(comments.get(0)).person(viewer).score(-1).build()));
+    when(linkPersonCommunityRepository.findAllByPersonInAndCommunityInAndLinkTypeIn(any(), any(),
+        any())).thenReturn(List.of(
+        LinkPersonCommunity.builder().person(bannedModerator).community(community)
+            .linkType(LinkPersonCommunityType.banned).build(),
+        LinkPersonCommunity.builder().person(bannedModerator).community(community)
+            .linkType(LinkPersonCommunityType.moderator).build()));
+
+    final List<CommentView> commentViews = lemmyCommentService.createCommentViews(comments,
+        viewer);
+
+    assertEquals(-1, commentViews.get(0).my_vote());
+    assertEquals(0, commentViews.get(1).my_vote());
+    assertTrue(commentViews.get(1).creator_banned_from_community());
+    assertTrue(commentViews.get(1).creator_is_moderator());
+  }
+}
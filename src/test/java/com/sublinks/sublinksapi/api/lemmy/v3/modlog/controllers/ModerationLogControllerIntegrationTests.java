@@ -0,0 +1,107 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.modlog.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import com.sublinks.sublinksapi.metrics.queries.MaxQueries;
+import com.sublinks.sublinksapi.metrics.queries.QueryCounter;
+import com.sublinks.sublinksapi.moderation.repositories.ModerationLogRepository;
+import jakarta.persistence.EntityManager;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the modlog of modlog.sql over HTTP, where every type of log refers to its own posts,
+ * communities and people, so loading them per log is not hidden by the persistence context.
+ */
+@Transactional
+@AutoConfigureMockMvc
+@Sql({"/db/testdata/roles.sql", "/db/testdata/community.sql", "/db/testdata/posts.sql",
+    "/db/testdata/comments.sql", "/db/testdata/modlog.sql"})
+public class ModerationLogControllerIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Autowired
+  ModerationLogRepository moderationLogRepository;
+
+  @Autowired
+  RoleAuthorizingService roleAuthorizingService;
+
+  @AfterEach
+  void tearDown() {
+
+    // The default role only exists in the rolled back transaction of the test
+    roleAuthorizingService.invalidateRoles();
+  }
+
+  @Test
+  @MaxQueries(25)
+  void givenMixedTypes_whenModlogRead_thenFewerQueriesThanLogs() throws Exception {
+
+    mockMvc.perform(get("/api/v3/modlog"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.removed_posts.length()").value(5))
+        .andExpect(jsonPath("$.locked_posts.length()").value(5))
+        .andExpect(jsonPath("$.featured_posts.length()").value(5))
+        .andExpect(jsonPath("$.removed_comments.length()").value(5))
+        .andExpect(jsonPath("$.banned_from_community.length()").value(5))
+        .andExpect(jsonPath("$.banned.length()").value(5))
+        .andExpect(jsonPath("$.admin_purged_posts.length()").value(5))
+        .andExpect(jsonPath("$.hidden_communities.length()").value(5))
+        .andExpect(jsonPath("$.removed_posts[0].post.id").value(1013))
+        .andExpect(jsonPath("$.removed_posts[0].community.id").value(1113))
+        .andExpect(jsonPath("$.removed_comments[0].comment.id").value(2036))
+        .andExpect(jsonPath("$.banned[0].banned_person.id").value(1118))
+        .andExpect(jsonPath("$.hidden_communities[0].admin.id").value(1120));
+  }
+
+  @Test
+  void givenEveryTypeOnceOrFiveTimes_whenModlogRead_thenSameQueries() throws Exception {
+
+    // Logs 3001 to 3008 are one of each type, created before 3009
+    final String thirdGroup = moderationLogRepository.findById(3009L).orElseThrow()
+        .getCreatedAt().toInstant().atOffset(ZoneOffset.UTC).toString();
+
+    // The first request resolves and caches the default role
+    countModlogQueries(get("/api/v3/modlog"));
+    final int eachTypeOnce = countModlogQueries(
+        get("/api/v3/modlog").param("created_before", thirdGroup));
+    final int fullPage = countModlogQueries(get("/api/v3/modlog"));
+
+    assertEquals(eachTypeOnce, fullPage);
+  }
+
+  /**
+   * Counts the statements of reading the modlog, starting from an empty persistence context so
+   * nothing loaded by an earlier request is reused.
+   */
+  private int countModlogQueries(final MockHttpServletRequestBuilder request) throws Exception {
+
+    entityManager.clear();
+    final QueryCount queryCount;
+    QueryCounter.start();
+    try {
+      mockMvc.perform(request).andExpect(status().isOk());
+    } finally {
+      queryCount = QueryCounter.stop();
+    }
+    return queryCount.getCount();
+  }
+}
@@ -0,0 +1,126 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.modlog.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.enums.ModlogActionType;
+import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModBanView;
+import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModRemovePostView;
+import com.sublinks.sublinksapi.api.lemmy.v3.modlog.models.ModerationLogReferences;
+import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.repositories.PostRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.convert.ConversionService;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ModerationLogServiceUnitTests {
+
+  @Mock
+  CommunityRepository communityRepository;
+  @Mock
+  CommentRepository commentRepository;
+  @Mock
+  PostRepository postRepository;
+  @Mock
+  PersonRepository personRepository;
+  @Mock
+  ConversionService conversionService;
+  @InjectMocks
+  ModerationLogService moderationLogService;
+
+  private final Community community = Community.builder().id(1L).build();
+  private final Post post = Post.builder().id(2L).build();
+  private final Person moderator = Person.builder().id(3L).build();
+  private final Person bannedPerson = Person.builder().id(4L).build();
+
+  private final com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community lemmyCommunity =
+      com.sublinks.sublinksapi.api.lemmy.v3.community.models.Community.builder().id(1L).build();
+  private final com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post lemmyPost =
+      com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.builder().id(2L).build();
+  private final com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person lemmyModerator =
+      com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.builder().id(3L).build();
+  private final com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person lemmyBannedPerson =
+      com.sublinks.sublinksapi.api.lemmy.v3.user.models.Person.builder().id(4L).build();
+
+  @Test
+  void givenPageOfModerationLogs_whenLoadReferences_thenOneQueryPerEntityType() {
+
+    final ModerationLog removePost = ModerationLog.builder()
+        .actionType(ModlogActionType.ModRemovePost)
+        .communityId(1L)
+        .postId(2L)
+        .moderationPersonId(3L)
+        .build();
+    final ModerationLog ban = ModerationLog.builder()
+        .actionType(ModlogActionType.ModBan)
+        .moderationPersonId(3L)
+        .otherPersonId(4L)
+        .build();
+    when(communityRepository.findAllWithAggregatesByIdIn(anyCollection())).thenReturn(
+        List.of(community));
+    when(postRepository.findAllWithAggregatesByIdIn(anyCollection())).thenReturn(
+        List.of(post));
+    when(personRepository.findAllWithAggregatesByIdIn(anyCollection())).thenReturn(
+        List.of(moderator, bannedPerson));
+    when(conversionService.convert(eq(community), any())).thenReturn(lemmyCommunity);
+    when(conversionService.convert(eq(post), any())).thenReturn(lemmyPost);
+    when(conversionService.convert(eq(moderator), any())).thenReturn(lemmyModerator);
+    when(conversionService.convert(eq(bannedPerson), any())).thenReturn(lemmyBannedPerson);
+
+    final ModerationLogReferences references = moderationLogService.loadReferences(
+        List.of(removePost, ban));
+    final ModRemovePostView modRemovePostView = moderationLogService.buildModRemovePostView(
+        removePost, references);
+    final ModBanView modBanView = moderationLogService.buildModBanView(ban, references);
+
+    verify(communityRepository, times(1)).findAllWithAggregatesByIdIn(anyCollection());
+    verify(postRepository, times(1)).findAllWithAggregatesByIdIn(anyCollection());
+    verify(personRepository, times(1)).findAllWithAggregatesByIdIn(anyCollection());
+    verify(commentRepository, never()).findAllById(anyIterable());
+    verify(personRepository, never()).findById(any());
+    assertSame(lemmyCommunity, modRemovePostView.community());
+    assertSame(lemmyPost, modRemovePostView.post());
+    assertSame(lemmyModerator, modRemovePostView.moderator());
+    assertSame(lemmyBannedPerson, modBanView.banned_person());
+    assertEquals(2, references.people().size());
+  }
+
+  @Test
+  void givenReferencedRowDeleted_whenBuildView_thenReferenceNull() {
+
+    final ModerationLog removePost = ModerationLog.builder()
+        .actionType(ModlogActionType.ModRemovePost)
+        .communityId(1L)
+        .postId(2L)
+        .moderationPersonId(3L)
+        .build();
+
+    final ModerationLogReferences references = moderationLogService.loadReferences(
+        List.of(removePost));
+
+    assertNull(moderationLogService.buildModRemovePostView(removePost, references).post());
+  }
+}
@@ -0,0 +1,88 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.authorization.services.RoleAuthorizingService;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import com.sublinks.sublinksapi.metrics.queries.MaxQueries;
+import com.sublinks.sublinksapi.metrics.queries.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Lists posts over HTTP, filters and authentication included, with the response cache off so
+ * every request reaches the database.
+ */
+@Transactional
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "sublinks.settings.response_cache.max_size=0")
+@Sql({"/db/testdata/roles.sql", "/db/testdata/community.sql", "/db/testdata/posts.sql"})
+public class PostControllerIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Autowired
+  RoleAuthorizingService roleAuthorizingService;
+
+  @AfterEach
+  void tearDown() {
+
+    // The default role only exists in the rolled back transaction of the test
+    roleAuthorizingService.invalidateRoles();
+  }
+
+  @Test
+  @MaxQueries(19)
+  void givenFullPage_whenListed_thenFewerQueriesThanPosts() throws Exception {
+
+    mockMvc.perform(get("/api/v3/post/list").param("sort", "New").param("limit", "20"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts.length()").value(20));
+  }
+
+  @Test
+  void givenOnePostOrFullPage_whenListed_thenSameQueries() throws Exception {
+
+    // The first request resolves and caches the default role
+    countListQueries(1);
+    final int onePost = countListQueries(1);
+    final int fullPage = countListQueries(20);
+
+    assertEquals(onePost, fullPage);
+  }
+
+  /**
+   * Counts the statements of listing a page of posts, starting from an empty persistence context
+   * so nothing loaded by an earlier request is reused.
+   */
+  private int countListQueries(final int limit) throws Exception {
+
+    entityManager.clear();
+    final QueryCount queryCount;
+    QueryCounter.start();
+    try {
+      mockMvc.perform(get("/api/v3/post/list").param("sort", "New")
+              .param("limit", String.valueOf(limit)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.posts.length()").value(limit));
+    } finally {
+      queryCount = QueryCounter.stop();
+    }
+    return queryCount.getCount();
+  }
+}
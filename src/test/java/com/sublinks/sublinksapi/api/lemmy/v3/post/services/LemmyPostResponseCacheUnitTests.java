@@ -0,0 +1,106 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.api.lemmy.v3.post.config.PostResponseCacheConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPosts;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.GetPostsResponse;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostView;
+import com.sublinks.sublinksapi.community.entities.Community;
+import com.sublinks.sublinksapi.post.entities.Post;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LemmyPostResponseCacheUnitTests {
+
+  @Mock
+  PostResponseCacheConfig postResponseCacheConfig;
+
+  LemmyPostResponseCache lemmyPostResponseCache;
+
+  final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+
+    when(postResponseCacheConfig.getMaxSize()).thenReturn(100L);
+    when(postResponseCacheConfig.getTtl()).thenReturn(60L);
+    when(postResponseCacheConfig.getMaxPage()).thenReturn(3);
+    lemmyPostResponseCache = new LemmyPostResponseCache(postResponseCacheConfig);
+  }
+
+  @Test
+  void givenSameListing_whenRequestedTwice_thenLoadedOnce() {
+
+    final GetPosts getPosts = GetPosts.builder().page(1).build();
+
+    lemmyPostResponseCache.getListing(getPosts, () -> load(1L));
+    lemmyPostResponseCache.getListing(getPosts, () -> load(1L));
+
+    assertEquals(1, loads.get());
+    assertEquals(1, lemmyPostResponseCache.getListingStats().hitCount());
+    assertEquals(1, lemmyPostResponseCache.getListingStats().missCount());
+  }
+
+  @Test
+  void givenCursorOrDeepPage_whenIsCacheable_thenFalse() {
+
+    assertTrue(lemmyPostResponseCache.isCacheable(GetPosts.builder().page(3).build()));
+    assertFalse(lemmyPostResponseCache.isCacheable(GetPosts.builder().page(4).build()));
+    assertFalse(lemmyPostResponseCache.isCacheable(GetPosts.builder().page_cursor("abc").build()));
+    assertFalse(lemmyPostResponseCache.isCacheable(GetPosts.builder().saved_only(true).build()));
+  }
+
+  @Test
+  void givenChangedPost_whenEvicted_thenListingReloaded() {
+
+    final GetPosts getPosts = GetPosts.builder().page(1).build();
+    lemmyPostResponseCache.getListing(getPosts, () -> load(1L));
+
+    lemmyPostResponseCache.evictForChangedPost(Post.builder().id(2L).build());
+    lemmyPostResponseCache.getListing(getPosts, () -> load(1L));
+    assertEquals(1, loads.get());
+
+    lemmyPostResponseCache.evictForChangedPost(Post.builder().id(1L).build());
+    lemmyPostResponseCache.getListing(getPosts, () -> load(1L));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void givenNewPostInOtherCommunity_whenEvicted_thenCommunityListingKept() {
+
+    final GetPosts front = GetPosts.builder().build();
+    final GetPosts community = GetPosts.builder().community_id(5).build();
+    lemmyPostResponseCache.getListing(front, () -> load(1L));
+    lemmyPostResponseCache.getListing(community, () -> load(1L));
+
+    lemmyPostResponseCache.evictForNewPost(
+        Post.builder().id(3L).community(Community.builder().id(6L).titleSlug("other").build())
+            .build());
+    lemmyPostResponseCache.getListing(front, () -> load(1L));
+    lemmyPostResponseCache.getListing(community, () -> load(1L));
+
+    assertEquals(3, loads.get());
+  }
+
+  private GetPostsResponse load(final Long postId) {
+
+    loads.incrementAndGet();
+    final PostView postView = PostView.builder()
+        .post(com.sublinks.sublinksapi.api.lemmy.v3.post.models.Post.builder().id(postId).build())
+        .build();
+    return GetPostsResponse.builder().posts(List.of(postView)).build();
+  }
+}
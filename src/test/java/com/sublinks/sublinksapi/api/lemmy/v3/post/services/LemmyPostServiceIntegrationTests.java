@@ -0,0 +1,80 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.post.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.api.lemmy.v3.post.models.PostView;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import com.sublinks.sublinksapi.metrics.queries.MaxQueries;
+import com.sublinks.sublinksapi.metrics.queries.QueryCounter;
+import com.sublinks.sublinksapi.person.enums.SortType;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.models.PostSearchCriteria;
+import com.sublinks.sublinksapi.post.repositories.PostRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@Sql({"/db/testdata/community.sql", "/db/testdata/posts.sql"})
+public class LemmyPostServiceIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  PostRepository postRepository;
+
+  @Autowired
+  LemmyPostService lemmyPostService;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Test
+  @MaxQueries(15)
+  void givenFullPage_whenPostViewsBuilt_thenFewerQueriesThanPosts() {
+
+    final List<Post> posts = postRepository.allPostsBySearchCriteria(
+        PostSearchCriteria.builder().sortType(SortType.New).perPage(20).page(1).build());
+    final List<PostView> postViews = lemmyPostService.postViewsFromPosts(posts, null);
+
+    assertEquals(20, postViews.size());
+    assertTrue(postViews.stream().map(PostView::creator).allMatch(Objects::nonNull));
+    assertEquals(20,
+        postViews.stream().map(postView -> postView.creator().id()).distinct().count());
+    assertTrue(postViews.stream().map(PostView::counts).allMatch(Objects::nonNull));
+  }
+
+  @Test
+  void givenOnePostOrFullPage_whenPostViewsBuilt_thenSameQueries() {
+
+    final int onePost = countPostViewQueries(1);
+    final int fullPage = countPostViewQueries(20);
+
+    assertEquals(onePost, fullPage);
+  }
+
+  /**
+   * Counts the statements of building a page of post views, starting from an empty persistence
+   * context so nothing loaded by an earlier page is reused.
+   */
+  private int countPostViewQueries(final int perPage) {
+
+    entityManager.clear();
+    final List<PostView> postViews;
+    final QueryCount queryCount;
+    QueryCounter.start();
+    try {
+      final List<Post> posts = postRepository.allPostsBySearchCriteria(
+          PostSearchCriteria.builder().sortType(SortType.New).perPage(perPage).page(1).build());
+      postViews = lemmyPostService.postViewsFromPosts(posts, null);
+    } finally {
+      queryCount = QueryCounter.stop();
+    }
+    assertEquals(perPage, postViews.size());
+    return queryCount.getCount();
+  }
+}
@@ -0,0 +1,146 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sublinks.sublinksapi.api.lemmy.v3.authentication.JwtPerson;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.config.RateLimitConfig;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.enums.RateLimitType;
+import com.sublinks.sublinksapi.api.lemmy.v3.ratelimit.services.RateLimitService;
+import com.sublinks.sublinksapi.instance.models.InstanceRateLimits;
+import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class RateLimitFilterUnitTests {
+
+  @Mock
+  RateLimitService rateLimitService;
+
+  @Mock
+  InstanceRateLimits instanceRateLimits;
+
+  @Mock
+  RateLimitConfig rateLimitConfig;
+
+  RateLimitFilter rateLimitFilter;
+
+  @BeforeEach
+  void setUp() {
+
+    when(rateLimitService.isEnabled()).thenReturn(true);
+    rateLimitFilter = new RateLimitFilter(rateLimitService, new ObjectMapper());
+  }
+
+  @AfterEach
+  void tearDown() {
+
+    SecurityContextHolder.clearContext();
+  }
+
+  private static MockHttpServletRequest request(final String method, final String path) {
+
+    final MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setServletPath(path);
+    request.setRemoteAddr("10.0.0.1");
+    return request;
+  }
+
+  @Test
+  void givenApiCalls_whenMapped_thenLemmyActionClassesReturned() {
+
+    assertEquals(RateLimitType.REGISTER,
+        RateLimitFilter.getRateLimitType("POST", "/api/v3/user/register"));
+    assertEquals(RateLimitType.POST, RateLimitFilter.getRateLimitType("POST", "/api/v3/post"));
+    assertEquals(RateLimitType.COMMENT,
+        RateLimitFilter.getRateLimitType("POST", "/api/v3/comment"));
+    assertEquals(RateLimitType.MESSAGE,
+        RateLimitFilter.getRateLimitType("POST", "/api/v3/post/like"));
+    assertEquals(RateLimitType.SEARCH, RateLimitFilter.getRateLimitType("GET", "/api/v3/search"));
+    assertEquals(RateLimitType.SEARCH,
+        RateLimitFilter.getRateLimitType("GET", "/api/v3/resolve_object"));
+    assertEquals(RateLimitType.MESSAGE,
+        RateLimitFilter.getRateLimitType("GET", "/api/v3/post/list"));
+    assertEquals(RateLimitType.IMAGE, RateLimitFilter.getRateLimitType("POST", "/pictrs/image"));
+    assertNull(RateLimitFilter.getRateLimitType("GET", "/pictrs/image/abc.png"));
+  }
+
+  @Test
+  void givenLimitReached_whenFiltered_thenLemmyRateLimitErrorWritten() throws Exception {
+
+    when(rateLimitService.tryAcquire(eq(RateLimitType.COMMENT), anyList())).thenReturn(false);
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    final MockFilterChain filterChain = new MockFilterChain();
+
+    rateLimitFilter.doFilter(request("POST", "/api/v3/comment"), response, filterChain);
+
+    assertEquals(429, response.getStatus());
+    assertEquals("{\"error\":\"rate_limit_error\"}", response.getContentAsString());
+    assertEquals("application/json", response.getContentType());
+    assertNull(filterChain.getRequest());
+  }
+
+  @Test
+  void givenLimitNotReached_whenFiltered_thenPassedOn() throws Exception {
+
+    when(rateLimitService.tryAcquire(eq(RateLimitType.COMMENT), anyList())).thenReturn(true);
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    final MockFilterChain filterChain = new MockFilterChain();
+
+    rateLimitFilter.doFilter(request("POST", "/api/v3/comment"), response, filterChain);
+
+    assertEquals(200, response.getStatus());
+    assertNotNull(filterChain.getRequest());
+  }
+
+  private static int comment(final RateLimitFilter rateLimitFilter, final long personId,
+      final String address) throws Exception {
+
+    SecurityContextHolder.getContext().setAuthentication(new JwtPerson(
+        Person.builder().id(personId).name("person" + personId).build(), List.of()));
+    final MockHttpServletRequest request = request("POST", "/api/v3/comment");
+    request.setRemoteAddr(address);
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(request, response, new MockFilterChain());
+    return response.getStatus();
+  }
+
+  @Test
+  void givenTwoPersonsFromOneAddress_whenFiltered_thenAddressLimitShared() throws Exception {
+
+    when(instanceRateLimits.getComment()).thenReturn(3);
+    when(instanceRateLimits.getCommentPerSecond()).thenReturn(600);
+    when(rateLimitConfig.isEnabled()).thenReturn(true);
+    when(rateLimitConfig.getShards()).thenReturn(4);
+    final RateLimitFilter filter = new RateLimitFilter(
+        new RateLimitService(instanceRateLimits, rateLimitConfig), new ObjectMapper());
+
+    assertEquals(200, comment(filter, 1L, "10.0.0.1"));
+    assertEquals(200, comment(filter, 1L, "10.0.0.1"));
+    assertEquals(200, comment(filter, 2L, "10.0.0.1"));
+    assertEquals(429, comment(filter, 2L, "10.0.0.1"), "Second person raised the address limit");
+
+    // The refused call did not count against the limit of the second person
+    assertEquals(200, comment(filter, 2L, "10.0.0.2"));
+    assertEquals(200, comment(filter, 2L, "10.0.0.2"));
+    assertEquals(429, comment(filter, 2L, "10.0.0.3"), "Person limit was not enforced");
+  }
+}
@@ -0,0 +1,125 @@
+package com.sublinks.sublinksapi.api.lemmy.v3.stream.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class EventStreamTopicUnitTests {
+
+  @Mock
+  SseEmitter emitter;
+
+  final AtomicLong eventIds = new AtomicLong(1000);
+
+  @Test
+  void givenEventsMissed_whenReconnectWithLastEventId_thenOnlyMissedEventsSent()
+      throws IOException {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 8, 0);
+    topic.publish("mention", "{}");
+    topic.publish("mention", "{}");
+    topic.publish("reply", "{}");
+    final EventStreamConnection connection = new EventStreamConnection(emitter, null);
+
+    assertTrue(topic.connect(connection, 1001L));
+    assertTrue(connection.schedule());
+
+    assertEquals(2, connection.drain());
+    verify(emitter, times(2)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  void givenMissedEventsNoLongerKept_whenReconnect_thenResyncSent() throws IOException {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 2, 0);
+    topic.publish("mention", "{}");
+    topic.publish("mention", "{}");
+    topic.publish("mention", "{}");
+    final EventStreamConnection connection = new EventStreamConnection(emitter,
+        Set.of("reply"));
+
+    assertTrue(topic.connect(connection, 1000L));
+    connection.schedule();
+
+    assertEquals(1, connection.drain());
+  }
+
+  @Test
+  void givenEventNames_whenDrain_thenOtherEventsSkipped() throws IOException {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 8, 0);
+    final EventStreamConnection connection = new EventStreamConnection(emitter,
+        Set.of("mention"));
+    topic.connect(connection, null);
+
+    assertEquals(List.of(connection), topic.publish("private_message", "{}"));
+    assertEquals(List.of(connection), topic.publish("mention", "{}"));
+    connection.schedule();
+
+    assertEquals(1, connection.drain());
+    verify(emitter, times(1)).send(any(SseEventBuilder.class));
+    assertTrue(connection.schedule());
+  }
+
+  @Test
+  void givenSlowConnection_whenRingOverflows_thenConnectionClosedWithoutWriting()
+      throws IOException {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 2, 0);
+    final EventStreamConnection connection = new EventStreamConnection(emitter, null);
+    topic.connect(connection, null);
+
+    topic.publish("mention", "{}");
+    topic.publish("mention", "{}");
+    topic.publish("mention", "{}");
+    connection.schedule();
+
+    assertEquals(0, connection.drain());
+    assertTrue(connection.isClosed());
+    verify(emitter, never()).send(any(SseEventBuilder.class));
+    verify(emitter).complete();
+  }
+
+  @Test
+  void givenManyConnections_whenPublish_thenEventKeptOnce() {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 8, 0);
+    topic.connect(new EventStreamConnection(emitter, null), null);
+    topic.connect(new EventStreamConnection(emitter, null), null);
+
+    assertEquals(2, topic.publish("mention", "{}").size());
+    assertEquals(1, topic.getEventsAfter(1000L).size());
+    assertEquals(List.of(), topic.getEventsAfter(topic.getLastEventId()));
+  }
+
+  @Test
+  void givenNoConnections_whenResumeWindowPassed_thenExpired() {
+
+    final EventStreamTopic topic = new EventStreamTopic(eventIds, 8, 0);
+    final EventStreamConnection connection = new EventStreamConnection(emitter, null);
+    topic.connect(connection, null);
+    topic.disconnect(connection, 1000);
+
+    assertFalse(topic.isExpired(1500, 1000));
+    assertTrue(topic.isExpired(2500, 1000));
+  }
+}
@@ -0,0 +1,100 @@
+package com.sublinks.sublinksapi.authorization.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.authorization.entities.Role;
+import com.sublinks.sublinksapi.authorization.entities.RolePermissions;
+import com.sublinks.sublinksapi.authorization.enums.RolePermission;
+import com.sublinks.sublinksapi.authorization.repositories.RoleRepository;
+import com.sublinks.sublinksapi.person.entities.Person;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RoleAuthorizingServiceUnitTests {
+
+  @Mock
+  RoleRepository roleRepository;
+
+  @InjectMocks
+  RoleAuthorizingService roleAuthorizingService;
+
+  @BeforeEach
+  void setUp() {
+
+    roleAuthorizingService.invalidateRoles();
+  }
+
+  @Test
+  void givenDefaultRole_whenRequestedTwice_thenLoadedOnce() {
+
+    final Role defaultRole = role(1L, RolePermission.DEFAULT, RolePermission.READ_POST);
+    when(roleRepository.findAllByRolePermissionContains(RolePermission.DEFAULT)).thenReturn(
+        List.of(defaultRole));
+
+    assertSame(defaultRole, roleAuthorizingService.getDefaultRole());
+    assertTrue(roleAuthorizingService.hasAdminOrPermission((Person) null,
+        RolePermission.READ_POST));
+
+    verify(roleRepository, times(1)).findAllByRolePermissionContains(RolePermission.DEFAULT);
+  }
+
+  @Test
+  void givenRole_whenCheckingPermissions_thenMatchesRolePermissions() {
+
+    final Role role = role(2L, RolePermission.READ_POST, RolePermission.CREATE_POST);
+
+    assertTrue(roleAuthorizingService.hasPermission(role, RolePermission.CREATE_POST));
+    assertFalse(roleAuthorizingService.hasPermission(role, RolePermission.DELETE_POST));
+    assertTrue(roleAuthorizingService.hasAllPermissions(role,
+        Set.of(RolePermission.READ_POST, RolePermission.CREATE_POST)));
+    assertFalse(roleAuthorizingService.hasAllPermissions(role,
+        Set.of(RolePermission.READ_POST, RolePermission.DELETE_POST)));
+    assertTrue(roleAuthorizingService.hasAnyPermission(role,
+        Set.of(RolePermission.READ_POST, RolePermission.DELETE_POST)));
+  }
+
+  @Test
+  void givenAdminRole_whenCheckingAnyPermission_thenGranted() {
+
+    final Role role = role(3L, RolePermission.ADMIN);
+
+    assertTrue(RoleAuthorizingService.isAdmin(role));
+    assertTrue(roleAuthorizingService.hasPermission(role, RolePermission.DELETE_POST));
+  }
+
+  @Test
+  void givenChangedRole_whenInvalidated_thenRecompiled() {
+
+    final Role role = role(4L, RolePermission.READ_POST);
+    assertFalse(roleAuthorizingService.hasPermission(role, RolePermission.CREATE_POST));
+
+    role.setRolePermissions(role(4L, RolePermission.READ_POST, RolePermission.CREATE_POST)
+        .getRolePermissions());
+    roleAuthorizingService.invalidateRoles();
+
+    assertTrue(roleAuthorizingService.hasPermission(role, RolePermission.CREATE_POST));
+  }
+
+  private static Role role(final Long id, final RolePermission... permissions) {
+
+    final Role role = Role.builder().id(id).build();
+    role.setRolePermissions(Arrays.stream(permissions)
+        .map(permission -> RolePermissions.builder().role(role).permission(permission).build())
+        .collect(Collectors.toSet()));
+    return role;
+  }
+}
@@ -0,0 +1,117 @@
+package com.sublinks.sublinksapi.comment.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.comment.entities.Comment;
+import com.sublinks.sublinksapi.comment.repositories.CommentRepository;
+import com.sublinks.sublinksapi.language.repositories.LanguageRepository;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import com.sublinks.sublinksapi.metrics.queries.QueryCounter;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.repositories.PostRepository;
+import com.sublinks.sublinksapi.shared.RemovedState;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Counts the statements of creating a comment, its listeners included, up to the flush that writes
+ * it.
+ */
+@Transactional
+@Sql({"/db/testdata/community.sql", "/db/testdata/comments.sql"})
+public class CommentServiceIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  CommentService commentService;
+
+  @Autowired
+  CommentRepository commentRepository;
+
+  @Autowired
+  PostRepository postRepository;
+
+  @Autowired
+  PersonRepository personRepository;
+
+  @Autowired
+  LanguageRepository languageRepository;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Test
+  void givenPost_whenCommentCreated_thenWrittenWithOneInsertPerRow() {
+
+    final Comment comment = newComment();
+
+    final QueryCount queryCount = countStatements(() -> commentService.createComment(comment));
+
+    assertEquals("0." + comment.getId(), comment.getPath());
+    assertEquals(1, queryCount.getCount("insert into comments "));
+    assertEquals(1, queryCount.getCount("insert into comment_aggregates "));
+    assertEquals(0, queryCount.getCount("update comments "));
+  }
+
+  @Test
+  void givenComment_whenReplyCreated_thenWrittenWithOneInsertPerRow() {
+
+    final Comment parent = commentRepository.findById(2001L).orElseThrow();
+    final Comment reply = newComment();
+
+    final QueryCount queryCount = countStatements(
+        () -> commentService.createComment(reply, parent));
+
+    assertEquals("0.2001." + reply.getId(), reply.getPath());
+    assertEquals(1, queryCount.getCount("insert into comments "));
+    assertEquals(1, queryCount.getCount("insert into comment_aggregates "));
+    assertEquals(0, queryCount.getCount("update comments "));
+  }
+
+  @Test
+  void givenCreatedComment_whenAnotherCreated_thenNoMoreStatementsThanFirst() {
+
+    final Comment firstComment = newComment();
+    final QueryCount first = countStatements(() -> commentService.createComment(firstComment));
+    final Comment secondComment = newComment();
+    final QueryCount second = countStatements(() -> commentService.createComment(secondComment));
+
+    // Ids come from a block of the sequence allocated by the first comment
+    assertEquals(0, second.getCount("SELECT nextval") + second.getCount("select nextval"));
+    assertTrue(second.getCount() <= first.getCount(),
+        "second comment ran " + second.getCount() + " statements, first " + first.getCount());
+  }
+
+  private Comment newComment() {
+
+    final Post post = postRepository.findById(2000L).orElseThrow();
+    return Comment.builder()
+        .person(personRepository.findById(1000L).orElseThrow())
+        .isLocal(true)
+        .activityPubId("")
+        .removedState(RemovedState.NOT_REMOVED)
+        .post(post)
+        .community(post.getCommunity())
+        .language(languageRepository.findLanguageByCode("und"))
+        .commentBody("Counted")
+        .build();
+  }
+
+  private QueryCount countStatements(final Runnable create) {
+
+    final QueryCount queryCount;
+    QueryCounter.start();
+    try {
+      create.run();
+      entityManager.flush();
+    } finally {
+      queryCount = QueryCounter.stop();
+    }
+    return queryCount;
+  }
+}
@@ -0,0 +1,89 @@
+package com.sublinks.sublinksapi.comment.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.comment.events.CommentVotesAppliedPublisher;
+import com.sublinks.sublinksapi.comment.models.CommentVoteCounts;
+import com.sublinks.sublinksapi.comment.repositories.CommentAggregateRepository;
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentVoteAccumulatorServiceUnitTests {
+
+  @Mock
+  CommentAggregateRepository commentAggregateRepository;
+  @Mock
+  CommentVotesAppliedPublisher commentVotesAppliedPublisher;
+  @Captor
+  ArgumentCaptor<List<CommentVoteCounts>> commentVoteCountsCaptor;
+  @InjectMocks
+  CommentVoteAccumulatorService commentVoteAccumulatorService;
+
+  private static CommentVoteCounts voteCounts(final Long commentId, final int score) {
+
+    return new CommentVoteCounts() {
+      @Override
+      public Long getCommentId() {
+
+        return commentId;
+      }
+
+      @Override
+      public Long getPostId() {
+
+        return 10L;
+      }
+
+      @Override
+      public int getScore() {
+
+        return score;
+      }
+
+      @Override
+      public int getUpVotes() {
+
+        return score;
+      }
+
+      @Override
+      public int getDownVotes() {
+
+        return 0;
+      }
+    };
+  }
+
+  @Test
+  void givenVotes_whenApplied_thenCountsFromUpdatesPublishedWithoutLoadingAggregates() {
+
+    final Map<Long, VoteDelta> votes = new LinkedHashMap<>();
+    votes.put(1L, new VoteDelta(2, 2, 0));
+    votes.put(2L, new VoteDelta(1, 1, 0));
+    when(commentAggregateRepository.addVotes(1L, 2, 2, 0)).thenReturn(voteCounts(1L, 7));
+    when(commentAggregateRepository.addVotes(2L, 1, 1, 0)).thenReturn(null);
+
+    commentVoteAccumulatorService.applyVotes(votes);
+
+    verify(commentAggregateRepository).addVotes(1L, 2, 2, 0);
+    verify(commentAggregateRepository).addVotes(2L, 1, 1, 0);
+    verifyNoMoreInteractions(commentAggregateRepository);
+    verify(commentVotesAppliedPublisher).publish(commentVoteCountsCaptor.capture());
+    assertEquals(1, commentVoteCountsCaptor.getValue().size(),
+        "Counts of a comment without an aggregate were published");
+    assertEquals(7, commentVoteCountsCaptor.getValue().get(0).getScore());
+  }
+}
@@ -0,0 +1,51 @@
+package com.sublinks.sublinksapi.metrics.conventions;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class ControllerMethodObservationConventionUnitTests {
+
+  private final ControllerMethodObservationConvention convention =
+      new ControllerMethodObservationConvention();
+
+  static class TestController {
+
+    public String index() {
+
+      return "";
+    }
+  }
+
+  @Test
+  void givenHandlerMethod_whenObserved_thenTaggedWithControllerMethod() throws Exception {
+
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v3/post/list");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+        new HandlerMethod(new TestController(), TestController.class.getMethod("index")));
+
+    final KeyValues keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockHttpServletResponse()));
+
+    assertTrue(keyValues.stream()
+        .anyMatch(KeyValue.of("handler", "TestController.index")::equals));
+  }
+
+  @Test
+  void givenNoHandler_whenObserved_thenTaggedNone() {
+
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+
+    final KeyValues keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockHttpServletResponse()));
+
+    assertTrue(keyValues.stream().anyMatch(KeyValue.of("handler", "none")::equals));
+  }
+}
@@ -0,0 +1,77 @@
+package com.sublinks.sublinksapi.metrics.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+
+public class TimedApplicationEventMulticasterUnitTests {
+
+  static class TestEvent extends ApplicationEvent {
+
+    TestEvent(final Object source) {
+
+      super(source);
+    }
+  }
+
+  static class TestEventListeners {
+
+    @EventListener
+    public void onTestEvent(final TestEvent event) {
+
+    }
+
+    @EventListener
+    public void onTestEventAgain(final TestEvent event) {
+
+    }
+  }
+
+  static class TestApplicationListener implements ApplicationListener<TestEvent> {
+
+    @Override
+    public void onApplicationEvent(@NonNull final TestEvent event) {
+
+    }
+  }
+
+  private static Timer listenerTimer(final MeterRegistry meterRegistry, final String listener) {
+
+    return meterRegistry.find("sublinks.events.listener").tag("listener", listener)
+        .tag("event", "TestEvent").timer();
+  }
+
+  @Test
+  void givenEventListenerMethodsAndListenerClass_whenEventPublished_thenEachTimedByItsName() {
+
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+      context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+      context.register(TimedApplicationEventMulticaster.class, TestEventListeners.class,
+          TestApplicationListener.class);
+      context.refresh();
+
+      context.publishEvent(new TestEvent(this));
+
+      final MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+      final Timer onTestEvent = listenerTimer(meterRegistry, "TestEventListeners.onTestEvent");
+      final Timer onTestEventAgain = listenerTimer(meterRegistry,
+          "TestEventListeners.onTestEventAgain");
+      final Timer listenerClass = listenerTimer(meterRegistry, "TestApplicationListener");
+      assertNotNull(onTestEvent, "Listener method was not timed by its own name");
+      assertNotNull(onTestEventAgain, "Listener method was not timed by its own name");
+      assertNotNull(listenerClass, "Listener class was not timed by its class name");
+      assertEquals(1, onTestEvent.count());
+      assertEquals(1, onTestEventAgain.count());
+      assertEquals(1, listenerClass.count());
+    }
+  }
+}
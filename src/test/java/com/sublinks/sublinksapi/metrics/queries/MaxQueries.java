@@ -0,0 +1,28 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a test running more SQL statements than allowed, so an endpoint cannot quietly turn into
+ * an N+1. Statements are counted on the test thread, which is also the request thread of MockMvc.
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;MaxQueries(5)
+ * void givenPosts_whenList_thenFewQueries() { ... }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+  /**
+   * @return The most statements the test may run.
+   */
+  int value();
+}
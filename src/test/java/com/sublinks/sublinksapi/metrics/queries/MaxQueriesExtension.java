@@ -0,0 +1,47 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import java.util.Map;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Counts the statements of every test annotated with {@link MaxQueries}, directly or through its
+ * class, and fails the ones over their limit.
+ */
+public class MaxQueriesExtension implements BeforeEachCallback, AfterEachCallback {
+
+  @Override
+  public void beforeEach(final ExtensionContext context) {
+
+    QueryCounter.stop();
+    QueryCounter.start();
+  }
+
+  @Override
+  public void afterEach(final ExtensionContext context) {
+
+    final QueryCount queryCount = QueryCounter.stop();
+    final int maxQueries = getMaxQueries(context);
+    if (queryCount == null || queryCount.getCount() <= maxQueries) {
+      return;
+    }
+    final Map.Entry<String, Integer> mostRepeated = queryCount.getMostRepeated();
+    throw new AssertionFailedError(
+        "Expected at most " + maxQueries + " queries but ran " + queryCount.getCount() + ", "
+            + mostRepeated.getValue() + " times: " + mostRepeated.getKey(), maxQueries,
+        queryCount.getCount());
+  }
+
+  private static int getMaxQueries(final ExtensionContext context) {
+
+    return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+        .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(),
+            MaxQueries.class))
+        .map(MaxQueries::value)
+        .orElse(Integer.MAX_VALUE);
+  }
+}
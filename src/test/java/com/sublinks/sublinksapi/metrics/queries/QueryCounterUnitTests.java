@@ -0,0 +1,104 @@
+package com.sublinks.sublinksapi.metrics.queries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opentest4j.AssertionFailedError;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class QueryCounterUnitTests {
+
+  @Mock
+  ExtensionContext extensionContext;
+
+  final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+  @Test
+  void givenNotCounting_whenInspect_thenNothingRecorded() {
+
+    assertEquals("select 1", inspector.inspect("select 1"));
+    assertNull(QueryCounter.get());
+  }
+
+  @Test
+  void givenStatements_whenCountedByPrefix_thenOnlyMatchingCounted() {
+
+    final QueryCount queryCount = new QueryCount();
+    queryCount.record("insert into comments (id) values (?)");
+    queryCount.record("insert into comments (id) values (?)");
+    queryCount.record("insert into comment_aggregates (id) values (?)");
+    queryCount.record("update comments set path=? where id=?");
+
+    assertEquals(2, queryCount.getCount("insert into comments "));
+    assertEquals(1, queryCount.getCount("insert into comment_aggregates "));
+    assertEquals(0, queryCount.getCount("delete from comments "));
+  }
+
+  @Test
+  void givenOuterCount_whenStartedAgain_thenOuterCountKept() {
+
+    assertTrue(QueryCounter.start());
+    inspector.inspect("select 1");
+    assertFalse(QueryCounter.start());
+    inspector.inspect("select 1");
+
+    assertEquals(2, QueryCounter.stop().getCount());
+  }
+
+  @Test
+  void givenRepeatedStatement_whenCounted_thenMostRepeatedReported() {
+
+    QueryCounter.start();
+    inspector.inspect("select * from people where id=?");
+    inspector.inspect("select * from posts where id=?");
+    inspector.inspect("select * from posts where id=?");
+
+    final QueryCount queryCount = QueryCounter.stop();
+
+    assertEquals(3, queryCount.getCount());
+    assertEquals("select * from posts where id=?", queryCount.getMostRepeated().getKey());
+    assertEquals(2, queryCount.getMostRepeated().getValue());
+  }
+
+  @Test
+  @MaxQueries(2)
+  void givenStatementsWithinLimit_whenTestEnds_thenPasses() {
+
+    inspector.inspect("select 1");
+    inspector.inspect("select 2");
+  }
+
+  @MaxQueries(1)
+  void limitedToOneQuery() {
+
+  }
+
+  @Test
+  void givenStatementsOverLimit_whenTestEnds_thenFails() throws NoSuchMethodException {
+
+    when(extensionContext.getRequiredTestMethod()).thenReturn(
+        QueryCounterUnitTests.class.getDeclaredMethod("limitedToOneQuery"));
+    when(extensionContext.getRequiredTestClass()).thenAnswer(
+        invocation -> QueryCounterUnitTests.class);
+    final MaxQueriesExtension extension = new MaxQueriesExtension();
+
+    extension.beforeEach(extensionContext);
+    inspector.inspect("select * from posts where id=?");
+    inspector.inspect("select * from posts where id=?");
+
+    assertThrows(AssertionFailedError.class, () -> extension.afterEach(extensionContext));
+  }
+}
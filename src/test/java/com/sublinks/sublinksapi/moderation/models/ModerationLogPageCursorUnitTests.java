@@ -0,0 +1,68 @@
+package com.sublinks.sublinksapi.moderation.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.utils.PaginationUtils;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ModerationLogPageCursorUnitTests {
+
+  private static final Date CREATED_AT = new Date(1704067200123L);
+
+  @Test
+  void givenCursor_whenEncodedAndDecoded_thenSameCursor() {
+
+    final ModerationLogPageCursor cursor = new ModerationLogPageCursor(CREATED_AT, 42L);
+
+    final ModerationLogPageCursor decoded = ModerationLogPageCursor.decode(cursor.encode());
+
+    assertEquals(cursor, decoded);
+    assertEquals(CREATED_AT.getTime(), decoded.createdAt().getTime());
+  }
+
+  @Test
+  void givenModerationLog_whenOf_thenCursorAtItsCreatedAtAndId() {
+
+    final ModerationLog moderationLog = ModerationLog.builder()
+        .id(42L)
+        .createdAt(CREATED_AT)
+        .build();
+
+    final ModerationLogPageCursor cursor = ModerationLogPageCursor.of(moderationLog);
+
+    assertEquals(CREATED_AT, cursor.createdAt());
+    assertEquals(42L, cursor.id());
+  }
+
+  @Test
+  void givenLogsWithEqualCreatedAt_whenEncoded_thenCursorsKeepTheirIds() {
+
+    final ModerationLogPageCursor first = new ModerationLogPageCursor(CREATED_AT, 41L);
+    final ModerationLogPageCursor second = new ModerationLogPageCursor(new Date(
+        CREATED_AT.getTime()), 42L);
+
+    assertNotEquals(first.encode(), second.encode());
+    assertEquals(41L, ModerationLogPageCursor.decode(first.encode()).id());
+    assertEquals(42L, ModerationLogPageCursor.decode(second.encode()).id());
+    assertEquals(ModerationLogPageCursor.decode(first.encode()).createdAt(),
+        ModerationLogPageCursor.decode(second.encode()).createdAt());
+  }
+
+  @Test
+  void givenMalformedCursor_whenDecoded_thenThrowIllegalArgumentException() {
+
+    assertThrows(IllegalArgumentException.class, () -> ModerationLogPageCursor.decode(
+        PaginationUtils.encodeCursor(List.of("1704067200123"))));
+    assertThrows(IllegalArgumentException.class, () -> ModerationLogPageCursor.decode(
+        PaginationUtils.encodeCursor(List.of("yesterday", "42"))));
+    assertThrows(IllegalArgumentException.class, () -> ModerationLogPageCursor.decode(
+        PaginationUtils.encodeCursor(List.of("1704067200123", "last"))));
+    assertThrows(IllegalArgumentException.class,
+        () -> ModerationLogPageCursor.decode("not base64!"));
+  }
+}
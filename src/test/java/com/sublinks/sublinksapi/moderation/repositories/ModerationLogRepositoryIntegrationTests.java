@@ -0,0 +1,160 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.api.lemmy.v3.enums.ModlogActionType;
+import com.sublinks.sublinksapi.moderation.entities.ModerationLog;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogPageCursor;
+import com.sublinks.sublinksapi.moderation.models.ModerationLogSearchCriteria;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Pages and filters the moderation logs of modlog.sql, where every four logs share a created_at.
+ */
+@Transactional
+@Sql({"/db/testdata/community.sql", "/db/testdata/posts.sql", "/db/testdata/comments.sql",
+    "/db/testdata/modlog.sql"})
+public class ModerationLogRepositoryIntegrationTests extends PostgresIntegrationTests {
+
+  private static final long ALICE_ID = 1000L;
+  private static final long ADMIN_ID = 1120L;
+
+  @Autowired
+  ModerationLogRepository moderationLogRepository;
+
+  @Test
+  void givenPagesEndingInsideEqualCreatedAt_whenPagedByCursor_thenEveryLogOnceNewestFirst() {
+
+    final List<Long> ids = new ArrayList<>();
+    ModerationLogPageCursor cursor = null;
+    List<ModerationLog> page;
+    do {
+      page = search(ModerationLogSearchCriteria.builder().page(1).perPage(3)
+          .pageCursor(cursor));
+      page.forEach(moderationLog -> ids.add(moderationLog.getId()));
+      if (!page.isEmpty()) {
+        // Decoded as a client would send it back
+        cursor = ModerationLogPageCursor.decode(
+            ModerationLogPageCursor.of(page.get(page.size() - 1)).encode());
+      }
+      assertTrue(ids.size() <= 40, "paging did not finish");
+    } while (page.size() == 3);
+
+    assertEquals(LongStream.rangeClosed(3001, 3040).map(id -> 6041 - id).boxed().toList(), ids);
+  }
+
+  @Test
+  void givenCursorInsideEqualCreatedAt_whenSearched_thenRestOfGroupByIdThenOlder() {
+
+    final ModerationLog moderationLog = moderationLogRepository.findById(3039L).orElseThrow();
+
+    final List<ModerationLog> page = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(4).pageCursor(ModerationLogPageCursor.of(moderationLog)));
+
+    // 3038 and 3037 share the created_at of 3039, 3036 and 3035 are a minute older
+    assertEquals(List.of(3038L, 3037L, 3036L, 3035L), ids(page));
+    assertEquals(moderationLog.getCreatedAt().getTime(), page.get(1).getCreatedAt().getTime());
+    assertTrue(page.get(2).getCreatedAt().before(moderationLog.getCreatedAt()));
+  }
+
+  @Test
+  void givenActionType_whenSearched_thenOnlyThatType() {
+
+    final List<ModerationLog> page = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).actionType(ModlogActionType.ModRemovePost));
+
+    assertEquals(List.of(3033L, 3025L, 3017L, 3009L, 3001L), ids(page));
+  }
+
+  @Test
+  void givenActionTypeAll_whenSearched_thenEveryType() {
+
+    assertEquals(40, search(ModerationLogSearchCriteria.builder().page(1).perPage(40)
+        .actionType(ModlogActionType.All)).size());
+  }
+
+  @Test
+  void givenCommunityId_whenSearched_thenOnlyThatCommunity() {
+
+    final List<ModerationLog> page = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).communityId(1101L));
+
+    assertEquals(List.of(3021L, 3001L), ids(page));
+  }
+
+  @Test
+  void givenModerationPersonId_whenSearched_thenModeratorOrAdminMatched() {
+
+    final List<ModerationLog> moderatorPage = search(ModerationLogSearchCriteria.builder()
+        .page(1).perPage(40).moderationPersonId(ALICE_ID));
+    final List<ModerationLog> adminPage = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).moderationPersonId(ADMIN_ID));
+
+    assertEquals(30, moderatorPage.size());
+    assertTrue(moderatorPage.stream()
+        .allMatch(moderationLog -> moderationLog.getAdminPersonId() == null));
+    assertEquals(10, adminPage.size());
+    assertTrue(adminPage.stream()
+        .allMatch(moderationLog -> moderationLog.getModerationPersonId() == null));
+  }
+
+  @Test
+  void givenOtherPersonId_whenSearched_thenOnlyThatPerson() {
+
+    final List<ModerationLog> page = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).otherPersonId(1105L));
+
+    assertEquals(List.of(3025L, 3005L), ids(page));
+  }
+
+  @Test
+  void givenCreatedAfterAndBefore_whenSearched_thenAfterInclusiveAndBeforeExclusive() {
+
+    // 3033 starts the ninth group, 3009 the third
+    final Date ninthGroup = moderationLogRepository.findById(3033L).orElseThrow().getCreatedAt();
+    final Date thirdGroup = moderationLogRepository.findById(3009L).orElseThrow().getCreatedAt();
+
+    final List<ModerationLog> after = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).createdAfter(ninthGroup));
+    final List<ModerationLog> before = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(40).createdBefore(thirdGroup));
+
+    assertEquals(LongStream.rangeClosed(3033, 3040).map(id -> 6073 - id).boxed().toList(),
+        ids(after));
+    assertEquals(LongStream.rangeClosed(3001, 3008).map(id -> 6009 - id).boxed().toList(),
+        ids(before));
+  }
+
+  @Test
+  void givenFilterAndCursor_whenPaged_thenFilterKeptAcrossPages() {
+
+    final List<ModerationLog> first = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(2).moderationPersonId(ADMIN_ID));
+    final List<ModerationLog> second = search(ModerationLogSearchCriteria.builder().page(1)
+        .perPage(2).moderationPersonId(ADMIN_ID)
+        .pageCursor(ModerationLogPageCursor.of(first.get(1))));
+
+    assertEquals(List.of(3040L, 3039L), ids(first));
+    assertEquals(List.of(3032L, 3031L), ids(second));
+  }
+
+  private List<ModerationLog> search(
+      final ModerationLogSearchCriteria.ModerationLogSearchCriteriaBuilder criteria) {
+
+    return moderationLogRepository.allModerationLogsBySearchCriteria(criteria.build());
+  }
+
+  private static List<Long> ids(final List<ModerationLog> moderationLogs) {
+
+    return moderationLogs.stream().map(ModerationLog::getId).toList();
+  }
+}
@@ -0,0 +1,112 @@
+package com.sublinks.sublinksapi.moderation.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.models.PurgeStep;
+import com.sublinks.sublinksapi.moderation.services.PurgeJobSteps;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the chunk statements the purge steps build from table names and conditions against the
+ * real schema.
+ */
+@Transactional
+@Sql({"/db/testdata/community.sql", "/db/testdata/comments.sql"})
+public class PurgeJobRepositoryIntegrationTests extends PostgresIntegrationTests {
+
+  private static final long POST_ID = 2000L;
+  private static final long PERSON_ID = 1000L;
+  private static final int LIMIT = 20;
+
+  @Autowired
+  PurgeJobRepository purgeJobRepository;
+
+  @Autowired
+  PurgeJobSteps purgeJobSteps;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Test
+  void givenMoreRowsThanLimit_whenDeleteChunk_thenAtMostLimitDeleted() {
+
+    assertEquals(20, purgeJobRepository.deleteChunk("comments", "post_id = :targetId", POST_ID,
+        LIMIT));
+    assertEquals(30, countComments("post_id = 2000"));
+    assertEquals(20, purgeJobRepository.deleteChunk("comments", "post_id = :targetId", POST_ID,
+        LIMIT));
+    assertEquals(10, purgeJobRepository.deleteChunk("comments", "post_id = :targetId", POST_ID,
+        LIMIT));
+    assertEquals(0, countComments("post_id = 2000"));
+  }
+
+  @Test
+  void givenMoreRowsThanLimit_whenUpdateChunk_thenAtMostLimitUpdated() {
+
+    final String assignment = "comment_body = 'Purged'";
+    final String condition = "post_id = :targetId AND comment_body <> 'Purged'";
+
+    assertEquals(20, purgeJobRepository.updateChunk("comments", assignment, condition, POST_ID,
+        LIMIT));
+    assertEquals(20, countComments("comment_body = 'Purged'"));
+    assertEquals(20, purgeJobRepository.updateChunk("comments", assignment, condition, POST_ID,
+        LIMIT));
+    assertEquals(10, purgeJobRepository.updateChunk("comments", assignment, condition, POST_ID,
+        LIMIT));
+    assertEquals(0, purgeJobRepository.updateChunk("comments", assignment, condition, POST_ID,
+        LIMIT));
+    assertEquals(50, countComments("comment_body = 'Purged'"));
+  }
+
+  @Test
+  void givenPost_whenEveryPostStepRun_thenPostAndCommentsPurged() {
+
+    final long purged = runSteps(PurgeJobType.POST, POST_ID);
+
+    // 50 comments, the creator link and the post
+    assertEquals(52, purged);
+    assertEquals(0, countComments("post_id = 2000"));
+    assertEquals(0, ((Number) entityManager.createNativeQuery(
+        "SELECT count(*) FROM posts WHERE id = 2000").getSingleResult()).longValue());
+  }
+
+  @Test
+  void givenPerson_whenEveryPersonContentStepRun_thenStatementsRun() {
+
+    final long purged = runSteps(PurgeJobType.PERSON_CONTENT, PERSON_ID);
+
+    assertTrue(purged >= 50, "purged " + purged + " rows");
+  }
+
+  /**
+   * Runs every step of a job type the way the purge job does, chunk by chunk until a chunk purges
+   * fewer rows than the limit.
+   */
+  private long runSteps(final PurgeJobType purgeJobType, final long targetId) {
+
+    long purged = 0;
+    for (PurgeStep step : purgeJobSteps.getSteps(purgeJobType)) {
+      int chunks = 0;
+      int chunk;
+      do {
+        chunk = step.chunk().run(targetId, LIMIT);
+        purged += chunk;
+        assertTrue(++chunks <= 10, "step " + step.name() + " did not finish");
+      } while (chunk >= LIMIT);
+    }
+    return purged;
+  }
+
+  private long countComments(final String condition) {
+
+    return ((Number) entityManager.createNativeQuery(
+        "SELECT count(*) FROM comments WHERE " + condition).getSingleResult()).longValue();
+  }
+}
@@ -0,0 +1,88 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.moderation.config.BulkOperationConfig;
+import com.sublinks.sublinksapi.moderation.models.BulkOperationProgress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class BulkOperationServiceUnitTests {
+
+  @Mock
+  BulkOperationConfig bulkOperationConfig;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  BulkOperationService bulkOperationService;
+
+  @BeforeEach
+  void setUp() {
+
+    when(bulkOperationConfig.getChunkSize()).thenReturn(2);
+    when(transactionManager.getTransaction(any())).thenAnswer(
+        invocation -> new SimpleTransactionStatus());
+    bulkOperationService = new BulkOperationService(bulkOperationConfig, transactionManager);
+  }
+
+  @Test
+  void givenRowsLeft_whenRun_thenChunksCommittedUntilChunkNotFull() {
+
+    final List<List<Long>> chunks = List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    final IntFunction<List<Long>> updateChunk = new IntFunction<>() {
+      private int call = 0;
+
+      @Override
+      public List<Long> apply(final int chunkSize) {
+
+        return chunks.get(call++);
+      }
+    };
+    final List<List<Long>> published = new ArrayList<>();
+    final List<BulkOperationProgress> reported = new ArrayList<>();
+
+    final BulkOperationProgress progress = bulkOperationService.run("test", updateChunk,
+        published::add, reported::add);
+
+    assertEquals(5, progress.processed());
+    assertEquals(3, progress.chunks());
+    assertTrue(progress.done());
+    assertEquals(chunks, published);
+    assertEquals(3, reported.size());
+    assertFalse(reported.get(0).done());
+    assertEquals(2, reported.get(0).processed());
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  void givenNoRows_whenRun_thenNoBatchPublished() {
+
+    final List<List<Long>> published = new ArrayList<>();
+
+    final BulkOperationProgress progress = bulkOperationService.run("test",
+        chunkSize -> List.of(), published::add);
+
+    assertEquals(0, progress.processed());
+    assertTrue(progress.done());
+    assertTrue(published.isEmpty());
+  }
+}
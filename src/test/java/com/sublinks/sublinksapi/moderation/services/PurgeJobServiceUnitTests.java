@@ -0,0 +1,133 @@
+package com.sublinks.sublinksapi.moderation.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.moderation.config.PurgeJobConfig;
+import com.sublinks.sublinksapi.moderation.entities.PurgeJob;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobStatus;
+import com.sublinks.sublinksapi.moderation.enums.PurgeJobType;
+import com.sublinks.sublinksapi.moderation.events.PurgeJobFinishedPublisher;
+import com.sublinks.sublinksapi.moderation.models.PurgeStep;
+import com.sublinks.sublinksapi.moderation.repositories.PurgeJobRepository;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PurgeJobServiceUnitTests {
+
+  private static final String WORKER_ID = "worker";
+
+  @Mock
+  PurgeJobRepository purgeJobRepository;
+
+  @Mock
+  PurgeJobConfig purgeJobConfig;
+
+  @Mock
+  PurgeJobSteps purgeJobSteps;
+
+  @Mock
+  PurgeJobFinishedPublisher purgeJobFinishedPublisher;
+
+  @InjectMocks
+  PurgeJobService purgeJobService;
+
+  PurgeJob purgeJob;
+
+  @BeforeEach
+  void setUp() {
+
+    when(purgeJobConfig.getChunkSize()).thenReturn(2);
+    when(purgeJobConfig.getLease()).thenReturn(300L);
+    when(purgeJobConfig.getMaxAttempts()).thenReturn(2);
+    when(purgeJobConfig.getRetryDelay()).thenReturn(60L);
+    purgeJob = PurgeJob.builder()
+        .id(1L)
+        .jobType(PurgeJobType.POST)
+        .targetId(10L)
+        .status(PurgeJobStatus.RUNNING)
+        .workerId(WORKER_ID)
+        .availableAt(new Date())
+        .build();
+    when(purgeJobRepository.findById(1L)).thenReturn(Optional.of(purgeJob));
+  }
+
+  @Test
+  void givenFullChunk_whenRunChunk_thenStepKept() {
+
+    when(purgeJobSteps.getSteps(PurgeJobType.POST)).thenReturn(
+        List.of(new PurgeStep("comments", (targetId, limit) -> limit),
+            new PurgeStep("post", (targetId, limit) -> 1)));
+
+    assertEquals(2, purgeJobService.runChunk(1L, WORKER_ID));
+    assertEquals(0, purgeJob.getStep());
+    assertEquals(2, purgeJob.getProcessed());
+    assertEquals(PurgeJobStatus.RUNNING, purgeJob.getStatus());
+    verify(purgeJobFinishedPublisher, never()).publish(any());
+  }
+
+  @Test
+  void givenShortChunkOfLastStep_whenRunChunk_thenJobDone() {
+
+    when(purgeJobSteps.getSteps(PurgeJobType.POST)).thenReturn(
+        List.of(new PurgeStep("comments", (targetId, limit) -> 0),
+            new PurgeStep("post", (targetId, limit) -> 1)));
+
+    assertEquals(0, purgeJobService.runChunk(1L, WORKER_ID));
+    assertEquals(1, purgeJob.getStep());
+    assertEquals(1, purgeJobService.runChunk(1L, WORKER_ID));
+    assertEquals(PurgeJobStatus.DONE, purgeJob.getStatus());
+    assertNotNull(purgeJob.getFinishedAt());
+    assertEquals(-1, purgeJobService.runChunk(1L, WORKER_ID));
+    verify(purgeJobFinishedPublisher).publish(purgeJob);
+  }
+
+  @Test
+  void givenJobLeasedToOtherWorker_whenRunChunk_thenNothingPurged() {
+
+    when(purgeJobSteps.getSteps(PurgeJobType.POST)).thenReturn(
+        List.of(new PurgeStep("post", (targetId, limit) -> {
+          throw new IllegalStateException("must not run");
+        })));
+
+    assertEquals(-1, purgeJobService.runChunk(1L, "other"));
+  }
+
+  @Test
+  void givenAttemptsLeft_whenFail_thenJobPendingAgain() {
+
+    assertTrue(purgeJobService.fail(1L, new IllegalStateException("boom")));
+    assertEquals(PurgeJobStatus.PENDING, purgeJob.getStatus());
+    assertEquals(1, purgeJob.getAttempts());
+    assertNull(purgeJob.getWorkerId());
+    assertTrue(purgeJob.getAvailableAt().getTime() > System.currentTimeMillis());
+  }
+
+  @Test
+  void givenNoAttemptsLeft_whenFail_thenJobFailed() {
+
+    purgeJob.setAttempts(1);
+
+    assertFalse(purgeJobService.fail(1L, new IllegalStateException("boom")));
+    assertEquals(PurgeJobStatus.FAILED, purgeJob.getStatus());
+    assertTrue(purgeJob.getLastError().contains("boom"));
+  }
+}
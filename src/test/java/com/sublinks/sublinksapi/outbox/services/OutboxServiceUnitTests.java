@@ -0,0 +1,139 @@
+package com.sublinks.sublinksapi.outbox.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.outbox.config.OutboxConfig;
+import com.sublinks.sublinksapi.outbox.entities.OutboxEvent;
+import com.sublinks.sublinksapi.outbox.enums.OutboxEventStatus;
+import com.sublinks.sublinksapi.outbox.listeners.OutboxListener;
+import com.sublinks.sublinksapi.outbox.repositories.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceUnitTests {
+
+  @Mock
+  OutboxEventRepository outboxEventRepository;
+  @Mock
+  OutboxConfig outboxConfig;
+
+  private final List<String> received = new ArrayList<>();
+
+  static class TestEvent extends ApplicationEvent {
+
+    TestEvent(final String id) {
+
+      super(id);
+    }
+  }
+
+  static class TestEventCodec implements OutboxEventCodec<TestEvent> {
+
+    @Override
+    public String getAggregateKey(final TestEvent event) {
+
+      return "test:" + event.getSource();
+    }
+
+    @Override
+    public String encode(final TestEvent event) {
+
+      return (String) event.getSource();
+    }
+
+    @Override
+    public Optional<TestEvent> decode(final String payload) {
+
+      return Optional.of(new TestEvent(payload));
+    }
+  }
+
+  class FirstTestListener implements OutboxListener<TestEvent> {
+
+    @Override
+    public void onOutboxEvent(final TestEvent event) {
+
+      received.add("first:" + event.getSource());
+    }
+  }
+
+  class SecondTestListener implements OutboxListener<TestEvent> {
+
+    @Override
+    public void onOutboxEvent(final TestEvent event) {
+
+      received.add("second:" + event.getSource());
+    }
+  }
+
+  private OutboxService outboxService() {
+
+    return new OutboxService(outboxEventRepository, outboxConfig, List.of(new TestEventCodec()),
+        List.of(new FirstTestListener(), new SecondTestListener()));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void givenTwoListeners_whenRecorded_thenOneRowPerListener() {
+
+    outboxService().record(new TestEvent("1"));
+
+    final ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxEventRepository).saveAll(captor.capture());
+    assertEquals(2, captor.getValue().size());
+    assertEquals("FirstTestListener", captor.getValue().get(0).getListener());
+    assertEquals("test:1", captor.getValue().get(1).getAggregateKey());
+    assertEquals(OutboxEventStatus.PENDING, captor.getValue().get(1).getStatus());
+  }
+
+  @Test
+  void givenClaimedEvent_whenDelivered_thenListenerCalledAndRowDeleted() {
+
+    final OutboxEvent outboxEvent = OutboxEvent.builder().id(5L).listener("SecondTestListener")
+        .payload("7").status(OutboxEventStatus.PROCESSING).build();
+    when(outboxEventRepository.findById(5L)).thenReturn(Optional.of(outboxEvent));
+
+    outboxService().deliver(5L);
+
+    assertEquals(List.of("second:7"), received);
+    verify(outboxEventRepository).delete(outboxEvent);
+  }
+
+  @Test
+  void givenFailingEvent_whenAttemptsRunOut_thenMarkedFailed() {
+
+    final OutboxEvent outboxEvent = OutboxEvent.builder().id(5L).listener("FirstTestListener")
+        .payload("7").status(OutboxEventStatus.PROCESSING).build();
+    when(outboxEventRepository.findById(5L)).thenReturn(Optional.of(outboxEvent));
+    when(outboxConfig.getMaxAttempts()).thenReturn(2);
+    when(outboxConfig.getRetryDelay()).thenReturn(1L);
+    final OutboxService outboxService = outboxService();
+
+    assertTrue(outboxService.fail(5L, new IllegalStateException("boom")));
+    assertEquals(OutboxEventStatus.PENDING, outboxEvent.getStatus());
+    assertFalse(outboxService.fail(5L, new IllegalStateException("boom")));
+    assertEquals(OutboxEventStatus.FAILED, outboxEvent.getStatus());
+    assertEquals(2, outboxEvent.getAttempts());
+  }
+
+  @Test
+  void givenListenerWithoutCodec_whenCreated_thenThrows() {
+
+    assertThrows(IllegalStateException.class,
+        () -> new OutboxService(outboxEventRepository, outboxConfig, List.of(),
+            List.of(new FirstTestListener())));
+  }
+}
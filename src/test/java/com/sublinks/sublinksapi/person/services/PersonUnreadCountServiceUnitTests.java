@@ -0,0 +1,139 @@
+package com.sublinks.sublinksapi.person.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.person.config.PersonUnreadCountConfig;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.entities.PersonUnreadCount;
+import com.sublinks.sublinksapi.person.enums.UnreadCountType;
+import com.sublinks.sublinksapi.person.models.UnreadCounts;
+import com.sublinks.sublinksapi.person.repositories.PersonUnreadCountRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PersonUnreadCountServiceUnitTests {
+
+  @Mock
+  PersonUnreadCountRepository personUnreadCountRepository;
+
+  @Mock
+  PersonUnreadCountConfig personUnreadCountConfig;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  PersonUnreadCountService personUnreadCountService;
+
+  final Person person = Person.builder().id(1L).name("alice").build();
+
+  @BeforeEach
+  void setUp() {
+
+    when(personUnreadCountConfig.getCacheMaxSize()).thenReturn(100L);
+    when(personUnreadCountConfig.getCacheTtl()).thenReturn(60L);
+    when(personUnreadCountConfig.getReconcileChunkSize()).thenReturn(2);
+    when(transactionManager.getTransaction(any())).thenAnswer(
+        invocation -> new SimpleTransactionStatus());
+    personUnreadCountService = new PersonUnreadCountService(personUnreadCountRepository,
+        personUnreadCountConfig, transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void givenNoCounts_whenGetUnreadCounts_thenCountedOnceAndCached() {
+
+    final PersonUnreadCount counted = PersonUnreadCount.builder()
+        .personId(1L)
+        .mentions(1)
+        .replies(2)
+        .privateMessages(3)
+        .build();
+    when(personUnreadCountRepository.findById(1L)).thenReturn(Optional.empty(),
+        Optional.of(counted));
+
+    final UnreadCounts first = personUnreadCountService.getUnreadCounts(person);
+    final UnreadCounts second = personUnreadCountService.getUnreadCounts(person);
+
+    assertEquals(new UnreadCounts(1, 2, 3), first);
+    assertEquals(first, second);
+    verify(personUnreadCountRepository, times(1)).insertCounted(1L);
+    verify(personUnreadCountRepository, times(2)).findById(1L);
+  }
+
+  @Test
+  void givenCachedCounts_whenIncrement_thenCountsReloaded() {
+
+    when(personUnreadCountRepository.findById(1L)).thenReturn(
+        Optional.of(PersonUnreadCount.builder().personId(1L).mentions(1).build()),
+        Optional.of(PersonUnreadCount.builder().personId(1L).mentions(2).build()));
+    personUnreadCountService.getUnreadCounts(person);
+
+    personUnreadCountService.increment(person, UnreadCountType.MENTIONS);
+
+    assertEquals(2, personUnreadCountService.getUnreadCounts(person).mentions());
+    verify(personUnreadCountRepository).incrementMentions(1L);
+  }
+
+  @Test
+  void givenManyRowsMarkedAsRead_whenTransactionCommits_thenEachCounterRecountedOnce() {
+
+    TransactionSynchronizationManager.initSynchronization();
+
+    personUnreadCountService.recount(person, UnreadCountType.PRIVATE_MESSAGES);
+    personUnreadCountService.recount(person, UnreadCountType.PRIVATE_MESSAGES);
+    personUnreadCountService.recount(person, UnreadCountType.REPLIES);
+
+    verify(personUnreadCountRepository, never()).recountPrivateMessages(anyLong());
+    final List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+    synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+        TransactionSynchronization.STATUS_COMMITTED));
+
+    verify(personUnreadCountRepository, times(1)).recountPrivateMessages(1L);
+    verify(personUnreadCountRepository, times(1)).recountReplies(1L);
+    verify(personUnreadCountRepository, never()).recountMentions(anyLong());
+  }
+
+  @Test
+  void givenCountsOfManyPeople_whenReconcile_thenEveryChunkReconciled() {
+
+    when(personUnreadCountRepository.findPersonIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+    when(personUnreadCountRepository.findPersonIdsAfter(2L, 2)).thenReturn(List.of(5L));
+    when(personUnreadCountRepository.reconcile(List.of(1L, 2L))).thenReturn(1);
+    when(personUnreadCountRepository.reconcile(List.of(5L))).thenReturn(0);
+
+    final long drifted = personUnreadCountService.reconcile();
+
+    assertEquals(1, drifted);
+    verify(personUnreadCountRepository, times(2)).reconcile(any());
+    verify(personUnreadCountRepository, never()).findPersonIdsAfter(5L, 2);
+  }
+}
@@ -0,0 +1,79 @@
+package com.sublinks.sublinksapi.person.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.person.config.UserDataConfig;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.models.UserDataSessionKey;
+import com.sublinks.sublinksapi.person.repositories.UserDataRepository;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class UserDataActivityServiceUnitTests {
+
+  @Mock
+  UserDataRepository userDataRepository;
+
+  @Mock
+  UserDataConfig userDataConfig;
+
+  UserDataActivityService userDataActivityService;
+
+  @BeforeEach
+  void setUp() {
+
+    when(userDataConfig.getSessionCacheMaxSize()).thenReturn(100L);
+    userDataActivityService = new UserDataActivityService(userDataRepository, userDataConfig);
+  }
+
+  @Test
+  void givenRepeatedTouches_whenDrained_thenCoalescedPerSession() {
+
+    userDataActivityService.touch(1L);
+    userDataActivityService.touch(1L);
+    userDataActivityService.touch(2L);
+
+    final Map<Long, Long> touches = userDataActivityService.drainTouches();
+
+    assertEquals(2, touches.size());
+    assertTrue(userDataActivityService.drainTouches().isEmpty());
+  }
+
+  @Test
+  void givenTouchesInSameSecond_whenApplied_thenSingleUpdate() {
+
+    final long second = 1_700_000_000L;
+    userDataActivityService.applyTouches(Map.of(1L, second * 1000 + 10, 2L, second * 1000 + 900));
+
+    verify(userDataRepository).updateLastUsedAtByIdIn(
+        argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))),
+        eq(new Date(second * 1000)));
+  }
+
+  @Test
+  void givenForgottenPerson_whenLookingUpSession_thenUnknown() {
+
+    final UserDataSessionKey sessionKey = new UserDataSessionKey(7L, "token", null, null);
+    userDataActivityService.rememberSession(sessionKey, 3L);
+    assertEquals(3L, userDataActivityService.getKnownSession(sessionKey).orElseThrow());
+
+    userDataActivityService.forgetSessions(Person.builder().id(7L).build());
+
+    assertTrue(userDataActivityService.getKnownSession(sessionKey).isEmpty());
+  }
+}
@@ -0,0 +1,97 @@
+package com.sublinks.sublinksapi.post.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.events.PostLikeCreatedPublisher;
+import com.sublinks.sublinksapi.post.events.PostLikeUpdatedEvent;
+import com.sublinks.sublinksapi.post.events.PostLikeUpdatedPublisher;
+import com.sublinks.sublinksapi.post.repositories.PostLikeRepository;
+import com.sublinks.sublinksapi.utils.models.VoteUpsertResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PostLikeServiceUnitTests {
+
+  @Mock
+  PostLikeRepository postLikeRepository;
+  @Mock
+  PostLikeCreatedPublisher postLikeCreatedPublisher;
+  @Mock
+  PostLikeUpdatedPublisher postLikeUpdatedPublisher;
+  @InjectMocks
+  PostLikeService postLikeService;
+
+  private final Post post = Post.builder().id(1L).build();
+  private final Person person = Person.builder().id(2L).build();
+
+  private static VoteUpsertResult upsertResult(final boolean inserted,
+      final Integer previousScore) {
+
+    return new VoteUpsertResult() {
+      @Override
+      public Long getId() {
+
+        return 3L;
+      }
+
+      @Override
+      public boolean isInserted() {
+
+        return inserted;
+      }
+
+      @Override
+      public Integer getPreviousScore() {
+
+        return previousScore;
+      }
+    };
+  }
+
+  @Test
+  void givenNoVote_whenLiked_thenCreatedEventPublished() {
+
+    when(postLikeRepository.upsertPostLike(1L, 2L, 1)).thenReturn(upsertResult(true, null));
+
+    postLikeService.updateOrCreatePostLikeLike(post, person);
+
+    verify(postLikeCreatedPublisher).publish(any());
+    verify(postLikeUpdatedPublisher, never()).publish(any(), any());
+  }
+
+  @Test
+  void givenUpVote_whenDisliked_thenUpToDownPublished() {
+
+    when(postLikeRepository.upsertPostLike(1L, 2L, -1)).thenReturn(upsertResult(false, 1));
+
+    postLikeService.updateOrCreatePostLikeDislike(post, person);
+
+    verify(postLikeUpdatedPublisher).publish(any(),
+        eq(PostLikeUpdatedEvent.Action.FROM_UP_TO_DOWN));
+    verify(postLikeCreatedPublisher, never()).publish(any());
+  }
+
+  @Test
+  void givenConcurrentlyCreatedDownVote_whenLiked_thenRetriedAndDownToUpPublished() {
+
+    when(postLikeRepository.upsertPostLike(1L, 2L, 1)).thenReturn(null,
+        upsertResult(false, -1));
+
+    postLikeService.updateOrCreatePostLikeLike(post, person);
+
+    verify(postLikeRepository, times(2)).upsertPostLike(1L, 2L, 1);
+    verify(postLikeUpdatedPublisher).publish(any(),
+        eq(PostLikeUpdatedEvent.Action.FROM_DOWN_TO_UP));
+  }
+}
@@ -0,0 +1,153 @@
+package com.sublinks.sublinksapi.post.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.post.config.PostRankingConfig;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.post.entities.PostAggregate;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class PostRankingServiceUnitTests {
+
+  private static final long HOUR = 3_600_000L;
+  private static final long WEEK = 7 * 24 * HOUR;
+
+  @Mock
+  PostRankingConfig postRankingConfig;
+
+  @InjectMocks
+  PostRankingService postRankingService;
+
+  @BeforeEach
+  void setUp() {
+
+    when(postRankingConfig.getMaxAge()).thenReturn(WEEK / 1000);
+  }
+
+  @Test
+  void givenNewPost_whenHotRank_thenMatchesLemmyFormula() {
+
+    final long now = System.currentTimeMillis();
+
+    // 10000 * log10(1 + 3) / 2^1.8
+    assertEquals(1728, PostRankingService.hotRank(1, new Date(now), now, WEEK));
+  }
+
+  @Test
+  void givenOlderPost_whenHotRank_thenRankDecays() {
+
+    final long now = System.currentTimeMillis();
+
+    final int fresh = PostRankingService.hotRank(10, new Date(now), now, WEEK);
+    final int dayOld = PostRankingService.hotRank(10, new Date(now - 24 * HOUR),
+        now, WEEK);
+
+    assertTrue(dayOld < fresh, "Hot rank did not decay with age");
+  }
+
+  @Test
+  void givenNegativeScore_whenHotRank_thenZero() {
+
+    final long now = System.currentTimeMillis();
+
+    assertEquals(0, PostRankingService.hotRank(-5, new Date(now), now, WEEK));
+  }
+
+  @Test
+  void givenPostAtMaxAge_whenHotRank_thenZero() {
+
+    final long now = System.currentTimeMillis();
+
+    assertTrue(PostRankingService.hotRank(1000, new Date(now - WEEK + HOUR), now, WEEK) > 0);
+    assertEquals(0, PostRankingService.hotRank(1000, new Date(now - WEEK), now, WEEK));
+    assertTrue(PostRankingService.hotRank(1000, new Date(now - WEEK), now, 0) > 0,
+        "Hot rank reached zero without a maximum age");
+  }
+
+  @Test
+  void givenOneSidedVotes_whenControversyRank_thenZero() {
+
+    assertEquals(0, PostRankingService.controversyRank(50, 0));
+    assertEquals(0, PostRankingService.controversyRank(0, 50));
+  }
+
+  @Test
+  void givenBalancedVotes_whenControversyRank_thenHigherThanUnbalanced() {
+
+    assertEquals(100, PostRankingService.controversyRank(50, 50));
+    assertTrue(PostRankingService.controversyRank(90, 10) < PostRankingService.controversyRank(
+        50, 50));
+  }
+
+  @Test
+  void givenRecentComment_whenRefreshRanks_thenActiveRankIsBumped() {
+
+    final long now = System.currentTimeMillis();
+    final Post post = Post.builder().createdAt(new Date(now - 10 * HOUR)).build();
+    final PostAggregate postAggregate = PostAggregate.builder()
+        .post(post)
+        .score(5)
+        .upVoteCount(5)
+        .newestCommentAt(new Date(now))
+        .build();
+
+    assertTrue(postRankingService.refreshRanks(postAggregate, now));
+    assertTrue(postAggregate.getHotRankActive() > postAggregate.getHotRank(),
+        "Active rank was not bumped by the newest comment");
+    assertFalse(postRankingService.refreshRanks(postAggregate, now),
+        "Unchanged ranks were reported as changed");
+  }
+
+  @Test
+  void givenNecroComment_whenRefreshRanks_thenActiveRankIsNotBumped() {
+
+    final long now = System.currentTimeMillis();
+    final Post post = Post.builder().createdAt(new Date(now - 72 * HOUR)).build();
+    final PostAggregate postAggregate = PostAggregate.builder()
+        .post(post)
+        .score(5)
+        .upVoteCount(5)
+        .newestCommentAt(new Date(now))
+        .build();
+
+    postRankingService.refreshRanks(postAggregate, now);
+
+    assertEquals(postAggregate.getHotRank(), postAggregate.getHotRankActive());
+  }
+
+  @Test
+  void givenPostPastMaxAge_whenRefreshRanks_thenTimeRanksZeroAndControversyKept() {
+
+    final long now = System.currentTimeMillis();
+    final Post post = Post.builder().createdAt(new Date(now - WEEK - HOUR)).build();
+    final PostAggregate postAggregate = PostAggregate.builder()
+        .post(post)
+        .score(0)
+        .upVoteCount(50)
+        .downVoteCount(50)
+        .hotRank(10)
+        .hotRankActive(10)
+        .scaledRank(10)
+        .newestCommentAt(new Date(now - WEEK + HOUR))
+        .build();
+
+    assertTrue(postRankingService.refreshRanks(postAggregate, now));
+    assertEquals(0, postAggregate.getHotRank());
+    assertEquals(0, postAggregate.getHotRankActive());
+    assertEquals(0, postAggregate.getScaledRank());
+    assertEquals(100, postAggregate.getControversyRank());
+  }
+}
@@ -0,0 +1,96 @@
+package com.sublinks.sublinksapi.post.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.PostgresIntegrationTests;
+import com.sublinks.sublinksapi.community.repositories.CommunityRepository;
+import com.sublinks.sublinksapi.instance.models.LocalInstanceContext;
+import com.sublinks.sublinksapi.language.repositories.LanguageRepository;
+import com.sublinks.sublinksapi.metrics.models.QueryCount;
+import com.sublinks.sublinksapi.metrics.queries.QueryCounter;
+import com.sublinks.sublinksapi.person.entities.Person;
+import com.sublinks.sublinksapi.person.repositories.PersonRepository;
+import com.sublinks.sublinksapi.post.entities.Post;
+import com.sublinks.sublinksapi.shared.RemovedState;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Counts the statements of creating a post, its listeners included, up to the flush that writes
+ * it.
+ */
+@Transactional
+@Sql("/db/testdata/community.sql")
+public class PostServiceIntegrationTests extends PostgresIntegrationTests {
+
+  @Autowired
+  PostService postService;
+
+  @Autowired
+  PersonRepository personRepository;
+
+  @Autowired
+  CommunityRepository communityRepository;
+
+  @Autowired
+  LanguageRepository languageRepository;
+
+  @Autowired
+  LocalInstanceContext localInstanceContext;
+
+  @Autowired
+  EntityManager entityManager;
+
+  @Test
+  void givenPost_whenCreated_thenWrittenWithOneInsertPerRow() {
+
+    final Person creator = personRepository.findById(1000L).orElseThrow();
+
+    final QueryCount queryCount = countCreatePost(creator, "First");
+
+    assertEquals(1, queryCount.getCount("insert into posts "));
+    assertEquals(1, queryCount.getCount("insert into post_aggregates "));
+    assertEquals(1, queryCount.getCount("insert into link_person_posts "));
+    assertEquals(0, queryCount.getCount("update posts "));
+  }
+
+  @Test
+  void givenCreatedPost_whenAnotherCreated_thenNoMoreStatementsThanFirst() {
+
+    final Person creator = personRepository.findById(1000L).orElseThrow();
+
+    final QueryCount first = countCreatePost(creator, "First");
+    final QueryCount second = countCreatePost(creator, "Second");
+
+    // Ids come from a block of the sequence allocated by the first post
+    assertEquals(0, second.getCount("SELECT nextval") + second.getCount("select nextval"));
+    assertTrue(second.getCount() <= first.getCount(),
+        "second post ran " + second.getCount() + " statements, first " + first.getCount());
+  }
+
+  private QueryCount countCreatePost(final Person creator, final String title) {
+
+    final Post post = Post.builder()
+        .instance(localInstanceContext.instance())
+        .community(communityRepository.findById(1000L).orElseThrow())
+        .language(languageRepository.findLanguageByCode("und"))
+        .title(title)
+        .titleSlug(title.toLowerCase())
+        .removedState(RemovedState.NOT_REMOVED)
+        .build();
+
+    final QueryCount queryCount;
+    QueryCounter.start();
+    try {
+      postService.createPost(post, creator);
+      entityManager.flush();
+    } finally {
+      queryCount = QueryCounter.stop();
+    }
+    return queryCount;
+  }
+}
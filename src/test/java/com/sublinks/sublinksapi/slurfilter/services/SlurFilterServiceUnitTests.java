@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -86,7 +87,7 @@ public class SlurFilterServiceUnitTests {
   }
 
   @Test
-  void givenExistingFilter_whenGetLemmySlurFilter_thenReturnExistingFilter() {
+  void givenExistingFilter_whenGetLemmySlurFilter_thenReturnExistingFilterWithoutSaving() {
 
     SlurFilter existingFilter = new SlurFilter();
     existingFilter.setSlurRegex("oldRegex");
@@ -96,8 +97,7 @@ public class SlurFilterServiceUnitTests {
     SlurFilter slurFilter = slurFilterService.getLemmySlurFilter();
 
     verify(slurFilterRepository, times(1)).findAll();
-    verify(slurFilterRepository, times(1)).save(existingFilter);
-    verify(slurFilterRepository).save(slurFilterArgumentCaptor.capture());
+    verify(slurFilterRepository, never()).save(any(SlurFilter.class));
     assertEquals("oldRegex", slurFilter.getSlurRegex(),
         "Returned slur regex was not existing value");
   }
@@ -321,14 +321,45 @@ public class SlurFilterServiceUnitTests {
     anotherReplaceFilter.setSlurActionType(SlurActionType.REPLACE);
 
     when(slurFilterRepository.findAll()).thenReturn(List.of(replaceFilter, anotherReplaceFilter));
-    when(slurFilterRepository.findBySlurActionType(SlurActionType.REPLACE)).thenReturn(
-        List.of(replaceFilter, anotherReplaceFilter));
 
     String resultText = slurFilterService.censorText("Some mean words in here.");
 
     verify(slurFilterRepository, times(1)).findAll();
-    verify(slurFilterRepository, times(1)).findBySlurActionType(SlurActionType.REPLACE);
 
     assertEquals("Some **** ***** in here.", resultText, "Censored text did not match expected");
   }
+
+  @Test
+  void givenCompiledFilters_whenCensorTextTwice_thenFiltersLoadedOnce()
+      throws SlurFilterReportException, SlurFilterBlockedException {
+
+    SlurFilter replaceFilter = new SlurFilter();
+    replaceFilter.setSlurRegex("mean");
+    replaceFilter.setSlurActionType(SlurActionType.REPLACE);
+
+    when(slurFilterRepository.findAll()).thenReturn(List.of(replaceFilter));
+
+    slurFilterService.censorText("Some mean words");
+    String resultText = slurFilterService.censorText("MEAN words");
+
+    verify(slurFilterRepository, times(1)).findAll();
+    assertEquals("MEAN words", resultText, "Only case sensitive matches should censor text");
+  }
+
+  @Test
+  void givenUpdatedFilter_whenGetHighestSlurFilterMatchingText_thenFiltersReloaded() {
+
+    SlurFilter existingFilter = new SlurFilter();
+    existingFilter.setSlurRegex("oldRegex");
+    existingFilter.setSlurActionType(SlurActionType.BLOCK);
+
+    when(slurFilterRepository.findAll()).thenReturn(List.of(existingFilter));
+
+    assertNull(slurFilterService.getHighestSlurFilterMatchingText("newRegex"));
+    slurFilterService.updateOrCreateLemmySlur("newRegex");
+
+    assertEquals(existingFilter, slurFilterService.getHighestSlurFilterMatchingText("newRegex"),
+        "Updated filter was not matched");
+    verify(slurFilterRepository, times(3)).findAll();
+  }
 }
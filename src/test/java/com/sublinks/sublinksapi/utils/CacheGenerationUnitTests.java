@@ -0,0 +1,88 @@
+package com.sublinks.sublinksapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CacheGenerationUnitTests {
+
+  private final CacheGeneration cacheGeneration = new CacheGeneration();
+  private final Cache<String, String> cache = Caffeine.newBuilder().build();
+
+  @AfterEach
+  void tearDown() {
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void givenMiss_whenGet_thenLoadedOnceAndStored() {
+
+    final AtomicInteger loads = new AtomicInteger();
+
+    assertEquals("new", cacheGeneration.get(cache, "key", key -> {
+      loads.incrementAndGet();
+      return "new";
+    }));
+    assertEquals("new", cacheGeneration.get(cache, "key", key -> {
+      loads.incrementAndGet();
+      return "other";
+    }));
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void givenEvictionDuringLoad_whenGet_thenLoadedValueReturnedButNotStored() {
+
+    final String loaded = cacheGeneration.get(cache, "key", key -> {
+      cacheGeneration.evictNow(() -> cache.invalidate(key));
+      return "old";
+    });
+
+    assertEquals("old", loaded);
+    assertNull(cache.getIfPresent("key"));
+  }
+
+  @Test
+  void givenEvictionAfterLoadStarted_whenStored_thenRefused() {
+
+    final long loadGeneration = cacheGeneration.current();
+    cacheGeneration.evictNow(cache::invalidateAll);
+
+    assertFalse(cacheGeneration.storeIfCurrent(loadGeneration, () -> cache.put("key", "old")));
+    assertNull(cache.getIfPresent("key"));
+    assertTrue(cacheGeneration.storeIfCurrent(cacheGeneration.current(),
+        () -> cache.put("key", "new")));
+    assertEquals("new", cache.getIfPresent("key"));
+  }
+
+  @Test
+  void givenTransaction_whenEvicted_thenLoadBeforeCommitNotStoredAfterIt() {
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.put("key", "old");
+
+    cacheGeneration.evict(() -> cache.invalidate("key"));
+    assertNull(cache.getIfPresent("key"));
+
+    // A concurrent request reads the rows from before the commit.
+    final long loadGeneration = cacheGeneration.current();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertFalse(cacheGeneration.storeIfCurrent(loadGeneration, () -> cache.put("key", "old")));
+    assertNull(cache.getIfPresent("key"));
+  }
+}
@@ -0,0 +1,71 @@
+package com.sublinks.sublinksapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.sublinks.sublinksapi.utils.config.KeyStorePoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class KeyStorePoolUnitTests {
+
+  @Mock
+  KeyGeneratorUtil keyGeneratorUtil;
+
+  @Mock
+  KeyStorePoolConfig keyStorePoolConfig;
+
+  KeyStorePool keyStorePool;
+
+  final KeyStore keyStore = new KeyStore("public", "private");
+
+  @AfterEach
+  void tearDown() {
+
+    keyStorePool.stop();
+  }
+
+  @Test
+  void givenDisabledPool_whenTake_thenGeneratedSynchronously() {
+
+    when(keyStorePoolConfig.getSize()).thenReturn(0);
+    when(keyStorePoolConfig.getWorkers()).thenReturn(1);
+    when(keyGeneratorUtil.generate()).thenReturn(keyStore);
+    keyStorePool = new KeyStorePool(keyGeneratorUtil, keyStorePoolConfig);
+    keyStorePool.start();
+
+    assertSame(keyStore, keyStorePool.take());
+    assertEquals(1, keyStorePool.getFallbackCount());
+    assertEquals(0, keyStorePool.getCapacity());
+  }
+
+  @Test
+  void givenRefilledPool_whenTake_thenPooledKeyStoreReturned() throws InterruptedException {
+
+    when(keyStorePoolConfig.getSize()).thenReturn(4);
+    when(keyStorePoolConfig.getWorkers()).thenReturn(2);
+    when(keyGeneratorUtil.generate()).thenReturn(keyStore);
+    keyStorePool = new KeyStorePool(keyGeneratorUtil, keyStorePoolConfig);
+    keyStorePool.start();
+
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (keyStorePool.getDepth() < 4 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(4, keyStorePool.getDepth());
+
+    assertSame(keyStore, keyStorePool.take());
+    assertEquals(1, keyStorePool.getPooledCount());
+    assertEquals(0, keyStorePool.getFallbackCount());
+    assertTrue(keyStorePool.getRefillCount() >= 4);
+  }
+}
@@ -1,8 +1,10 @@
 package com.sublinks.sublinksapi.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import jakarta.persistence.TypedQuery;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -37,4 +39,24 @@ public class PaginationUtilsUnitTests {
     Mockito.verify(typedQuery).setFirstResult(20);
     Mockito.verify(typedQuery).setMaxResults(10);
   }
+
+  @Test
+  void givenCursorParts_whenEncodeAndDecodeCursor_thenReturnSameParts() {
+
+    List<String> parts = List.of("Hot", "1728", "42");
+
+    String cursor = PaginationUtils.encodeCursor(parts);
+
+    assertEquals(parts, PaginationUtils.decodeCursor(cursor, 3));
+  }
+
+  @Test
+  void givenMalformedCursor_whenDecodeCursor_thenThrowIllegalArgumentException() {
+
+    String cursor = PaginationUtils.encodeCursor(List.of("Hot", "1728"));
+
+    assertThrows(IllegalArgumentException.class, () -> PaginationUtils.decodeCursor(cursor, 3));
+    assertThrows(IllegalArgumentException.class,
+        () -> PaginationUtils.decodeCursor("not base64!", 3));
+  }
 }
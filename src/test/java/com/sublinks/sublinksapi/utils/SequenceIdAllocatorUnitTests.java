@@ -0,0 +1,84 @@
+package com.sublinks.sublinksapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SequenceIdAllocatorUnitTests {
+
+  @Mock
+  EntityManager entityManager;
+
+  @Mock
+  Query query;
+
+  SequenceIdAllocator sequenceIdAllocator;
+
+  @BeforeEach
+  void setUp() {
+
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.setParameter(anyString(), any())).thenReturn(query);
+    when(query.setFlushMode(any(FlushModeType.class))).thenReturn(query);
+    sequenceIdAllocator = new SequenceIdAllocator(entityManager);
+  }
+
+  @Test
+  void givenSequenceValue_whenNextId_thenIdsOfTheBlockHandedOutInOrder() {
+
+    when(query.getSingleResult()).thenReturn(150L);
+
+    for (long expected = 101; expected <= 150; expected++) {
+      assertEquals(expected, sequenceIdAllocator.nextId("comments_id_seq"));
+    }
+    verify(query, times(1)).getSingleResult();
+  }
+
+  @Test
+  void givenExhaustedBlock_whenNextId_thenNextBlockTaken() {
+
+    when(query.getSingleResult()).thenReturn(50L, 100L);
+
+    for (int i = 0; i < 50; i++) {
+      sequenceIdAllocator.nextId("comments_id_seq");
+    }
+
+    assertEquals(51, sequenceIdAllocator.nextId("comments_id_seq"));
+    verify(query, times(2)).getSingleResult();
+  }
+
+  @Test
+  void givenNewSequence_whenNextId_thenIdsStartAtOne() {
+
+    when(query.getSingleResult()).thenReturn(1L, 51L);
+
+    assertEquals(1, sequenceIdAllocator.nextId("posts_id_seq"));
+    assertEquals(2, sequenceIdAllocator.nextId("posts_id_seq"));
+  }
+
+  @Test
+  void givenTwoSequences_whenNextId_thenBlocksKeptApart() {
+
+    when(query.getSingleResult()).thenReturn(50L, 200L);
+
+    assertEquals(1, sequenceIdAllocator.nextId("posts_id_seq"));
+    assertEquals(151, sequenceIdAllocator.nextId("comments_id_seq"));
+    assertEquals(2, sequenceIdAllocator.nextId("posts_id_seq"));
+  }
+}
@@ -0,0 +1,103 @@
+package com.sublinks.sublinksapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketsUnitTests {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  @Test
+  void givenTakenToken_whenReleased_thenTokenAvailableAgain() {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(2, 60 * SECOND, 4);
+    tokenBuckets.tryAcquire("ip:1", 0);
+    tokenBuckets.tryAcquire("ip:1", 0);
+
+    tokenBuckets.release("ip:1", 0);
+
+    assertTrue(tokenBuckets.tryAcquire("ip:1", 0));
+    assertFalse(tokenBuckets.tryAcquire("ip:1", 0));
+  }
+
+  @Test
+  void givenFullBucket_whenBurst_thenCapacityAllowed() {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(3, 60 * SECOND, 4);
+
+    assertTrue(tokenBuckets.tryAcquire("ip:1", 0));
+    assertTrue(tokenBuckets.tryAcquire("ip:1", 0));
+    assertTrue(tokenBuckets.tryAcquire("ip:1", 0));
+    assertFalse(tokenBuckets.tryAcquire("ip:1", 0));
+    assertTrue(tokenBuckets.tryAcquire("ip:2", 0));
+  }
+
+  @Test
+  void givenEmptyBucket_whenIntervalPassed_thenOneTokenRefilled() {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(3, 60 * SECOND, 4);
+    for (int i = 0; i < 3; i++) {
+      tokenBuckets.tryAcquire("ip:1", 0);
+    }
+
+    assertFalse(tokenBuckets.tryAcquire("ip:1", 19 * SECOND));
+    assertTrue(tokenBuckets.tryAcquire("ip:1", 20 * SECOND));
+    assertFalse(tokenBuckets.tryAcquire("ip:1", 20 * SECOND));
+  }
+
+  @Test
+  void givenBucketFullAgain_whenEvictIdle_thenRemoved() {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(3, 60 * SECOND, 4);
+    tokenBuckets.tryAcquire("ip:1", 0);
+    tokenBuckets.tryAcquire("ip:2", 30 * SECOND);
+
+    assertEquals(1, tokenBuckets.evictIdle(35 * SECOND));
+    assertEquals(1, tokenBuckets.size());
+  }
+
+  @Test
+  void givenNoCapacity_whenTryAcquire_thenNeverRefused() {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(0, 60 * SECOND, 4);
+
+    for (int i = 0; i < 100; i++) {
+      assertTrue(tokenBuckets.tryAcquire("ip:1", 0));
+    }
+    assertEquals(0, tokenBuckets.size());
+  }
+
+  @Test
+  void givenConcurrentCalls_whenBucketShared_thenExactlyCapacityAllowed() throws Exception {
+
+    final TokenBuckets tokenBuckets = new TokenBuckets(1000, 3600 * SECOND, 4);
+    final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    final List<Future<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(executorService.submit(() -> {
+        int allowed = 0;
+        for (int j = 0; j < 500; j++) {
+          if (tokenBuckets.tryAcquire("person:1", 0)) {
+            allowed++;
+          }
+        }
+        return allowed;
+      }));
+    }
+    int allowed = 0;
+    for (Future<Integer> future : futures) {
+      allowed += future.get();
+    }
+    executorService.shutdown();
+
+    assertEquals(1000, allowed);
+  }
+}
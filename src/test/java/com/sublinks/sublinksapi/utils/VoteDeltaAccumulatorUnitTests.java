@@ -0,0 +1,88 @@
+package com.sublinks.sublinksapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sublinks.sublinksapi.utils.models.VoteDelta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class VoteDeltaAccumulatorUnitTests {
+
+  @Test
+  void givenVotes_whenDrained_thenSummedPerId() {
+
+    final VoteDeltaAccumulator accumulator = new VoteDeltaAccumulator();
+    accumulator.add(1L, new VoteDelta(1, 1, 0));
+    accumulator.add(1L, new VoteDelta(-2, -1, 1));
+    accumulator.add(2L, new VoteDelta(1, 1, 0));
+
+    final Map<Long, VoteDelta> drained = accumulator.drain();
+
+    assertEquals(new VoteDelta(-1, 0, 1), drained.get(1L));
+    assertEquals(new VoteDelta(1, 1, 0), drained.get(2L));
+    assertTrue(accumulator.drain().isEmpty());
+  }
+
+  @Test
+  void givenDrainedVotes_whenNotCompleted_thenStillPending() {
+
+    final VoteDeltaAccumulator accumulator = new VoteDeltaAccumulator();
+    accumulator.add(1L, new VoteDelta(1, 1, 0));
+
+    final Map<Long, VoteDelta> drained = accumulator.drain();
+    accumulator.add(1L, new VoteDelta(1, 1, 0));
+    assertEquals(new VoteDelta(2, 2, 0), accumulator.pending(1L));
+
+    accumulator.complete(drained);
+    assertEquals(new VoteDelta(1, 1, 0), accumulator.pending(1L));
+  }
+
+  @Test
+  void givenFailedFlush_whenRestored_thenDrainedAgain() {
+
+    final VoteDeltaAccumulator accumulator = new VoteDeltaAccumulator();
+    accumulator.add(1L, new VoteDelta(1, 1, 0));
+
+    accumulator.restore(accumulator.drain());
+
+    assertEquals(new VoteDelta(1, 1, 0), accumulator.pending(1L));
+    assertEquals(new VoteDelta(1, 1, 0), accumulator.drain().get(1L));
+  }
+
+  @Test
+  void givenConcurrentVotes_whenDrainedWhileVoting_thenNoVoteIsLost() throws Exception {
+
+    final VoteDeltaAccumulator accumulator = new VoteDeltaAccumulator();
+    final int threads = 8;
+    final int votesPerThread = 10_000;
+    final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      futures.add(executorService.submit(() -> {
+        for (int v = 0; v < votesPerThread; v++) {
+          accumulator.add((long) (v % 3), new VoteDelta(1, 1, 0));
+        }
+      }));
+    }
+
+    long total = 0;
+    while (futures.stream().anyMatch(future -> !future.isDone())) {
+      final Map<Long, VoteDelta> drained = accumulator.drain();
+      total += drained.values().stream().mapToLong(VoteDelta::score).sum();
+      accumulator.complete(drained);
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+    total += accumulator.drain().values().stream().mapToLong(VoteDelta::score).sum();
+
+    assertEquals((long) threads * votesPerThread, total);
+  }
+}
@@ -0,0 +1,29 @@
+/**
+  A post with a full page of comments by its creator
+ */
+INSERT INTO posts (id, instance_id, activity_pub_id, language_id, community_id, title,
+                   title_slug, public_key)
+VALUES (2000, 1, 'https://sublinks.example/post/2000',
+        (SELECT languages.id FROM languages WHERE code = 'und'), 1000, 'Thread', 'thread', '');
+
+INSERT INTO post_aggregates (id, post_id, community_id, comment_count)
+VALUES (2000, 2000, 1000, 50);
+
+INSERT INTO link_person_posts (person_id, post_id, link_type)
+VALUES (1000, 2000, 'creator');
+
+INSERT INTO comments (id, activity_pub_id, language_id, person_id, community_id, post_id,
+                      comment_body, path)
+SELECT id,
+       'https://sublinks.example/comment/' || id,
+       (SELECT languages.id FROM languages WHERE code = 'und'),
+       1000,
+       1000,
+       2000,
+       'Comment ' || id,
+       '0.' || id
+FROM generate_series(2001, 2050) AS id;
+
+INSERT INTO comment_aggregates (id, comment_id, up_votes, score)
+SELECT id, id, 1, 1
+FROM generate_series(2001, 2050) AS id;
@@ -0,0 +1,19 @@
+/**
+  A person and the community they post in, shared by the listing tests
+ */
+INSERT INTO roles (id, name, description)
+VALUES (1000, 'Member', 'Listing tests');
+
+INSERT INTO people (id, activity_pub_id, actor_id, role_id, name, display_name, password,
+                    avatar_image_url, banner_image_url, public_key)
+VALUES (1000, 'https://sublinks.example/u/alice', 'https://sublinks.example/u/alice', 1000,
+        'alice', 'Alice', '', '', '', '');
+
+INSERT INTO person_aggregates (id, person_id)
+VALUES (1000, 1000);
+
+INSERT INTO communities (id, activity_pub_id, instance_id, title, title_slug, public_key)
+VALUES (1000, 'https://sublinks.example/c/listings', 1, 'Listings', 'listings', '');
+
+INSERT INTO community_aggregates (id, community_id)
+VALUES (1000, 1000);
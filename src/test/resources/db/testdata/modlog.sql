@@ -0,0 +1,29 @@
+/**
+  Forty moderation logs in groups of four sharing a created_at, so a page ends inside a group.
+  Each type of log refers to its own post, community and person, as the posts of posts.sql do.
+  Admin logs are by person 1120 and the others by alice.
+ */
+INSERT INTO moderation_logs (id, instance_id, action_type, entity_id, admin_person_id, post_id,
+                             comment_id, community_id, moderation_person_id, other_person_id,
+                             created_at)
+SELECT id,
+       1,
+       action_type,
+       COALESCE(comment_id, post_id),
+       CASE WHEN admin THEN 1120 END,
+       post_id,
+       comment_id,
+       community_id,
+       CASE WHEN NOT admin THEN 1000 END,
+       1101 + n % 20,
+       TIMESTAMP '2024-01-01 00:00:00' + (n / 4) * INTERVAL '1 minute'
+FROM (SELECT id,
+             n,
+             (ARRAY ['ModRemovePost', 'ModLockPost', 'ModFeaturePost', 'ModRemoveComment',
+                 'ModBanFromCommunity', 'ModBan', 'AdminPurgePost',
+                 'ModHideCommunity'])[n % 8 + 1]                    AS action_type,
+             n % 8 IN (6, 7)                                        AS admin,
+             CASE WHEN n % 8 = 3 THEN 2000 ELSE 1001 + n % 20 END   AS post_id,
+             CASE WHEN n % 8 = 3 THEN 2001 + n END                  AS comment_id,
+             CASE WHEN n % 8 = 3 THEN 1000 ELSE 1101 + n % 20 END   AS community_id
+      FROM (SELECT id, id - 3001 AS n FROM generate_series(3001, 3040) AS id) AS ids) AS logs;
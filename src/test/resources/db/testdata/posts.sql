@@ -0,0 +1,49 @@
+/**
+  A full page of posts, each by its own person in its own community, so loading a creator or a
+  community per post is not hidden by the persistence context
+ */
+INSERT INTO people (id, activity_pub_id, actor_id, role_id, name, display_name, password,
+                    avatar_image_url, banner_image_url, public_key)
+SELECT id + 100,
+       'https://sublinks.example/u/poster' || id,
+       'https://sublinks.example/u/poster' || id,
+       1000,
+       'poster' || id,
+       'Poster ' || id,
+       '',
+       '',
+       '',
+       ''
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO person_aggregates (id, person_id)
+SELECT id + 100, id + 100
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO communities (id, activity_pub_id, instance_id, title, title_slug, public_key)
+SELECT id + 100, 'https://sublinks.example/c/posts' || id, 1, 'Posts ' || id, 'posts-' || id, ''
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO community_aggregates (id, community_id)
+SELECT id + 100, id + 100
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO posts (id, instance_id, activity_pub_id, language_id, community_id, title,
+                   title_slug, public_key)
+SELECT id,
+       1,
+       'https://sublinks.example/post/' || id,
+       (SELECT languages.id FROM languages WHERE code = 'und'),
+       id + 100,
+       'Post ' || id,
+       'post-' || id,
+       ''
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO post_aggregates (id, post_id, community_id)
+SELECT id, id, id + 100
+FROM generate_series(1001, 1020) AS id;
+
+INSERT INTO link_person_posts (person_id, post_id, link_type)
+SELECT id + 100, id, 'creator'
+FROM generate_series(1001, 1020) AS id;
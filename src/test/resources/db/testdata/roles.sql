@@ -0,0 +1,10 @@
+/**
+  The default role of logged out requests, allowed to read posts and the modlog
+ */
+INSERT INTO roles (id, name, description)
+VALUES (1001, 'Default', 'Logged out requests');
+
+INSERT INTO role_permissions (role_id, permission)
+VALUES (1001, 'DEFAULT'),
+       (1001, 'READ_POSTS'),
+       (1001, 'READ_MODLOG');